@@ -0,0 +1,107 @@
+package com.studenttracker.service;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.studenttracker.service.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publish cost of EventBusService's compiled handler tables against Guava's
+ * reflective dispatch, with the same subscribers:
+ * guavaEventBus is one shared Guava EventBus (no metrics), guavaChannels is
+ * the layout EventBusService used before (one Guava EventBus per subscriber,
+ * each post timed), compiledHandlers is EventBusService.publish including its
+ * metrics. Run with:
+ * <pre>mvn -Pbenchmark test-compile exec:exec</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int subscriberCount;
+
+    private final List<CountingSubscriber> subscribers = new ArrayList<>();
+    private final EventBus guavaBus = new EventBus();
+    private final List<EventBus> guavaChannels = new ArrayList<>();
+    private long guavaChannelNanos;
+    private final EventBusService eventBus = EventBusService.getInstance();
+    private final BenchmarkEvent event = new BenchmarkEvent();
+
+    public static class BenchmarkEvent implements Event {
+    }
+
+    public static class CountingSubscriber {
+        long received;
+
+        @Subscribe
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int i = 0; i < subscriberCount; i++) {
+            CountingSubscriber subscriber = new CountingSubscriber();
+            subscribers.add(subscriber);
+            guavaBus.register(subscriber);
+            EventBus channel = new EventBus();
+            channel.register(subscriber);
+            guavaChannels.add(channel);
+            eventBus.register(subscriber, EventBusService.DispatchMode.SYNC);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (CountingSubscriber subscriber : subscribers) {
+            guavaBus.unregister(subscriber);
+            eventBus.unregister(subscriber);
+        }
+        subscribers.clear();
+        guavaChannels.clear();
+    }
+
+    @Benchmark
+    public long guavaEventBus() {
+        guavaBus.post(event);
+        return subscribers.get(0).received;
+    }
+
+    @Benchmark
+    public long guavaChannels() {
+        for (EventBus channel : guavaChannels) {
+            long start = System.nanoTime();
+            channel.post(event);
+            guavaChannelNanos += System.nanoTime() - start;
+        }
+        return subscribers.get(0).received + guavaChannelNanos;
+    }
+
+    @Benchmark
+    public long compiledHandlers() {
+        eventBus.publish(event);
+        return subscribers.get(0).received;
+    }
+}
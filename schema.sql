@@ -43,6 +43,8 @@ CREATE TABLE IF NOT EXISTS students (
 CREATE INDEX idx_students_status ON students(status);
 CREATE INDEX idx_students_registration_date ON students(registration_date);
 CREATE INDEX idx_students_phone ON students(phone_number);
+-- Keyset paging in name order
+CREATE INDEX idx_students_name ON students(full_name, student_id);
 
 -- ============================================
 -- 3. LESSON MANAGEMENT
@@ -230,7 +232,8 @@ CREATE TABLE IF NOT EXISTS warnings (
 );
 
 CREATE INDEX idx_warnings_student ON warnings(student_id);
-CREATE INDEX idx_warnings_active ON warnings(is_active);
+-- Covers per-student active counts (GROUP BY student_id) as well as the total
+CREATE INDEX idx_warnings_active ON warnings(is_active, student_id);
 
 -- ============================================
 -- 10. MISSIONS
@@ -306,6 +309,7 @@ CREATE TABLE IF NOT EXISTS performance_indicators (
 CREATE INDEX idx_pi_student ON performance_indicators(student_id);
 CREATE INDEX idx_pi_category ON performance_indicators(category);
 CREATE INDEX idx_pi_quiz ON performance_indicators(quiz_id);
+CREATE INDEX idx_pi_student_category_time ON performance_indicators(student_id, category, calculated_at);
 
 -- ============================================
 -- 13. TARGETS
@@ -376,7 +380,10 @@ CREATE TABLE IF NOT EXISTS notifications (
 );
 
 CREATE INDEX idx_notifications_user ON notifications(user_id);
-CREATE INDEX idx_notifications_read ON notifications(is_read);
+-- Unread lookups and counts touch only unread rows, however long the history
+CREATE INDEX idx_notifications_unread ON notifications(user_id, created_at DESC) WHERE is_read = 0;
+-- Retention deletes the oldest rows in small batches
+CREATE INDEX idx_notifications_created ON notifications(created_at);
 
 -- ============================================
 -- 16. MONTHLY REPORTS
@@ -385,7 +392,8 @@ CREATE INDEX idx_notifications_read ON notifications(is_read);
 CREATE TABLE IF NOT EXISTS monthly_reports (
     report_id INTEGER PRIMARY KEY AUTOINCREMENT,
     report_month VARCHAR(20) NOT NULL,
-    report_data TEXT NOT NULL,
+    report_data TEXT NOT NULL DEFAULT '',  -- legacy plain JSON; empty once compressed
+    report_data_gz BLOB,                    -- gzip-compressed JSON
     generated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     generated_by INTEGER NOT NULL,
     FOREIGN KEY (generated_by) REFERENCES users(user_id)
@@ -393,6 +401,17 @@ CREATE TABLE IF NOT EXISTS monthly_reports (
 
 CREATE INDEX idx_monthly_reports_month ON monthly_reports(report_month);
 
+-- Running per-month report aggregates, maintained from domain events.
+-- lesson_id is 0 for metrics that are not tied to a lesson (e.g. targets achieved).
+CREATE TABLE IF NOT EXISTS report_running_aggregates (
+    month_group VARCHAR(50) NOT NULL,
+    lesson_id INTEGER NOT NULL DEFAULT 0,
+    metric VARCHAR(50) NOT NULL,
+    value INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (month_group, lesson_id, metric)
+);
+
 CREATE TABLE IF NOT EXISTS recent_activities (
     activity_id INTEGER PRIMARY KEY AUTOINCREMENT,
     activity_type VARCHAR(50) NOT NULL, 
@@ -419,6 +438,125 @@ CREATE TABLE IF NOT EXISTS recent_activities (
 CREATE INDEX idx_recent_activities_created ON recent_activities(created_at DESC);
 CREATE INDEX idx_recent_activities_type ON recent_activities(activity_type);
 
+-- ============================================
+-- 17. BACKGROUND JOBS
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS jobs (
+    job_id INTEGER PRIMARY KEY AUTOINCREMENT,
+    job_type VARCHAR(30) NOT NULL,
+    -- 'MONTHLY_REPORT', 'PI_RECALCULATION', 'REPORT_EXPORT', 'DATA_EXPORT', 'DERIVED_DATA_REPLAY',
+    -- 'NOTIFICATION_RETENTION'
+    
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    -- 'QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED'
+    
+    description TEXT,
+    progress INTEGER NOT NULL DEFAULT 0 CHECK(progress BETWEEN 0 AND 100),
+    result TEXT,
+    error_message TEXT,
+    submitted_by INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    
+    FOREIGN KEY (submitted_by) REFERENCES users(user_id)
+);
+
+CREATE INDEX idx_jobs_status ON jobs(status);
+
+-- ============================================
+-- 18. EVENT OUTBOX
+-- ============================================
+-- Events for derived tables, written in the same transaction as the source rows
+-- and delivered at least once by the outbox dispatcher.
+
+CREATE TABLE IF NOT EXISTS event_outbox (
+    outbox_id INTEGER PRIMARY KEY AUTOINCREMENT,
+    event_type VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,
+    -- JSON-serialized event
+    
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP
+);
+
+CREATE INDEX idx_event_outbox_pending ON event_outbox(outbox_id) WHERE dispatched_at IS NULL;
+
+-- Outbox events already handled by a non-idempotent consumer
+CREATE TABLE IF NOT EXISTS event_outbox_consumers (
+    outbox_id INTEGER NOT NULL,
+    consumer VARCHAR(100) NOT NULL,
+    consumed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    PRIMARY KEY (outbox_id, consumer),
+    FOREIGN KEY (outbox_id) REFERENCES event_outbox(outbox_id) ON DELETE CASCADE
+);
+
+-- ============================================
+-- 19. FULL-TEXT SEARCH (FTS5)
+-- ============================================
+-- Search text is folded (SearchText.sqlFold): alef/hamza forms, teh marbuta,
+-- alef maksura, harakat and tatweel. Queries are folded the same way in Java.
+-- Each index is fed from a view and kept in sync by triggers.
+
+CREATE VIEW IF NOT EXISTS students_search_text AS
+SELECT student_id,
+       replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(full_name, char(1570), char(1575)), char(1571), char(1575)), char(1573), char(1575)), char(1649), char(1575)), char(1577), char(1607)), char(1609), char(1610)), char(1600), ''), char(1611), ''), char(1612), ''), char(1613), ''), char(1614), ''), char(1615), ''), char(1616), ''), char(1617), ''), char(1618), ''), char(1619), ''), char(1620), ''), char(1621), ''), char(1648), '') AS name,
+       phone_number || ' ' || parent_phone_number AS phones
+FROM students;
+
+CREATE VIRTUAL TABLE IF NOT EXISTS students_fts USING fts5(
+    name, phones,
+    tokenize = 'unicode61 remove_diacritics 2',
+    prefix = '2 3'  -- typeahead prefixes
+);
+
+CREATE TRIGGER IF NOT EXISTS students_fts_insert AFTER INSERT ON students BEGIN
+    INSERT INTO students_fts(rowid, name, phones)
+    SELECT student_id, name, phones FROM students_search_text WHERE student_id = new.student_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS students_fts_delete AFTER DELETE ON students BEGIN
+    DELETE FROM students_fts WHERE rowid = old.student_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS students_fts_update
+AFTER UPDATE OF full_name, phone_number, parent_phone_number ON students BEGIN
+    DELETE FROM students_fts WHERE rowid = old.student_id;
+    INSERT INTO students_fts(rowid, name, phones)
+    SELECT student_id, name, phones FROM students_search_text WHERE student_id = new.student_id;
+END;
+
+CREATE VIEW IF NOT EXISTS lesson_topics_search_text AS
+SELECT topic_id, lesson_id,
+       replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(replace(coalesce(specific_topic, ''), char(1570), char(1575)), char(1571), char(1575)), char(1573), char(1575)), char(1649), char(1575)), char(1577), char(1607)), char(1609), char(1610)), char(1600), ''), char(1611), ''), char(1612), ''), char(1613), ''), char(1614), ''), char(1615), ''), char(1616), ''), char(1617), ''), char(1618), ''), char(1619), ''), char(1620), ''), char(1621), ''), char(1648), '') AS topic
+FROM lesson_topics;
+
+CREATE VIRTUAL TABLE IF NOT EXISTS lesson_topics_fts USING fts5(
+    topic, lesson_id UNINDEXED,
+    tokenize = 'unicode61 remove_diacritics 2',
+    prefix = '2 3'
+);
+
+CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_insert AFTER INSERT ON lesson_topics BEGIN
+    INSERT INTO lesson_topics_fts(rowid, topic, lesson_id)
+    SELECT topic_id, topic, lesson_id FROM lesson_topics_search_text WHERE topic_id = new.topic_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_delete AFTER DELETE ON lesson_topics BEGIN
+    DELETE FROM lesson_topics_fts WHERE rowid = old.topic_id;
+END;
+
+CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_update
+AFTER UPDATE OF specific_topic, lesson_id ON lesson_topics BEGIN
+    DELETE FROM lesson_topics_fts WHERE rowid = old.topic_id;
+    INSERT INTO lesson_topics_fts(rowid, topic, lesson_id)
+    SELECT topic_id, topic, lesson_id FROM lesson_topics_search_text WHERE topic_id = new.topic_id;
+END;
+
 -- ============================================
 -- INSERT DEFAULT ADMIN USER
 -- ============================================
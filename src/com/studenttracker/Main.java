@@ -1,11 +1,17 @@
 package com.studenttracker;
 
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.JobService;
+import com.studenttracker.service.OutboxService;
+import com.studenttracker.service.RecentActivityService;
 import com.studenttracker.util.DatabaseConnection;
 import com.studenttracker.util.SceneManager;
+import com.studenttracker.util.ServiceLocator;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,6 +56,14 @@ public class Main extends Application {
     
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
     
+    /** Maximum time stop() waits for queued async events. */
+    private static final long EVENT_DRAIN_TIMEOUT_MS = 5_000;
+    
+    /** Local file with the event bus metrics, rewritten every few minutes. */
+    private static final Path EVENT_METRICS_FILE = Path.of(System.getProperty("user.home"), 
+                                                           ".fasee7", "event-bus-metrics.txt");
+    private static final long EVENT_METRICS_DUMP_INTERVAL_MS = 5 * 60_000;
+    
     // ==================== APPLICATION LIFECYCLE ====================
     
     /**
@@ -72,6 +86,7 @@ public class Main extends Application {
         try {
             LOGGER.info("Initializing database...");
             DatabaseConnection dbConnection = DatabaseConnection.getInstance();
+            dbConnection.migrateSchema();
             LOGGER.info("Database initialized successfully");
             
         } catch (Exception e) {
@@ -79,6 +94,11 @@ public class Main extends Application {
             throw e; // Re-throw to prevent app from starting with broken DB
         }
         
+        EventBusService.getInstance().startMetricsDump(EVENT_METRICS_FILE, EVENT_METRICS_DUMP_INTERVAL_MS);
+        
+        // Deliver outbox events (including any left by a previous run)
+        ServiceLocator.getInstance().startOutboxDispatcher();
+        
         LOGGER.info("Application initialization complete");
     }
     
@@ -137,7 +157,27 @@ public class Main extends Application {
         // Cleanup operations here (if needed)
         // - Close database connections
         // - Save application state
-        // - Cancel background tasks
+        
+        // Cancel background jobs
+        JobService jobService = ServiceLocator.getInstance().peekService(JobService.class);
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+        
+        // Stop the outbox dispatcher; undelivered entries are retried on next start
+        OutboxService outboxService = ServiceLocator.getInstance().peekService(OutboxService.class);
+        if (outboxService != null) {
+            outboxService.shutdown();
+        }
+        
+        // Deliver events still queued for async subscribers
+        EventBusService.getInstance().shutdown(EVENT_DRAIN_TIMEOUT_MS);
+        
+        // Write activities still in the write-behind buffer
+        RecentActivityService activityService = ServiceLocator.getInstance().peekService(RecentActivityService.class);
+        if (activityService != null) {
+            activityService.shutdown();
+        }
         
         super.stop();
         
@@ -6,20 +6,29 @@ import com.studenttracker.model.Student;
 import com.studenttracker.service.*;
 import com.studenttracker.service.event.*;
 import com.studenttracker.util.SceneManager;
+import com.studenttracker.util.StudentSearchIndex;
 
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
+import javafx.util.Duration;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,14 +44,16 @@ import java.util.stream.Collectors;
  *   <li>Provide filters (status, warnings, registration date range)</li>
  *   <li>Handle role-based actions (View, Edit, Archive/Restore)</li>
  *   <li>Real-time updates via EventBus</li>
+ *   <li>Background, paged loading with progress</li>
  *   <li>Navigation to registration and detail screens</li>
  * </ul>
  * 
  * <p><b>Search Modes:</b></p>
  * <ul>
- *   <li>Name: Searches by full name (partial match)</li>
- *   <li>Phone: Searches by student phone number (exact match)</li>
+ *   <li>Name: Searches by full name (partial match, Arabic/Latin folding)</li>
+ *   <li>Phone: Searches by student phone digits (partial match)</li>
  * </ul>
+ * Search runs against a {@link StudentSearchIndex} as the user types (debounced).
  * 
  * <p><b>Filters:</b></p>
  * <ul>
@@ -67,6 +78,13 @@ public class StudentListController extends BaseController {
     
     private static final Logger LOGGER = Logger.getLogger(StudentListController.class.getName());
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /** Students fetched per query while loading the list. */
+    private static final int PAGE_SIZE = 200;
+    /** Quiet time after the last keystroke before the search runs. */
+    private static final long SEARCH_DEBOUNCE_MS = 200;
+    /** Order of the list: the order students are loaded in (name, then ID). */
+    private static final Comparator<StudentRow> LIST_ORDER =
+            Comparator.comparing(StudentRow::getName).thenComparing(StudentRow::getStudentId);
     
     // ==================== FXML COMPONENTS ====================
     
@@ -82,6 +100,7 @@ public class StudentListController extends BaseController {
     
     // Results
     @FXML private Label resultCountLabel;
+    @FXML private ProgressBar loadProgressBar;
     
     // Table
     @FXML private TableView<StudentRow> studentTable;
@@ -106,6 +125,16 @@ public class StudentListController extends BaseController {
     private ObservableList<StudentRow> allStudentRows;
     private ObservableList<StudentRow> filteredStudentRows;
     
+    /** Background load currently filling the table; a newer load supersedes it. */
+    private Task<Integer> loadTask;
+    
+    /** Name/phone index over allStudentRows, kept in step with it. */
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
+    private final Map<Integer, StudentRow> rowsById = new HashMap<>();
+    /** Previous search, refined when the next term extends it. */
+    private StudentSearchIndex.Result lastSearch;
+    private PauseTransition searchDebounce;
+    
     // ==================== CONSTRUCTOR ====================
     
     /**
@@ -166,6 +195,12 @@ public class StudentListController extends BaseController {
     warningFilterCombo.setItems(FXCollections.observableArrayList("All", "With Warnings", "No Warnings"));
     warningFilterCombo.getSelectionModel().selectFirst(); // "All"
     
+    // Search as the user types, once typing pauses
+    searchDebounce = new PauseTransition(Duration.millis(SEARCH_DEBOUNCE_MS));
+    searchDebounce.setOnFinished(event -> applyFilters());
+    searchField.textProperty().addListener((obs, oldText, newText) -> searchDebounce.playFromStart());
+    searchTypeCombo.valueProperty().addListener((obs, oldType, newType) -> applyFilters());
+    
     LOGGER.fine("Search and filters configured");
 }
     
@@ -298,33 +333,96 @@ private final Button restoreButton = new Button("Restore");
     // ==================== DATA LOADING ====================
     
     /**
-     * Loads all students from the database and populates the table.
-     * Also loads warning counts for each student.
+     * Loads all students in the background and populates the table page by page.
+     * Active warning counts for every student come from one grouped query.
+     * Must be called on the FX thread; a load still in progress is cancelled.
      */
     private void loadAllStudents() {
-        try {
-            LOGGER.fine("Loading all students...");
-            
-            // Fetch all students
-            List<Student> students = studentService.getAllStudents();
-            
-            // Convert to StudentRow objects with warning counts
-            allStudentRows.clear();
-            for (Student student : students) {
-                int warningCount = warningService.getActiveWarningsByStudent(student.getStudentId()).size();
-                StudentRow row = new StudentRow(student, warningCount);
-                allStudentRows.add(row);
+        LOGGER.fine("Loading all students...");
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+        
+        Task<Integer> task = new Task<>() {
+            @Override
+            protected Integer call() {
+                Map<Integer, Integer> warningCounts = warningService.getActiveWarningCountsByStudent();
+                int total = studentService.getActiveStudentCount() + studentService.getArchivedStudentCount();
+                
+                int loaded = 0;
+                Student last = null;
+                while (!isCancelled()) {
+                    List<Student> page = studentService.getStudentsPage(last, PAGE_SIZE);
+                    List<StudentRow> rows = new ArrayList<>(page.size());
+                    for (Student student : page) {
+                        rows.add(new StudentRow(student, warningCounts.getOrDefault(student.getStudentId(), 0)));
+                    }
+                    boolean firstPage = last == null;
+                    Platform.runLater(() -> appendPage(this, rows, firstPage));
+                    
+                    loaded += page.size();
+                    updateProgress(loaded, Math.max(total, loaded));
+                    if (page.size() < PAGE_SIZE) {
+                        break;
+                    }
+                    last = page.get(page.size() - 1);
+                }
+                return loaded;
             }
-            
-            // Apply filters and update display
-            applyFilters();
-            
-            LOGGER.info("Loaded " + students.size() + " students");
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Failed to load students", e);
-            Platform.runLater(() -> showError("Failed to load students. Please try refreshing."));
+        };
+        
+        task.setOnSucceeded(event -> {
+            if (task == loadTask) {
+                showLoadProgress(null);
+                LOGGER.info("Loaded " + task.getValue() + " students");
+            }
+        });
+        task.setOnFailed(event -> {
+            if (task == loadTask) {
+                showLoadProgress(null);
+                LOGGER.log(Level.SEVERE, "Failed to load students", task.getException());
+                showError("Failed to load students. Please try refreshing.");
+            }
+        });
+        
+        loadTask = task;
+        showLoadProgress(task);
+        Thread.ofPlatform().name("student-list-loader").daemon(true).start(task);
+    }
+    
+    /**
+     * Adds a loaded page to the table (FX thread). The first page replaces the
+     * previous contents, so the old list stays visible until new data arrives.
+     */
+    private void appendPage(Task<Integer> task, List<StudentRow> rows, boolean firstPage) {
+        if (task != loadTask) {
+            return; // Superseded by a newer load
+        }
+        if (firstPage) {
+            allStudentRows.clear();
+            filteredStudentRows.clear();
+            rowsById.clear();
+            searchIndex.clear();
+        }
+        allStudentRows.addAll(rows);
+        for (StudentRow row : rows) {
+            rowsById.put(row.getStudentId(), row);
+            searchIndex.put(row.getStudentId(), row.getName(), row.getPhone());
+        }
+        filteredStudentRows.addAll(rows.stream().filter(this::matchesFilters).collect(Collectors.toList()));
+        updateResultCount(filteredStudentRows.size());
+    }
+    
+    /**
+     * Shows the progress bar bound to a running load, or hides it when task is null.
+     */
+    private void showLoadProgress(Task<Integer> task) {
+        loadProgressBar.progressProperty().unbind();
+        if (task != null) {
+            loadProgressBar.progressProperty().bind(task.progressProperty());
         }
+        loadProgressBar.setVisible(task != null);
+        loadProgressBar.setManaged(task != null);
     }
     
     /**
@@ -333,9 +431,8 @@ private final Button restoreButton = new Button("Restore");
      */
     private void applyFilters() {
         try {
-            // Start with all students
-            List<StudentRow> filtered = allStudentRows.stream()
-                    .filter(this::matchesSearchCriteria)
+            // Start from the search matches, then apply the remaining filters
+            List<StudentRow> filtered = searchCandidates().stream()
                     .filter(this::matchesStatusFilter)
                     .filter(this::matchesWarningFilter)
                     .filter(this::matchesDateRangeFilter)
@@ -355,6 +452,45 @@ private final Button restoreButton = new Button("Restore");
         }
     }
     
+    /**
+     * Rows matching the search term, in list order, looked up in the search
+     * index. A term that extends the previous one only re-checks its matches.
+     */
+    private List<StudentRow> searchCandidates() {
+        String searchTerm = searchField.getText();
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            lastSearch = null;
+            return allStudentRows;
+        }
+        
+        lastSearch = searchIndex.search(currentSearchField(), searchTerm, lastSearch);
+        List<StudentRow> rows = new ArrayList<>(lastSearch.getStudentIds().size());
+        for (Integer studentId : lastSearch.getStudentIds()) {
+            StudentRow row = rowsById.get(studentId);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        rows.sort(LIST_ORDER);
+        return rows;
+    }
+    
+    private StudentSearchIndex.Field currentSearchField() {
+        return "Phone".equals(searchTypeCombo.getValue())
+                ? StudentSearchIndex.Field.PHONE
+                : StudentSearchIndex.Field.NAME;
+    }
+    
+    /**
+     * Checks if a student row passes the search and every filter.
+     */
+    private boolean matchesFilters(StudentRow row) {
+        return matchesSearchCriteria(row)
+                && matchesStatusFilter(row)
+                && matchesWarningFilter(row)
+                && matchesDateRangeFilter(row);
+    }
+    
     /**
      * Checks if a student row matches the current search criteria.
      */
@@ -364,16 +500,7 @@ private final Button restoreButton = new Button("Restore");
             return true; // No search term, show all
         }
         
-        String searchType = searchTypeCombo.getValue();
-        String lowerSearchTerm = searchTerm.trim().toLowerCase();
-        
-        if ("Name".equals(searchType)) {
-            return row.getName().toLowerCase().contains(lowerSearchTerm);
-        } else if ("Phone".equals(searchType)) {
-            return row.getPhone().contains(searchTerm.trim());
-        }
-        
-        return true;
+        return searchIndex.matches(row.getStudentId(), currentSearchField(), searchTerm);
     }
     
     /**
@@ -468,6 +595,7 @@ private void handleRegisterStudent() {
     @FXML
     private void handleSearch() {
         LOGGER.fine("Search triggered");
+        searchDebounce.stop();
         applyFilters();
     }
     
@@ -486,6 +614,7 @@ private void handleRegisterStudent() {
         dateFromPicker.setValue(null);
         dateToPicker.setValue(null);
         
+        searchDebounce.stop();
         applyFilters();
     }
     
@@ -754,7 +883,19 @@ private void handleEditStudent(Integer studentId) {
     public void onStudentRegistered(StudentRegisteredEvent event) {
         Platform.runLater(() -> {
             LOGGER.fine("Student registered event received: " + event.getStudentId());
-            loadAllStudents(); // Reload to get new student
+            refreshStudentRow(event.getStudentId());
+        });
+    }
+    
+    /**
+     * Handles StudentUpdatedEvent.
+     * Re-reads the student so name and phone changes reach the table and search index.
+     */
+    @Subscribe
+    public void onStudentUpdated(StudentUpdatedEvent event) {
+        Platform.runLater(() -> {
+            LOGGER.fine("Student updated event received: " + event.getStudentId());
+            refreshStudentRow(event.getStudentId());
         });
     }
     
@@ -766,7 +907,7 @@ private void handleEditStudent(Integer studentId) {
     public void onStudentArchived(StudentArchivedEvent event) {
         Platform.runLater(() -> {
             LOGGER.fine("Student archived event received: " + event.getStudentId());
-            loadAllStudents(); // Reload to update status
+            refreshStudentRow(event.getStudentId());
         });
     }
     
@@ -778,10 +919,42 @@ private void handleEditStudent(Integer studentId) {
     public void onStudentRestored(StudentRestoredEvent event) {
         Platform.runLater(() -> {
             LOGGER.fine("Student restored event received: " + event.getStudentId());
-            loadAllStudents(); // Reload to update status
+            refreshStudentRow(event.getStudentId());
         });
     }
     
+    /**
+     * Re-reads one student and adds or replaces its row, keeping list order and
+     * the search index in step. Falls back to a full reload while one is running.
+     */
+    private void refreshStudentRow(Integer studentId) {
+        if (loadTask != null && loadTask.isRunning()) {
+            loadAllStudents(); // The running load may not have reached this student yet
+            return;
+        }
+        try {
+            Student student = studentService.getStudentById(studentId);
+            StudentRow previous = rowsById.remove(studentId);
+            if (previous != null) {
+                allStudentRows.remove(previous);
+                searchIndex.remove(studentId);
+            }
+            if (student != null) {
+                int warningCount = previous != null ? previous.getWarningCount() : 0;
+                StudentRow row = new StudentRow(student, warningCount);
+                int position = Collections.binarySearch(allStudentRows, row, LIST_ORDER);
+                allStudentRows.add(position < 0 ? -position - 1 : position, row);
+                rowsById.put(studentId, row);
+                searchIndex.put(studentId, row.getName(), row.getPhone());
+            }
+            applyFilters();
+            
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to refresh student " + studentId + ", reloading list", e);
+            loadAllStudents();
+        }
+    }
+    
     /**
      * Handles WarningGeneratedEvent.
      * Updates warning count for affected student.
@@ -815,11 +988,9 @@ private void handleEditStudent(Integer studentId) {
             int newWarningCount = warningService.getActiveWarningsByStudent(studentId).size();
             
             // Find and update the row
-            for (StudentRow row : allStudentRows) {
-                if (row.getStudentId().equals(studentId)) {
-                    row.setWarningCount(newWarningCount);
-                    break;
-                }
+            StudentRow row = rowsById.get(studentId);
+            if (row != null) {
+                row.setWarningCount(newWarningCount);
             }
             
             // Re-apply filters to refresh display
@@ -840,6 +1011,11 @@ private void handleEditStudent(Integer studentId) {
     public void cleanup() {
         LOGGER.fine("Cleaning up StudentListController");
         eventBus.unregister(this);
+        searchDebounce.stop();
+        if (loadTask != null) {
+            loadTask.cancel();
+            loadTask = null;
+        }
         super.cleanup();
     }
     
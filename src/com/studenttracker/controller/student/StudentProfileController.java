@@ -6,15 +6,13 @@ import com.studenttracker.controller.student.tabs.StudentIncidentsTabController;
 import com.studenttracker.controller.student.tabs.StudentLessonsTabController;
 import com.studenttracker.model.Fasee7Points;
 import com.studenttracker.model.Student;
+import com.studenttracker.model.StudentProfileSummary;
 import com.studenttracker.model.User;
 import com.studenttracker.model.Warning;
-import com.studenttracker.model.Attendance.AttendanceStatus;
-import com.studenttracker.service.AttendanceService;
 import com.studenttracker.service.EventBusService;
-import com.studenttracker.service.Fasee7TableService;
 import com.studenttracker.service.StudentService;
 import com.studenttracker.service.WarningService;
-import com.studenttracker.service.event.AttendanceMarkedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
 import com.studenttracker.service.event.Fasee7PointsUpdatedEvent;
 import com.studenttracker.service.event.StudentArchivedEvent;
 import com.studenttracker.service.event.WarningGeneratedEvent;
@@ -23,6 +21,7 @@ import com.studenttracker.util.ServiceLocator;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -31,7 +30,14 @@ import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -61,6 +67,7 @@ import java.util.logging.Logger;
  *   <li>Active warnings card (count + list)</li>
  *   <li>Fasee7 ranking card (rank, points breakdown)</li>
  *   <li>Lazy-loaded tabs (Lessons, Behavioral Incidents)</li>
+ *   <li>Cards loaded concurrently in the background, each shown as soon as its data arrives</li>
  *   <li>Real-time updates via EventBus</li>
  *   <li>Role-based edit button visibility (Admin only)</li>
  * </ul>
@@ -74,6 +81,14 @@ public class StudentProfileController extends BaseController {
     private static final Logger LOGGER = Logger.getLogger(StudentProfileController.class.getName());
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy");
     
+    /** Shared by all profile screens; one thread per card section. */
+    private static final ExecutorService SECTION_LOADER = Executors.newFixedThreadPool(3,
+        Thread.ofPlatform().name("profile-section-", 0).daemon(true).factory());
+    
+    private static final String SECTION_STUDENT = "student";
+    private static final String SECTION_SUMMARY = "summary";
+    private static final String SECTION_WARNINGS = "warnings";
+    
     // ==================== FXML COMPONENTS - HEADER ====================
     
     @FXML private Label studentNameLabel;
@@ -119,6 +134,9 @@ public class StudentProfileController extends BaseController {
     private int studentId;
     private Student student;
     
+    /** Section loads in progress (FX thread only); a newer load of a section cancels the older one. */
+    private final Map<String, Task<?>> sectionLoads = new HashMap<>();
+    
     // Tab controllers (lazy loaded)
     private StudentLessonsTabController lessonsTabController;
     private StudentIncidentsTabController incidentsTabController;
@@ -126,9 +144,7 @@ public class StudentProfileController extends BaseController {
     // ==================== SERVICES ====================
     
     private final StudentService studentService;
-    private final AttendanceService attendanceService;
     private final WarningService warningService;
-    private final Fasee7TableService fasee7Service;
     private final EventBusService eventBus;
     
     // ==================== CONSTRUCTOR ====================
@@ -141,9 +157,7 @@ public class StudentProfileController extends BaseController {
         super();
         ServiceLocator services = ServiceLocator.getInstance();
         this.studentService = services.getStudentService();
-        this.attendanceService = services.getAttendanceService();
         this.warningService = services.getWarningService();
-        this.fasee7Service = services.getFasee7TableService();
         this.eventBus = EventBusService.getInstance();
         
         LOGGER.info("StudentProfileController created");
@@ -190,6 +204,7 @@ public class StudentProfileController extends BaseController {
      * 
      * <p><b>Resource Management:</b></p>
      * <ul>
+     *   <li>Cancels section loads still in progress</li>
      *   <li>Unregisters from EventBus</li>
      *   <li>Cleans up tab controllers</li>
      *   <li>Calls super.cleanup()</li>
@@ -198,6 +213,8 @@ public class StudentProfileController extends BaseController {
     @Override
     public void cleanup() {
         try {
+            cancelSectionLoads();
+            
             // Cleanup tab controllers
             if (lessonsTabController != null) {
                 lessonsTabController.cleanup();
@@ -362,52 +379,109 @@ public class StudentProfileController extends BaseController {
     /**
      * Load complete student profile data.
      * 
-     * <p><b>Facade Pattern:</b> Orchestrates loading from multiple services:</p>
+     * <p>The three sections load concurrently on {@link #SECTION_LOADER} and each
+     * card is filled in as soon as its own data arrives:</p>
      * <ul>
-     *   <li>StudentService - Basic student info</li>
-     *   <li>AttendanceService - Attendance statistics</li>
-     *   <li>WarningService - Active warnings</li>
-     *   <li>Fasee7TableService - Points and ranking</li>
+     *   <li>Student - header and personal info</li>
+     *   <li>Summary - attendance, warning count and Fasee7 cards, from one
+     *       {@link StudentProfileSummary} query</li>
+     *   <li>Warnings - active warning list</li>
      * </ul>
      * 
-     * <p><b>Error Handling Strategy:</b></p>
-     * <ul>
-     *   <li>Critical: Student data (abort if fails)</li>
-     *   <li>Optional: Info cards (log warning, show defaults)</li>
-     * </ul>
+     * <p><b>Error Handling Strategy:</b> a failed section logs a warning and
+     * shows defaults; the other sections are unaffected.</p>
      */
     private void loadStudentProfile() {
-        try {
-            LOGGER.info("Loading student profile for student ID: " + studentId);
-            
-            // Get student data (CRITICAL - abort if fails)
-            student = studentService.getStudentById(studentId);
-            
-            if (student == null) {
-                LOGGER.severe("Student not found: " + studentId);
+        LOGGER.info("Loading student profile for student ID: " + studentId);
+        loadStudentInfo();
+        loadSummary();
+        loadWarnings();
+    }
+    
+    private void loadStudentInfo() {
+        int id = studentId;
+        loadSection(SECTION_STUDENT, () -> studentService.getStudentById(id), loaded -> {
+            if (loaded == null) {
+                LOGGER.severe("Student not found: " + id);
                 AlertHelper.showError("Student not found");
                 return;
             }
-            
-            // Update header
+            student = loaded;
             studentNameLabel.setText("Student: " + student.getFullName());
-            
-            // Load all info cards (optional - continue on errors)
             loadPersonalInfo();
-            loadAttendanceSummary();
-            loadWarnings();
-            loadFasee7Data();
-            
-            LOGGER.info("Student profile loaded successfully");
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Failed to load student profile", e);
-            AlertHelper.showError("Failed to load student profile: " + e.getMessage());
+        }, this::clearPersonalInfo);
+    }
+    
+    private void loadSummary() {
+        int id = studentId;
+        loadSection(SECTION_SUMMARY, () -> studentService.getProfileSummary(id), summary -> {
+            if (summary == null) {
+                clearSummary();
+                return;
+            }
+            showAttendanceSummary(summary);
+            warningCountBadge.setText(String.valueOf(summary.getActiveWarningCount()));
+            showFasee7Data(summary);
+        }, this::clearSummary);
+    }
+    
+    private void loadWarnings() {
+        int id = studentId;
+        loadSection(SECTION_WARNINGS, () -> warningService.getActiveWarningsByStudent(id),
+            this::showWarnings, () -> {
+                warningCountBadge.setText("0");
+                warnings.setAll("Error loading warnings");
+            });
+    }
+    
+    /**
+     * Run one section load on the background executor, replacing any load of
+     * the same section still in progress. Callbacks run on the FX thread and
+     * are skipped once the load has been cancelled or replaced.
+     * 
+     * @param section Section key
+     * @param loader Background work
+     * @param onLoaded Fills the card with the result
+     * @param onFailed Shows defaults after an error
+     */
+    private <T> void loadSection(String section, Callable<T> loader, Consumer<T> onLoaded, Runnable onFailed) {
+        Task<?> previous = sectionLoads.remove(section);
+        if (previous != null) {
+            previous.cancel();
+        }
+        
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return loader.call();
+            }
+        };
+        task.setOnSucceeded(event -> {
+            if (sectionLoads.remove(section, task)) {
+                onLoaded.accept(task.getValue());
+                LOGGER.fine("Profile section loaded: " + section);
+            }
+        });
+        task.setOnFailed(event -> {
+            if (sectionLoads.remove(section, task)) {
+                LOGGER.log(Level.WARNING, "Failed to load profile section: " + section, task.getException());
+                onFailed.run();
+            }
+        });
+        
+        sectionLoads.put(section, task);
+        SECTION_LOADER.execute(task);
+    }
+    
+    private void cancelSectionLoads() {
+        for (Task<?> task : new ArrayList<>(sectionLoads.values())) {
+            task.cancel();
         }
+        sectionLoads.clear();
     }
     
     /**
-     * Load personal information card.
+     * Fill the personal information card from the loaded student.
      * Displays: ID, phone numbers, status, registration date.
      * 
      * <p><b>Dynamic Styling:</b> Status label colored based on value</p>
@@ -442,159 +516,110 @@ public class StudentProfileController extends BaseController {
             
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Failed to load personal info", e);
-            // Set defaults on error
-            studentIdLabel.setText("-");
-            phoneLabel.setText("-");
-            parentPhoneLabel.setText("-");
-            statusLabel.setText("-");
-            registrationDateLabel.setText("-");
+            clearPersonalInfo();
         }
     }
     
+    private void clearPersonalInfo() {
+        studentIdLabel.setText("-");
+        phoneLabel.setText("-");
+        parentPhoneLabel.setText("-");
+        statusLabel.setText("-");
+        registrationDateLabel.setText("-");
+    }
+    
     /**
-     * Load attendance summary card.
+     * Fill the attendance summary card.
      * Displays: Total lessons, attended, absent, rate, consecutive absences.
-     * 
-     * <p><b>Service API Workaround:</b></p>
-     * <ul>
-     *   <li>Total = Attended + Absent (two service calls)</li>
-     *   <li>Consecutive = List size (service returns List, not count)</li>
-     * </ul>
      */
-    private void loadAttendanceSummary() {
-        try {
-            LOGGER.fine("Loading attendance summary");
-            
-            // Get attendance counts
-            // Note: Service API requires two calls to get total
-            int attended = attendanceService.getStudentAttendanceCount(studentId, AttendanceStatus.PRESENT);
-            int absent = attendanceService.getStudentAttendanceCount(studentId, AttendanceStatus.ABSENT);
-            int total = attended + absent;
-            
-            // Calculate rate
-            double rate = total > 0 ? (attended * 100.0 / total) : 0.0;
-            
-            // Get consecutive absences
-            // Note: Service returns List<Attendance>, we need count
-            List<com.studenttracker.model.Attendance> consecutiveList = 
-                attendanceService.getConsecutiveAbsences(studentId);
-            int consecutive = consecutiveList != null ? consecutiveList.size() : 0;
-            
-            // Update labels
-            totalLessonsLabel.setText(String.valueOf(total));
-            attendedLabel.setText(String.valueOf(attended));
-            absentLabel.setText(String.valueOf(absent));
-            attendanceRateLabel.setText(String.format("%.2f%%", rate));
-            consecutiveAbsencesLabel.setText(String.valueOf(consecutive));
-            
-            LOGGER.fine("Attendance summary loaded: total=" + total + ", attended=" + attended + 
-                       ", rate=" + String.format("%.2f%%", rate));
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Failed to load attendance summary", e);
-            // Set defaults on error
-            totalLessonsLabel.setText("0");
-            attendedLabel.setText("0");
-            absentLabel.setText("0");
-            attendanceRateLabel.setText("0.00%");
-            consecutiveAbsencesLabel.setText("0");
-        }
+    private void showAttendanceSummary(StudentProfileSummary summary) {
+        totalLessonsLabel.setText(String.valueOf(summary.getTotalLessons()));
+        attendedLabel.setText(String.valueOf(summary.getPresentCount()));
+        absentLabel.setText(String.valueOf(summary.getAbsentCount()));
+        attendanceRateLabel.setText(String.format("%.2f%%", summary.getAttendanceRate()));
+        consecutiveAbsencesLabel.setText(String.valueOf(summary.getConsecutiveAbsences()));
+        
+        LOGGER.fine("Attendance summary loaded: total=" + summary.getTotalLessons() +
+                   ", attended=" + summary.getPresentCount() +
+                   ", rate=" + String.format("%.2f%%", summary.getAttendanceRate()));
     }
     
     /**
-     * Load active warnings card.
+     * Fill the active warnings card.
      * Displays: Warning count badge and list of warning descriptions.
      */
-    private void loadWarnings() {
-        try {
-            LOGGER.fine("Loading warnings");
-            
-            // Get active warnings
-            List<Warning> activeWarnings = warningService.getActiveWarningsByStudent(studentId);
-            
-            if (activeWarnings == null) {
-                LOGGER.warning("Warning service returned null");
-                activeWarnings = List.of(); // Empty list
-            }
-            
-            // Update count badge
-            warningCountBadge.setText(String.valueOf(activeWarnings.size()));
-            
-            // Update warnings list
-            warnings.clear();
-            for (Warning warning : activeWarnings) {
-                String text = warning.getWarningType() + ": " + warning.getWarningReason();
-                warnings.add(text);
-            }
-            
-            // Show placeholder if no warnings
-            if (warnings.isEmpty()) {
-                warnings.add("No active warnings");
-            }
-            
-            LOGGER.fine("Warnings loaded: count=" + activeWarnings.size());
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Failed to load warnings", e);
-            // Set defaults on error
-            warningCountBadge.setText("0");
-            warnings.clear();
-            warnings.add("Error loading warnings");
+    private void showWarnings(List<Warning> activeWarnings) {
+        if (activeWarnings == null) {
+            LOGGER.warning("Warning service returned null");
+            activeWarnings = List.of(); // Empty list
+        }
+        
+        // Update count badge
+        warningCountBadge.setText(String.valueOf(activeWarnings.size()));
+        
+        // Update warnings list
+        warnings.clear();
+        for (Warning warning : activeWarnings) {
+            String text = warning.getWarningType() + ": " + warning.getWarningReason();
+            warnings.add(text);
+        }
+        
+        // Show placeholder if no warnings
+        if (warnings.isEmpty()) {
+            warnings.add("No active warnings");
         }
+        
+        LOGGER.fine("Warnings loaded: count=" + activeWarnings.size());
     }
     
     /**
-     * Load Fasee7 ranking card.
+     * Fill the Fasee7 ranking card.
      * Displays: Rank, total points, points breakdown (quiz, attendance, homework, targets).
      * 
-     * <p><b>Null Safety:</b> Shows defaults if student has no points record</p>
+     * <p><b>Null Safety:</b> Shows defaults if student has no points record or is not ranked</p>
      */
-    private void loadFasee7Data() {
-        try {
-            LOGGER.fine("Loading Fasee7 data");
-            
-            // Get Fasee7 points
-            Fasee7Points points = fasee7Service.getStudentPoints(studentId);
+    private void showFasee7Data(StudentProfileSummary summary) {
+        Fasee7Points points = summary.getPoints();
+        int rank = summary.getRank();
+        
+        if (points != null && rank > 0) {
+            // Update rank with ordinal suffix (1st, 2nd, 3rd, 4th, etc.)
+            rankLabel.setText(rank + getOrdinalSuffix(rank));
             
-            // Get rank
-            int rank = fasee7Service.getStudentRank(studentId);
+            // Update points breakdown
+            totalPointsLabel.setText(String.format("%.0f", points.getTotalPoints()));
+            quizPointsLabel.setText(String.format("%.0f", points.getQuizPoints()));
+            attendancePointsLabel.setText(String.valueOf(points.getAttendancePoints()));
+            homeworkPointsLabel.setText(String.valueOf(points.getHomeworkPoints()));
+            targetPointsLabel.setText(String.valueOf(points.getTargetPoints()));
             
-            if (points != null && rank > 0) {
-                // Update rank with ordinal suffix (1st, 2nd, 3rd, 4th, etc.)
-                rankLabel.setText(rank + getOrdinalSuffix(rank));
-                
-                // Update points breakdown
-                totalPointsLabel.setText(String.format("%.0f", points.getTotalPoints()));
-                quizPointsLabel.setText(String.format("%.0f", points.getQuizPoints()));
-                attendancePointsLabel.setText(String.valueOf(points.getAttendancePoints()));
-                homeworkPointsLabel.setText(String.valueOf(points.getHomeworkPoints()));
-                targetPointsLabel.setText(String.valueOf(points.getTargetPoints()));
-                
-                LOGGER.fine("Fasee7 data loaded: rank=" + rank + ", total=" + points.getTotalPoints());
-                
-            } else {
-                // No points record - show defaults
-                LOGGER.fine("No Fasee7 data found for student " + studentId);
-                rankLabel.setText("-");
-                totalPointsLabel.setText("0");
-                quizPointsLabel.setText("0");
-                attendancePointsLabel.setText("0");
-                homeworkPointsLabel.setText("0");
-                targetPointsLabel.setText("0");
-            }
+            LOGGER.fine("Fasee7 data loaded: rank=" + rank + ", total=" + points.getTotalPoints());
             
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Failed to load Fasee7 data", e);
-            // Set defaults on error
-            rankLabel.setText("-");
-            totalPointsLabel.setText("0");
-            quizPointsLabel.setText("0");
-            attendancePointsLabel.setText("0");
-            homeworkPointsLabel.setText("0");
-            targetPointsLabel.setText("0");
+        } else {
+            // No points record - show defaults
+            LOGGER.fine("No Fasee7 data found for student " + studentId);
+            clearFasee7Data();
         }
     }
     
+    private void clearSummary() {
+        totalLessonsLabel.setText("0");
+        attendedLabel.setText("0");
+        absentLabel.setText("0");
+        attendanceRateLabel.setText("0.00%");
+        consecutiveAbsencesLabel.setText("0");
+        clearFasee7Data();
+    }
+    
+    private void clearFasee7Data() {
+        rankLabel.setText("-");
+        totalPointsLabel.setText("0");
+        quizPointsLabel.setText("0");
+        attendancePointsLabel.setText("0");
+        homeworkPointsLabel.setText("0");
+        targetPointsLabel.setText("0");
+    }
+    
     // ==================== HELPER METHODS ====================
     
     /**
@@ -731,7 +756,8 @@ private void handleEdit() {
     
     /**
      * Handle StudentArchivedEvent from EventBus.
-     * Reloads personal info to show updated status.
+     * Reloads personal info to show updated status, and the summary since
+     * archived students leave the Fasee7 ranking.
      * 
      * <p><b>Thread Safety:</b> Uses Platform.runLater() for UI update</p>
      * 
@@ -744,27 +770,28 @@ private void handleEdit() {
             
             Platform.runLater(() -> {
                 LOGGER.fine("Reloading personal info due to archive event");
-                loadPersonalInfo();
+                loadStudentInfo();
+                loadSummary();
             });
         }
     }
     
     /**
-     * Handle AttendanceMarkedEvent from EventBus.
+     * Handle AttendanceMarkedSummaryEvent from EventBus.
      * Reloads attendance summary when attendance is marked for this student.
      * 
      * <p><b>Thread Safety:</b> Uses Platform.runLater() for UI update</p>
      * 
-     * @param event The attendance marked event
+     * @param event The coalesced attendance marked event
      */
     @Subscribe
-    public void onAttendanceMarked(AttendanceMarkedEvent event) {
-        if (event != null && event.getStudentId() != null && event.getStudentId() == studentId) {
+    public void onAttendanceMarked(AttendanceMarkedSummaryEvent event) {
+        if (event != null && event.containsStudent(studentId)) {
             LOGGER.info("Attendance marked event received for student: " + studentId);
             
             Platform.runLater(() -> {
                 LOGGER.fine("Reloading attendance summary due to event");
-                loadAttendanceSummary();
+                loadSummary();
             });
         }
     }
@@ -806,7 +833,7 @@ private void handleEdit() {
             
             Platform.runLater(() -> {
                 LOGGER.fine("Reloading Fasee7 data due to event");
-                loadFasee7Data();
+                loadSummary();
             });
         }
     }
@@ -2,8 +2,7 @@ package com.studenttracker.controller.student.tabs;
 
 import com.google.common.eventbus.Subscribe;
 import com.studenttracker.controller.BaseController;
-import com.studenttracker.model.Lesson;
-import com.studenttracker.model.LessonTopic;
+import com.studenttracker.model.StudentLessonTimelineEntry;
 import com.studenttracker.service.*;
 import com.studenttracker.service.event.*;
 import com.studenttracker.util.*;
@@ -11,6 +10,7 @@ import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 /**
  * Controller for the Student Lessons Tab.
  * Displays paginated list of lessons with student-specific data (attendance, homework, quiz scores).
+ * The student's timeline is loaded in the background from StudentTimelineService.
  * Supports real-time updates via EventBus and advanced filtering/pagination.
  * 
  * <p><b>Design Patterns Used:</b></p>
@@ -82,12 +83,12 @@ public class StudentLessonsTabController extends BaseController {
     private int pageSize = DEFAULT_PAGE_SIZE;
     private int totalPages = 1;
     
+    /** Timeline load in progress, if any. */
+    private Task<List<StudentLessonTimelineEntry>> loadTask;
+    
     // ==================== SERVICES ====================
     
-    private final LessonService lessonService;
-    private final AttendanceService attendanceService;
-    private final HomeworkService homeworkService;
-    private final QuizService quizService;
+    private final StudentTimelineService timelineService;
     private final EventBusService eventBus;
     
     // ==================== CONSTRUCTOR ====================
@@ -99,10 +100,7 @@ public class StudentLessonsTabController extends BaseController {
     public StudentLessonsTabController() {
         super();
         ServiceLocator services = ServiceLocator.getInstance();
-        this.lessonService = services.getLessonService();
-        this.attendanceService = services.getAttendanceService();
-        this.homeworkService = services.getHomeworkService();
-        this.quizService = services.getQuizService();
+        this.timelineService = services.getStudentTimelineService();
         this.eventBus = EventBusService.getInstance();
         
         LOGGER.info("StudentLessonsTabController created");
@@ -148,6 +146,10 @@ public class StudentLessonsTabController extends BaseController {
     public void cleanup() {
         try {
             eventBus.unregister(this);
+            if (loadTask != null) {
+                loadTask.cancel();
+                loadTask = null;
+            }
             LOGGER.info("StudentLessonsTabController cleaned up");
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error during cleanup", e);
@@ -245,78 +247,66 @@ public class StudentLessonsTabController extends BaseController {
     // ==================== DATA LOADING ====================
     
     /**
-     * Load all lessons with student-specific data.
-     * Aggregates data from multiple services (Facade pattern).
-     * Implements error handling and data transformation.
+     * Load the student's lesson timeline in the background, then filter and paginate it.
+     * Must be called on the FX thread; a load still in progress is cancelled.
      */
     private void loadLessons() {
-        try {
-            LOGGER.info("Loading lessons for student: " + studentId);
-            
-            // Get all lessons
-            List<Lesson> lessons = lessonService.getAllLessons();
-            
-            if (lessons == null) {
-                LOGGER.warning("LessonService returned null");
-                allLessons.clear();
+        LOGGER.info("Loading lessons for student: " + studentId);
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+        
+        int id = studentId;
+        Task<List<StudentLessonTimelineEntry>> task = new Task<>() {
+            @Override
+            protected List<StudentLessonTimelineEntry> call() {
+                return timelineService.getTimeline(id);
+            }
+        };
+        
+        task.setOnSucceeded(event -> {
+            if (task == loadTask) {
+                // Timeline is already newest first
+                allLessons.setAll(task.getValue().stream()
+                    .map(StudentLessonsTabController::createLessonRecord)
+                    .collect(Collectors.toList()));
                 applyFilters();
-                return;
+                LOGGER.info("Loaded " + allLessons.size() + " lessons");
             }
-            
-            // Clear existing data
-            allLessons.clear();
-            
-            // For each lesson, aggregate student-specific data
-            for (Lesson lesson : lessons) {
-                try {
-                    LessonRecord record = createLessonRecord(lesson);
-                    allLessons.add(record);
-                } catch (Exception e) {
-                    LOGGER.log(Level.WARNING, "Error processing lesson " + lesson.getLessonId(), e);
-                    // Continue with other lessons
-                }
+        });
+        task.setOnFailed(event -> {
+            if (task == loadTask) {
+                LOGGER.log(Level.SEVERE, "Failed to load lessons", task.getException());
+                showError("Failed to load lessons: " + task.getException().getMessage());
             }
-            
-            // Sort by date descending (most recent first)
-            allLessons.sort((a, b) -> b.getDate().compareTo(a.getDate()));
-            
-            // Apply filters and update display
-            applyFilters();
-            
-            LOGGER.info("Loaded " + allLessons.size() + " lessons");
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Failed to load lessons", e);
-            showError("Failed to load lessons: " + e.getMessage());
-        }
+        });
+        
+        loadTask = task;
+        Thread.ofPlatform().name("student-lessons-loader").daemon(true).start(task);
     }
     
     /**
-     * Create a LessonRecord from a Lesson by aggregating data from multiple services.
+     * Create a LessonRecord from a timeline entry.
+     * Homework and quiz are only shown for lessons the student attended.
      * 
-     * @param lesson The lesson domain object
+     * @param entry The student's timeline entry
      * @return A LessonRecord for table display
      */
-    private LessonRecord createLessonRecord(Lesson lesson) {
+    private static LessonRecord createLessonRecord(StudentLessonTimelineEntry entry) {
         LessonRecord record = new LessonRecord();
-        record.setLessonId(lesson.getLessonId());
-        record.setDate(lesson.getLessonDate());
-        
-        // Get topics
-        String topics = getTopicsString(lesson.getLessonId());
-        record.setTopics(topics);
-        
-        // Get attendance status
-        String attendanceStatus = getAttendanceStatus(lesson.getLessonId());
-        record.setAttendanceStatus(attendanceStatus);
-        
-        // Get homework and quiz only if student attended
-        if ("PRESENT".equals(attendanceStatus)) {
-            String homeworkStatus = getHomeworkStatus(lesson.getLessonId());
-            record.setHomeworkStatus(homeworkStatus != null ? homeworkStatus : "-");
-            
-            String quizScore = getQuizScore(lesson.getLessonId());
-            record.setQuizScore(quizScore != null ? quizScore : "-");
+        record.setLessonId(entry.getLessonId());
+        record.setDate(entry.getLessonDate());
+        record.setTopics(entry.getTopics() != null ? entry.getTopics() : "N/A");
+        record.setAttendanceStatus(entry.getAttendanceStatus() != null
+            ? entry.getAttendanceStatus().toString() : "ABSENT");
+        
+        if (entry.isPresent()) {
+            record.setHomeworkStatus(entry.getHomeworkStatus() != null
+                ? entry.getHomeworkStatus().toString() : "-");
+            record.setQuizScore(entry.getQuizId() != null && entry.getQuizPointsEarned() != null
+                ? String.format("%.1f/%.1f", entry.getQuizPointsEarned(),
+                    entry.getQuizTotalPoints() != null ? entry.getQuizTotalPoints() : 0.0)
+                : "-");
         } else {
             record.setHomeworkStatus("-");
             record.setQuizScore("-");
@@ -325,97 +315,6 @@ public class StudentLessonsTabController extends BaseController {
         return record;
     }
     
-    /**
-     * Get topics as a comma-separated string.
-     * 
-     * @param lessonId The lesson ID
-     * @return Topics string or "N/A" if none
-     */
-    private String getTopicsString(Integer lessonId) {
-        try {
-            List<LessonTopic> topics = lessonService.getLessonTopics(lessonId);
-            if (topics == null || topics.isEmpty()) {
-                return "N/A";
-            }
-            return topics.stream()
-                .map(LessonTopic::getSpecificTopic)
-                .collect(Collectors.joining(", "));
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error getting topics for lesson " + lessonId, e);
-            return "N/A";
-        }
-    }
-    
-    /**
-     * Get attendance status for student in lesson.
-     * 
-     * @param lessonId The lesson ID
-     * @return "PRESENT" or "ABSENT"
-     */
-    private String getAttendanceStatus(Integer lessonId) {
-        try {
-            com.studenttracker.model.Attendance attendance = attendanceService.getAttendance(lessonId, studentId);
-            if (attendance != null && attendance.getStatus() != null) {
-                return attendance.getStatus().toString();
-            }
-            return "ABSENT";
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error getting attendance for lesson " + lessonId, e);
-            return "ABSENT";
-        }
-    }
-    
-    /**
-     * Get homework status for student in lesson.
-     * 
-     * @param lessonId The lesson ID
-     * @return Homework status string or null
-     */
-    private String getHomeworkStatus(Integer lessonId) {
-        try {
-            com.studenttracker.model.Homework homework = homeworkService.getHomework(lessonId, studentId);
-            if (homework != null && homework.getStatus() != null) {
-                return homework.getStatus().toString();
-            }
-            return null;
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error getting homework for lesson " + lessonId, e);
-            return null;
-        }
-    }
-    
-    /**
-     * Get quiz score for student in lesson.
-     * 
-     * @param lessonId The lesson ID
-     * @return Quiz score string (e.g., "18/20") or null
-     */
-    private String getQuizScore(Integer lessonId) {
-        try {
-            com.studenttracker.model.Quiz quiz = quizService.getQuizByLesson(lessonId);
-            if (quiz == null) {
-                return null;
-            }
-            
-            Double total = quizService.getStudentQuizTotal(quiz.getQuizId(), studentId);
-            if (total == null) {
-                return null;
-            }
-            
-            // Get max possible score from quiz questions
-            List<com.studenttracker.model.QuizQuestion> questions = quizService.getQuizQuestions(quiz.getQuizId());
-            double maxScore = questions.stream()
-                .mapToDouble(q -> q.getPoints())
-                .sum();
-            
-            return String.format("%.1f/%.1f", total, maxScore);
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error getting quiz score for lesson " + lessonId, e);
-            return null;
-        }
-    }
-    
     // ==================== FILTERING AND PAGINATION ====================
     
     /**
@@ -662,30 +561,30 @@ public class StudentLessonsTabController extends BaseController {
     // ==================== EVENT SUBSCRIBERS (EventBus) ====================
     
     /**
-     * Handle AttendanceMarkedEvent.
+     * Handle AttendanceMarkedSummaryEvent.
      * Reloads lessons when attendance is marked for this student.
      * 
-     * @param event The attendance marked event
+     * @param event The coalesced attendance marked event
      */
     @Subscribe
-    public void onAttendanceMarked(AttendanceMarkedEvent event) {
-        if (event.getStudentId() == studentId) {
+    public void onAttendanceMarked(AttendanceMarkedSummaryEvent event) {
+        if (event.containsStudent(studentId)) {
             LOGGER.info("Attendance marked event received for student " + studentId);
-            Platform.runLater(this::loadLessons);
+            reloadTimeline();
         }
     }
     
     /**
-     * Handle HomeworkRecordedEvent.
+     * Handle HomeworkRecordedSummaryEvent.
      * Reloads lessons when homework is recorded for this student.
      * 
-     * @param event The homework recorded event
+     * @param event The coalesced homework recorded event
      */
     @Subscribe
-    public void onHomeworkRecorded(HomeworkRecordedEvent event) {
-        if (event.getStudentId() == studentId) {
+    public void onHomeworkRecorded(HomeworkRecordedSummaryEvent event) {
+        if (event.containsStudent(studentId)) {
             LOGGER.info("Homework recorded event received for student " + studentId);
-            Platform.runLater(this::loadLessons);
+            reloadTimeline();
         }
     }
     
@@ -699,10 +598,20 @@ public class StudentLessonsTabController extends BaseController {
     public void onQuizGraded(QuizGradedEvent event) {
         if (event.getStudentId() == studentId) {
             LOGGER.info("Quiz graded event received for student " + studentId);
-            Platform.runLater(this::loadLessons);
+            reloadTimeline();
         }
     }
     
+    /**
+     * Drop the cached timeline and reload it. The service also invalidates on
+     * these events, but subscribers run in no particular order, so the cache is
+     * dropped here first to avoid reloading the old timeline.
+     */
+    private void reloadTimeline() {
+        timelineService.invalidate(studentId);
+        Platform.runLater(this::loadLessons);
+    }
+    
     // ==================== INNER CLASS ====================
     
     /**
@@ -2,6 +2,7 @@ package com.studenttracker.dao;
 
 import com.studenttracker.model.Attendance;
 import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.OutboxEntry;
 import java.util.List;
 
 /**
@@ -23,5 +24,11 @@ public interface AttendanceDAO {
     int countByStudentAndStatus(int studentId, AttendanceStatus status);
     List<Attendance> findConsecutiveAbsences(int studentId, int limit);
     boolean bulkInsert(List<Attendance> attendanceList);
+    
+    /**
+     * Bulk insert plus an outbox entry, committed in one transaction.
+     * @param outboxEntry Entry to write with the rows (may be null); its ID is set on success
+     */
+    boolean bulkInsert(List<Attendance> attendanceList, OutboxEntry outboxEntry);
     double getAttendanceRate(int studentId);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.studenttracker.dao;
 
 import com.studenttracker.model.Homework;
 import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.OutboxEntry;
 import java.util.List;
 import java.util.Map;
 
@@ -23,5 +24,11 @@ public interface HomeworkDAO {
     Homework findByLessonAndStudent(int lessonId, int studentId);
     int countByStudentAndStatus(int studentId, HomeworkStatus status);
     boolean bulkInsert(List<Homework> homeworkList);
+    
+    /**
+     * Bulk insert plus an outbox entry, committed in one transaction.
+     * @param outboxEntry Entry to write with the rows (may be null); its ID is set on success
+     */
+    boolean bulkInsert(List<Homework> homeworkList, OutboxEntry outboxEntry);
     Map<HomeworkStatus, Integer> getHomeworkStatsByLesson(int lessonId);
 }
\ No newline at end of file
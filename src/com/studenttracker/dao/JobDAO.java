@@ -0,0 +1,48 @@
+package com.studenttracker.dao;
+
+import com.studenttracker.model.Job;
+import com.studenttracker.model.Job.JobStatus;
+
+import java.util.List;
+
+/**
+ * Data Access Object for background jobs.
+ */
+public interface JobDAO {
+    
+    Integer insert(Job job);
+    Job findById(int jobId);
+    
+    /**
+     * Find the most recently created jobs.
+     * @param limit Maximum number of jobs
+     * @return Jobs, newest first
+     */
+    List<Job> findRecent(int limit);
+    
+    List<Job> findByStatus(JobStatus status);
+    
+    /**
+     * Mark a queued job as running.
+     * @return false if the job is no longer queued (e.g., cancelled)
+     */
+    boolean markRunning(int jobId);
+    
+    boolean updateProgress(int jobId, int progress);
+    
+    /**
+     * Record a job's final status.
+     * @param jobId Job ID
+     * @param status COMPLETED, FAILED or CANCELLED
+     * @param result Result summary (may be null)
+     * @param errorMessage Error message (may be null)
+     * @return true if the job was updated
+     */
+    boolean markFinished(int jobId, JobStatus status, String result, String errorMessage);
+    
+    /**
+     * Fail every job left QUEUED or RUNNING by a previous run of the application.
+     * @return Number of jobs updated
+     */
+    int failUnfinished(String errorMessage);
+}
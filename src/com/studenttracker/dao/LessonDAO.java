@@ -22,4 +22,13 @@ public interface LessonDAO {
     List<Lesson> findByCreatedBy(int userId);
     int countAll();
     Lesson findLatest();
+    
+    /**
+     * Lessons with a topic matching the term (FTS5, every word as a prefix),
+     * in one joined query.
+     * @param term User input
+     * @param limit Maximum number of lessons
+     * @return Lessons ranked by their best-matching topic, then newest first
+     */
+    List<Lesson> searchByTopic(String term, int limit);
 }
\ No newline at end of file
@@ -1,10 +1,38 @@
 package com.studenttracker.dao;
 
 import com.studenttracker.model.MonthlyReport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 
+/**
+ * Data Access Object for monthly_reports.
+ * Report JSON is stored gzip-compressed in report_data_gz; report_data only
+ * holds JSON of rows written before compression was introduced, so
+ * MonthlyReport.getReportData() is null for compressed rows. Use
+ * streamReportData to read a report body.
+ */
 public interface MonthlyReportDAO {
     
+    /**
+     * Writes a report's JSON body to the given writer.
+     */
+    @FunctionalInterface
+    interface ReportBodyWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
+    
+    /**
+     * Decodes a report's JSON body from the given reader.
+     */
+    @FunctionalInterface
+    interface ReportBodyReader<T> {
+        T readFrom(Reader reader) throws IOException;
+    }
+    
     // Standard CRUD methods
     Integer insert(MonthlyReport report);
     boolean update(MonthlyReport report);
@@ -17,4 +45,39 @@ public interface MonthlyReportDAO {
     List<MonthlyReport> findAllOrderedByMonth();
     MonthlyReport findLatest();
     boolean existsForMonth(String month);
+    
+    // Compressed storage
+    
+    /**
+     * Insert a report whose JSON is serialized straight into the compressed
+     * stream, so the uncompressed document is never held in memory.
+     * @param month Report month
+     * @param generatedBy User ID
+     * @param body Writes the JSON body
+     * @return Generated report ID
+     */
+    Integer insertCompressed(String month, Integer generatedBy, ReportBodyWriter body);
+    
+    /**
+     * Stream a report's uncompressed JSON to an output stream.
+     * Legacy uncompressed rows are compressed after being read.
+     * @param reportId Report ID
+     * @param out Destination (not closed)
+     * @return false if the report does not exist
+     */
+    boolean streamReportData(int reportId, OutputStream out);
+    
+    /**
+     * Decode a report's JSON straight from the decompressing stream.
+     * @param reportId Report ID
+     * @param body Decodes the JSON body
+     * @return Decoded value, or null if the report does not exist
+     */
+    <T> T readReportData(int reportId, ReportBodyReader<T> body);
+    
+    /**
+     * Compress every row that still stores its JSON as plain text.
+     * @return Number of rows migrated
+     */
+    int compressLegacyReports();
 }
\ No newline at end of file
@@ -3,11 +3,18 @@ package com.studenttracker.dao;
 import com.studenttracker.model.Notification;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface NotificationDAO {
     
     // Standard CRUD methods
     Integer insert(Notification notification);
+    
+    /**
+     * Insert notifications in one transaction.
+     * @return Generated IDs, in input order
+     */
+    List<Integer> insertBatch(List<Notification> notifications);
     boolean update(Notification notification);
     boolean delete(int notificationId);
     Notification findById(int notificationId);
@@ -17,8 +24,39 @@ public interface NotificationDAO {
     List<Notification> findByUserId(int userId);
     List<Notification> findUnreadByUser(int userId);
     int countUnreadByUser(int userId);
+    
+    /**
+     * Unread notification count per user; users without unread notifications are absent.
+     */
+    Map<Integer, Integer> countUnreadGroupedByUser();
     boolean markAsRead(int notificationId);
     boolean markAllAsReadForUser(int userId);
+    
+    /**
+     * Mark a notification as read if it is unread.
+     * @return The owner's user ID, or null if the notification is missing or already read
+     */
+    Integer markUnreadAsRead(int notificationId);
+    
+    /**
+     * Mark all of a user's unread notifications as read.
+     * @return Number of notifications that were unread
+     */
+    int markAllUnreadAsRead(int userId);
     List<Notification> findByUserAndType(int userId, String notificationType);
     boolean deleteOldNotifications(LocalDateTime before);
+    
+    /**
+     * Oldest notifications created before a time, for batched retention.
+     * @param beforeUtc Cutoff in UTC (created_at is stored as CURRENT_TIMESTAMP)
+     * @param limit Maximum number of rows
+     * @return Notifications ordered by created_at, then ID
+     */
+    List<Notification> findCreatedBefore(LocalDateTime beforeUtc, int limit);
+    
+    /**
+     * Delete notifications by ID in one transaction.
+     * @return Number of rows deleted
+     */
+    int deleteByIds(List<Integer> notificationIds);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.studenttracker.dao;
+
+import com.studenttracker.model.OutboxEntry;
+
+import java.util.List;
+
+/**
+ * Data Access Object for the event outbox.
+ * Entries are written by the DAOs of the source rows, inside their own
+ * transaction (see OutboxDAOImplHelpers.insertEntry); this interface covers
+ * the dispatcher side.
+ */
+public interface OutboxDAO {
+    
+    /**
+     * Find undelivered entries in insertion order.
+     * @param maxAttempts Skip entries that already failed this many times
+     * @param limit Maximum number of entries
+     */
+    List<OutboxEntry> findPending(int maxAttempts, int limit);
+    
+    int countPending();
+    
+    boolean markDispatched(int outboxId);
+    
+    /**
+     * Increment the attempt count and store the error.
+     */
+    boolean recordFailure(int outboxId, String errorMessage);
+    
+    /**
+     * Check whether a consumer has already handled an entry.
+     */
+    boolean isConsumed(int outboxId, String consumer);
+    
+    /**
+     * Record that a consumer handled an entry.
+     * @return false if the consumer had already handled it
+     */
+    boolean markConsumed(int outboxId, String consumer);
+    
+    /**
+     * Delete delivered entries (and their consumer records) older than the given age.
+     * @return Number of entries deleted
+     */
+    int deleteDispatchedOlderThan(int days);
+}
@@ -1,5 +1,6 @@
 package com.studenttracker.dao;
 
+import com.studenttracker.model.ChartSeries;
 import com.studenttracker.model.LessonTopic;
 import com.studenttracker.model.PerformanceIndicator;
 
@@ -82,4 +83,21 @@ public interface PerformanceIndicatorDAO {
      * @return List of performance indicators from this quiz
      */
     List<PerformanceIndicator> findByQuizId(int quizId);
+    
+    /**
+     * Get the cumulative PI series for a student and category, one point per quiz,
+     * ordered by calculated_at. Reads only quiz_id and cumulative_pi.
+     * @param studentId Student ID
+     * @param category Topic category
+     * @return ChartSeries of quiz ID to cumulative PI
+     */
+    ChartSeries findCumulativeSeries(int studentId, LessonTopic.TopicCategory category);
+    
+    /**
+     * Get the overall PI series for a student: cumulative PIs summed per quiz in SQL,
+     * ordered by the quiz's first calculation time.
+     * @param studentId Student ID
+     * @return ChartSeries of quiz ID to summed cumulative PI
+     */
+    ChartSeries findOverallSeries(int studentId);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.studenttracker.dao;
 
 import com.studenttracker.model.Quiz;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -20,4 +21,5 @@ public interface QuizDAO {
     Quiz findByLessonId(int lessonId);
     byte[] getQuizPdf(int quizId);
     int countAll();
+    List<Integer> findQuizIdsByDateRange(LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
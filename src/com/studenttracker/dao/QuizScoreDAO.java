@@ -2,6 +2,7 @@ package com.studenttracker.dao;
 
 
 import java.util.List;
+import java.util.Map;
 
 import com.studenttracker.model.QuizScore;
 
@@ -24,4 +25,16 @@ public interface QuizScoreDAO {
     List<QuizScore> findByQuizAndStudent(int quizId, int studentId);
     boolean bulkInsert(List<QuizScore> scores);
     Double getTotalScoreForStudent(int quizId, int studentId);
+    
+    // Aggregate / streaming queries (no model objects)
+    Map<Integer, Double> getStudentTotalsByQuiz(int quizId);
+    void streamScoresByQuestion(int quizId, ScoreRowHandler handler);
+    
+    /**
+     * Receives one quiz_scores row at a time, ordered by question then student.
+     */
+    @FunctionalInterface
+    interface ScoreRowHandler {
+        void onRow(int questionId, int studentId, double pointsEarned);
+    }
 }
\ No newline at end of file
@@ -57,6 +57,17 @@ public interface RecentActivityDAO {
      */
     int insert(RecentActivity activity);
     
+    /**
+     * Inserts activities in one transaction.
+     * created_at is taken from the activity when set (UTC, like CURRENT_TIMESTAMP),
+     * so buffered activities keep the time they happened.
+     * 
+     * @param activities The activities to insert (activityId is ignored)
+     * @throws com.studenttracker.exception.DAOException if database operation fails;
+     *         no activity is inserted then
+     */
+    void insertBatch(List<RecentActivity> activities);
+    
     /**
      * Retrieves the most recent N activities from the database.
      * Results are ordered by created_at in descending order (newest first).
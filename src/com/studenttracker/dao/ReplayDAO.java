@@ -0,0 +1,93 @@
+package com.studenttracker.dao;
+
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.LessonTopic.TopicCategory;
+import com.studenttracker.model.QuizQuestion.QuestionType;
+import com.studenttracker.model.ReplayBatch;
+
+import java.util.List;
+
+/**
+ * Data Access Object for rebuilding derived tables from source data.
+ * Source rows (attendance, homework, quiz_scores, behavioral_incidents and
+ * achieved targets) are read through one forward-only cursor per student range.
+ * Derived rows are written to shadow tables in a separate scratch database,
+ * so filling them never contends with readers of the main database, and are
+ * swapped into the main database in a single transaction.
+ */
+public interface ReplayDAO {
+
+    /**
+     * Receives source rows of one student range, ordered by student and then
+     * chronologically (lesson date; incident and achievement timestamps).
+     * Rows of one quiz are contiguous, ordered by question.
+     */
+    interface SourceRowHandler {
+        /** First row of every student, including students without any activity. */
+        void onStudent(int studentId);
+
+        void onAttendance(int studentId, int lessonId, AttendanceStatus status);
+
+        void onHomework(int studentId, int lessonId, HomeworkStatus status);
+
+        void onQuizScore(int studentId, int quizId, int questionId, QuestionType questionType,
+                         TopicCategory category, double pointsEarned, double maxPoints, String enteredAt);
+
+        void onIncident(int studentId, int lessonId, IncidentType type);
+
+        void onTargetAchieved(int studentId, TopicCategory category, String achievedAt);
+    }
+
+    /**
+     * Tables rebuilt by a replay.
+     */
+    List<String> getDerivedTables();
+
+    int countStudents();
+
+    /**
+     * Split the student ID space into ranges holding roughly equal numbers of students.
+     * @param shardCount Requested number of ranges
+     * @return Range bounds; range i is [bounds[i], bounds[i + 1]). Fewer ranges
+     *         are returned when there are fewer students than requested.
+     */
+    long[] findShardBounds(int shardCount);
+
+    /**
+     * Stream the source rows of students in [fromStudentId, toStudentId).
+     * @return Number of rows streamed
+     */
+    long streamSourceRows(long fromStudentId, long toStudentId, SourceRowHandler handler);
+
+    /**
+     * Create an empty scratch database holding a copy of every derived table's
+     * definition (without secondary indexes). A leftover scratch database is replaced.
+     */
+    void createShadowTables();
+
+    /**
+     * Append a batch to the shadow tables in one transaction.
+     * Callers must not write batches concurrently.
+     */
+    void writeShadowBatch(ReplayBatch batch);
+
+    /**
+     * Replace every derived table in the main database with its shadow copy,
+     * recreate its indexes, and delete the scratch database. All tables are
+     * replaced in one transaction.
+     */
+    void swapShadowTables();
+
+    /**
+     * Replace one student's rows in every derived table of the main database
+     * with the given batch, in one transaction.
+     */
+    void replaceStudentRows(int studentId, ReplayBatch batch);
+
+    /**
+     * Delete the scratch database, if any.
+     */
+    void discardShadowTables();
+}
@@ -0,0 +1,73 @@
+package com.studenttracker.dao;
+
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.TopAchiever;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Access Object for set-based monthly report aggregates.
+ * Each method runs one grouped query over a set of lesson IDs instead of
+ * one query per lesson or per student.
+ */
+public interface ReportAggregationDAO {
+    
+    /**
+     * Count attendance rows by status across the given lessons.
+     * @param lessonIds Lesson IDs (typically one month group)
+     * @return Map of status to count, with every status present
+     */
+    Map<AttendanceStatus, Integer> countAttendanceByStatus(List<Integer> lessonIds);
+    
+    /**
+     * Count quizzes attached to the given lessons, without reading quiz PDFs.
+     * @param lessonIds Lesson IDs
+     * @return Number of quizzes
+     */
+    int countQuizzes(List<Integer> lessonIds);
+    
+    /**
+     * Count homework rows by status across the given lessons.
+     * @param lessonIds Lesson IDs
+     * @return Map of status to count, with every status present
+     */
+    Map<HomeworkStatus, Integer> countHomeworkByStatus(List<Integer> lessonIds);
+    
+    /**
+     * Bucket active students by their number of absences in the given lessons.
+     * @param lessonIds Lesson IDs
+     * @return Array: [no absences, 1-2 absences, 3+ absences]
+     */
+    int[] bucketActiveStudentAbsences(List<Integer> lessonIds);
+    
+    /**
+     * Count behavioral incidents by type across the given lessons.
+     * @param lessonIds Lesson IDs
+     * @return Map of incident type to count, with every type present
+     */
+    Map<IncidentType, Integer> countIncidentsByType(List<Integer> lessonIds);
+    
+    /**
+     * Count targets achieved during a month: from its first lesson date to its
+     * last lesson date, or to today while it is the latest lesson's month.
+     * @param monthGroup Month group
+     * @return Number of targets achieved in the month (0 if it has no lessons)
+     */
+    int countTargetsAchievedInMonth(String monthGroup);
+    
+    /**
+     * Count targets that are not achieved yet.
+     * @return Number of open targets
+     */
+    int countActiveTargets();
+    
+    /**
+     * Students with the most target points.
+     * @param limit Maximum number of students
+     * @return Achievers ordered by target points, highest first
+     */
+    List<TopAchiever> findTopTargetAchievers(int limit);
+}
@@ -0,0 +1,42 @@
+package com.studenttracker.dao;
+
+import java.util.Map;
+
+/**
+ * Data Access Object for the report_running_aggregates table.
+ * Rows are keyed by (month_group, lesson_id, metric); lesson_id 0 holds
+ * metrics that are not tied to a lesson.
+ */
+public interface ReportRunningAggregateDAO {
+    
+    /**
+     * Replace a lesson's values for the given metrics in one transaction.
+     * @param monthGroup Month group of the lesson
+     * @param lessonId Lesson ID (0 for month-level metrics)
+     * @param metrics Map of metric name to value
+     */
+    void setMetrics(String monthGroup, int lessonId, Map<String, Integer> metrics);
+    
+    /**
+     * Add a delta to a single metric, creating the row if needed.
+     * @param monthGroup Month group
+     * @param lessonId Lesson ID (0 for month-level metrics)
+     * @param metric Metric name
+     * @param delta Amount to add
+     */
+    void incrementMetric(String monthGroup, int lessonId, String metric, int delta);
+    
+    /**
+     * Sum every metric over all lessons of a month.
+     * @param monthGroup Month group
+     * @return Map of metric name to total (empty if nothing recorded)
+     */
+    Map<String, Integer> sumByMonth(String monthGroup);
+    
+    /**
+     * Delete every stored aggregate of a month.
+     * @param monthGroup Month group
+     * @return true if any rows were deleted
+     */
+    boolean deleteByMonth(String monthGroup);
+}
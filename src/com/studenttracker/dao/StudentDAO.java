@@ -2,6 +2,7 @@ package com.studenttracker.dao;
 
 
 import com.studenttracker.model.Student;
+import com.studenttracker.model.StudentProfileSummary;
 import com.studenttracker.model.Student.StudentStatus;
 import java.util.List;
 
@@ -24,4 +25,29 @@ public interface StudentDAO {
     boolean archive(int studentId, int archivedBy);
     boolean restore(int studentId);
     Student findByPhoneNumber(String phoneNumber);
+    
+    /**
+     * Typeahead search over names and phone numbers (FTS5): every word of the
+     * term must prefix a word of the name or a phone number.
+     * @param term User input
+     * @param limit Maximum number of students
+     * @return Best matches first
+     */
+    List<Student> searchFullText(String term, int limit);
+    
+    /**
+     * One page of students in name order (keyset paging).
+     * @param afterName Name of the last student on the previous page; null for the first page
+     * @param afterId ID of the last student on the previous page (ties on name)
+     * @param limit Page size
+     */
+    List<Student> findPageOrderedByName(String afterName, int afterId, int limit);
+    
+    /**
+     * Attendance counts, consecutive absences, active warning count, Fasee7 points
+     * and rank of one student, in one query.
+     * @param studentId Student ID
+     * @return Summary, or null if the student does not exist
+     */
+    StudentProfileSummary findProfileSummary(int studentId);
 }
\ No newline at end of file
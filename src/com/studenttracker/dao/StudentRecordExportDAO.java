@@ -0,0 +1,54 @@
+package com.studenttracker.dao;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Data Access Object for bulk per-student record exports.
+ * Each export is one set-based query read through a forward-only cursor;
+ * rows are handed to the caller one at a time and never collected.
+ */
+public interface StudentRecordExportDAO {
+    
+    /**
+     * Receives export rows in column order. The array is reused between rows.
+     */
+    @FunctionalInterface
+    interface ExportRowHandler {
+        void onRow(Object[] values) throws IOException;
+    }
+    
+    /**
+     * Column names of the per-student summary export.
+     */
+    List<String> getStudentSummaryColumns();
+    
+    /**
+     * Stream one row per student: attendance and homework counts, quiz totals,
+     * latest cumulative PI per category and Fasee7 points.
+     * @param includeArchived Include archived students
+     * @param handler Row consumer
+     * @return Number of rows streamed
+     */
+    long streamStudentSummaries(boolean includeArchived, ExportRowHandler handler);
+    
+    /**
+     * Column names of the per student-lesson export.
+     */
+    List<String> getStudentLessonColumns();
+    
+    /**
+     * Stream one row per (student, lesson): attendance, homework and quiz total.
+     * @param includeArchived Include archived students
+     * @param handler Row consumer
+     * @return Number of rows streamed
+     */
+    long streamStudentLessonRecords(boolean includeArchived, ExportRowHandler handler);
+    
+    /**
+     * Number of rows the corresponding export will produce, for progress reporting.
+     * @param perLesson true for the student-lesson export
+     * @param includeArchived Include archived students
+     */
+    long countExportRows(boolean perLesson, boolean includeArchived);
+}
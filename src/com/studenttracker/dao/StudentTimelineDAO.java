@@ -0,0 +1,20 @@
+package com.studenttracker.dao;
+
+import com.studenttracker.model.StudentLessonTimelineEntry;
+
+import java.util.List;
+
+/**
+ * Data Access Object for a student's lesson timeline.
+ * Reads lessons, topics, attendance, homework and quiz totals in one joined query;
+ * quiz PDF data is never loaded.
+ */
+public interface StudentTimelineDAO {
+    
+    /**
+     * Every lesson with the student's attendance, homework and quiz result.
+     * @param studentId Student ID
+     * @return Newest lesson first (lesson date, then lesson ID, descending)
+     */
+    List<StudentLessonTimelineEntry> findTimeline(int studentId);
+}
@@ -4,6 +4,7 @@ import com.studenttracker.model.Warning;
 import com.studenttracker.model.Warning.WarningType;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data Access Object interface for Warning entity operations.
@@ -92,6 +93,12 @@ public interface WarningDAO {
      */
     int countByType(WarningType type);
     
+    /**
+     * Count active warnings per student in one query.
+     * @return Student ID to active warning count; students without active warnings are absent
+     */
+    Map<Integer, Integer> countActiveGroupedByStudent();
+    
     /**
      * Resolve all active warnings of a specific type for a student.
      * Sets is_active to false and resolved_at to current timestamp.
@@ -2,9 +2,11 @@ package com.studenttracker.dao.impl;
 
 import com.studenttracker.dao.AttendanceDAO;
 import com.studenttracker.dao.impl.helpers.AttendanceDAOImplHelpers;
+import com.studenttracker.dao.impl.helpers.OutboxDAOImplHelpers;
 import com.studenttracker.exception.DAOException;
 import com.studenttracker.model.Attendance;
 import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.OutboxEntry;
 import com.studenttracker.util.DatabaseConnection;
 import com.studenttracker.util.ResultSetExtractor;
 
@@ -301,6 +303,11 @@ public class AttendanceDAOImpl implements AttendanceDAO {
     
     @Override
     public boolean bulkInsert(List<Attendance> attendanceList) {
+        return bulkInsert(attendanceList, null);
+    }
+    
+    @Override
+    public boolean bulkInsert(List<Attendance> attendanceList, OutboxEntry outboxEntry) {
         if (attendanceList == null || attendanceList.isEmpty()) {
             return false;
         }
@@ -331,6 +338,9 @@ public class AttendanceDAOImpl implements AttendanceDAO {
             }
             
             pstmt.executeBatch(); // Execute remaining
+            if (outboxEntry != null) {
+                OutboxDAOImplHelpers.insertEntry(conn, outboxEntry);
+            }
             conn.commit();
             return true;
             
@@ -1,9 +1,11 @@
 package com.studenttracker.dao.impl;
 
 import com.studenttracker.dao.HomeworkDAO;
+import com.studenttracker.dao.impl.helpers.OutboxDAOImplHelpers;
 import com.studenttracker.exception.DAOException;
 import com.studenttracker.model.Homework;
 import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.OutboxEntry;
 import com.studenttracker.util.DatabaseConnection;
 
 import java.sql.*;
@@ -244,6 +246,11 @@ public class HomeworkDAOImpl implements HomeworkDAO {
     
     @Override
     public boolean bulkInsert(List<Homework> homeworkList) {
+        return bulkInsert(homeworkList, null);
+    }
+    
+    @Override
+    public boolean bulkInsert(List<Homework> homeworkList, OutboxEntry outboxEntry) {
         if (homeworkList == null || homeworkList.isEmpty()) {
             return false;
         }
@@ -274,6 +281,9 @@ public class HomeworkDAOImpl implements HomeworkDAO {
             }
             
             pstmt.executeBatch(); // Execute remaining
+            if (outboxEntry != null) {
+                OutboxDAOImplHelpers.insertEntry(conn, outboxEntry);
+            }
             conn.commit();
             return true;
             
@@ -0,0 +1,229 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.JobDAO;
+import com.studenttracker.dao.impl.helpers.JobDAOImplHelpers;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.Job;
+import com.studenttracker.model.Job.JobStatus;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class JobDAOImpl implements JobDAO {
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    private static final Map<String, Function<Object, Object>> transformers = JobDAOImplHelpers.getTransformers();
+    
+    @Override
+    public Integer insert(Job job) {
+        String sql = "INSERT INTO jobs (job_type, status, description, progress, submitted_by, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            
+            pstmt.setString(1, job.getJobType().name());
+            pstmt.setString(2, job.getStatus().name());
+            pstmt.setString(3, job.getDescription());
+            pstmt.setInt(4, job.getProgress());
+            if (job.getSubmittedBy() != null) {
+                pstmt.setInt(5, job.getSubmittedBy());
+            } else {
+                pstmt.setNull(5, Types.INTEGER);
+            }
+            pstmt.setString(6, job.getCreatedAt().toString());
+            
+            int affectedRows = pstmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new DAOException("Insert job failed, no rows affected");
+            }
+            
+            ResultSet rs = pstmt.getGeneratedKeys();
+            if (rs.next()) {
+                return rs.getInt(1);
+            } else {
+                throw new DAOException("Insert job failed, no ID obtained");
+            }
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to insert job", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public Job findById(int jobId) {
+        String sql = "SELECT * FROM jobs WHERE job_id = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, jobId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return JobDAOImplHelpers.extractJobFromResultSet(rs, transformers);
+            }
+            return null;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find job by ID", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public List<Job> findRecent(int limit) {
+        String sql = "SELECT * FROM jobs ORDER BY job_id DESC LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Job> jobs = new ArrayList<>();
+            while (rs.next()) {
+                jobs.add(JobDAOImplHelpers.extractJobFromResultSet(rs, transformers));
+            }
+            return jobs;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find recent jobs", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public List<Job> findByStatus(JobStatus status) {
+        String sql = "SELECT * FROM jobs WHERE status = ? ORDER BY job_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, status.name());
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Job> jobs = new ArrayList<>();
+            while (rs.next()) {
+                jobs.add(JobDAOImplHelpers.extractJobFromResultSet(rs, transformers));
+            }
+            return jobs;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find jobs by status", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean markRunning(int jobId) {
+        String sql = "UPDATE jobs SET status = ?, started_at = ? WHERE job_id = ? AND status = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, JobStatus.RUNNING.name());
+            pstmt.setString(2, LocalDateTime.now().toString());
+            pstmt.setInt(3, jobId);
+            pstmt.setString(4, JobStatus.QUEUED.name());
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark job as running", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean updateProgress(int jobId, int progress) {
+        String sql = "UPDATE jobs SET progress = ? WHERE job_id = ? AND status = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, progress);
+            pstmt.setInt(2, jobId);
+            pstmt.setString(3, JobStatus.RUNNING.name());
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to update job progress", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean markFinished(int jobId, JobStatus status, String result, String errorMessage) {
+        // Finished jobs keep their first final status
+        String sql = "UPDATE jobs SET status = ?, result = ?, error_message = ?, finished_at = ?, " +
+                    "progress = CASE WHEN ? = 'COMPLETED' THEN 100 ELSE progress END " +
+                    "WHERE job_id = ? AND status IN ('QUEUED', 'RUNNING')";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, status.name());
+            pstmt.setString(2, result);
+            pstmt.setString(3, errorMessage);
+            pstmt.setString(4, LocalDateTime.now().toString());
+            pstmt.setString(5, status.name());
+            pstmt.setInt(6, jobId);
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark job as finished", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int failUnfinished(String errorMessage) {
+        String sql = "UPDATE jobs SET status = ?, error_message = ?, finished_at = ? " +
+                    "WHERE status IN ('QUEUED', 'RUNNING')";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, JobStatus.FAILED.name());
+            pstmt.setString(2, errorMessage);
+            pstmt.setString(3, LocalDateTime.now().toString());
+            
+            return pstmt.executeUpdate();
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to fail unfinished jobs", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.studenttracker.dao.impl;
 
 import com.studenttracker.dao.LessonDAO;
+import com.studenttracker.dao.impl.helpers.FullTextSearchHelpers;
 import com.studenttracker.exception.DAOException;
 import com.studenttracker.model.Lesson;
 import com.studenttracker.util.DatabaseConnection;
@@ -255,6 +256,39 @@ public class LessonDAOImpl implements LessonDAO {
         }
     }
     
+    @Override
+    public List<Lesson> searchByTopic(String term, int limit) {
+        String match = FullTextSearchHelpers.prefixQuery(term);
+        if (match == null) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT l.* FROM lessons l JOIN (" +
+                    "SELECT lesson_id, MIN(rank) AS best FROM lesson_topics_fts " +
+                    "WHERE lesson_topics_fts MATCH ? GROUP BY lesson_id" +
+                    ") m ON m.lesson_id = l.lesson_id " +
+                    "ORDER BY m.best, l.lesson_date DESC LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, match);
+            pstmt.setInt(2, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Lesson> lessons = new ArrayList<>();
+            while (rs.next()) {
+                lessons.add(extractLessonFromResultSet(rs));
+            }
+            return lessons;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to search lessons by topic", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     // Helper method to extract Lesson object from ResultSet
     private Lesson extractLessonFromResultSet(ResultSet rs) throws SQLException {
         Lesson lesson = new Lesson();
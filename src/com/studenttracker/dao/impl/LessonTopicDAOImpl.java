@@ -1,6 +1,7 @@
 package com.studenttracker.dao.impl;
 
 import com.studenttracker.dao.LessonTopicDAO;
+import com.studenttracker.dao.impl.helpers.FullTextSearchHelpers;
 import com.studenttracker.exception.DAOException;
 import com.studenttracker.model.LessonTopic;
 import com.studenttracker.model.LessonTopic.TopicCategory;
@@ -206,13 +207,18 @@ public class LessonTopicDAOImpl implements LessonTopicDAO {
     
     @Override
     public List<LessonTopic> searchBySpecificTopic(String searchTerm) {
-        String sql = "SELECT * FROM lesson_topics WHERE specific_topic LIKE ? ORDER BY topic_id";
+        String match = FullTextSearchHelpers.prefixQuery(searchTerm);
+        if (match == null) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT t.* FROM lesson_topics_fts f JOIN lesson_topics t ON t.topic_id = f.rowid " +
+                    "WHERE lesson_topics_fts MATCH ? ORDER BY t.topic_id";
         
         Connection conn = null;
         try {
             conn = dbConn.getConnection();
             PreparedStatement pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + searchTerm + "%");
+            pstmt.setString(1, match);
             
             ResultSet rs = pstmt.executeQuery();
             List<LessonTopic> topics = new ArrayList<>();
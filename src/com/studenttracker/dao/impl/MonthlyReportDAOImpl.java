@@ -6,6 +6,13 @@ import com.studenttracker.exception.DAOException;
 import com.studenttracker.model.MonthlyReport;
 import com.studenttracker.util.DatabaseConnection;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -15,25 +22,45 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
 
 public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
     private static final Map<String, Function<Object, Object>> transformers = MonthlyReportDAOImplHelpers.getTransformers();
+    // The compressed body is left out of entity queries; it is read through streamReportData
+    private static final String COLUMNS = "report_id, report_month, report_data, generated_at, generated_by";
+    
+    // Set once report_data_gz exists; until DatabaseConnection.migrateSchema() adds it, bodies stay in report_data
+    private volatile boolean compressedStorage;
     
     @Override
     public Integer insert(MonthlyReport report) {
-        String sql = "INSERT INTO monthly_reports (report_month, report_data, generated_by) " +
-                    "VALUES (?, ?, ?)";
+        String reportData = report.getReportData();
+        return insertCompressed(report.getReportMonth(), report.getGeneratedBy(), writer -> writer.write(reportData));
+    }
+    
+    @Override
+    public Integer insertCompressed(String month, Integer generatedBy, ReportBodyWriter body) {
+        // report_data stays empty: it is NOT NULL in databases created before compression
+        String compressedSql = "INSERT INTO monthly_reports (report_month, report_data_gz, report_data, generated_by) " +
+                    "VALUES (?, ?, '', ?)";
+        String plainSql = "INSERT INTO monthly_reports (report_month, report_data, generated_by) VALUES (?, ?, ?)";
         
         Connection conn = null;
         try {
             conn = dbConn.getConnection();
-            PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            boolean compressed = hasCompressedStorage(conn);
+            PreparedStatement pstmt = conn.prepareStatement(compressed ? compressedSql : plainSql,
+                                                            Statement.RETURN_GENERATED_KEYS);
             
-            pstmt.setString(1, report.getReportMonth());
-            pstmt.setString(2, report.getReportData());
-            pstmt.setInt(3, report.getGeneratedBy());
+            pstmt.setString(1, month);
+            if (compressed) {
+                pstmt.setBytes(2, MonthlyReportDAOImplHelpers.compress(body));
+            } else {
+                pstmt.setString(2, MonthlyReportDAOImplHelpers.render(body));
+            }
+            pstmt.setInt(3, generatedBy);
             
             int affectedRows = pstmt.executeUpdate();
             if (affectedRows == 0) {
@@ -47,6 +74,8 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
                 throw new DAOException("Insert monthly report failed, no ID obtained");
             }
             
+        } catch (IOException e) {
+            throw new DAOException("Failed to compress monthly report", e);
         } catch (SQLException e) {
             throw new DAOException("Failed to insert monthly report", e);
         } finally {
@@ -56,22 +85,40 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public boolean update(MonthlyReport report) {
-        String sql = "UPDATE monthly_reports SET report_month = ?, report_data = ?, " +
-                    "generated_by = ? WHERE report_id = ?";
-        
         Connection conn = null;
         try {
             conn = dbConn.getConnection();
+            boolean compressed = hasCompressedStorage(conn);
+            
+            // A null body keeps the stored report data and only updates the metadata
+            String sql = report.getReportData() == null
+                ? "UPDATE monthly_reports SET report_month = ?, generated_by = ? WHERE report_id = ?"
+                : compressed
+                    ? "UPDATE monthly_reports SET report_month = ?, generated_by = ?, " +
+                      "report_data_gz = ?, report_data = '' WHERE report_id = ?"
+                    : "UPDATE monthly_reports SET report_month = ?, generated_by = ?, " +
+                      "report_data = ? WHERE report_id = ?";
             PreparedStatement pstmt = conn.prepareStatement(sql);
             
             pstmt.setString(1, report.getReportMonth());
-            pstmt.setString(2, report.getReportData());
-            pstmt.setInt(3, report.getGeneratedBy());
-            pstmt.setInt(4, report.getReportId());
+            pstmt.setInt(2, report.getGeneratedBy());
+            if (report.getReportData() == null) {
+                pstmt.setInt(3, report.getReportId());
+            } else {
+                String reportData = report.getReportData();
+                if (compressed) {
+                    pstmt.setBytes(3, MonthlyReportDAOImplHelpers.compress(writer -> writer.write(reportData)));
+                } else {
+                    pstmt.setString(3, reportData);
+                }
+                pstmt.setInt(4, report.getReportId());
+            }
             
             int affectedRows = pstmt.executeUpdate();
             return affectedRows > 0;
             
+        } catch (IOException e) {
+            throw new DAOException("Failed to compress monthly report", e);
         } catch (SQLException e) {
             throw new DAOException("Failed to update monthly report", e);
         } finally {
@@ -101,7 +148,7 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public MonthlyReport findById(int reportId) {
-        String sql = "SELECT * FROM monthly_reports WHERE report_id = ?";
+        String sql = "SELECT " + COLUMNS + " FROM monthly_reports WHERE report_id = ?";
         
         Connection conn = null;
         try {
@@ -124,7 +171,7 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public List<MonthlyReport> findAll() {
-        String sql = "SELECT * FROM monthly_reports ORDER BY report_month DESC";
+        String sql = "SELECT " + COLUMNS + " FROM monthly_reports ORDER BY report_month DESC";
         
         Connection conn = null;
         try {
@@ -147,7 +194,7 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public MonthlyReport findByMonth(String month) {
-        String sql = "SELECT * FROM monthly_reports WHERE report_month = ?";
+        String sql = "SELECT " + COLUMNS + " FROM monthly_reports WHERE report_month = ?";
         
         Connection conn = null;
         try {
@@ -170,7 +217,7 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public List<MonthlyReport> findAllOrderedByMonth() {
-        String sql = "SELECT * FROM monthly_reports ORDER BY report_month DESC";
+        String sql = "SELECT " + COLUMNS + " FROM monthly_reports ORDER BY report_month DESC";
         
         Connection conn = null;
         try {
@@ -193,7 +240,7 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
     
     @Override
     public MonthlyReport findLatest() {
-        String sql = "SELECT * FROM monthly_reports ORDER BY report_month DESC LIMIT 1";
+        String sql = "SELECT " + COLUMNS + " FROM monthly_reports ORDER BY report_month DESC LIMIT 1";
         
         Connection conn = null;
         try {
@@ -235,4 +282,144 @@ public class MonthlyReportDAOImpl implements MonthlyReportDAO {
             dbConn.closeConnection(conn);
         }
     }
-}
\ No newline at end of file
+    
+    @Override
+    public boolean streamReportData(int reportId, OutputStream out) {
+        Connection conn = null;
+        String legacyData = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(bodySql(conn));
+            pstmt.setInt(1, reportId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return false;
+            }
+            
+            InputStream compressed = rs.getBinaryStream("report_data_gz");
+            if (compressed != null) {
+                MonthlyReportDAOImplHelpers.decompress(compressed, out);
+            } else {
+                legacyData = rs.getString("report_data");
+                out.write(legacyData.getBytes(StandardCharsets.UTF_8));
+            }
+            
+        } catch (IOException e) {
+            throw new DAOException("Failed to stream monthly report data", e);
+        } catch (SQLException e) {
+            throw new DAOException("Failed to read monthly report data", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+        
+        if (legacyData != null && compressedStorage) {
+            compressLegacyRow(reportId, legacyData);
+        }
+        return true;
+    }
+    
+    @Override
+    public <T> T readReportData(int reportId, ReportBodyReader<T> body) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(bodySql(conn));
+            pstmt.setInt(1, reportId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return null;
+            }
+            
+            InputStream compressed = rs.getBinaryStream("report_data_gz");
+            if (compressed == null) {
+                return body.readFrom(new StringReader(rs.getString("report_data")));
+            }
+            try (Reader reader = new InputStreamReader(new GZIPInputStream(compressed), StandardCharsets.UTF_8)) {
+                return body.readFrom(reader);
+            }
+            
+        } catch (IOException e) {
+            throw new DAOException("Failed to decode monthly report data", e);
+        } catch (SQLException e) {
+            throw new DAOException("Failed to read monthly report data", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int compressLegacyReports() {
+        String sql = "SELECT report_id FROM monthly_reports WHERE report_data_gz IS NULL";
+        
+        Connection conn = null;
+        List<Integer> legacyIds = new ArrayList<>();
+        try {
+            conn = dbConn.getConnection();
+            if (!hasCompressedStorage(conn)) {
+                return 0;
+            }
+            Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            while (rs.next()) {
+                legacyIds.add(rs.getInt("report_id"));
+            }
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find uncompressed monthly reports", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+        
+        // One row at a time, so only a single legacy document is in memory
+        int migrated = 0;
+        for (Integer reportId : legacyIds) {
+            MonthlyReport report = findById(reportId);
+            if (report != null && report.getReportData() != null
+                    && compressLegacyRow(reportId, report.getReportData())) {
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+    
+    private boolean compressLegacyRow(int reportId, String reportData) {
+        String sql = "UPDATE monthly_reports SET report_data = '', report_data_gz = ? " +
+                    "WHERE report_id = ? AND report_data_gz IS NULL";
+        
+        Connection conn = null;
+        try {
+            byte[] compressed = MonthlyReportDAOImplHelpers.compress(writer -> writer.write(reportData));
+            
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setBytes(1, compressed);
+            pstmt.setInt(2, reportId);
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (IOException e) {
+            throw new DAOException("Failed to compress monthly report", e);
+        } catch (SQLException e) {
+            throw new DAOException("Failed to migrate monthly report to compressed storage", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    /**
+     * Body query for a report; report_data_gz reads as NULL before the column exists.
+     */
+    private String bodySql(Connection conn) throws SQLException {
+        return "SELECT report_data, " + (hasCompressedStorage(conn) ? "report_data_gz" : "NULL AS report_data_gz") +
+               " FROM monthly_reports WHERE report_id = ?";
+    }
+    
+    private boolean hasCompressedStorage(Connection conn) throws SQLException {
+        if (!compressedStorage) {
+            compressedStorage = MonthlyReportDAOImplHelpers.hasColumn(conn, "monthly_reports", "report_data_gz");
+        }
+        return compressedStorage;
+    }
+}
@@ -12,7 +12,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -21,6 +24,8 @@ public class NotificationDAOImpl implements NotificationDAO {
     
     private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
     private static final Map<String, Function<Object, Object>> transformers = NotificationDAOImplHelpers.getTransformers();
+    /** Format SQLite uses for CURRENT_TIMESTAMP. */
+    private static final DateTimeFormatter SQLITE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     @Override
     public Integer insert(Notification notification) {
@@ -56,6 +61,61 @@ public class NotificationDAOImpl implements NotificationDAO {
         }
     }
     
+    @Override
+    public List<Integer> insertBatch(List<Notification> notifications) {
+        List<Integer> ids = new ArrayList<>();
+        if (notifications == null || notifications.isEmpty()) {
+            return ids;
+        }
+        String sql = "INSERT INTO notifications (user_id, notification_type, message, is_read) " +
+                    "VALUES (?, ?, ?, ?)";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            conn.setAutoCommit(false);
+            PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            
+            for (Notification notification : notifications) {
+                pstmt.setInt(1, notification.getUserId());
+                pstmt.setString(2, notification.getNotificationType());
+                pstmt.setString(3, notification.getMessage());
+                pstmt.setInt(4, notification.isRead() ? 1 : 0);
+                pstmt.executeUpdate();
+                
+                // Keys of a JDBC batch are not reliable with SQLite; one row at a time in one transaction
+                ResultSet rs = pstmt.getGeneratedKeys();
+                if (!rs.next()) {
+                    throw new DAOException("Insert notification failed, no ID obtained");
+                }
+                ids.add(rs.getInt(1));
+            }
+            
+            conn.commit();
+            return ids;
+            
+        } catch (SQLException | DAOException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    throw new DAOException("Failed to rollback notification batch insert", ex);
+                }
+            }
+            throw e instanceof DAOException dao ? dao
+                : new DAOException("Failed to insert " + notifications.size() + " notifications", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Ignore
+                }
+            }
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     @Override
     public boolean update(Notification notification) {
         String sql = "UPDATE notifications SET user_id = ?, notification_type = ?, " +
@@ -220,6 +280,29 @@ public class NotificationDAOImpl implements NotificationDAO {
         }
     }
     
+    @Override
+    public Map<Integer, Integer> countUnreadGroupedByUser() {
+        String sql = "SELECT user_id, COUNT(*) AS unread FROM notifications WHERE is_read = 0 GROUP BY user_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            
+            ResultSet rs = pstmt.executeQuery();
+            Map<Integer, Integer> counts = new HashMap<>();
+            while (rs.next()) {
+                counts.put(rs.getInt("user_id"), rs.getInt("unread"));
+            }
+            return counts;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count unread notifications per user", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     @Override
     public boolean markAsRead(int notificationId) {
         String sql = "UPDATE notifications SET is_read = 1 WHERE notification_id = ?";
@@ -260,6 +343,53 @@ public class NotificationDAOImpl implements NotificationDAO {
         }
     }
     
+    @Override
+    public Integer markUnreadAsRead(int notificationId) {
+        String findSql = "SELECT user_id FROM notifications WHERE notification_id = ? AND is_read = 0";
+        String updateSql = "UPDATE notifications SET is_read = 1 WHERE notification_id = ? AND is_read = 0";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement find = conn.prepareStatement(findSql);
+            find.setInt(1, notificationId);
+            ResultSet rs = find.executeQuery();
+            if (!rs.next()) {
+                return null;
+            }
+            int userId = rs.getInt(1);
+            
+            // user_id never changes; only the row that flips is_read counts
+            PreparedStatement update = conn.prepareStatement(updateSql);
+            update.setInt(1, notificationId);
+            return update.executeUpdate() > 0 ? userId : null;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark notification as read", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int markAllUnreadAsRead(int userId) {
+        String sql = "UPDATE notifications SET is_read = 1 WHERE user_id = ? AND is_read = 0";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, userId);
+            
+            return pstmt.executeUpdate();
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark all notifications as read", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     @Override
     public List<Notification> findByUserAndType(int userId, String notificationType) {
         String sql = "SELECT * FROM notifications WHERE user_id = ? AND notification_type = ? " +
@@ -305,4 +435,55 @@ public class NotificationDAOImpl implements NotificationDAO {
             dbConn.closeConnection(conn);
         }
     }
+    
+    @Override
+    public List<Notification> findCreatedBefore(LocalDateTime beforeUtc, int limit) {
+        String sql = "SELECT * FROM notifications WHERE created_at < ? " +
+                    "ORDER BY created_at, notification_id LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, beforeUtc.format(SQLITE_TIMESTAMP));
+            pstmt.setInt(2, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Notification> notifications = new ArrayList<>();
+            while (rs.next()) {
+                notifications.add(NotificationDAOImplHelpers.extractNotificationFromResultSet(rs, transformers));
+            }
+            return notifications;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find expired notifications", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int deleteByIds(List<Integer> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "DELETE FROM notifications WHERE notification_id IN (" +
+                    String.join(", ", Collections.nCopies(notificationIds.size(), "?")) + ")";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            for (int i = 0; i < notificationIds.size(); i++) {
+                pstmt.setInt(i + 1, notificationIds.get(i));
+            }
+            
+            return pstmt.executeUpdate();
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to delete " + notificationIds.size() + " notifications", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
 }
\ No newline at end of file
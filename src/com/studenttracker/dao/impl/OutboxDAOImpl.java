@@ -0,0 +1,188 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.OutboxDAO;
+import com.studenttracker.dao.impl.helpers.OutboxDAOImplHelpers;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.OutboxEntry;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class OutboxDAOImpl implements OutboxDAO {
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    private static final Map<String, Function<Object, Object>> transformers = OutboxDAOImplHelpers.getTransformers();
+    
+    @Override
+    public List<OutboxEntry> findPending(int maxAttempts, int limit) {
+        String sql = "SELECT * FROM event_outbox WHERE dispatched_at IS NULL AND attempts < ? " +
+                    "ORDER BY outbox_id LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, maxAttempts);
+            pstmt.setInt(2, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<OutboxEntry> entries = new ArrayList<>();
+            while (rs.next()) {
+                entries.add(OutboxDAOImplHelpers.extractOutboxEntryFromResultSet(rs, transformers));
+            }
+            return entries;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find pending outbox entries", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int countPending() {
+        String sql = "SELECT COUNT(*) FROM event_outbox WHERE dispatched_at IS NULL";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? rs.getInt(1) : 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count pending outbox entries", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean markDispatched(int outboxId) {
+        String sql = "UPDATE event_outbox SET dispatched_at = ? " +
+                    "WHERE outbox_id = ? AND dispatched_at IS NULL";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, LocalDateTime.now().toString());
+            pstmt.setInt(2, outboxId);
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark outbox entry as dispatched", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean recordFailure(int outboxId, String errorMessage) {
+        String sql = "UPDATE event_outbox SET attempts = attempts + 1, last_error = ? WHERE outbox_id = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, errorMessage);
+            pstmt.setInt(2, outboxId);
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to record outbox failure", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean isConsumed(int outboxId, String consumer) {
+        String sql = "SELECT 1 FROM event_outbox_consumers WHERE outbox_id = ? AND consumer = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, outboxId);
+            pstmt.setString(2, consumer);
+            
+            return pstmt.executeQuery().next();
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to check outbox consumer", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean markConsumed(int outboxId, String consumer) {
+        String sql = "INSERT OR IGNORE INTO event_outbox_consumers (outbox_id, consumer, consumed_at) " +
+                    "VALUES (?, ?, ?)";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, outboxId);
+            pstmt.setString(2, consumer);
+            pstmt.setString(3, LocalDateTime.now().toString());
+            
+            return pstmt.executeUpdate() > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to mark outbox entry as consumed", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int deleteDispatchedOlderThan(int days) {
+        String cutoff = LocalDateTime.now().minusDays(days).toString();
+        String consumersSql = "DELETE FROM event_outbox_consumers WHERE outbox_id IN " +
+                    "(SELECT outbox_id FROM event_outbox WHERE dispatched_at IS NOT NULL AND dispatched_at < ?)";
+        String entriesSql = "DELETE FROM event_outbox WHERE dispatched_at IS NOT NULL AND dispatched_at < ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            conn.setAutoCommit(false);
+            
+            PreparedStatement consumers = conn.prepareStatement(consumersSql);
+            consumers.setString(1, cutoff);
+            consumers.executeUpdate();
+            
+            PreparedStatement entries = conn.prepareStatement(entriesSql);
+            entries.setString(1, cutoff);
+            int deleted = entries.executeUpdate();
+            
+            conn.commit();
+            return deleted;
+            
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    throw new DAOException("Failed to rollback outbox cleanup", ex);
+                }
+            }
+            throw new DAOException("Failed to delete dispatched outbox entries", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+}
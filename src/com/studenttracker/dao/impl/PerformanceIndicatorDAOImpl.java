@@ -3,6 +3,7 @@ package com.studenttracker.dao.impl;
 import com.studenttracker.dao.PerformanceIndicatorDAO;
 import com.studenttracker.dao.impl.helpers.PerformanceIndicatorDAOImplHelpers;
 import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.ChartSeries;
 import com.studenttracker.model.PerformanceIndicator;
 import static com.studenttracker.model.LessonTopic.TopicCategory;
 import com.studenttracker.util.DatabaseConnection;
@@ -14,6 +15,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -354,4 +356,67 @@ public class PerformanceIndicatorDAOImpl implements PerformanceIndicatorDAO {
         
         return null;
     }
+    
+    @Override
+    public ChartSeries findCumulativeSeries(int studentId, TopicCategory category) {
+        String sql = "SELECT quiz_id, cumulative_pi FROM performance_indicators " +
+                    "WHERE student_id = ? AND category = ? " +
+                    "ORDER BY calculated_at ASC";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, studentId);
+            pstmt.setString(2, category.name());
+            
+            return readSeries(pstmt.executeQuery());
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find cumulative PI series", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public ChartSeries findOverallSeries(int studentId) {
+        String sql = "SELECT quiz_id, SUM(cumulative_pi) AS overall_pi FROM performance_indicators " +
+                    "WHERE student_id = ? " +
+                    "GROUP BY quiz_id " +
+                    "ORDER BY MIN(calculated_at) ASC";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, studentId);
+            
+            return readSeries(pstmt.executeQuery());
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find overall PI series", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    // Helper method to read (quiz_id, value) rows into primitive arrays
+    private ChartSeries readSeries(ResultSet rs) throws SQLException {
+        int[] quizIds = new int[16];
+        int[] values = new int[16];
+        int size = 0;
+        
+        while (rs.next()) {
+            if (size == quizIds.length) {
+                quizIds = Arrays.copyOf(quizIds, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            quizIds[size] = rs.getInt(1);
+            values[size] = rs.getInt(2);
+            size++;
+        }
+        
+        return new ChartSeries(Arrays.copyOf(quizIds, size), Arrays.copyOf(values, size), size);
+    }
 }
\ No newline at end of file
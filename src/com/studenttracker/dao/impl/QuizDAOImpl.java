@@ -6,6 +6,7 @@ import com.studenttracker.model.Quiz;
 import com.studenttracker.util.DatabaseConnection;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -207,6 +208,33 @@ public class QuizDAOImpl implements QuizDAO {
         }
     }
     
+    @Override
+    public List<Integer> findQuizIdsByDateRange(LocalDate startDate, LocalDate endDate) {
+        String sql = "SELECT q.quiz_id FROM quizzes q " +
+                    "JOIN lessons l ON l.lesson_id = q.lesson_id " +
+                    "WHERE l.lesson_date BETWEEN ? AND ? ORDER BY l.lesson_date, q.quiz_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, startDate.toString());
+            pstmt.setString(2, endDate.toString());
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Integer> quizIds = new ArrayList<>();
+            while (rs.next()) {
+                quizIds.add(rs.getInt(1));
+            }
+            return quizIds;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find quiz IDs by date range", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     // Helper method to extract Quiz object from ResultSet
     private Quiz extractQuizFromResultSet(ResultSet rs) throws SQLException {
         Quiz quiz = new Quiz();
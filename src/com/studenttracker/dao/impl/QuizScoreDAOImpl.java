@@ -8,7 +8,9 @@ import com.studenttracker.util.DatabaseConnection;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class QuizScoreDAOImpl implements QuizScoreDAO {
     
@@ -300,6 +302,54 @@ public class QuizScoreDAOImpl implements QuizScoreDAO {
         }
     }
     
+    @Override
+    public Map<Integer, Double> getStudentTotalsByQuiz(int quizId) {
+        String sql = "SELECT student_id, SUM(points_earned) AS total FROM quiz_scores " +
+                    "WHERE quiz_id = ? GROUP BY student_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, quizId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            Map<Integer, Double> totals = new HashMap<>();
+            while (rs.next()) {
+                totals.put(rs.getInt("student_id"), rs.getDouble("total"));
+            }
+            return totals;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to get student totals by quiz", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public void streamScoresByQuestion(int quizId, ScoreRowHandler handler) {
+        String sql = "SELECT question_id, student_id, points_earned FROM quiz_scores " +
+                    "WHERE quiz_id = ? ORDER BY question_id, student_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setInt(1, quizId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                handler.onRow(rs.getInt(1), rs.getInt(2), rs.getDouble(3));
+            }
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to stream quiz scores by question", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     // Helper method to extract QuizScore object from ResultSet
     private QuizScore extractQuizScoreFromResultSet(ResultSet rs) throws SQLException {
         QuizScore score = new QuizScore();
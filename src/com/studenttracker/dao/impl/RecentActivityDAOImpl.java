@@ -7,6 +7,7 @@ import com.studenttracker.util.DatabaseConnection;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -40,6 +41,11 @@ public class RecentActivityDAOImpl implements RecentActivityDAO {
      */
     private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
     
+    /**
+     * Format SQLite uses for CURRENT_TIMESTAMP.
+     */
+    private static final DateTimeFormatter SQLITE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
     // ==================== CREATE ====================
     
     /**
@@ -109,6 +115,62 @@ public class RecentActivityDAOImpl implements RecentActivityDAO {
         }
     }
     
+    /**
+     * {@inheritDoc}
+     * 
+     * <p><b>Implementation Notes:</b> One prepared statement executed as a JDBC
+     * batch; COALESCE falls back to CURRENT_TIMESTAMP when createdAt is null.</p>
+     */
+    @Override
+    public void insertBatch(List<RecentActivity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO recent_activities " +
+                    "(activity_type, activity_description, entity_type, entity_id, performed_by, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, COALESCE(?, CURRENT_TIMESTAMP))";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            conn.setAutoCommit(false);
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            
+            for (RecentActivity activity : activities) {
+                pstmt.setString(1, activity.getActivityType());
+                pstmt.setString(2, activity.getActivityDescription());
+                pstmt.setObject(3, activity.getEntityType(), Types.VARCHAR);
+                pstmt.setObject(4, activity.getEntityId(), Types.INTEGER);
+                pstmt.setObject(5, activity.getPerformedBy(), Types.INTEGER);
+                pstmt.setString(6, activity.getCreatedAt() != null
+                    ? activity.getCreatedAt().format(SQLITE_TIMESTAMP) : null);
+                pstmt.addBatch();
+            }
+            
+            pstmt.executeBatch();
+            conn.commit();
+            
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    throw new DAOException("Failed to rollback activity batch insert", ex);
+                }
+            }
+            throw new DAOException("Failed to insert " + activities.size() + " recent activities", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Ignore
+                }
+            }
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     // ==================== READ ====================
     
     /**
@@ -0,0 +1,479 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.ReplayDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.ConsecutivityTracking;
+import com.studenttracker.model.Fasee7Points;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.LessonTopic.TopicCategory;
+import com.studenttracker.model.PerformanceIndicator;
+import com.studenttracker.model.QuizCategoryTotal;
+import com.studenttracker.model.QuizQuestion.QuestionType;
+import com.studenttracker.model.ReplayBatch;
+import com.studenttracker.model.TargetAchievementStreak;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReplayDAOImpl implements ReplayDAO {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    /** Scratch database next to the main one: {@code <main file>.replay}. */
+    private static final String SHADOW_SUFFIX = ".replay";
+    private static final String SHADOW_SCHEMA = "replay";
+
+    private static final List<String> DERIVED_TABLES = List.of(
+        "performance_indicators", "quiz_category_totals", "target_achievement_streak",
+        "consecutivity_tracking", "fasee7_points");
+
+    private static final int KIND_STUDENT = 0;
+    private static final int KIND_ATTENDANCE = 1;
+    private static final int KIND_HOMEWORK = 2;
+    private static final int KIND_QUIZ_SCORE = 3;
+    private static final int KIND_INCIDENT = 4;
+    private static final int KIND_TARGET = 5;
+
+    // Columns: student_id, ts, kind, ref_id, sub_id, code, category, earned, max_points, at.
+    // Each student opens with a row of its own (NULL ts sorts first), so students
+    // without activity still get derived rows. Lesson dates ('yyyy-MM-dd') sort
+    // before timestamps of the same day, so an achievement follows the quiz that
+    // triggered it.
+    private static final String SOURCE_SQL =
+        "SELECT st.student_id, NULL, " + KIND_STUDENT + ", 0, 0, NULL, NULL, 0, 0, NULL " +
+        "FROM students st " +
+        "WHERE st.student_id >= ? AND st.student_id < ? " +
+        "UNION ALL " +
+        "SELECT a.student_id, l.lesson_date, " + KIND_ATTENDANCE + ", a.lesson_id, 0, a.status, NULL, 0, 0, NULL " +
+        "FROM attendance a JOIN lessons l ON l.lesson_id = a.lesson_id " +
+        "WHERE a.student_id >= ? AND a.student_id < ? " +
+        "UNION ALL " +
+        "SELECT h.student_id, l.lesson_date, " + KIND_HOMEWORK + ", h.lesson_id, 0, h.status, NULL, 0, 0, NULL " +
+        "FROM homework h JOIN lessons l ON l.lesson_id = h.lesson_id " +
+        "WHERE h.student_id >= ? AND h.student_id < ? " +
+        "UNION ALL " +
+        "SELECT s.student_id, l.lesson_date, " + KIND_QUIZ_SCORE + ", s.quiz_id, s.question_id, q.question_type, " +
+        "q.category, s.points_earned, q.points, s.entered_at " +
+        "FROM quiz_scores s JOIN quiz_questions q ON q.question_id = s.question_id " +
+        "JOIN quizzes z ON z.quiz_id = s.quiz_id JOIN lessons l ON l.lesson_id = z.lesson_id " +
+        "WHERE s.student_id >= ? AND s.student_id < ? " +
+        "UNION ALL " +
+        "SELECT b.student_id, b.created_at, " + KIND_INCIDENT + ", b.lesson_id, b.incident_id, b.incident_type, " +
+        "NULL, 0, 0, NULL " +
+        "FROM behavioral_incidents b " +
+        "WHERE b.student_id >= ? AND b.student_id < ? " +
+        "UNION ALL " +
+        "SELECT t.student_id, t.achieved_at, " + KIND_TARGET + ", t.target_id, 0, NULL, t.category, 0, 0, t.achieved_at " +
+        "FROM targets t " +
+        "WHERE t.is_achieved = 1 AND t.achieved_at IS NOT NULL AND t.student_id >= ? AND t.student_id < ? " +
+        "ORDER BY 1, 2, 3, 4, 5";
+
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+
+    /** Scratch database created by the last createShadowTables(), until swapped or discarded. */
+    private volatile Path shadowPath;
+
+    @Override
+    public List<String> getDerivedTables() {
+        return DERIVED_TABLES;
+    }
+
+    @Override
+    public int countStudents() {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            ResultSet rs = conn.createStatement().executeQuery("SELECT COUNT(*) FROM students");
+            return rs.next() ? rs.getInt(1) : 0;
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count students", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+
+    @Override
+    public long[] findShardBounds(int shardCount) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            ResultSet rs = conn.createStatement().executeQuery("SELECT student_id FROM students ORDER BY student_id");
+            List<Integer> ids = new ArrayList<>();
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+
+            int shards = Math.max(1, Math.min(shardCount, ids.size()));
+            long[] bounds = new long[shards + 1];
+            bounds[0] = Long.MIN_VALUE;
+            for (int i = 1; i < shards; i++) {
+                bounds[i] = ids.get(i * ids.size() / shards);
+            }
+            bounds[shards] = Long.MAX_VALUE;
+            return bounds;
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find replay shard bounds", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+
+    @Override
+    public long streamSourceRows(long fromStudentId, long toStudentId, SourceRowHandler handler) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(SOURCE_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(FETCH_SIZE);
+            for (int i = 1; i <= 12; i += 2) {
+                pstmt.setLong(i, fromStudentId);
+                pstmt.setLong(i + 1, toStudentId);
+            }
+
+            ResultSet rs = pstmt.executeQuery();
+            long rows = 0;
+            while (rs.next()) {
+                int studentId = rs.getInt(1);
+                int refId = rs.getInt(4);
+                switch (rs.getInt(3)) {
+                    case KIND_STUDENT:
+                        handler.onStudent(studentId);
+                        break;
+                    case KIND_ATTENDANCE:
+                        handler.onAttendance(studentId, refId, AttendanceStatus.valueOf(rs.getString(6)));
+                        break;
+                    case KIND_HOMEWORK:
+                        handler.onHomework(studentId, refId, HomeworkStatus.valueOf(rs.getString(6)));
+                        break;
+                    case KIND_QUIZ_SCORE:
+                        handler.onQuizScore(studentId, refId, rs.getInt(5), QuestionType.valueOf(rs.getString(6)),
+                            TopicCategory.valueOf(rs.getString(7)), rs.getDouble(8), rs.getDouble(9), rs.getString(10));
+                        break;
+                    case KIND_INCIDENT:
+                        handler.onIncident(studentId, refId, IncidentType.valueOf(rs.getString(6)));
+                        break;
+                    case KIND_TARGET:
+                        handler.onTargetAchieved(studentId, TopicCategory.valueOf(rs.getString(7)), rs.getString(10));
+                        break;
+                    default:
+                        break;
+                }
+                rows++;
+            }
+            return rows;
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to stream replay source rows", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+
+
+    // ========== Shadow Tables ==========
+
+    @Override
+    public void createShadowTables() {
+        Connection conn = null;
+        Connection shadow = null;
+        try {
+            conn = dbConn.getConnection();
+            Path path = resolveShadowPath(conn);
+            deleteShadowFiles(path);
+            Map<String, String> tableSql = findTableDefinitions(conn);
+
+            shadow = openShadow(path);
+            Statement stmt = shadow.createStatement();
+            for (String table : DERIVED_TABLES) {
+                stmt.execute(tableSql.get(table));
+            }
+            shadowPath = path;
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to create shadow tables", e);
+        } finally {
+            dbConn.closeConnection(shadow);
+            dbConn.closeConnection(conn);
+        }
+    }
+
+    @Override
+    public void writeShadowBatch(ReplayBatch batch) {
+        if (batch.isEmpty()) return;
+
+        Path path = shadowPath;
+        if (path == null) {
+            throw new DAOException("Shadow tables have not been created");
+        }
+
+        Connection shadow = null;
+        try {
+            shadow = openShadow(path);
+            shadow.setAutoCommit(false);
+
+            insertPoints(shadow, batch.getPoints());
+            insertPerformanceIndicators(shadow, batch.getPerformanceIndicators());
+            insertCategoryTotals(shadow, batch.getCategoryTotals());
+            insertStreaks(shadow, batch.getStreaks());
+            insertTrackings(shadow, batch.getTrackings());
+
+            shadow.commit();
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to write replay batch", e);
+        } finally {
+            dbConn.closeConnection(shadow);
+        }
+    }
+
+    @Override
+    public void swapShadowTables() {
+        Path path = shadowPath;
+        if (path == null || !Files.exists(path)) {
+            throw new DAOException("No shadow tables to swap in");
+        }
+
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            Map<String, String> tableSql = findTableDefinitions(conn);
+            Map<String, List<String>> indexSql = findIndexDefinitions(conn);
+
+            PreparedStatement attach = conn.prepareStatement("ATTACH DATABASE ? AS " + SHADOW_SCHEMA);
+            attach.setString(1, path.toString());
+            attach.execute();
+
+            Statement stmt = conn.createStatement();
+            conn.setAutoCommit(false);
+            try {
+                for (String table : DERIVED_TABLES) {
+                    // Recreating the table and indexing after the copy lets SQLite
+                    // transfer the shadow table's pages instead of inserting row by row
+                    stmt.execute("DROP TABLE main." + table);
+                    stmt.execute(tableSql.get(table));
+                    stmt.execute("INSERT INTO main." + table + " SELECT * FROM " + SHADOW_SCHEMA + "." + table);
+                    for (String sql : indexSql.getOrDefault(table, List.of())) {
+                        stmt.execute(sql);
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                stmt.execute("DETACH DATABASE " + SHADOW_SCHEMA);
+            }
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to swap in shadow tables", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+        discardShadowTables();
+    }
+
+    @Override
+    public void replaceStudentRows(int studentId, ReplayBatch batch) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            conn.setAutoCommit(false);
+            try {
+                for (String table : DERIVED_TABLES) {
+                    PreparedStatement delete = conn.prepareStatement("DELETE FROM " + table + " WHERE student_id = ?");
+                    delete.setInt(1, studentId);
+                    delete.executeUpdate();
+                }
+                insertPoints(conn, batch.getPoints());
+                insertPerformanceIndicators(conn, batch.getPerformanceIndicators());
+                insertCategoryTotals(conn, batch.getCategoryTotals());
+                insertStreaks(conn, batch.getStreaks());
+                insertTrackings(conn, batch.getTrackings());
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            throw new DAOException("Failed to replace derived rows of student " + studentId, e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+
+    @Override
+    public void discardShadowTables() {
+        Path path = shadowPath;
+        if (path != null) {
+            shadowPath = null;
+            deleteShadowFiles(path);
+        }
+    }
+
+
+    // ========== Helpers ==========
+
+    private Path resolveShadowPath(Connection conn) throws SQLException {
+        ResultSet rs = conn.createStatement().executeQuery("PRAGMA database_list");
+        while (rs.next()) {
+            if ("main".equals(rs.getString("name"))) {
+                String file = rs.getString("file");
+                if (file == null || file.isEmpty()) {
+                    throw new DAOException("Replay requires a file-backed database");
+                }
+                return Paths.get(file + SHADOW_SUFFIX);
+            }
+        }
+        throw new DAOException("Main database not found");
+    }
+
+    /**
+     * The scratch database is disposable, so it is written without a journal or fsync.
+     */
+    private Connection openShadow(Path path) throws SQLException {
+        Connection shadow = DriverManager.getConnection("jdbc:sqlite:" + path);
+        Statement stmt = shadow.createStatement();
+        stmt.execute("PRAGMA journal_mode = OFF");
+        stmt.execute("PRAGMA synchronous = OFF");
+        return shadow;
+    }
+
+    private void deleteShadowFiles(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(Paths.get(path + "-journal"));
+        } catch (IOException e) {
+            throw new DAOException("Failed to delete scratch database " + path, e);
+        }
+    }
+
+    private Map<String, String> findTableDefinitions(Connection conn) throws SQLException {
+        ResultSet rs = conn.createStatement().executeQuery(
+            "SELECT name, sql FROM sqlite_master WHERE type = 'table' AND sql IS NOT NULL");
+        Map<String, String> definitions = new HashMap<>();
+        while (rs.next()) {
+            definitions.put(rs.getString("name"), rs.getString("sql"));
+        }
+        for (String table : DERIVED_TABLES) {
+            if (!definitions.containsKey(table)) {
+                throw new DAOException("Derived table not found: " + table);
+            }
+        }
+        return definitions;
+    }
+
+    private Map<String, List<String>> findIndexDefinitions(Connection conn) throws SQLException {
+        ResultSet rs = conn.createStatement().executeQuery(
+            "SELECT tbl_name, sql FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL");
+        Map<String, List<String>> definitions = new HashMap<>();
+        while (rs.next()) {
+            definitions.computeIfAbsent(rs.getString("tbl_name"), k -> new ArrayList<>()).add(rs.getString("sql"));
+        }
+        return definitions;
+    }
+
+    private void insertPoints(Connection conn, List<Fasee7Points> points) throws SQLException {
+        if (points.isEmpty()) return;
+        PreparedStatement pstmt = conn.prepareStatement(
+            "INSERT INTO fasee7_points (student_id, quiz_points, attendance_points, " +
+            "homework_points, target_points, total_points, last_updated) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        for (Fasee7Points p : points) {
+            pstmt.setInt(1, p.getStudentId());
+            pstmt.setDouble(2, p.getQuizPoints());
+            pstmt.setInt(3, p.getAttendancePoints());
+            pstmt.setInt(4, p.getHomeworkPoints());
+            pstmt.setInt(5, p.getTargetPoints());
+            pstmt.setDouble(6, p.getTotalPoints());
+            pstmt.setString(7, p.getLastUpdated().toString());
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+    }
+
+    private void insertPerformanceIndicators(Connection conn, List<PerformanceIndicator> pis) throws SQLException {
+        if (pis.isEmpty()) return;
+        PreparedStatement pstmt = conn.prepareStatement(
+            "INSERT INTO performance_indicators (student_id, category, quiz_id, correct_answers, " +
+            "wrong_answers, pi_value, cumulative_pi, calculated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        for (PerformanceIndicator pi : pis) {
+            pstmt.setInt(1, pi.getStudentId());
+            pstmt.setString(2, pi.getCategory().name());
+            pstmt.setInt(3, pi.getQuizId());
+            pstmt.setInt(4, pi.getCorrectAnswers());
+            pstmt.setInt(5, pi.getWrongAnswers());
+            pstmt.setInt(6, pi.getPiValue());
+            pstmt.setInt(7, pi.getCumulativePi());
+            pstmt.setString(8, pi.getCalculatedAt().toString());
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+    }
+
+    private void insertCategoryTotals(Connection conn, List<QuizCategoryTotal> totals) throws SQLException {
+        if (totals.isEmpty()) return;
+        PreparedStatement pstmt = conn.prepareStatement(
+            "INSERT INTO quiz_category_totals (quiz_id, student_id, category, points_earned, total_points) " +
+            "VALUES (?, ?, ?, ?, ?)");
+        for (QuizCategoryTotal total : totals) {
+            pstmt.setInt(1, total.getQuizId());
+            pstmt.setInt(2, total.getStudentId());
+            pstmt.setString(3, total.getCategory().name());
+            pstmt.setDouble(4, total.getPointsEarned());
+            pstmt.setDouble(5, total.getTotalPoints());
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+    }
+
+    private void insertStreaks(Connection conn, List<TargetAchievementStreak> streaks) throws SQLException {
+        if (streaks.isEmpty()) return;
+        PreparedStatement pstmt = conn.prepareStatement(
+            "INSERT INTO target_achievement_streak (student_id, current_streak, last_achievement_at, " +
+            "total_points_earned) VALUES (?, ?, ?, ?)");
+        for (TargetAchievementStreak streak : streaks) {
+            pstmt.setInt(1, streak.getStudentId());
+            pstmt.setInt(2, streak.getCurrentStreak());
+            pstmt.setString(3, streak.getLastAchievementAt() != null ? streak.getLastAchievementAt().toString() : null);
+            pstmt.setInt(4, streak.getTotalPointsEarned());
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+    }
+
+    private void insertTrackings(Connection conn, List<ConsecutivityTracking> trackings) throws SQLException {
+        if (trackings.isEmpty()) return;
+        PreparedStatement pstmt = conn.prepareStatement(
+            "INSERT INTO consecutivity_tracking (student_id, tracking_type, consecutive_count, " +
+            "last_lesson_id, last_updated) VALUES (?, ?, ?, ?, ?)");
+        for (ConsecutivityTracking tracking : trackings) {
+            pstmt.setInt(1, tracking.getStudentId());
+            pstmt.setString(2, tracking.getTrackingType().name());
+            pstmt.setInt(3, tracking.getConsecutiveCount());
+            pstmt.setObject(4, tracking.getLastLessonId());
+            pstmt.setString(5, tracking.getLastUpdated().toString());
+            pstmt.addBatch();
+        }
+        pstmt.executeBatch();
+    }
+}
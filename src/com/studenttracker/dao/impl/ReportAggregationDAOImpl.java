@@ -0,0 +1,283 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.ReportAggregationDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.TopAchiever;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReportAggregationDAOImpl implements ReportAggregationDAO {
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    
+    @Override
+    public Map<AttendanceStatus, Integer> countAttendanceByStatus(List<Integer> lessonIds) {
+        Map<AttendanceStatus, Integer> counts = zeroCounts(AttendanceStatus.class);
+        if (lessonIds.isEmpty()) {
+            return counts;
+        }
+        
+        String sql = "SELECT status, COUNT(*) AS count FROM attendance " +
+                    "WHERE lesson_id IN (" + placeholders(lessonIds.size()) + ") GROUP BY status";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            bindIds(pstmt, 1, lessonIds);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                counts.put(AttendanceStatus.valueOf(rs.getString("status")), rs.getInt("count"));
+            }
+            return counts;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count attendance by status", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int countQuizzes(List<Integer> lessonIds) {
+        if (lessonIds.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "SELECT COUNT(*) FROM quizzes WHERE lesson_id IN (" + placeholders(lessonIds.size()) + ")";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            bindIds(pstmt, 1, lessonIds);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+            return 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count quizzes for lessons", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public Map<HomeworkStatus, Integer> countHomeworkByStatus(List<Integer> lessonIds) {
+        Map<HomeworkStatus, Integer> counts = zeroCounts(HomeworkStatus.class);
+        if (lessonIds.isEmpty()) {
+            return counts;
+        }
+        
+        String sql = "SELECT status, COUNT(*) AS count FROM homework " +
+                    "WHERE lesson_id IN (" + placeholders(lessonIds.size()) + ") GROUP BY status";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            bindIds(pstmt, 1, lessonIds);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                counts.put(HomeworkStatus.valueOf(rs.getString("status")), rs.getInt("count"));
+            }
+            return counts;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count homework by status", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int[] bucketActiveStudentAbsences(List<Integer> lessonIds) {
+        // With no lessons the join matches nothing, so every active student lands in bucket 0
+        String lessonFilter = lessonIds.isEmpty()
+            ? "0"
+            : "a.lesson_id IN (" + placeholders(lessonIds.size()) + ")";
+        
+        String sql = "SELECT " +
+                    "COALESCE(SUM(CASE WHEN absences = 0 THEN 1 ELSE 0 END), 0) AS perfect, " +
+                    "COALESCE(SUM(CASE WHEN absences BETWEEN 1 AND 2 THEN 1 ELSE 0 END), 0) AS one_to_two, " +
+                    "COALESCE(SUM(CASE WHEN absences >= 3 THEN 1 ELSE 0 END), 0) AS three_plus " +
+                    "FROM (" +
+                    "  SELECT s.student_id, COUNT(a.attendance_id) AS absences " +
+                    "  FROM students s " +
+                    "  LEFT JOIN attendance a ON a.student_id = s.student_id " +
+                    "    AND a.status = 'ABSENT' AND " + lessonFilter + " " +
+                    "  WHERE s.status = 'ACTIVE' " +
+                    "  GROUP BY s.student_id" +
+                    ")";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            bindIds(pstmt, 1, lessonIds);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return new int[]{rs.getInt("perfect"), rs.getInt("one_to_two"), rs.getInt("three_plus")};
+            }
+            return new int[]{0, 0, 0};
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to bucket student absences", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public Map<IncidentType, Integer> countIncidentsByType(List<Integer> lessonIds) {
+        Map<IncidentType, Integer> counts = zeroCounts(IncidentType.class);
+        if (lessonIds.isEmpty()) {
+            return counts;
+        }
+        
+        String sql = "SELECT incident_type, COUNT(*) AS count FROM behavioral_incidents " +
+                    "WHERE lesson_id IN (" + placeholders(lessonIds.size()) + ") GROUP BY incident_type";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            bindIds(pstmt, 1, lessonIds);
+            
+            ResultSet rs = pstmt.executeQuery();
+            while (rs.next()) {
+                counts.put(IncidentType.valueOf(rs.getString("incident_type")), rs.getInt("count"));
+            }
+            return counts;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count incidents by type", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int countTargetsAchievedInMonth(String monthGroup) {
+        String sql = "SELECT COUNT(*) FROM targets t, " +
+                    "(SELECT MIN(lesson_date) AS first_day, " +
+                    "        CASE WHEN ? = (SELECT month_group FROM lessons ORDER BY lesson_date DESC, created_at DESC LIMIT 1) " +
+                    "             THEN date('now', 'localtime') ELSE MAX(lesson_date) END AS last_day " +
+                    " FROM lessons WHERE month_group = ?) m " +
+                    "WHERE t.is_achieved = 1 AND substr(t.achieved_at, 1, 10) BETWEEN m.first_day AND m.last_day";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, monthGroup);
+            pstmt.setString(2, monthGroup);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+            return 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count targets achieved in month", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public int countActiveTargets() {
+        String sql = "SELECT COUNT(*) FROM targets WHERE is_achieved = 0";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+            return 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count active targets", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public List<TopAchiever> findTopTargetAchievers(int limit) {
+        String sql = "SELECT f.student_id, s.full_name, f.target_points FROM fasee7_points f " +
+                    "JOIN students s ON s.student_id = f.student_id " +
+                    "ORDER BY f.target_points DESC, f.student_id LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<TopAchiever> achievers = new ArrayList<>();
+            while (rs.next()) {
+                achievers.add(new TopAchiever(rs.getInt("student_id"), rs.getString("full_name"),
+                    rs.getInt("target_points")));
+            }
+            return achievers;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find top target achievers", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    // Helper method to build "?, ?, ?" for an IN list
+    private static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder(count * 3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+    
+    // Helper method to bind IDs starting at the given parameter index
+    private static void bindIds(PreparedStatement pstmt, int startIndex, List<Integer> ids) throws SQLException {
+        int index = startIndex;
+        for (Integer id : ids) {
+            pstmt.setInt(index++, id);
+        }
+    }
+    
+    // Helper method to create a map with every enum constant at 0
+    private static <E extends Enum<E>> Map<E, Integer> zeroCounts(Class<E> type) {
+        Map<E, Integer> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0);
+        }
+        return counts;
+    }
+}
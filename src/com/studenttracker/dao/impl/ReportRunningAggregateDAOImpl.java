@@ -0,0 +1,139 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.ReportRunningAggregateDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReportRunningAggregateDAOImpl implements ReportRunningAggregateDAO {
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    
+    @Override
+    public void setMetrics(String monthGroup, int lessonId, Map<String, Integer> metrics) {
+        if (metrics == null || metrics.isEmpty()) {
+            return;
+        }
+        
+        String sql = "INSERT INTO report_running_aggregates (month_group, lesson_id, metric, value, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON CONFLICT(month_group, lesson_id, metric) DO UPDATE SET " +
+                    "value = excluded.value, updated_at = excluded.updated_at";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            conn.setAutoCommit(false);
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            String now = LocalDateTime.now().toString();
+            
+            for (Map.Entry<String, Integer> entry : metrics.entrySet()) {
+                pstmt.setString(1, monthGroup);
+                pstmt.setInt(2, lessonId);
+                pstmt.setString(3, entry.getKey());
+                pstmt.setInt(4, entry.getValue());
+                pstmt.setString(5, now);
+                pstmt.addBatch();
+            }
+            
+            pstmt.executeBatch();
+            conn.commit();
+            
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    throw new DAOException("Failed to rollback running aggregate update", ex);
+                }
+            }
+            throw new DAOException("Failed to set running aggregates", e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Ignore
+                }
+            }
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public void incrementMetric(String monthGroup, int lessonId, String metric, int delta) {
+        String sql = "INSERT INTO report_running_aggregates (month_group, lesson_id, metric, value, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?) " +
+                    "ON CONFLICT(month_group, lesson_id, metric) DO UPDATE SET " +
+                    "value = value + excluded.value, updated_at = excluded.updated_at";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, monthGroup);
+            pstmt.setInt(2, lessonId);
+            pstmt.setString(3, metric);
+            pstmt.setInt(4, delta);
+            pstmt.setString(5, LocalDateTime.now().toString());
+            pstmt.executeUpdate();
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to increment running aggregate", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public Map<String, Integer> sumByMonth(String monthGroup) {
+        String sql = "SELECT metric, SUM(value) AS total FROM report_running_aggregates " +
+                    "WHERE month_group = ? GROUP BY metric";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, monthGroup);
+            
+            ResultSet rs = pstmt.executeQuery();
+            Map<String, Integer> totals = new HashMap<>();
+            while (rs.next()) {
+                totals.put(rs.getString("metric"), rs.getInt("total"));
+            }
+            return totals;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to sum running aggregates by month", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public boolean deleteByMonth(String monthGroup) {
+        String sql = "DELETE FROM report_running_aggregates WHERE month_group = ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, monthGroup);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to delete running aggregates by month", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.RecentActivityDAO;
+import com.studenttracker.dao.impl.helpers.SegmentedActivityLogDAOImplHelpers;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.RecentActivity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * RecentActivityDAO backed by append-only log files instead of SQLite, so
+ * activity logging never takes the main database's write lock.
+ *
+ * <p><b>Layout:</b> one segment per UTC day of writing, made of
+ * {@code yyyy-MM-dd.log} (records, see {@link SegmentedActivityLogDAOImplHelpers})
+ * and {@code yyyy-MM-dd.idx} (16 bytes per record: long offset, int id,
+ * int type hash). Records are only ever appended, so the index order is the
+ * insertion order and newest-first reads walk the index backwards.</p>
+ *
+ * <p><b>Writes</b> are serialized: records, then index entries, each forced
+ * to disk per batch. A record counts once its index entry is written; on
+ * startup the newest segment is truncated to its last complete entry.</p>
+ *
+ * <p><b>Reads</b> memory-map each segment and take no lock. Sealed segments
+ * stay mapped; the open segment is remapped when it has grown.</p>
+ *
+ * <p><b>Retention</b> deletes whole segments, so {@link #deleteOlderThan}
+ * works per day: a day's records go once the whole day is past the cutoff.</p>
+ */
+public class SegmentedActivityLogDAOImpl implements RecentActivityDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(SegmentedActivityLogDAOImpl.class.getName());
+
+    private static final String DATA_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    /** Oldest first; replaced, never mutated, so readers iterate a snapshot. */
+    private volatile List<Segment> segments;
+    private final Object writeLock = new Object();
+    /** Segment being appended to; guarded by writeLock. */
+    private Segment current;
+    private FileChannel currentData;
+    private FileChannel currentIndex;
+    private int nextId;
+
+    /**
+     * Open (or create) the log in a directory. An incomplete last write is discarded.
+     *
+     * @param directory Directory holding the segment files
+     * @throws DAOException if the directory cannot be read
+     */
+    public SegmentedActivityLogDAOImpl(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            List<Segment> found = new ArrayList<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(INDEX_SUFFIX)) {
+                        try {
+                            found.add(new Segment(LocalDate.parse(name.substring(0, name.length() - INDEX_SUFFIX.length()))));
+                        } catch (DateTimeParseException e) {
+                            // Not ours
+                        }
+                    }
+                }
+            }
+            found.sort((a, b) -> a.day.compareTo(b.day));
+            for (Segment segment : found) {
+                recover(segment);
+            }
+            this.segments = List.copyOf(found);
+            this.nextId = lastId(found) + 1;
+        } catch (IOException e) {
+            throw new DAOException("Failed to open activity log in " + directory, e);
+        }
+    }
+
+    // ==================== CREATE ====================
+
+    @Override
+    public int insert(RecentActivity activity) {
+        return append(List.of(activity));
+    }
+
+    @Override
+    public void insertBatch(List<RecentActivity> activities) {
+        if (activities == null || activities.isEmpty()) {
+            return;
+        }
+        append(activities);
+    }
+
+    /**
+     * @return ID of the last appended activity
+     */
+    private int append(List<RecentActivity> activities) {
+        synchronized (writeLock) {
+            try {
+                Segment segment = openSegment(LocalDate.now(ZoneOffset.UTC));
+                int dataBytes = 0;
+                for (RecentActivity activity : activities) {
+                    if (activity.getCreatedAt() == null) {
+                        activity.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC).withNano(0));
+                    }
+                    dataBytes += SegmentedActivityLogDAOImplHelpers.encodedSize(activity);
+                }
+                if (segment.dataLength + dataBytes > Integer.MAX_VALUE) {
+                    throw new DAOException("Activity log segment " + segment.day + " is full");
+                }
+
+                ByteBuffer data = ByteBuffer.allocate(dataBytes);
+                ByteBuffer index = ByteBuffer.allocate(activities.size() * INDEX_ENTRY_BYTES);
+                int id = nextId;
+                for (RecentActivity activity : activities) {
+                    index.putLong(segment.dataLength + data.position());
+                    index.putInt(id);
+                    index.putInt(SegmentedActivityLogDAOImplHelpers.typeHash(activity.getActivityType()));
+                    SegmentedActivityLogDAOImplHelpers.encode(activity, id, data);
+                    id++;
+                }
+
+                writeFully(currentData, data.flip(), segment.dataLength);
+                currentData.force(false);
+                writeFully(currentIndex, index.flip(), (long) segment.count * INDEX_ENTRY_BYTES);
+                currentIndex.force(false);
+
+                // Publish: readers use count, which is written last
+                segment.dataLength += dataBytes;
+                segment.count += activities.size();
+                for (int i = 0; i < activities.size(); i++) {
+                    activities.get(i).setActivityId(nextId + i);
+                }
+                nextId = id;
+                return id - 1;
+
+            } catch (IOException e) {
+                closeCurrent();
+                throw new DAOException("Failed to append " + activities.size() + " activities to the log", e);
+            }
+        }
+    }
+
+    // ==================== READ ====================
+
+    @Override
+    public List<RecentActivity> getRecent(int limit) {
+        return read(null, limit);
+    }
+
+    @Override
+    public List<RecentActivity> getByType(String activityType, int limit) {
+        return read(activityType, limit);
+    }
+
+    private List<RecentActivity> read(String activityType, int limit) {
+        List<RecentActivity> result = new ArrayList<>();
+        int typeHash = SegmentedActivityLogDAOImplHelpers.typeHash(activityType);
+        Predicate<RecentActivity> matches = activity -> activityType == null
+            || activityType.equals(activity.getActivityType());
+        List<Segment> snapshot = segments;
+        try {
+            for (int s = snapshot.size() - 1; s >= 0 && result.size() < limit; s--) {
+                Mapping mapping = snapshot.get(s).map();
+                for (int i = mapping.count - 1; i >= 0 && result.size() < limit; i--) {
+                    int entry = i * INDEX_ENTRY_BYTES;
+                    if (activityType != null && mapping.index.getInt(entry + Long.BYTES + Integer.BYTES) != typeHash) {
+                        continue;
+                    }
+                    RecentActivity activity = SegmentedActivityLogDAOImplHelpers.decode(
+                        mapping.data, (int) mapping.index.getLong(entry));
+                    if (matches.test(activity)) {
+                        result.add(activity);
+                    }
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new DAOException("Failed to read the activity log", e);
+        }
+    }
+
+    // ==================== DELETE ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Deletes every segment whose whole day is before now minus {@code days}.</p>
+     */
+    @Override
+    public int deleteOlderThan(int days) {
+        LocalDate cutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(days).toLocalDate();
+        List<Segment> expired = new ArrayList<>();
+        synchronized (writeLock) {
+            List<Segment> kept = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (segment.day.isBefore(cutoff) && segment != current) {
+                    expired.add(segment);
+                } else {
+                    kept.add(segment);
+                }
+            }
+            segments = List.copyOf(kept);
+        }
+
+        int deleted = 0;
+        for (Segment segment : expired) {
+            deleted += segment.count;
+            delete(segment.dataFile());
+            delete(segment.indexFile());
+        }
+        return deleted;
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Segment for a day, creating it (and sealing the previous one) when the day changes.
+     * Caller holds writeLock.
+     */
+    private Segment openSegment(LocalDate day) throws IOException {
+        if (current != null && currentData != null && !day.isAfter(current.day)) {
+            return current;
+        }
+        closeCurrent();
+        List<Segment> all = segments;
+        Segment segment = all.isEmpty() ? null : all.get(all.size() - 1);
+        if (segment == null || segment.day.isBefore(day)) {
+            segment = new Segment(day);
+            List<Segment> grown = new ArrayList<>(all);
+            grown.add(segment);
+            segments = List.copyOf(grown);
+        }
+        currentData = FileChannel.open(segment.dataFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        currentIndex = FileChannel.open(segment.indexFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        current = segment;
+        return segment;
+    }
+
+    private void closeCurrent() {
+        for (FileChannel channel : new FileChannel[] {currentData, currentIndex}) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Failed to close activity log segment", e);
+                }
+            }
+        }
+        currentData = null;
+        currentIndex = null;
+        current = null;
+    }
+
+    /**
+     * Drop a torn write: index entries past the data, and data past the last indexed record.
+     */
+    private void recover(Segment segment) throws IOException {
+        long indexSize = Files.exists(segment.indexFile()) ? Files.size(segment.indexFile()) : 0;
+        long dataSize = Files.exists(segment.dataFile()) ? Files.size(segment.dataFile()) : 0;
+        int count = (int) (indexSize / INDEX_ENTRY_BYTES);
+        long dataEnd = 0;
+
+        if (count > 0 && dataSize > 0) {
+            try (FileChannel index = FileChannel.open(segment.indexFile(), StandardOpenOption.READ);
+                 FileChannel data = FileChannel.open(segment.dataFile(), StandardOpenOption.READ)) {
+                MappedByteBuffer indexMap = index.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * INDEX_ENTRY_BYTES);
+                MappedByteBuffer dataMap = data.map(FileChannel.MapMode.READ_ONLY, 0, dataSize);
+                while (count > 0) {
+                    long offset = indexMap.getLong((count - 1) * INDEX_ENTRY_BYTES);
+                    if (offset + SegmentedActivityLogDAOImplHelpers.HEADER_BYTES <= dataSize) {
+                        long end = SegmentedActivityLogDAOImplHelpers.recordEnd(dataMap, (int) offset);
+                        if (end <= dataSize) {
+                            dataEnd = end;
+                            break;
+                        }
+                    }
+                    count--;
+                }
+            }
+        } else {
+            count = 0;
+        }
+
+        if (indexSize != (long) count * INDEX_ENTRY_BYTES || dataSize != dataEnd) {
+            LOGGER.warning("Activity log segment " + segment.day + " had an incomplete write; keeping "
+                + count + " records");
+            truncate(segment.indexFile(), (long) count * INDEX_ENTRY_BYTES);
+            truncate(segment.dataFile(), dataEnd);
+        }
+        segment.count = count;
+        segment.dataLength = dataEnd;
+    }
+
+    private int lastId(List<Segment> found) throws IOException {
+        for (int s = found.size() - 1; s >= 0; s--) {
+            Mapping mapping = found.get(s).map();
+            if (mapping.count > 0) {
+                return mapping.index.getInt((mapping.count - 1) * INDEX_ENTRY_BYTES + Long.BYTES);
+            }
+        }
+        return 0;
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still mapped by a reader on some platforms; retried at exit
+            LOGGER.log(Level.WARNING, "Failed to delete expired activity log file " + file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Committed prefix of a segment, memory-mapped.
+     */
+    private record Mapping(int count, MappedByteBuffer index, MappedByteBuffer data) {
+    }
+
+    private final class Segment {
+        private final LocalDate day;
+        /** Committed records; written after their bytes, guarded by writeLock for writes. */
+        private volatile int count;
+        private volatile long dataLength;
+        private volatile Mapping mapping;
+
+        private Segment(LocalDate day) {
+            this.day = day;
+        }
+
+        private Path dataFile() {
+            return directory.resolve(day + DATA_SUFFIX);
+        }
+
+        private Path indexFile() {
+            return directory.resolve(day + INDEX_SUFFIX);
+        }
+
+        /**
+         * Mapping of the committed records, remapped if more were committed since.
+         */
+        private Mapping map() throws IOException {
+            int committed = count;
+            long length = dataLength;
+            Mapping mapped = mapping;
+            if (mapped != null && mapped.count == committed) {
+                return mapped;
+            }
+            if (committed == 0) {
+                return new Mapping(0, null, null);
+            }
+            try (FileChannel index = FileChannel.open(indexFile(), StandardOpenOption.READ);
+                 FileChannel data = FileChannel.open(dataFile(), StandardOpenOption.READ)) {
+                mapped = new Mapping(committed,
+                    index.map(FileChannel.MapMode.READ_ONLY, 0, (long) committed * INDEX_ENTRY_BYTES),
+                    data.map(FileChannel.MapMode.READ_ONLY, 0, length));
+            } catch (NoSuchFileException e) {
+                // Deleted by retention while we were reading
+                return new Mapping(0, null, null);
+            }
+            mapping = mapped;
+            return mapped;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.studenttracker.dao.impl;
 
 import com.studenttracker.dao.StudentDAO;
+import com.studenttracker.dao.impl.helpers.FullTextSearchHelpers;
 import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.Fasee7Points;
 import com.studenttracker.model.Student;
 import com.studenttracker.model.Student.StudentStatus;
+import com.studenttracker.model.StudentProfileSummary;
 import com.studenttracker.util.DatabaseConnection;
 
 import java.sql.*;
@@ -13,6 +16,30 @@ import java.util.List;
 
 public class StudentDAOImpl implements StudentDAO {
     
+    // Rank counts the active students ahead of this one using the leaderboard's
+    // tie-breaking: points DESC (total, quiz, target, homework, attendance), then
+    // registration date and name ASC, then student ID. The ASC keys are swapped
+    // between the two row values so one ">" covers both directions.
+    private static final String PROFILE_SUMMARY_SQL =
+        "SELECT s.student_id, " +
+        "(SELECT COUNT(*) FROM attendance WHERE student_id = s.student_id AND status = 'PRESENT') AS present_count, " +
+        "(SELECT COUNT(*) FROM attendance WHERE student_id = s.student_id AND status = 'ABSENT') AS absent_count, " +
+        "(SELECT consecutive_count FROM consecutivity_tracking " +
+        "  WHERE student_id = s.student_id AND tracking_type = 'ABSENCE') AS consecutive_absences, " +
+        "(SELECT COUNT(*) FROM warnings WHERE student_id = s.student_id AND is_active = 1) AS active_warnings, " +
+        "f.points_id, f.quiz_points, f.attendance_points, f.homework_points, f.target_points, " +
+        "f.total_points, f.last_updated, " +
+        "CASE WHEN f.student_id IS NULL OR s.status <> 'ACTIVE' THEN -1 ELSE " +
+        "  (SELECT COUNT(*) + 1 FROM fasee7_points o JOIN students os ON os.student_id = o.student_id " +
+        "   WHERE os.status = 'ACTIVE' AND " +
+        "   (o.total_points, o.quiz_points, o.target_points, o.homework_points, o.attendance_points, " +
+        "    s.registration_date, s.full_name, s.student_id) > " +
+        "   (f.total_points, f.quiz_points, f.target_points, f.homework_points, f.attendance_points, " +
+        "    os.registration_date, os.full_name, os.student_id)) " +
+        "END AS fasee7_rank " +
+        "FROM students s LEFT JOIN fasee7_points f ON f.student_id = s.student_id " +
+        "WHERE s.student_id = ?";
+    
     private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
     
     @Override
@@ -176,13 +203,18 @@ public class StudentDAOImpl implements StudentDAO {
     
     @Override
     public List<Student> searchByName(String namePart) {
-        String sql = "SELECT * FROM students WHERE full_name LIKE ? ORDER BY full_name";
+        String match = FullTextSearchHelpers.prefixQuery(namePart);
+        if (match == null) {
+            return new ArrayList<>();
+        }
+        String sql = "SELECT s.* FROM students_fts f JOIN students s ON s.student_id = f.rowid " +
+                    "WHERE students_fts MATCH ? ORDER BY s.full_name";
         
         Connection conn = null;
         try {
             conn = dbConn.getConnection();
             PreparedStatement pstmt = conn.prepareStatement(sql);
-            pstmt.setString(1, "%" + namePart + "%");
+            pstmt.setString(1, FullTextSearchHelpers.inColumn("name", match));
             
             ResultSet rs = pstmt.executeQuery();
             List<Student> students = new ArrayList<>();
@@ -198,6 +230,69 @@ public class StudentDAOImpl implements StudentDAO {
         }
     }
     
+    @Override
+    public List<Student> searchFullText(String term, int limit) {
+        String match = FullTextSearchHelpers.prefixQuery(term);
+        if (match == null) {
+            return new ArrayList<>();
+        }
+        // ORDER BY rank with a LIMIT lets FTS5 keep only the best rows; join just those
+        String sql = "SELECT s.* FROM (SELECT rowid, rank FROM students_fts WHERE students_fts MATCH ? " +
+                    "ORDER BY rank LIMIT ?) f JOIN students s ON s.student_id = f.rowid ORDER BY f.rank";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setString(1, match);
+            pstmt.setInt(2, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Student> students = new ArrayList<>();
+            while (rs.next()) {
+                students.add(extractStudentFromResultSet(rs));
+            }
+            return students;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to search students", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    @Override
+    public List<Student> findPageOrderedByName(String afterName, int afterId, int limit) {
+        String sql = afterName == null
+            ? "SELECT * FROM students ORDER BY full_name, student_id LIMIT ?"
+            : "SELECT * FROM students WHERE (full_name, student_id) > (?, ?) " +
+              "ORDER BY full_name, student_id LIMIT ?";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            int index = 1;
+            if (afterName != null) {
+                pstmt.setString(index++, afterName);
+                pstmt.setInt(index++, afterId);
+            }
+            pstmt.setInt(index, limit);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<Student> students = new ArrayList<>();
+            while (rs.next()) {
+                students.add(extractStudentFromResultSet(rs));
+            }
+            return students;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to find page of students", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     @Override
     public int countByStatus(StudentStatus status) {
         String sql = "SELECT COUNT(*) FROM students WHERE status = ?";
@@ -288,6 +383,49 @@ public class StudentDAOImpl implements StudentDAO {
         }
     }
     
+    @Override
+    public StudentProfileSummary findProfileSummary(int studentId) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(PROFILE_SUMMARY_SQL);
+            pstmt.setInt(1, studentId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            if (!rs.next()) {
+                return null;
+            }
+            StudentProfileSummary summary = new StudentProfileSummary();
+            summary.setStudentId(rs.getInt("student_id"));
+            summary.setPresentCount(rs.getInt("present_count"));
+            summary.setAbsentCount(rs.getInt("absent_count"));
+            summary.setConsecutiveAbsences(rs.getInt("consecutive_absences"));
+            summary.setActiveWarningCount(rs.getInt("active_warnings"));
+            summary.setRank(rs.getInt("fasee7_rank"));
+            
+            int pointsId = rs.getInt("points_id");
+            if (!rs.wasNull()) {
+                Fasee7Points points = new Fasee7Points();
+                points.setPointsId(pointsId);
+                points.setStudentId(studentId);
+                points.setQuizPoints(rs.getDouble("quiz_points"));
+                points.setAttendancePoints(rs.getInt("attendance_points"));
+                points.setHomeworkPoints(rs.getInt("homework_points"));
+                points.setTargetPoints(rs.getInt("target_points"));
+                points.setTotalPoints(rs.getDouble("total_points"));
+                String lastUpdated = rs.getString("last_updated");
+                points.setLastUpdated(lastUpdated != null ? LocalDateTime.parse(lastUpdated.replace(' ', 'T')) : null);
+                summary.setPoints(points);
+            }
+            return summary;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to load profile summary for student " + studentId, e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     // Helper method to extract Student object from ResultSet
     private Student extractStudentFromResultSet(ResultSet rs) throws SQLException {
         Student student = new Student();
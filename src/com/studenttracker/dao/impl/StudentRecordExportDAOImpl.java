@@ -0,0 +1,167 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.StudentRecordExportDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.LessonTopic.TopicCategory;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class StudentRecordExportDAOImpl implements StudentRecordExportDAO {
+    
+    private static final int FETCH_SIZE = 500;
+    
+    private static final List<String> STUDENT_SUMMARY_COLUMNS;
+    private static final String STUDENT_SUMMARY_SQL;
+    
+    static {
+        List<String> columns = new ArrayList<>(List.of(
+            "student_id", "full_name", "status",
+            "lessons_present", "lessons_absent",
+            "homework_done", "homework_partial", "homework_not_done",
+            "quizzes_taken", "quiz_points_total"));
+        
+        // Latest cumulative PI per category, pivoted into one column each
+        StringBuilder piColumns = new StringBuilder();
+        for (TopicCategory category : TopicCategory.values()) {
+            columns.add("pi_" + category.name().toLowerCase());
+            piColumns.append("MAX(CASE WHEN category = '").append(category.name())
+                     .append("' THEN cumulative_pi END) AS pi_").append(category.name().toLowerCase()).append(", ");
+        }
+        columns.addAll(List.of("fasee7_quiz_points", "fasee7_attendance_points",
+            "fasee7_homework_points", "fasee7_target_points", "fasee7_total_points"));
+        STUDENT_SUMMARY_COLUMNS = Collections.unmodifiableList(columns);
+        
+        StringBuilder select = new StringBuilder();
+        for (TopicCategory category : TopicCategory.values()) {
+            select.append("p.pi_").append(category.name().toLowerCase()).append(", ");
+        }
+        
+        STUDENT_SUMMARY_SQL =
+            "SELECT s.student_id, s.full_name, s.status, " +
+            "COALESCE(a.present, 0), COALESCE(a.absent, 0), " +
+            "COALESCE(h.done, 0), COALESCE(h.partial, 0), COALESCE(h.not_done, 0), " +
+            "COALESCE(q.quizzes, 0), COALESCE(q.points, 0), " +
+            select +
+            "f.quiz_points, f.attendance_points, f.homework_points, f.target_points, f.total_points " +
+            "FROM students s " +
+            "LEFT JOIN (SELECT student_id, " +
+            "  SUM(CASE WHEN status = 'PRESENT' THEN 1 ELSE 0 END) AS present, " +
+            "  SUM(CASE WHEN status = 'ABSENT' THEN 1 ELSE 0 END) AS absent " +
+            "  FROM attendance GROUP BY student_id) a ON a.student_id = s.student_id " +
+            "LEFT JOIN (SELECT student_id, " +
+            "  SUM(CASE WHEN status = 'DONE' THEN 1 ELSE 0 END) AS done, " +
+            "  SUM(CASE WHEN status = 'PARTIALLY_DONE' THEN 1 ELSE 0 END) AS partial, " +
+            "  SUM(CASE WHEN status = 'NOT_DONE' THEN 1 ELSE 0 END) AS not_done " +
+            "  FROM homework GROUP BY student_id) h ON h.student_id = s.student_id " +
+            "LEFT JOIN (SELECT student_id, COUNT(DISTINCT quiz_id) AS quizzes, SUM(points_earned) AS points " +
+            "  FROM quiz_scores GROUP BY student_id) q ON q.student_id = s.student_id " +
+            "LEFT JOIN (SELECT student_id, " + piColumns.substring(0, piColumns.length() - 2) + " " +
+            "  FROM (SELECT student_id, category, cumulative_pi, " +
+            "        ROW_NUMBER() OVER (PARTITION BY student_id, category ORDER BY calculated_at DESC, pi_id DESC) AS rn " +
+            "        FROM performance_indicators) " +
+            "  WHERE rn = 1 GROUP BY student_id) p ON p.student_id = s.student_id " +
+            "LEFT JOIN fasee7_points f ON f.student_id = s.student_id " +
+            "WHERE (? = 1 OR s.status = 'ACTIVE') " +
+            "ORDER BY s.student_id";
+    }
+    
+    private static final List<String> STUDENT_LESSON_COLUMNS = List.of(
+        "student_id", "full_name", "lesson_id", "lesson_date", "month_group",
+        "attendance", "homework", "quiz_points");
+    
+    private static final String STUDENT_LESSON_SQL =
+        "SELECT s.student_id, s.full_name, l.lesson_id, l.lesson_date, l.month_group, " +
+        "a.status, h.status, q.points " +
+        "FROM students s CROSS JOIN lessons l " +
+        "LEFT JOIN attendance a ON a.student_id = s.student_id AND a.lesson_id = l.lesson_id " +
+        "LEFT JOIN homework h ON h.student_id = s.student_id AND h.lesson_id = l.lesson_id " +
+        "LEFT JOIN (SELECT qz.lesson_id, qs.student_id, SUM(qs.points_earned) AS points " +
+        "  FROM quiz_scores qs JOIN quizzes qz ON qz.quiz_id = qs.quiz_id " +
+        "  GROUP BY qz.lesson_id, qs.student_id) q " +
+        "  ON q.student_id = s.student_id AND q.lesson_id = l.lesson_id " +
+        "WHERE (? = 1 OR s.status = 'ACTIVE') " +
+        "ORDER BY s.student_id, l.lesson_date, l.lesson_id";
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    
+    @Override
+    public List<String> getStudentSummaryColumns() {
+        return STUDENT_SUMMARY_COLUMNS;
+    }
+    
+    @Override
+    public long streamStudentSummaries(boolean includeArchived, ExportRowHandler handler) {
+        return stream(STUDENT_SUMMARY_SQL, STUDENT_SUMMARY_COLUMNS.size(), includeArchived, handler,
+            "Failed to stream student summaries");
+    }
+    
+    @Override
+    public List<String> getStudentLessonColumns() {
+        return STUDENT_LESSON_COLUMNS;
+    }
+    
+    @Override
+    public long streamStudentLessonRecords(boolean includeArchived, ExportRowHandler handler) {
+        return stream(STUDENT_LESSON_SQL, STUDENT_LESSON_COLUMNS.size(), includeArchived, handler,
+            "Failed to stream student lesson records");
+    }
+    
+    @Override
+    public long countExportRows(boolean perLesson, boolean includeArchived) {
+        String sql = "SELECT (SELECT COUNT(*) FROM students WHERE ? = 1 OR status = 'ACTIVE') * " +
+                    (perLesson ? "(SELECT COUNT(*) FROM lessons)" : "1");
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, includeArchived ? 1 : 0);
+            
+            ResultSet rs = pstmt.executeQuery();
+            return rs.next() ? rs.getLong(1) : 0;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count export rows", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    private long stream(String sql, int columnCount, boolean includeArchived,
+                        ExportRowHandler handler, String errorMessage) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(FETCH_SIZE);
+            pstmt.setInt(1, includeArchived ? 1 : 0);
+            
+            ResultSet rs = pstmt.executeQuery();
+            Object[] values = new Object[columnCount];
+            long rows = 0;
+            while (rs.next()) {
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = rs.getObject(i + 1);
+                }
+                handler.onRow(values);
+                rows++;
+            }
+            return rows;
+            
+        } catch (IOException e) {
+            throw new DAOException(errorMessage + ": write failed", e);
+        } catch (SQLException e) {
+            throw new DAOException(errorMessage, e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.studenttracker.dao.impl;
+
+import com.studenttracker.dao.StudentTimelineDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.StudentLessonTimelineEntry;
+import com.studenttracker.util.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StudentTimelineDAOImpl implements StudentTimelineDAO {
+    
+    // One quiz per lesson (the lowest ID if several) read from idx_quizzes_lesson,
+    // so quiz rows and their PDF blobs are never touched. The student's scores are
+    // summed once per quiz through idx_quiz_scores_student.
+    private static final String TIMELINE_SQL =
+        "SELECT l.lesson_id, l.lesson_date, " +
+        "(SELECT group_concat(specific_topic, ', ') FROM " +
+        "  (SELECT specific_topic FROM lesson_topics WHERE lesson_id = l.lesson_id ORDER BY topic_id)) AS topics, " +
+        "a.status AS attendance_status, h.status AS homework_status, qz.quiz_id, s.earned, " +
+        "(SELECT SUM(points) FROM quiz_questions WHERE quiz_id = qz.quiz_id) AS total_points " +
+        "FROM lessons l " +
+        "LEFT JOIN attendance a ON a.lesson_id = l.lesson_id AND a.student_id = ? " +
+        "LEFT JOIN homework h ON h.lesson_id = l.lesson_id AND h.student_id = ? " +
+        "LEFT JOIN (SELECT lesson_id, MIN(quiz_id) AS quiz_id FROM quizzes GROUP BY lesson_id) qz " +
+        "  ON qz.lesson_id = l.lesson_id " +
+        "LEFT JOIN (SELECT quiz_id, SUM(points_earned) AS earned FROM quiz_scores " +
+        "  WHERE student_id = ? GROUP BY quiz_id) s ON s.quiz_id = qz.quiz_id " +
+        "ORDER BY l.lesson_date DESC, l.lesson_id DESC";
+    
+    private final DatabaseConnection dbConn = DatabaseConnection.getInstance();
+    
+    @Override
+    public List<StudentLessonTimelineEntry> findTimeline(int studentId) {
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            PreparedStatement pstmt = conn.prepareStatement(TIMELINE_SQL);
+            pstmt.setInt(1, studentId);
+            pstmt.setInt(2, studentId);
+            pstmt.setInt(3, studentId);
+            
+            ResultSet rs = pstmt.executeQuery();
+            List<StudentLessonTimelineEntry> entries = new ArrayList<>();
+            while (rs.next()) {
+                entries.add(extractEntryFromResultSet(rs));
+            }
+            return entries;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to load lesson timeline for student " + studentId, e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
+    // Helper method to extract a timeline entry from ResultSet
+    private StudentLessonTimelineEntry extractEntryFromResultSet(ResultSet rs) throws SQLException {
+        StudentLessonTimelineEntry entry = new StudentLessonTimelineEntry();
+        entry.setLessonId(rs.getInt("lesson_id"));
+        
+        String lessonDate = rs.getString("lesson_date");
+        entry.setLessonDate(lessonDate != null ? LocalDate.parse(lessonDate) : null);
+        
+        entry.setTopics(rs.getString("topics"));
+        
+        String attendance = rs.getString("attendance_status");
+        entry.setAttendanceStatus(attendance != null ? AttendanceStatus.valueOf(attendance) : null);
+        
+        String homework = rs.getString("homework_status");
+        entry.setHomeworkStatus(homework != null ? HomeworkStatus.valueOf(homework) : null);
+        
+        int quizId = rs.getInt("quiz_id");
+        entry.setQuizId(rs.wasNull() ? null : quizId);
+        
+        double earned = rs.getDouble("earned");
+        entry.setQuizPointsEarned(rs.wasNull() ? null : earned);
+        
+        double totalPoints = rs.getDouble("total_points");
+        entry.setQuizTotalPoints(rs.wasNull() ? null : totalPoints);
+        
+        return entry;
+    }
+}
@@ -14,6 +14,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -300,6 +301,30 @@ public class WarningDAOImpl implements WarningDAO {
         }
     }
     
+    @Override
+    public Map<Integer, Integer> countActiveGroupedByStudent() {
+        String sql = "SELECT student_id, COUNT(*) AS active_count FROM warnings " +
+                    "WHERE is_active = 1 GROUP BY student_id";
+        
+        Connection conn = null;
+        try {
+            conn = dbConn.getConnection();
+            Statement stmt = conn.createStatement();
+            ResultSet rs = stmt.executeQuery(sql);
+            
+            Map<Integer, Integer> counts = new HashMap<>();
+            while (rs.next()) {
+                counts.put(rs.getInt("student_id"), rs.getInt("active_count"));
+            }
+            return counts;
+            
+        } catch (SQLException e) {
+            throw new DAOException("Failed to count active warnings per student", e);
+        } finally {
+            dbConn.closeConnection(conn);
+        }
+    }
+    
     @Override
     public int countByType(WarningType type) {
         String sql = "SELECT COUNT(*) FROM warnings WHERE warning_type = ?";
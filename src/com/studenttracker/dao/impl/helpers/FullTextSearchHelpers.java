@@ -0,0 +1,40 @@
+package com.studenttracker.dao.impl.helpers;
+
+import com.studenttracker.util.SearchText;
+
+/**
+ * Helper class for DAOs that query the FTS5 search indexes (schema.sql, section 19).
+ */
+public class FullTextSearchHelpers {
+    
+    private FullTextSearchHelpers() {}
+    
+    /**
+     * Builds an FTS5 MATCH expression requiring every word of the term as a
+     * prefix (folded like the indexed text, each word quoted).
+     * 
+     * @param term User input
+     * @return MATCH expression, or null if the term has no searchable text
+     */
+    public static String prefixQuery(String term) {
+        String folded = SearchText.fold(term);
+        if (folded.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : folded.split(" ")) {
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('"').append(word.replace("\"", "\"\"")).append("\"*");
+        }
+        return query.toString();
+    }
+    
+    /**
+     * Restricts a MATCH expression to one column.
+     */
+    public static String inColumn(String column, String query) {
+        return column + " : (" + query + ")";
+    }
+}
@@ -0,0 +1,68 @@
+package com.studenttracker.dao.impl.helpers;
+
+import com.studenttracker.model.Job;
+import com.studenttracker.model.Job.JobStatus;
+import com.studenttracker.model.Job.JobType;
+import com.studenttracker.util.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class JobDAOImplHelpers {
+    
+    private JobDAOImplHelpers() {}
+    
+    /**
+     * Get field transformers for Job entity.
+     */
+    public static Map<String, Function<Object, Object>> getTransformers() {
+        Map<String, Function<Object, Object>> transformers = new HashMap<>();
+        
+        transformers.put("job_type", s -> {
+            try {
+                return JobType.valueOf((String) s);
+            } catch (Exception e) {
+                return null;
+            }
+        });
+        
+        transformers.put("status", s -> {
+            try {
+                return JobStatus.valueOf((String) s);
+            } catch (Exception e) {
+                return null;
+            }
+        });
+        
+        Function<Object, Object> dateTime = s -> {
+            try {
+                return s != null ? LocalDateTime.parse((String) s) : null;
+            } catch (Exception e) {
+                return null;
+            }
+        };
+        transformers.put("created_at", dateTime);
+        transformers.put("started_at", dateTime);
+        transformers.put("finished_at", dateTime);
+        
+        return transformers;
+    }
+    
+    /**
+     * Extract Job object from ResultSet using transformers.
+     * @param rs ResultSet positioned at a valid row
+     * @param transformers Map of field transformers
+     * @return Job object extracted from current ResultSet row
+     */
+    public static Job extractJobFromResultSet(ResultSet rs, Map<String, Function<Object, Object>> transformers) {
+        try {
+            return ResultSetExtractor.extractWithTransformers(rs, Job.class, transformers);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+}
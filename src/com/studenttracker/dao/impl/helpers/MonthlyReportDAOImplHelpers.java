@@ -1,11 +1,25 @@
 package com.studenttracker.dao.impl.helpers;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import com.studenttracker.dao.MonthlyReportDAO.ReportBodyWriter;
 import com.studenttracker.model.MonthlyReport;
 import com.studenttracker.util.ResultSetExtractor;
 
@@ -24,6 +38,12 @@ public class MonthlyReportDAOImplHelpers {
             }
         });
         
+        // Compressed rows keep an empty report_data; expose them as null
+        transformers.put("report_data", s -> {
+            String data = (String) s;
+            return data == null || data.isEmpty() ? null : data;
+        });
+        
         return transformers;
     }
 
@@ -44,4 +64,48 @@ public class MonthlyReportDAOImplHelpers {
         
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Serialize a report body through gzip into a byte array.
+     */
+    public static byte[] compress(ReportBodyWriter body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            body.writeTo(writer);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decompress a stored report body into the given stream.
+     */
+    public static void decompress(InputStream compressed, OutputStream out) throws IOException {
+        try (InputStream in = new GZIPInputStream(compressed)) {
+            in.transferTo(out);
+        }
+    }
+
+    /**
+     * Serialize a report body into an uncompressed string.
+     */
+    public static String render(ReportBodyWriter body) throws IOException {
+        StringWriter writer = new StringWriter();
+        body.writeTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Check whether a table has a column (false if the table does not exist).
+     */
+    public static boolean hasColumn(Connection conn, String table, String column) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
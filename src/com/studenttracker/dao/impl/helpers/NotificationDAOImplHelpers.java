@@ -32,7 +32,8 @@ public class NotificationDAOImplHelpers {
         
         transformers.put("created_at", s -> {
             try {
-                return LocalDateTime.parse((String) s);
+                // CURRENT_TIMESTAMP is "yyyy-MM-dd HH:mm:ss"
+                return LocalDateTime.parse(((String) s).replace(" ", "T"));
             } catch (Exception e) {
                 return null;
             }
@@ -0,0 +1,81 @@
+package com.studenttracker.dao.impl.helpers;
+
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.OutboxEntry;
+import com.studenttracker.util.ResultSetExtractor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class OutboxDAOImplHelpers {
+    
+    private OutboxDAOImplHelpers() {}
+    
+    /**
+     * Insert an outbox entry on the caller's connection, so it commits or
+     * rolls back together with the caller's transaction.
+     * Sets the generated ID on the entry.
+     * 
+     * @param conn Open connection (auto-commit normally disabled)
+     * @param entry Entry to insert
+     * @throws SQLException if the insert fails
+     */
+    public static void insertEntry(Connection conn, OutboxEntry entry) throws SQLException {
+        String sql = "INSERT INTO event_outbox (event_type, payload, created_at) VALUES (?, ?, ?)";
+        
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, entry.getEventType());
+            pstmt.setString(2, entry.getPayload());
+            pstmt.setString(3, entry.getCreatedAt().toString());
+            
+            if (pstmt.executeUpdate() == 0) {
+                throw new DAOException("Insert outbox entry failed, no rows affected");
+            }
+            ResultSet rs = pstmt.getGeneratedKeys();
+            if (rs.next()) {
+                entry.setOutboxId(rs.getInt(1));
+            }
+        }
+    }
+    
+    /**
+     * Get field transformers for OutboxEntry entity.
+     */
+    public static Map<String, Function<Object, Object>> getTransformers() {
+        Map<String, Function<Object, Object>> transformers = new HashMap<>();
+        
+        Function<Object, Object> dateTime = s -> {
+            try {
+                return s != null ? LocalDateTime.parse((String) s) : null;
+            } catch (Exception e) {
+                return null;
+            }
+        };
+        transformers.put("created_at", dateTime);
+        transformers.put("dispatched_at", dateTime);
+        
+        return transformers;
+    }
+    
+    /**
+     * Extract OutboxEntry object from ResultSet using transformers.
+     * @param rs ResultSet positioned at a valid row
+     * @param transformers Map of field transformers
+     * @return OutboxEntry object extracted from current ResultSet row
+     */
+    public static OutboxEntry extractOutboxEntryFromResultSet(ResultSet rs, Map<String, Function<Object, Object>> transformers) {
+        try {
+            return ResultSetExtractor.extractWithTransformers(rs, OutboxEntry.class, transformers);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+}
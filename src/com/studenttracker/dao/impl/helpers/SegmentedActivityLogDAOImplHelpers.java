@@ -0,0 +1,135 @@
+package com.studenttracker.dao.impl.helpers;
+
+import com.studenttracker.model.RecentActivity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary record format of the segmented activity log.
+ * <pre>
+ * record: int payloadLength, payload
+ * payload: int id, long createdAt (UTC epoch seconds), byte flags,
+ *          string type, string description,
+ *          [string entityType] [int entityId] [int performedBy] (present per flag)
+ * string: int byteLength, UTF-8 bytes
+ * </pre>
+ */
+public class SegmentedActivityLogDAOImplHelpers
+{
+    private SegmentedActivityLogDAOImplHelpers() {}
+
+    private static final byte HAS_ENTITY_TYPE = 1;
+    private static final byte HAS_ENTITY_ID = 2;
+    private static final byte HAS_PERFORMED_BY = 4;
+
+    /** Length prefix in front of every payload. */
+    public static final int HEADER_BYTES = Integer.BYTES;
+
+    /**
+     * Size of an encoded record, length prefix included.
+     */
+    public static int encodedSize(RecentActivity activity) {
+        int size = HEADER_BYTES + Integer.BYTES + Long.BYTES + 1
+            + stringSize(activity.getActivityType()) + stringSize(activity.getActivityDescription());
+        if (activity.getEntityType() != null) {
+            size += stringSize(activity.getEntityType());
+        }
+        if (activity.getEntityId() != null) {
+            size += Integer.BYTES;
+        }
+        if (activity.getPerformedBy() != null) {
+            size += Integer.BYTES;
+        }
+        return size;
+    }
+
+    /**
+     * Append one record; createdAt must be set.
+     */
+    public static void encode(RecentActivity activity, int id, ByteBuffer out) {
+        int start = out.position();
+        out.putInt(0);
+        out.putInt(id);
+        out.putLong(activity.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        byte flags = 0;
+        if (activity.getEntityType() != null) {
+            flags |= HAS_ENTITY_TYPE;
+        }
+        if (activity.getEntityId() != null) {
+            flags |= HAS_ENTITY_ID;
+        }
+        if (activity.getPerformedBy() != null) {
+            flags |= HAS_PERFORMED_BY;
+        }
+        out.put(flags);
+        putString(out, activity.getActivityType());
+        putString(out, activity.getActivityDescription());
+        if (activity.getEntityType() != null) {
+            putString(out, activity.getEntityType());
+        }
+        if (activity.getEntityId() != null) {
+            out.putInt(activity.getEntityId());
+        }
+        if (activity.getPerformedBy() != null) {
+            out.putInt(activity.getPerformedBy());
+        }
+        out.putInt(start, out.position() - start - HEADER_BYTES);
+    }
+
+    /**
+     * Read the record starting at an offset (absolute reads; the buffer's position is unchanged).
+     */
+    public static RecentActivity decode(ByteBuffer data, int offset) {
+        ByteBuffer in = data.duplicate();
+        in.position(offset + HEADER_BYTES);
+        RecentActivity activity = new RecentActivity();
+        activity.setActivityId(in.getInt());
+        activity.setCreatedAt(LocalDateTime.ofEpochSecond(in.getLong(), 0, ZoneOffset.UTC));
+        byte flags = in.get();
+        activity.setActivityType(getString(in));
+        activity.setActivityDescription(getString(in));
+        if ((flags & HAS_ENTITY_TYPE) != 0) {
+            activity.setEntityType(getString(in));
+        }
+        if ((flags & HAS_ENTITY_ID) != 0) {
+            activity.setEntityId(in.getInt());
+        }
+        if ((flags & HAS_PERFORMED_BY) != 0) {
+            activity.setPerformedBy(in.getInt());
+        }
+        return activity;
+    }
+
+    /**
+     * Offset just past the record starting at an offset.
+     */
+    public static long recordEnd(ByteBuffer data, int offset) {
+        return (long) offset + HEADER_BYTES + data.getInt(offset);
+    }
+
+    /**
+     * Hash stored in the segment index so type filters can skip records without decoding them.
+     */
+    public static int typeHash(String activityType) {
+        return activityType == null ? 0 : activityType.hashCode();
+    }
+
+    private static int stringSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
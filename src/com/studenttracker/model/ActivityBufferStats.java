@@ -0,0 +1,59 @@
+package com.studenttracker.model;
+
+/**
+ * Counters of the recent-activity write-behind buffer.
+ */
+public class ActivityBufferStats {
+    private int pending;
+    private int capacity;
+    private int highWater;
+    private long written;
+    private long batches;
+    private long dropped;
+    private long failedBatches;
+
+    public ActivityBufferStats() {}
+
+    public ActivityBufferStats(int pending, int capacity, int highWater, long written,
+                               long batches, long dropped, long failedBatches) {
+        this.pending = pending;
+        this.capacity = capacity;
+        this.highWater = highWater;
+        this.written = written;
+        this.batches = batches;
+        this.dropped = dropped;
+        this.failedBatches = failedBatches;
+    }
+
+    /** Activities not yet written to the database. */
+    public int getPending() { return pending; }
+    public void setPending(int pending) { this.pending = pending; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    /** Highest number of pending activities seen. */
+    public int getHighWater() { return highWater; }
+    public void setHighWater(int highWater) { this.highWater = highWater; }
+
+    public long getWritten() { return written; }
+    public void setWritten(long written) { this.written = written; }
+
+    /** Insert transactions committed. */
+    public long getBatches() { return batches; }
+    public void setBatches(long batches) { this.batches = batches; }
+
+    /** Activities discarded because the buffer was full or kept failing to write. */
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    public long getFailedBatches() { return failedBatches; }
+    public void setFailedBatches(long failedBatches) { this.failedBatches = failedBatches; }
+
+    @Override
+    public String toString() {
+        return "ActivityBufferStats{pending=" + pending + ", capacity=" + capacity + ", highWater=" + highWater +
+               ", written=" + written + ", batches=" + batches + ", dropped=" + dropped +
+               ", failedBatches=" + failedBatches + "}";
+    }
+}
@@ -0,0 +1,51 @@
+package com.studenttracker.model;
+
+import java.util.Arrays;
+
+/**
+ * Chart-ready series of (quiz, value) points held in primitive arrays.
+ * sourceSize is the number of points before any downsampling.
+ */
+public class ChartSeries {
+    private int[] quizIds;
+    private int[] values;
+    private int sourceSize;
+    
+    // Constructors
+    public ChartSeries() {
+        this(new int[0], new int[0], 0);
+    }
+    
+    public ChartSeries(int[] quizIds, int[] values, int sourceSize) {
+        this.quizIds = quizIds;
+        this.values = values;
+        this.sourceSize = sourceSize;
+    }
+    
+    public int size() {
+        return quizIds.length;
+    }
+    
+    public boolean isDownsampled() {
+        return quizIds.length < sourceSize;
+    }
+    
+    // Getters and Setters
+    public int[] getQuizIds() { return quizIds; }
+    public void setQuizIds(int[] quizIds) { this.quizIds = quizIds; }
+    
+    public int[] getValues() { return values; }
+    public void setValues(int[] values) { this.values = values; }
+    
+    public int getSourceSize() { return sourceSize; }
+    public void setSourceSize(int sourceSize) { this.sourceSize = sourceSize; }
+    
+    @Override
+    public String toString() {
+        return "ChartSeries{" +
+                "points=" + quizIds.length +
+                ", sourceSize=" + sourceSize +
+                ", values=" + Arrays.toString(values) +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+package com.studenttracker.model;
+
+import java.nio.file.Path;
+
+/**
+ * Outcome of a bulk export: what was written and how fast.
+ */
+public class ExportResult {
+    private Path file;
+    private long rows;
+    private long bytes;
+    private long elapsedMs;
+
+    public ExportResult() {}
+
+    public ExportResult(Path file, long rows, long bytes, long elapsedMs) {
+        this.file = file;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.elapsedMs = elapsedMs;
+    }
+
+    public Path getFile() { return file; }
+    public void setFile(Path file) { this.file = file; }
+
+    public long getRows() { return rows; }
+    public void setRows(long rows) { this.rows = rows; }
+
+    public long getBytes() { return bytes; }
+    public void setBytes(long bytes) { this.bytes = bytes; }
+
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+
+    public double getRowsPerSecond() {
+        return elapsedMs > 0 ? rows * 1000.0 / elapsedMs : rows;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportResult{file=" + file + ", rows=" + rows + ", bytes=" + bytes +
+               ", elapsedMs=" + elapsedMs + ", rowsPerSecond=" + Math.round(getRowsPerSecond()) + "}";
+    }
+}
@@ -0,0 +1,88 @@
+package com.studenttracker.model;
+
+import java.time.LocalDateTime;
+
+public class Job {
+    private Integer jobId;
+    private JobType jobType;
+    private JobStatus status;
+    private String description;
+    private int progress;              // 0-100
+    private String result;             // short result summary (e.g., report ID or file path)
+    private String errorMessage;
+    private Integer submittedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum JobType {
+        MONTHLY_REPORT,
+        PI_RECALCULATION,
+        REPORT_EXPORT,
+        DATA_EXPORT,
+        DERIVED_DATA_REPLAY,
+        NOTIFICATION_RETENTION,
+        AGGREGATE_VERIFICATION
+    }
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    public Job() {}
+
+    public Job(JobType jobType, String description, Integer submittedBy) {
+        this.jobType = jobType;
+        this.status = JobStatus.QUEUED;
+        this.description = description;
+        this.submittedBy = submittedBy;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Integer getJobId() { return jobId; }
+    public void setJobId(Integer jobId) { this.jobId = jobId; }
+
+    public JobType getJobType() { return jobType; }
+    public void setJobType(JobType jobType) { this.jobType = jobType; }
+
+    public JobStatus getStatus() { return status; }
+    public void setStatus(JobStatus status) { this.status = status; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public int getProgress() { return progress; }
+    public void setProgress(int progress) { this.progress = progress; }
+
+    public String getResult() { return result; }
+    public void setResult(String result) { this.result = result; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public Integer getSubmittedBy() { return submittedBy; }
+    public void setSubmittedBy(Integer submittedBy) { this.submittedBy = submittedBy; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    @Override
+    public String toString() {
+        return "Job{id=" + jobId + ", type=" + jobType + ", status=" + status +
+               ", progress=" + progress + "%, description='" + description + "'}";
+    }
+}
@@ -0,0 +1,52 @@
+package com.studenttracker.model;
+
+import java.time.LocalDateTime;
+
+public class OutboxEntry {
+    private Integer outboxId;
+    private String eventType;          // fully qualified event class name
+    private String payload;            // JSON-serialized event
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime dispatchedAt;
+
+    public OutboxEntry() {}
+
+    public OutboxEntry(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Integer getOutboxId() { return outboxId; }
+    public void setOutboxId(Integer outboxId) { this.outboxId = outboxId; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getDispatchedAt() { return dispatchedAt; }
+    public void setDispatchedAt(LocalDateTime dispatchedAt) { this.dispatchedAt = dispatchedAt; }
+
+    public boolean isDispatched() {
+        return dispatchedAt != null;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEntry{id=" + outboxId + ", type=" + eventType + ", attempts=" + attempts +
+               ", dispatched=" + isDispatched() + "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.studenttracker.model;
+
+import com.studenttracker.model.LessonTopic.TopicCategory;
+
+/**
+ * Item-analysis statistics for a single quiz question.
+ * Difficulty is the mean fraction of points earned (0 = nobody scored, 1 = everyone full marks).
+ * Discrimination is the difficulty in the top 27% of students minus the bottom 27%.
+ */
+public class QuestionItemStatistics {
+    private Integer questionId;
+    private int questionNumber;
+    private TopicCategory category;
+    private Double maxPoints;
+    private int respondents;
+    private Double difficulty;
+    private Double discrimination;
+    
+    // Constructors
+    public QuestionItemStatistics() {}
+    
+    public QuestionItemStatistics(Integer questionId, int questionNumber, TopicCategory category,
+                                  Double maxPoints, int respondents,
+                                  Double difficulty, Double discrimination) {
+        this.questionId = questionId;
+        this.questionNumber = questionNumber;
+        this.category = category;
+        this.maxPoints = maxPoints;
+        this.respondents = respondents;
+        this.difficulty = difficulty;
+        this.discrimination = discrimination;
+    }
+    
+    // Getters and Setters
+    public Integer getQuestionId() { return questionId; }
+    public void setQuestionId(Integer questionId) { this.questionId = questionId; }
+    
+    public int getQuestionNumber() { return questionNumber; }
+    public void setQuestionNumber(int questionNumber) { this.questionNumber = questionNumber; }
+    
+    public TopicCategory getCategory() { return category; }
+    public void setCategory(TopicCategory category) { this.category = category; }
+    
+    public Double getMaxPoints() { return maxPoints; }
+    public void setMaxPoints(Double maxPoints) { this.maxPoints = maxPoints; }
+    
+    public int getRespondents() { return respondents; }
+    public void setRespondents(int respondents) { this.respondents = respondents; }
+    
+    public Double getDifficulty() { return difficulty; }
+    public void setDifficulty(Double difficulty) { this.difficulty = difficulty; }
+    
+    public Double getDiscrimination() { return discrimination; }
+    public void setDiscrimination(Double discrimination) { this.discrimination = discrimination; }
+    
+    @Override
+    public String toString() {
+        return "QuestionItemStatistics{" +
+                "questionId=" + questionId +
+                ", number=" + questionNumber +
+                ", category=" + category +
+                ", difficulty=" + difficulty +
+                ", discrimination=" + discrimination +
+                '}';
+    }
+}
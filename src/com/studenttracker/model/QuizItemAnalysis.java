@@ -0,0 +1,60 @@
+package com.studenttracker.model;
+
+import com.studenttracker.model.LessonTopic.TopicCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Question-level analysis of a graded quiz.
+ * Category reliability is Cronbach's alpha over the questions of that category;
+ * categories with fewer than two questions are omitted.
+ */
+public class QuizItemAnalysis {
+    private Integer quizId;
+    private int studentCount;
+    private List<QuestionItemStatistics> questions;
+    private Map<TopicCategory, Double> categoryReliability;
+    private LocalDateTime computedAt;
+    
+    // Constructors
+    public QuizItemAnalysis() {}
+    
+    public QuizItemAnalysis(Integer quizId, int studentCount,
+                            List<QuestionItemStatistics> questions,
+                            Map<TopicCategory, Double> categoryReliability,
+                            LocalDateTime computedAt) {
+        this.quizId = quizId;
+        this.studentCount = studentCount;
+        this.questions = questions;
+        this.categoryReliability = categoryReliability;
+        this.computedAt = computedAt;
+    }
+    
+    // Getters and Setters
+    public Integer getQuizId() { return quizId; }
+    public void setQuizId(Integer quizId) { this.quizId = quizId; }
+    
+    public int getStudentCount() { return studentCount; }
+    public void setStudentCount(int studentCount) { this.studentCount = studentCount; }
+    
+    public List<QuestionItemStatistics> getQuestions() { return questions; }
+    public void setQuestions(List<QuestionItemStatistics> questions) { this.questions = questions; }
+    
+    public Map<TopicCategory, Double> getCategoryReliability() { return categoryReliability; }
+    public void setCategoryReliability(Map<TopicCategory, Double> categoryReliability) { this.categoryReliability = categoryReliability; }
+    
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+    
+    @Override
+    public String toString() {
+        return "QuizItemAnalysis{" +
+                "quizId=" + quizId +
+                ", students=" + studentCount +
+                ", questions=" + (questions != null ? questions.size() : 0) +
+                ", reliability=" + categoryReliability +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.studenttracker.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Derived rows produced by a replay, written to the shadow tables together.
+ */
+public class ReplayBatch {
+    private final List<Fasee7Points> points = new ArrayList<>();
+    private final List<PerformanceIndicator> performanceIndicators = new ArrayList<>();
+    private final List<QuizCategoryTotal> categoryTotals = new ArrayList<>();
+    private final List<TargetAchievementStreak> streaks = new ArrayList<>();
+    private final List<ConsecutivityTracking> trackings = new ArrayList<>();
+
+    public List<Fasee7Points> getPoints() { return points; }
+
+    public List<PerformanceIndicator> getPerformanceIndicators() { return performanceIndicators; }
+
+    public List<QuizCategoryTotal> getCategoryTotals() { return categoryTotals; }
+
+    public List<TargetAchievementStreak> getStreaks() { return streaks; }
+
+    public List<ConsecutivityTracking> getTrackings() { return trackings; }
+
+    public int size() {
+        return points.size() + performanceIndicators.size() + categoryTotals.size()
+            + streaks.size() + trackings.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        points.clear();
+        performanceIndicators.clear();
+        categoryTotals.clear();
+        streaks.clear();
+        trackings.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayBatch{points=" + points.size() + ", performanceIndicators=" + performanceIndicators.size() +
+               ", categoryTotals=" + categoryTotals.size() + ", streaks=" + streaks.size() +
+               ", trackings=" + trackings.size() + "}";
+    }
+}
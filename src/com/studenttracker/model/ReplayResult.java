@@ -0,0 +1,60 @@
+package com.studenttracker.model;
+
+import java.util.Map;
+
+/**
+ * Outcome of a derived-table replay: how much was read and written, and how fast.
+ */
+public class ReplayResult {
+    private int students;
+    private long sourceRows;
+    private Map<String, Long> rowsByTable;
+    private int workers;
+    private long elapsedMs;
+    private long swapMs;
+
+    public ReplayResult() {}
+
+    public ReplayResult(int students, long sourceRows, Map<String, Long> rowsByTable,
+                        int workers, long elapsedMs, long swapMs) {
+        this.students = students;
+        this.sourceRows = sourceRows;
+        this.rowsByTable = rowsByTable;
+        this.workers = workers;
+        this.elapsedMs = elapsedMs;
+        this.swapMs = swapMs;
+    }
+
+    public int getStudents() { return students; }
+    public void setStudents(int students) { this.students = students; }
+
+    public long getSourceRows() { return sourceRows; }
+    public void setSourceRows(long sourceRows) { this.sourceRows = sourceRows; }
+
+    public Map<String, Long> getRowsByTable() { return rowsByTable; }
+    public void setRowsByTable(Map<String, Long> rowsByTable) { this.rowsByTable = rowsByTable; }
+
+    public int getWorkers() { return workers; }
+    public void setWorkers(int workers) { this.workers = workers; }
+
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+
+    public long getSwapMs() { return swapMs; }
+    public void setSwapMs(long swapMs) { this.swapMs = swapMs; }
+
+    public long getRowsWritten() {
+        return rowsByTable != null ? rowsByTable.values().stream().mapToLong(Long::longValue).sum() : 0;
+    }
+
+    public double getSourceRowsPerSecond() {
+        return elapsedMs > 0 ? sourceRows * 1000.0 / elapsedMs : sourceRows;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayResult{students=" + students + ", sourceRows=" + sourceRows +
+               ", rowsByTable=" + rowsByTable + ", workers=" + workers + ", elapsedMs=" + elapsedMs +
+               ", swapMs=" + swapMs + ", sourceRowsPerSecond=" + Math.round(getSourceRowsPerSecond()) + "}";
+    }
+}
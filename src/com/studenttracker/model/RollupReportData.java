@@ -0,0 +1,89 @@
+package com.studenttracker.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summary of several monthly reports (a term, a year or a custom range).
+ * Counts are summed over the months; point-in-time figures (active students,
+ * active targets, PI averages, Fasee7 rankings) come from the latest month.
+ */
+public class RollupReportData {
+    private String label;
+    private List<String> monthGroups;
+    private List<String> storedMonths;      // decoded from monthly_reports
+    private List<String> generatedMonths;   // no stored report, computed on demand
+    private int totalLessons;
+    private double overallAttendanceRate;   // weighted by lessons per month
+    private int quizzesCount;
+    private int studentsArchived;
+    private int totalActiveStudents;
+    private int warningsGenerated;
+    private int activeTargetsCount;
+    private int achievedTargetsCount;
+    private HomeworkSummary homeworkSummary;
+    private Map<String, Integer> behavioralIncidentsByType;
+    private PerformanceSummary latestPerformance;
+    private List<RankingEntry> latestTop10;
+    private LocalDateTime computedAt;
+
+    public RollupReportData() {}
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public List<String> getMonthGroups() { return monthGroups; }
+    public void setMonthGroups(List<String> monthGroups) { this.monthGroups = monthGroups; }
+
+    public List<String> getStoredMonths() { return storedMonths; }
+    public void setStoredMonths(List<String> storedMonths) { this.storedMonths = storedMonths; }
+
+    public List<String> getGeneratedMonths() { return generatedMonths; }
+    public void setGeneratedMonths(List<String> generatedMonths) { this.generatedMonths = generatedMonths; }
+
+    public int getTotalLessons() { return totalLessons; }
+    public void setTotalLessons(int totalLessons) { this.totalLessons = totalLessons; }
+
+    public double getOverallAttendanceRate() { return overallAttendanceRate; }
+    public void setOverallAttendanceRate(double overallAttendanceRate) { this.overallAttendanceRate = overallAttendanceRate; }
+
+    public int getQuizzesCount() { return quizzesCount; }
+    public void setQuizzesCount(int quizzesCount) { this.quizzesCount = quizzesCount; }
+
+    public int getStudentsArchived() { return studentsArchived; }
+    public void setStudentsArchived(int studentsArchived) { this.studentsArchived = studentsArchived; }
+
+    public int getTotalActiveStudents() { return totalActiveStudents; }
+    public void setTotalActiveStudents(int totalActiveStudents) { this.totalActiveStudents = totalActiveStudents; }
+
+    public int getWarningsGenerated() { return warningsGenerated; }
+    public void setWarningsGenerated(int warningsGenerated) { this.warningsGenerated = warningsGenerated; }
+
+    public int getActiveTargetsCount() { return activeTargetsCount; }
+    public void setActiveTargetsCount(int activeTargetsCount) { this.activeTargetsCount = activeTargetsCount; }
+
+    public int getAchievedTargetsCount() { return achievedTargetsCount; }
+    public void setAchievedTargetsCount(int achievedTargetsCount) { this.achievedTargetsCount = achievedTargetsCount; }
+
+    public HomeworkSummary getHomeworkSummary() { return homeworkSummary; }
+    public void setHomeworkSummary(HomeworkSummary homeworkSummary) { this.homeworkSummary = homeworkSummary; }
+
+    public Map<String, Integer> getBehavioralIncidentsByType() { return behavioralIncidentsByType; }
+    public void setBehavioralIncidentsByType(Map<String, Integer> behavioralIncidentsByType) { this.behavioralIncidentsByType = behavioralIncidentsByType; }
+
+    public PerformanceSummary getLatestPerformance() { return latestPerformance; }
+    public void setLatestPerformance(PerformanceSummary latestPerformance) { this.latestPerformance = latestPerformance; }
+
+    public List<RankingEntry> getLatestTop10() { return latestTop10; }
+    public void setLatestTop10(List<RankingEntry> latestTop10) { this.latestTop10 = latestTop10; }
+
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+
+    @Override
+    public String toString() {
+        return "RollupReportData{label='" + label + "', months=" + monthGroups +
+               ", generated=" + generatedMonths + ", lessons=" + totalLessons + "}";
+    }
+}
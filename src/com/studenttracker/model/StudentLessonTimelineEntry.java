@@ -0,0 +1,67 @@
+package com.studenttracker.model;
+
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.Homework.HomeworkStatus;
+
+import java.time.LocalDate;
+
+/**
+ * One lesson as seen by one student: topics, attendance, homework and quiz result.
+ * Statuses and quiz values are null when nothing was recorded.
+ */
+public class StudentLessonTimelineEntry {
+    private Integer lessonId;
+    private LocalDate lessonDate;
+    private String topics;
+    private AttendanceStatus attendanceStatus;
+    private HomeworkStatus homeworkStatus;
+    private Integer quizId;
+    private Double quizPointsEarned;
+    private Double quizTotalPoints;
+
+    // Constructors
+    public StudentLessonTimelineEntry() {}
+
+    // Getters and Setters
+    public Integer getLessonId() { return lessonId; }
+    public void setLessonId(Integer lessonId) { this.lessonId = lessonId; }
+
+    public LocalDate getLessonDate() { return lessonDate; }
+    public void setLessonDate(LocalDate lessonDate) { this.lessonDate = lessonDate; }
+
+    /** Specific topics joined with ", ", or null if the lesson has none. */
+    public String getTopics() { return topics; }
+    public void setTopics(String topics) { this.topics = topics; }
+
+    public AttendanceStatus getAttendanceStatus() { return attendanceStatus; }
+    public void setAttendanceStatus(AttendanceStatus attendanceStatus) { this.attendanceStatus = attendanceStatus; }
+
+    public HomeworkStatus getHomeworkStatus() { return homeworkStatus; }
+    public void setHomeworkStatus(HomeworkStatus homeworkStatus) { this.homeworkStatus = homeworkStatus; }
+
+    public Integer getQuizId() { return quizId; }
+    public void setQuizId(Integer quizId) { this.quizId = quizId; }
+
+    /** Sum of the student's points on the lesson quiz, or null if not graded. */
+    public Double getQuizPointsEarned() { return quizPointsEarned; }
+    public void setQuizPointsEarned(Double quizPointsEarned) { this.quizPointsEarned = quizPointsEarned; }
+
+    /** Sum of the quiz question points, or null if there is no quiz. */
+    public Double getQuizTotalPoints() { return quizTotalPoints; }
+    public void setQuizTotalPoints(Double quizTotalPoints) { this.quizTotalPoints = quizTotalPoints; }
+
+    public boolean isPresent() {
+        return attendanceStatus == AttendanceStatus.PRESENT;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentLessonTimelineEntry{" +
+                "lessonId=" + lessonId +
+                ", date=" + lessonDate +
+                ", attendance=" + attendanceStatus +
+                ", homework=" + homeworkStatus +
+                ", quiz=" + quizPointsEarned + "/" + quizTotalPoints +
+                '}';
+    }
+}
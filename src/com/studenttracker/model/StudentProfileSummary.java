@@ -0,0 +1,64 @@
+package com.studenttracker.model;
+
+/**
+ * Counts and Fasee7 standing shown on the student profile, read in one query.
+ */
+public class StudentProfileSummary {
+    private Integer studentId;
+    private int presentCount;
+    private int absentCount;
+    private int consecutiveAbsences;
+    private int activeWarningCount;
+    private Fasee7Points points;
+    private int rank;
+
+    // Constructors
+    public StudentProfileSummary() {}
+
+    // Getters and Setters
+    public Integer getStudentId() { return studentId; }
+    public void setStudentId(Integer studentId) { this.studentId = studentId; }
+
+    public int getPresentCount() { return presentCount; }
+    public void setPresentCount(int presentCount) { this.presentCount = presentCount; }
+
+    public int getAbsentCount() { return absentCount; }
+    public void setAbsentCount(int absentCount) { this.absentCount = absentCount; }
+
+    /** Current run of absences, as tracked for absence warnings. */
+    public int getConsecutiveAbsences() { return consecutiveAbsences; }
+    public void setConsecutiveAbsences(int consecutiveAbsences) { this.consecutiveAbsences = consecutiveAbsences; }
+
+    public int getActiveWarningCount() { return activeWarningCount; }
+    public void setActiveWarningCount(int activeWarningCount) { this.activeWarningCount = activeWarningCount; }
+
+    /** Fasee7 points, or null if the student has no points record. */
+    public Fasee7Points getPoints() { return points; }
+    public void setPoints(Fasee7Points points) { this.points = points; }
+
+    /** 1-based Fasee7 rank among active students, or -1 if not ranked. */
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+
+    // Derived values
+    public int getTotalLessons() {
+        return presentCount + absentCount;
+    }
+
+    public double getAttendanceRate() {
+        int total = getTotalLessons();
+        return total > 0 ? (presentCount * 100.0 / total) : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentProfileSummary{" +
+                "studentId=" + studentId +
+                ", present=" + presentCount +
+                ", absent=" + absentCount +
+                ", consecutiveAbsences=" + consecutiveAbsences +
+                ", warnings=" + activeWarningCount +
+                ", rank=" + rank +
+                '}';
+    }
+}
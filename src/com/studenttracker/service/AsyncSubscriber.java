@@ -0,0 +1,19 @@
+package com.studenttracker.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a subscriber class whose @Subscribe handlers may run off the
+ * publisher's thread. EventBusService delivers its events on a worker thread,
+ * one at a time and in publish order. Subscribers without this annotation
+ * are still called synchronously.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsyncSubscriber {
+}
@@ -0,0 +1,84 @@
+package com.studenttracker.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * How the event bus coalesces bursts of one event type.
+ * Events are grouped by key; a group is flushed once no event for that key
+ * has arrived for {@code windowMs}, or at the latest {@code maxDelayMs} after
+ * its first event. The flushed group is reduced to a single event which is
+ * then delivered to subscribers instead of the originals.
+ *
+ * @param <E> Coalesced event type
+ */
+public final class CoalescingPolicy<E> {
+
+    private final Function<? super E, ?> keyFunction;
+    private final Function<List<E>, ?> reducer;
+    private final long windowMs;
+    private final long maxDelayMs;
+
+    private CoalescingPolicy(Function<? super E, ?> keyFunction, Function<List<E>, ?> reducer,
+                             long windowMs, long maxDelayMs) {
+        if (windowMs <= 0 || maxDelayMs < windowMs) {
+            throw new IllegalArgumentException("Invalid coalescing window: " + windowMs + "/" + maxDelayMs + " ms");
+        }
+        this.keyFunction = Objects.requireNonNull(keyFunction);
+        this.reducer = Objects.requireNonNull(reducer);
+        this.windowMs = windowMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    // ========== Factories ==========
+
+    /**
+     * Deliver only the last event per key; earlier ones are superseded.
+     */
+    public static <E> CoalescingPolicy<E> latestByKey(Function<? super E, ?> keyFunction,
+                                                      long windowMs, long maxDelayMs) {
+        return new CoalescingPolicy<>(keyFunction, events -> events.get(events.size() - 1),
+            windowMs, maxDelayMs);
+    }
+
+    /**
+     * Fold events with the same key into one event of the same type.
+     */
+    public static <E> CoalescingPolicy<E> mergeByKey(Function<? super E, ?> keyFunction,
+                                                     BinaryOperator<E> merger,
+                                                     long windowMs, long maxDelayMs) {
+        Objects.requireNonNull(merger);
+        return new CoalescingPolicy<>(keyFunction, events -> events.stream().reduce(merger).orElseThrow(),
+            windowMs, maxDelayMs);
+    }
+
+    /**
+     * Replace events with the same key by one summary event (usually of another type).
+     * Events are passed to the summarizer in publish order.
+     */
+    public static <E> CoalescingPolicy<E> summarizeByKey(Function<? super E, ?> keyFunction,
+                                                         Function<List<E>, ?> summarizer,
+                                                         long windowMs, long maxDelayMs) {
+        return new CoalescingPolicy<>(keyFunction, summarizer, windowMs, maxDelayMs);
+    }
+
+    // ========== Accessors ==========
+
+    Object keyOf(E event) {
+        return keyFunction.apply(event);
+    }
+
+    Object reduce(List<E> events) {
+        return reducer.apply(events);
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+}
@@ -0,0 +1,166 @@
+package com.studenttracker.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters kept by {@link EventBusService}.
+ * Recording is lock-free (one map lookup plus adders), so metrics stay on.
+ * Subscribers and events are identified by simple class name.
+ */
+public final class EventBusMetrics {
+
+    private final Map<Class<?>, LongAdder> published = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> deadEvents = new ConcurrentHashMap<>();
+    private final Map<HandlerKey, HandlerCounters> handlers = new ConcurrentHashMap<>();
+    private volatile LocalDateTime since = LocalDateTime.now();
+
+    EventBusMetrics() {
+    }
+
+    // ========== Recording ==========
+
+    void recordPublished(Class<?> eventType) {
+        published.computeIfAbsent(eventType, k -> new LongAdder()).increment();
+    }
+
+    void recordDeadEvent(Class<?> eventType) {
+        deadEvents.computeIfAbsent(eventType, k -> new LongAdder()).increment();
+    }
+
+    void recordHandler(Class<?> subscriberType, Class<?> eventType, long nanos) {
+        counters(subscriberType, eventType).record(nanos);
+    }
+
+    void recordException(Class<?> subscriberType, Class<?> eventType) {
+        counters(subscriberType, eventType).exceptions.increment();
+    }
+
+    void reset() {
+        published.clear();
+        deadEvents.clear();
+        handlers.clear();
+        since = LocalDateTime.now();
+    }
+
+    private HandlerCounters counters(Class<?> subscriberType, Class<?> eventType) {
+        return handlers.computeIfAbsent(new HandlerKey(subscriberType, eventType), k -> new HandlerCounters());
+    }
+
+    // ========== Snapshot ==========
+
+    Snapshot snapshot(Map<String, Integer> queueDepths, Map<String, Integer> queueHighWater, int coalescedPending) {
+        List<HandlerStats> handlerStats = new ArrayList<>();
+        handlers.forEach((key, counters) -> handlerStats.add(new HandlerStats(
+            key.subscriberType.getSimpleName(), key.eventType.getSimpleName(),
+            counters.invocations.sum(), counters.totalNanos.sum(), counters.maxNanos.get(),
+            counters.exceptions.sum())));
+        handlerStats.sort(Comparator.comparingLong(HandlerStats::totalNanos).reversed());
+
+        return new Snapshot(since, LocalDateTime.now(), byName(published), byName(deadEvents),
+            Collections.unmodifiableList(handlerStats), new TreeMap<>(queueDepths),
+            new TreeMap<>(queueHighWater), coalescedPending);
+    }
+
+    private static Map<String, Long> byName(Map<Class<?>, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((type, count) -> result.merge(type.getSimpleName(), count.sum(), Long::sum));
+        return result;
+    }
+
+    /**
+     * Point-in-time copy of the event bus counters.
+     */
+    public record Snapshot(LocalDateTime since,
+                           LocalDateTime capturedAt,
+                           Map<String, Long> publishedByType,
+                           Map<String, Long> deadEventsByType,
+                           List<HandlerStats> handlers,
+                           Map<String, Integer> queueDepths,
+                           Map<String, Integer> queueHighWater,
+                           int coalescedPending) {
+
+        public long getTotalPublished() {
+            return publishedByType.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long getTotalExceptions() {
+            return handlers.stream().mapToLong(HandlerStats::exceptions).sum();
+        }
+
+        /**
+         * Plain-text report, slowest handlers (by total time) first.
+         */
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Event bus metrics ").append(since).append(" .. ").append(capturedAt).append('\n');
+            sb.append("Published: ").append(getTotalPublished())
+              .append(", handler exceptions: ").append(getTotalExceptions())
+              .append(", coalesced pending: ").append(coalescedPending).append('\n');
+
+            sb.append("\n[published]\n");
+            publishedByType.forEach((type, count) -> sb.append(String.format("%-40s %10d%n", type, count)));
+
+            sb.append("\n[handlers]\n");
+            sb.append(String.format("%-60s %10s %10s %10s %10s %6s%n",
+                "subscriber#event", "calls", "total ms", "avg us", "max ms", "errors"));
+            for (HandlerStats h : handlers) {
+                sb.append(String.format("%-60s %10d %10.1f %10.1f %10.1f %6d%n",
+                    h.subscriber() + "#" + h.eventType(), h.invocations(),
+                    h.totalNanos() / 1e6, h.getAverageMicros(), h.maxNanos() / 1e6, h.exceptions()));
+            }
+
+            sb.append("\n[async queues]\n");
+            queueDepths.forEach((subscriber, depth) -> sb.append(String.format("%-40s depth %6d  high %6d%n",
+                subscriber, depth, queueHighWater.getOrDefault(subscriber, 0))));
+
+            if (!deadEventsByType.isEmpty()) {
+                sb.append("\n[dead events]\n");
+                deadEventsByType.forEach((type, count) -> sb.append(String.format("%-40s %10d%n", type, count)));
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Invocation statistics of one subscriber for one event type.
+     */
+    public record HandlerStats(String subscriber,
+                               String eventType,
+                               long invocations,
+                               long totalNanos,
+                               long maxNanos,
+                               long exceptions) {
+
+        public double getAverageMicros() {
+            return invocations == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos) / (double) invocations;
+        }
+    }
+
+    // ========== Internals ==========
+
+    private record HandlerKey(Class<?> subscriberType, Class<?> eventType) {
+    }
+
+    private static final class HandlerCounters {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder exceptions = new LongAdder();
+
+        private void record(long nanos) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+}
@@ -1,38 +1,653 @@
 package com.studenttracker.service;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.studenttracker.service.event.AttendanceMarkedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
 import com.studenttracker.service.event.Event;
+import com.studenttracker.service.event.HomeworkRecordedEvent;
+import com.studenttracker.service.event.HomeworkRecordedSummaryEvent;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Application event bus.
+ * Subscribers are called synchronously on the publisher's thread unless they
+ * are registered in ASYNC mode (or annotated with {@link AsyncSubscriber}).
+ * Async subscribers get their own queue drained on a shared bounded pool, so
+ * each one sees its events one at a time and in publish order. When a queue
+ * is full the publisher blocks until the subscriber catches up.
+ * Event types with a {@link CoalescingPolicy} are buffered per key and
+ * delivered as one event once the burst is over.
+ * Every subscriber is dispatched through its own channel, which is where
+ * handler latency and exceptions are recorded (see {@link EventBusMetrics}).
+ * Handler methods are compiled once per subscriber class (see
+ * {@link EventHandlerRegistry}) and the handlers for an event type are
+ * resolved into arrays on first publish, so routing takes no locks and
+ * handlers are called without reflection. As with Guava, a handler is only
+ * called concurrently if it is annotated with @AllowConcurrentEvents.
+ */
 public class EventBusService 
 {
+    private static final Logger LOGGER = Logger.getLogger(EventBusService.class.getName());
+    
+    /** Threads shared by all async subscribers. */
+    private static final int ASYNC_WORKERS = 4;
+    /** Pending events per async subscriber before publishers block. */
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = 1_000;
+    private static final long BACKPRESSURE_WARN_MS = 500;
+    /** Quiet period and upper bound for the default per-lesson coalescing. */
+    private static final long MARKING_WINDOW_MS = 250;
+    private static final long MARKING_MAX_DELAY_MS = 2_000;
+    
+    public enum DispatchMode {
+        SYNC, ASYNC
+    }
+    
+    /** Outcome of {@link #publishAndWait(Object, long)}. */
+    public enum DeliveryOutcome {
+        /** Every subscriber handled the event without throwing. */
+        DELIVERED,
+        /** A subscriber threw; the others still ran. */
+        FAILED,
+        /** Async subscribers did not finish in time. */
+        TIMED_OUT
+    }
+    
     private static final EventBusService instance = new EventBusService();
-    private static final EventBus eventBus = new EventBus();
-
+    
+    private final ExecutorService asyncPool = Executors.newFixedThreadPool(ASYNC_WORKERS,
+        Thread.ofPlatform().name("event-async-", 0).daemon(true).factory());
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("event-bus-scheduler").daemon(true).factory());
+    private final EventBusMetrics metrics = new EventBusMetrics();
+    private volatile RoutingTable routing = new RoutingTable(List.of());
+    private final Map<Class<?>, CoalescingPolicy<?>> coalescingPolicies = new ConcurrentHashMap<>();
+    private final Map<BatchKey, PendingBatch> pendingBatches = new HashMap<>();
+    private final ThreadLocal<Deque<SyncDispatch>> syncQueue = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> syncDispatching = ThreadLocal.withInitial(() -> false);
+    private volatile Path metricsDumpFile;
+    private volatile boolean closed;
+    private volatile boolean coalescingStopped;
+    
+    private EventBusService() {
+        // Bulk marking publishes one event per student; subscribers get one per lesson
+        setCoalescingPolicy(AttendanceMarkedEvent.class, CoalescingPolicy.summarizeByKey(
+            AttendanceMarkedEvent::getLessonId, AttendanceMarkedSummaryEvent::of,
+            MARKING_WINDOW_MS, MARKING_MAX_DELAY_MS));
+        setCoalescingPolicy(HomeworkRecordedEvent.class, CoalescingPolicy.summarizeByKey(
+            HomeworkRecordedEvent::getLessonId, HomeworkRecordedSummaryEvent::of,
+            MARKING_WINDOW_MS, MARKING_MAX_DELAY_MS));
+    }
+    
     public static synchronized EventBusService getInstance() {
         return instance;
     }
-
+    
     // Publish event
     public void publish(Object event) {
         if (event == null || event instanceof Event == false) {
             return;
         }
-        eventBus.post(event);
+        CoalescingPolicy<?> policy = coalescingPolicies.get(event.getClass());
+        if (policy != null && !coalescingStopped) {
+            coalesce(event, policy);
+            return;
+        }
+        deliver(event);
+    }
+    
+    /**
+     * Publish without coalescing and wait until async subscribers have handled the event.
+     * Sync subscribers have run when this returns, as with {@link #publish(Object)}.
+     * 
+     * @param event Event to publish
+     * @param timeoutMs Maximum time to wait for async subscribers
+     * @return FAILED if any subscriber threw, TIMED_OUT if async subscribers
+     *         did not finish in time, DELIVERED otherwise
+     */
+    public DeliveryOutcome publishAndWait(Object event, long timeoutMs) {
+        if (event == null || event instanceof Event == false) {
+            return DeliveryOutcome.DELIVERED;
+        }
+        Route route = routing.routeFor(event.getClass());
+        Delivery delivery = new Delivery(route.async.length);
+        deliver(event, route, delivery);
+        try {
+            if (!delivery.done.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                return DeliveryOutcome.TIMED_OUT;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DeliveryOutcome.TIMED_OUT;
+        }
+        return delivery.failed ? DeliveryOutcome.FAILED : DeliveryOutcome.DELIVERED;
+    }
+    
+    private void deliver(Object event) {
+        deliver(event, routing.routeFor(event.getClass()), null);
+    }
+    
+    private void deliver(Object event, Route route, Delivery delivery) {
+        metrics.recordPublished(event.getClass());
+        
+        if (route.isEmpty()) {
+            metrics.recordDeadEvent(event.getClass());
+            Route deadRoute = routing.routeFor(DeadEvent.class);
+            if (!deadRoute.isEmpty()) {
+                dispatch(new DeadEvent(this, event), deadRoute, null);
+            }
+            return;
+        }
+        dispatch(event, route, delivery);
+    }
+    
+    private void dispatch(Object event, Route route, Delivery delivery) {
+        for (Target target : route.async) {
+            ((AsyncChannel) target.channel).dispatch(event, target.handlers, closed, delivery);
+        }
+        if (route.sync.length == 0) {
+            return;
+        }
+        
+        // Events published by a sync handler wait until the current event has
+        // reached all its sync subscribers (same order as Guava's default bus)
+        Deque<SyncDispatch> queue = syncQueue.get();
+        queue.add(new SyncDispatch(event, route.sync, delivery));
+        if (syncDispatching.get()) {
+            return;
+        }
+        syncDispatching.set(true);
+        try {
+            SyncDispatch next;
+            while ((next = queue.poll()) != null) {
+                // Each handler's end time is the next one's start time
+                long now = System.nanoTime();
+                for (Target target : next.targets) {
+                    now = target.channel.post(next.event, target.handlers, now, next.delivery);
+                }
+            }
+        } finally {
+            syncDispatching.set(false);
+            queue.clear();
+        }
+    }
+    
+    /**
+     * Coalesce events of exactly this type from now on (null removes the policy).
+     * Events already buffered are still flushed under the old policy.
+     */
+    public <E extends Event> void setCoalescingPolicy(Class<E> eventType, CoalescingPolicy<? super E> policy) {
+        if (policy == null) {
+            coalescingPolicies.remove(eventType);
+        } else {
+            coalescingPolicies.put(eventType, policy);
+        }
     }
     
-    // Register subscriber
+    // Register subscriber (async if its class is annotated with @AsyncSubscriber)
     public void register(Object subscriber) {
         if (subscriber == null) {
             return;
         }
-        eventBus.register(subscriber);
+        register(subscriber, subscriber.getClass().isAnnotationPresent(AsyncSubscriber.class)
+            ? DispatchMode.ASYNC : DispatchMode.SYNC);
+    }
+    
+    // Register subscriber with an explicit dispatch mode (registering twice has no effect)
+    public synchronized void register(Object subscriber, DispatchMode mode) {
+        if (subscriber == null || routing.find(subscriber) != null) {
+            return;
+        }
+        List<Channel> channels = new ArrayList<>(routing.channels);
+        channels.add(mode == DispatchMode.ASYNC ? new AsyncChannel(subscriber) : new Channel(subscriber));
+        routing = new RoutingTable(channels);
     }
     
     // Unregister subscriber
-    public void unregister(Object subscriber) {
-        if (subscriber == null) {
+    public synchronized void unregister(Object subscriber) {
+        Channel channel = routing.find(subscriber);
+        if (channel == null) {
+            return;
+        }
+        List<Channel> channels = new ArrayList<>(routing.channels);
+        channels.remove(channel);
+        routing = new RoutingTable(channels);
+    }
+    
+    /**
+     * Number of events waiting in async subscriber queues.
+     */
+    public int getPendingAsyncEvents() {
+        int pending = 0;
+        for (Channel channel : routing.channels) {
+            if (channel instanceof AsyncChannel async) {
+                pending += async.pending.get();
+            }
+        }
+        return pending;
+    }
+    
+    /**
+     * Number of coalesced events waiting for their window to close.
+     */
+    public int getPendingCoalescedEvents() {
+        synchronized (pendingBatches) {
+            int pending = 0;
+            for (PendingBatch batch : pendingBatches.values()) {
+                pending += batch.events.size();
+            }
+            return pending;
+        }
+    }
+    
+    /**
+     * Deliver every coalesced batch now, without waiting for its window.
+     */
+    public void flushCoalesced() {
+        List<BatchKey> keys;
+        synchronized (pendingBatches) {
+            keys = new ArrayList<>(pendingBatches.keySet());
+        }
+        for (BatchKey key : keys) {
+            flush(key);
+        }
+    }
+    
+    /**
+     * Flush coalesced events, drain async subscriber queues and stop the worker pool.
+     * Events published afterwards are delivered synchronously and are not coalesced.
+     *
+     * @param timeoutMs Maximum time to wait for queued events
+     * @return true if every queued event was delivered in time
+     */
+    public boolean shutdown(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (pendingBatches) {
+            coalescingStopped = true;
+        }
+        scheduler.shutdownNow();
+        flushCoalesced();
+        
+        boolean drained = true;
+        try {
+            while (getPendingAsyncEvents() > 0) {
+                if (System.nanoTime() >= deadline) {
+                    drained = false;
+                    LOGGER.warning("Event bus shutdown timed out with " + getPendingAsyncEvents() + " pending event(s)");
+                    break;
+                }
+                Thread.sleep(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        
+        closed = true;
+        asyncPool.shutdown();
+        dumpMetrics();
+        return drained;
+    }
+    
+    // ========== Metrics ==========
+    
+    /**
+     * Current counters: publishes per event type, handler latency and
+     * exceptions per (subscriber, event type), async queue depths and dead events.
+     */
+    public EventBusMetrics.Snapshot getMetricsSnapshot() {
+        Map<String, Integer> depths = new HashMap<>();
+        Map<String, Integer> highWater = new HashMap<>();
+        for (Channel channel : routing.channels) {
+            if (channel instanceof AsyncChannel async) {
+                String name = async.subscriber.getClass().getSimpleName();
+                depths.merge(name, async.pending.get(), Integer::sum);
+                highWater.merge(name, async.highWater.get(), Math::max);
+            }
+        }
+        return metrics.snapshot(depths, highWater, getPendingCoalescedEvents());
+    }
+    
+    public void resetMetrics() {
+        metrics.reset();
+    }
+    
+    /**
+     * Periodically overwrite a local file with the formatted metrics snapshot.
+     * The file is also written once more on shutdown.
+     *
+     * @param file Target file (parent directories are created)
+     * @param intervalMs Time between dumps
+     */
+    public synchronized void startMetricsDump(Path file, long intervalMs) {
+        if (metricsDumpFile != null || file == null || intervalMs <= 0) {
+            return;
+        }
+        metricsDumpFile = file;
+        scheduler.scheduleAtFixedRate(this::dumpMetrics, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    private void dumpMetrics() {
+        Path file = metricsDumpFile;
+        if (file == null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(tmp, getMetricsSnapshot().format());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to write event bus metrics to " + file, e);
+        }
+    }
+    
+    private void handleSubscriberException(Throwable exception, Object subscriber, Object event, Method method,
+                                           Delivery delivery) {
+        if (delivery != null) {
+            delivery.failed = true;
+        }
+        metrics.recordException(subscriber.getClass(), event.getClass());
+        LOGGER.log(Level.SEVERE, "Exception thrown by subscriber method " + method.getDeclaringClass().getSimpleName()
+            + "." + method.getName() + " when dispatching " + event, exception);
+    }
+    
+    // ========== Coalescing ==========
+    
+    private void coalesce(Object event, CoalescingPolicy<?> policy) {
+        @SuppressWarnings("unchecked")
+        CoalescingPolicy<Object> typed = (CoalescingPolicy<Object>) policy;
+        BatchKey key = new BatchKey(event.getClass(), typed.keyOf(event));
+        
+        synchronized (pendingBatches) {
+            // Checked again under the lock: once shutdown() has flushed, nothing would deliver a new batch
+            if (!coalescingStopped) {
+                PendingBatch batch = pendingBatches.computeIfAbsent(key, k -> new PendingBatch(typed));
+                batch.events.add(event);
+                if (batch.timer != null) {
+                    batch.timer.cancel(false);
+                }
+                // Restart the quiet period, but never past the batch's max delay
+                long remainingMs = batch.policy.getMaxDelayMs()
+                    - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.startedAt);
+                long delayMs = Math.max(0, Math.min(batch.policy.getWindowMs(), remainingMs));
+                try {
+                    batch.timer = scheduler.schedule(() -> flush(key), delayMs, TimeUnit.MILLISECONDS);
+                } catch (RuntimeException e) {
+                    // Scheduler rejected the timer: flushCoalesced() delivers whatever is buffered
+                    batch.timer = null;
+                }
+                return;
+            }
+        }
+        deliver(event);
+    }
+    
+    private void flush(BatchKey key) {
+        PendingBatch batch;
+        synchronized (pendingBatches) {
+            batch = pendingBatches.remove(key);
+        }
+        if (batch == null) {
             return;
         }
-        eventBus.unregister(subscriber);
+        try {
+            // Straight to subscribers: publish() would coalesce a same-type result again
+            Object reduced = batch.policy.reduce(batch.events);
+            if (reduced != null) {
+                deliver(reduced);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to deliver coalesced " + key.type.getSimpleName()
+                + " batch of " + batch.events.size() + " event(s)", e);
+        }
+    }
+    
+    private record BatchKey(Class<?> type, Object key) {
+    }
+    
+    private static final class PendingBatch {
+        private final CoalescingPolicy<Object> policy;
+        private final List<Object> events = new ArrayList<>();
+        private final long startedAt = System.nanoTime();
+        private ScheduledFuture<?> timer;
+        
+        private PendingBatch(CoalescingPolicy<Object> policy) {
+            this.policy = policy;
+        }
+    }
+    
+    // ========== Routing ==========
+    
+    private record SyncDispatch(Object event, Target[] targets, Delivery delivery) {
+    }
+    
+    /**
+     * One publishAndWait call: async subscribers still running, and whether
+     * any handler threw. Null for plain publishes.
+     */
+    private static final class Delivery {
+        private final CountDownLatch done;
+        private volatile boolean failed;
+        
+        private Delivery(int asyncTargets) {
+            this.done = new CountDownLatch(asyncTargets);
+        }
+    }
+    
+    /** A channel and its handlers for one event type. */
+    private record Target(Channel channel, Binding[] handlers) {
+    }
+    
+    private record Route(Target[] sync, Target[] async) {
+        private boolean isEmpty() {
+            return sync.length == 0 && async.length == 0;
+        }
+    }
+    
+    /**
+     * Immutable subscriber list plus a per-event-type route cache.
+     * Registration swaps in a new table, so the cache never goes stale.
+     */
+    private static final class RoutingTable {
+        private final List<Channel> channels;
+        private final Map<Class<?>, Route> routes = new ConcurrentHashMap<>();
+        
+        private RoutingTable(List<Channel> channels) {
+            this.channels = List.copyOf(channels);
+        }
+        
+        private Route routeFor(Class<?> eventType) {
+            Route route = routes.get(eventType);
+            return route != null ? route : routes.computeIfAbsent(eventType, type -> {
+                List<Target> sync = new ArrayList<>();
+                List<Target> async = new ArrayList<>();
+                for (Channel channel : channels) {
+                    Binding[] handlers = channel.handlersFor(type);
+                    if (handlers.length > 0) {
+                        (channel instanceof AsyncChannel ? async : sync).add(new Target(channel, handlers));
+                    }
+                }
+                return new Route(sync.toArray(new Target[0]), async.toArray(new Target[0]));
+            });
+        }
+        
+        private Channel find(Object subscriber) {
+            for (Channel channel : channels) {
+                if (channel.subscriber == subscriber) {
+                    return channel;
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * A compiled handler bound to one subscriber instance. The monitor
+     * serializes calls unless the method allows concurrent events.
+     */
+    private record Binding(EventHandlerRegistry.Handler handler, Object monitor) {
+    }
+    
+    /**
+     * One subscriber and its compiled @Subscribe handlers.
+     * Posts are timed per event type.
+     */
+    private class Channel {
+        final Object subscriber;
+        private final Binding[] bindings;
+        
+        private Channel(Object subscriber) {
+            this.subscriber = subscriber;
+            EventHandlerRegistry.Handler[] handlers = EventHandlerRegistry.handlersOf(subscriber.getClass());
+            this.bindings = new Binding[handlers.length];
+            for (int i = 0; i < handlers.length; i++) {
+                bindings[i] = new Binding(handlers[i], handlers[i].isConcurrent() ? null : new Object());
+            }
+        }
+        
+        /**
+         * Handlers accepting an event type, most specific parameter type first.
+         */
+        private Binding[] handlersFor(Class<?> eventType) {
+            List<Binding> matching = new ArrayList<>();
+            for (Binding binding : bindings) {
+                if (binding.handler.accepts(eventType)) {
+                    matching.add(binding);
+                }
+            }
+            matching.sort((a, b) -> Integer.compare(b.handler.getEventTypeDepth(), a.handler.getEventTypeDepth()));
+            return matching.toArray(new Binding[0]);
+        }
+        
+        /**
+         * Run the handlers and record their latency.
+         * @param start nanoTime taken just before the call
+         * @param delivery Tracker to flag handler failures on (may be null)
+         * @return nanoTime taken after the handlers returned
+         */
+        long post(Object event, Binding[] handlers, long start, Delivery delivery) {
+            for (Binding binding : handlers) {
+                invoke(binding, event, delivery);
+            }
+            long end = System.nanoTime();
+            metrics.recordHandler(subscriber.getClass(), event.getClass(), end - start);
+            return end;
+        }
+        
+        private void invoke(Binding binding, Object event, Delivery delivery) {
+            try {
+                if (binding.monitor == null) {
+                    binding.handler.invoke(subscriber, event);
+                } else {
+                    synchronized (binding.monitor) {
+                        binding.handler.invoke(subscriber, event);
+                    }
+                }
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                handleSubscriberException(e, subscriber, event, binding.handler.getMethod(), delivery);
+            }
+        }
+    }
+    
+    /**
+     * Queue of one async subscriber.
+     * Posts run on a sequential executor over the shared pool, which keeps order.
+     */
+    private final class AsyncChannel extends Channel {
+        private static final ThreadLocal<AsyncChannel> DRAINING = new ThreadLocal<>();
+        
+        private final Executor sequential = MoreExecutors.newSequentialExecutor(asyncPool);
+        private final Semaphore capacity = new Semaphore(SUBSCRIBER_QUEUE_CAPACITY);
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger highWater = new AtomicInteger();
+        
+        private AsyncChannel(Object subscriber) {
+            super(subscriber);
+        }
+        
+        private void dispatch(Object event, Binding[] handlers, boolean inline, Delivery delivery) {
+            if (inline) {
+                post(event, handlers, System.nanoTime(), delivery);
+                countDown(delivery);
+                return;
+            }
+            
+            // A handler publishing to its own queue must not wait on itself
+            boolean acquired = DRAINING.get() != this;
+            if (acquired) {
+                acquire();
+            }
+            highWater.accumulateAndGet(pending.incrementAndGet(), Math::max);
+            try {
+                sequential.execute(() -> {
+                    DRAINING.set(this);
+                    try {
+                        post(event, handlers, System.nanoTime(), delivery);
+                    } finally {
+                        DRAINING.remove();
+                        pending.decrementAndGet();
+                        if (acquired) {
+                            capacity.release();
+                        }
+                        countDown(delivery);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Pool already stopped: deliver on the caller's thread
+                pending.decrementAndGet();
+                if (acquired) {
+                    capacity.release();
+                }
+                post(event, handlers, System.nanoTime(), delivery);
+                countDown(delivery);
+            }
+        }
+        
+        private static void countDown(Delivery delivery) {
+            if (delivery != null) {
+                delivery.done.countDown();
+            }
+        }
+        
+        private void acquire() {
+            try {
+                if (!capacity.tryAcquire(BACKPRESSURE_WARN_MS, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warning("Event queue of " + subscriber.getClass().getSimpleName()
+                        + " is full; publisher is waiting");
+                    capacity.acquire();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for event queue capacity", e);
+            }
+        }
     }
 }
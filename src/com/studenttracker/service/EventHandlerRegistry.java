@@ -0,0 +1,209 @@
+package com.studenttracker.service;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Compiled @Subscribe handlers per subscriber class.
+ * A class is scanned once; each handler method is bound to a generated
+ * BiConsumer (LambdaMetafactory), so dispatch is an interface call rather
+ * than Method.invoke. Discovery follows Guava's EventBus rules: methods
+ * declared on the class or any supertype, exactly one non-primitive
+ * parameter, an overridden method counted once.
+ */
+final class EventHandlerRegistry {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Handler[]> HANDLERS = new ClassValue<>() {
+        @Override
+        protected Handler[] computeValue(Class<?> subscriberType) {
+            return compile(subscriberType);
+        }
+    };
+
+    private EventHandlerRegistry() {
+    }
+
+    /**
+     * Handlers declared by a subscriber class (compiled on first use).
+     * @throws IllegalArgumentException if a @Subscribe method has an invalid signature
+     */
+    static Handler[] handlersOf(Class<?> subscriberType) {
+        return HANDLERS.get(subscriberType);
+    }
+
+    /**
+     * One @Subscribe method bound to a generated invoker.
+     */
+    static final class Handler {
+        private final Method method;
+        private final Class<?> eventType;
+        private final int eventTypeDepth;
+        private final boolean concurrent;
+        private final BiConsumer<Object, Object> invoker;
+
+        private Handler(Method method, BiConsumer<Object, Object> invoker) {
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.eventTypeDepth = depth(eventType);
+            this.concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class);
+            this.invoker = invoker;
+        }
+
+        /**
+         * Call the handler. Checked exceptions thrown by the method pass through unwrapped.
+         */
+        void invoke(Object subscriber, Object event) {
+            invoker.accept(subscriber, event);
+        }
+
+        Method getMethod() {
+            return method;
+        }
+
+        boolean accepts(Class<?> type) {
+            return eventType.isAssignableFrom(type);
+        }
+
+        /**
+         * Length of the longest supertype chain of the parameter type; a subtype
+         * always ranks deeper than its supertypes.
+         */
+        int getEventTypeDepth() {
+            return eventTypeDepth;
+        }
+
+        /**
+         * True if the method is annotated with @AllowConcurrentEvents; otherwise
+         * calls on one subscriber instance must be serialized, as Guava does.
+         */
+        boolean isConcurrent() {
+            return concurrent;
+        }
+    }
+
+    // ========== Compilation ==========
+
+    private static Handler[] compile(Class<?> subscriberType) {
+        Set<String> seen = new LinkedHashSet<>();
+        List<Handler> handlers = new ArrayList<>();
+        for (Class<?> type : supertypes(subscriberType)) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length != 1) {
+                    throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+                        + parameterTypes.length + " parameters. Subscriber methods must have exactly 1 parameter.");
+                }
+                if (parameterTypes[0].isPrimitive()) {
+                    throw new IllegalArgumentException("@Subscribe method " + method + "'s parameter is "
+                        + parameterTypes[0].getName() + ". Subscriber methods cannot accept primitives.");
+                }
+                // Subclass declarations come first, so an override hides the method it overrides
+                if (seen.add(method.getName() + Arrays.toString(parameterTypes))) {
+                    handlers.add(new Handler(method, bind(method)));
+                }
+            }
+        }
+        return handlers.toArray(new Handler[0]);
+    }
+
+    /**
+     * The class, its superclasses and every interface, each once, subclasses first.
+     */
+    private static Set<Class<?>> supertypes(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> next = pending.poll();
+            if (!types.add(next)) {
+                continue;
+            }
+            if (next.getSuperclass() != null) {
+                pending.add(next.getSuperclass());
+            }
+            pending.addAll(Arrays.asList(next.getInterfaces()));
+        }
+        return types;
+    }
+
+    private static int depth(Class<?> type) {
+        int depth = 0;
+        if (type.getSuperclass() != null) {
+            depth = depth(type.getSuperclass()) + 1;
+        }
+        for (Class<?> iface : type.getInterfaces()) {
+            depth = Math.max(depth, depth(iface) + 1);
+        }
+        return depth;
+    }
+
+    /**
+     * Spin a BiConsumer that calls the method directly. Falls back to an
+     * exact-typed MethodHandle when the lambda cannot be generated (e.g. the
+     * declaring class is hidden or not accessible from here).
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> bind(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandle target;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return bindHandle(method);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class),
+                INVOKER_TYPE,
+                target,
+                MethodType.methodType(void.class, owner, method.getParameterTypes()[0]));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return bindHandle(method);
+        }
+    }
+
+    private static BiConsumer<Object, Object> bindHandle(Method method) {
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access @Subscribe method " + method, e);
+        }
+        return (subscriber, event) -> {
+            try {
+                handle.invokeExact(subscriber, event);
+            } catch (Throwable t) {
+                throw EventHandlerRegistry.<RuntimeException>sneakyThrow(t);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
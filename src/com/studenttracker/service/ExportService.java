@@ -0,0 +1,47 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.ExportResult;
+
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+/**
+ * Service interface for bulk exports of per-student academic records.
+ * Rows are streamed from the database straight to disk, so memory use does
+ * not depend on the number of students or lessons.
+ */
+public interface ExportService {
+    
+    enum ExportFormat {
+        CSV, XLSX
+    }
+    
+    /**
+     * Export one row per student (attendance, homework, quiz totals, PIs, Fasee7 points).
+     * 
+     * @param file Destination file (replaced if it exists)
+     * @param format CSV or XLSX
+     * @param includeArchived Include archived students
+     * @param progress Called with the number of rows written so far every few
+     *                 thousand rows (may be null); may throw to abort the export
+     * @return Rows written, file size and throughput
+     * @throws com.studenttracker.exception.ValidationException if file or format is null
+     * @throws com.studenttracker.exception.ServiceException if the file cannot be written
+     */
+    ExportResult exportStudentSummaries(Path file, ExportFormat format, boolean includeArchived, LongConsumer progress);
+    
+    /**
+     * Export one row per student per lesson (attendance, homework, quiz points).
+     * 
+     * @see #exportStudentSummaries(Path, ExportFormat, boolean, LongConsumer)
+     */
+    ExportResult exportStudentLessonRecords(Path file, ExportFormat format, boolean includeArchived, LongConsumer progress);
+    
+    /**
+     * Number of rows an export would produce.
+     * 
+     * @param perLesson true for the student-lesson export
+     * @param includeArchived Include archived students
+     */
+    long estimateRows(boolean perLesson, boolean includeArchived);
+}
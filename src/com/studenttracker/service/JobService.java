@@ -0,0 +1,132 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.Job;
+import com.studenttracker.model.Job.JobType;
+import com.studenttracker.service.ExportService.ExportFormat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for long-running background jobs (report generation,
+ * bulk recomputes, exports).
+ * Jobs run on a small bounded worker pool, never on the caller's thread.
+ * Each job has a persistent row with status and progress. A JobCompletedEvent
+ * is published when it finishes; subscribers receive it on the worker thread,
+ * so UI code must hop back to the FX thread itself.
+ */
+public interface JobService {
+    
+    /**
+     * Work performed by a job.
+     */
+    @FunctionalInterface
+    interface JobTask {
+        /**
+         * @param context Progress reporting and cancellation checks
+         * @return Short result summary stored on the job (may be null)
+         */
+        String run(JobContext context) throws Exception;
+    }
+    
+    /**
+     * Handle given to a running task.
+     */
+    interface JobContext {
+        int getJobId();
+        
+        /**
+         * Report progress; values are clamped to 0-100 and only changes are persisted.
+         */
+        void setProgress(int percent);
+        
+        boolean isCancelled();
+        
+        /**
+         * @throws java.util.concurrent.CancellationException if the job was cancelled
+         */
+        void checkCancelled();
+    }
+    
+    /**
+     * Queue a job.
+     * 
+     * @param type Job type
+     * @param description Human-readable description
+     * @param submittedBy User ID (may be null for system jobs)
+     * @param task Work to run
+     * @return Job ID
+     * @throws com.studenttracker.exception.ValidationException if type or task is null
+     * @throws com.studenttracker.exception.ServiceException if the queue is full
+     */
+    Integer submit(JobType type, String description, Integer submittedBy, JobTask task);
+    
+    /**
+     * Queue generation of a monthly report. The job result is the report ID.
+     */
+    Integer submitMonthlyReport(String monthGroup, Integer generatedBy);
+    
+    /**
+     * Queue recalculation of every active student's performance indicators.
+     */
+    Integer submitPIRecalculation(Integer submittedBy);
+    
+    /**
+     * Queue a streamed export of a stored report to a file. The job result is the file path.
+     */
+    Integer submitReportExport(Integer reportId, Path file, Integer submittedBy);
+    
+    /**
+     * Queue a bulk export of student records to a file. The job result is the export summary.
+     * 
+     * @param perLesson true for one row per student-lesson, false for one row per student
+     */
+    Integer submitStudentExport(Path file, ExportFormat format, boolean perLesson,
+                                boolean includeArchived, Integer submittedBy);
+    
+    /**
+     * Queue a rebuild of all derived tables from source data. The job result is the replay summary.
+     * 
+     * @see ReplayService#rebuildDerivedTables(java.util.function.LongConsumer)
+     */
+    Integer submitDerivedDataReplay(Integer submittedBy);
+    
+    /**
+     * Queue a check of a month's running report aggregates against a full
+     * recompute, rebuilding them if they disagree. The job result says which.
+     * 
+     * @see ReportAggregateService#verifyMonth(String)
+     */
+    Integer submitAggregateVerification(String monthGroup, Integer submittedBy);
+    
+    /**
+     * Queue deletion of notifications older than a number of days, in small
+     * batches. The job result is the number deleted.
+     * 
+     * @param archiveFile JSON-lines file purged notifications are appended to; null to skip archiving
+     * @see NotificationService#purgeOldNotifications(int, Path, java.util.function.IntConsumer)
+     */
+    Integer submitNotificationRetention(int daysOld, Path archiveFile, Integer submittedBy);
+    
+    /**
+     * Cancel a queued or running job. Running tasks stop at their next cancellation check.
+     * 
+     * @param jobId Job ID
+     * @return true if the job was still queued or running
+     */
+    boolean cancel(Integer jobId);
+    
+    Job getJob(Integer jobId);
+    
+    /**
+     * @param limit Maximum number of jobs
+     * @return Most recent jobs, newest first
+     */
+    List<Job> getRecentJobs(int limit);
+    
+    /**
+     * Stop the worker pool, interrupting running jobs.
+     * Jobs left unfinished are marked failed on the next start.
+     */
+    void shutdown();
+}
@@ -1,7 +1,9 @@
 package com.studenttracker.service;
 
 import com.studenttracker.model.Notification;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
  * Service interface for notification operations.
@@ -71,6 +73,7 @@ public interface NotificationService {
     
     /**
      * Sends a notification to all active admins.
+     * All notifications are inserted in one transaction.
      * 
      * @param notificationType Type of notification
      * @param message Notification message
@@ -125,6 +128,8 @@ public interface NotificationService {
     
     /**
      * Gets the count of unread notifications for a user.
+     * Served from memory; changes are also published as
+     * UnreadNotificationCountChangedEvent.
      * 
      * @param userId User ID
      * @return Number of unread notifications
@@ -150,4 +155,17 @@ public interface NotificationService {
      * @param daysOld Number of days (e.g., 30 to delete notifications > 30 days old)
      */
     void deleteOldNotifications(int daysOld);
+    
+    /**
+     * Deletes notifications older than the specified number of days, oldest
+     * first, in small transactions so other writers are never blocked for long.
+     * 
+     * @param daysOld Number of days
+     * @param archiveFile JSON-lines file each batch is appended to (and synced)
+     *                    before it is deleted; null to delete without archiving
+     * @param afterBatch Called with the running total after each batch (may be null);
+     *                   may throw to stop early, leaving later batches in place
+     * @return Number of notifications deleted
+     */
+    int purgeOldNotifications(int daysOld, Path archiveFile, IntConsumer afterBatch);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.OutboxEntry;
+import com.studenttracker.service.event.Event;
+
+/**
+ * Service interface for the transactional event outbox.
+ * Events that maintain derived tables (points, running aggregates, activity
+ * feed...) are serialized into an outbox entry which the DAO writes in the
+ * same transaction as the source rows. A background dispatcher publishes
+ * committed entries and marks them delivered once every subscriber has
+ * handled them without throwing; otherwise the entry is retried. Delivery is
+ * at-least-once: subscribers must be idempotent, or dedupe through
+ * {@link #markConsumed(Integer, String)}.
+ */
+public interface OutboxService {
+    
+    /**
+     * Serialize an event into an outbox entry (not yet stored).
+     * 
+     * @param event Event to deliver after commit
+     * @return Entry to pass to the DAO writing the source rows
+     */
+    OutboxEntry toEntry(Event event);
+    
+    /**
+     * Wake the dispatcher after a transaction containing outbox entries committed.
+     */
+    void entriesCommitted();
+    
+    /**
+     * Deliver pending entries on the calling thread.
+     * 
+     * @return Number of entries delivered
+     */
+    int dispatchPending();
+    
+    int getPendingCount();
+    
+    /**
+     * Check whether a consumer has already handled an outbox delivery.
+     * Consumers that must not lose a delivery check first and call
+     * {@link #markConsumed(Integer, String)} once their write is durable.
+     * 
+     * @param outboxId Outbox ID carried by the event (null for events not from the outbox)
+     * @param consumer Stable consumer name
+     * @return true if the consumer already handled the event
+     */
+    boolean isConsumed(Integer outboxId, String consumer);
+    
+    /**
+     * Claim an outbox delivery for a non-idempotent consumer.
+     * 
+     * @param outboxId Outbox ID carried by the event (null for events not from the outbox)
+     * @param consumer Stable consumer name
+     * @return true if the consumer should handle the event, false if it already did
+     */
+    boolean markConsumed(Integer outboxId, String consumer);
+    
+    /**
+     * Start the background dispatcher; entries left by a previous run are delivered first.
+     */
+    void start();
+    
+    void shutdown();
+}
@@ -1,5 +1,6 @@
 package com.studenttracker.service;
 
+import com.studenttracker.model.ChartSeries;
 import com.studenttracker.model.LessonTopic;
 import com.studenttracker.model.PerformanceIndicator;
 import com.studenttracker.model.PerformanceTrend;
@@ -133,4 +134,27 @@ public interface PerformanceAnalysisService {
      * @return Map of quiz_id to overall_pi
      */
     Map<Integer, Integer> getOverallPIProgression(Integer studentId);
+    
+    /**
+     * Get the cumulative PI series for a category, downsampled for charting.
+     * The raw series is cached per student until a new PI is calculated.
+     * 
+     * @param studentId Student ID
+     * @param category Topic category
+     * @param maxPoints Point budget (e.g. chart width in pixels), at least 2
+     * @return ChartSeries with at most maxPoints points
+     * @throws ValidationException if maxPoints is less than 2
+     */
+    ChartSeries getPIProgressionSeries(Integer studentId, LessonTopic.TopicCategory category, int maxPoints);
+    
+    /**
+     * Get the overall PI series, downsampled for charting.
+     * The raw series is aggregated in SQL and cached per student until a new PI is calculated.
+     * 
+     * @param studentId Student ID
+     * @param maxPoints Point budget (e.g. chart width in pixels), at least 2
+     * @return ChartSeries with at most maxPoints points
+     * @throws ValidationException if maxPoints is less than 2
+     */
+    ChartSeries getOverallPIProgressionSeries(Integer studentId, int maxPoints);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.QuizItemAnalysis;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for question-level (item) analysis of graded quizzes.
+ * Results are cached per quiz and invalidated when the quiz's scores change.
+ */
+public interface QuizItemAnalysisService {
+    
+    /**
+     * Get the item analysis for a quiz: per-question difficulty and
+     * discrimination, plus per-category reliability.
+     * 
+     * @param quizId ID of the quiz
+     * @return QuizItemAnalysis (empty question list if the quiz has no scores)
+     * @throws ValidationException if quizId is null
+     */
+    QuizItemAnalysis analyzeQuiz(Integer quizId);
+    
+    /**
+     * Get item analyses for every quiz whose lesson falls in the date range.
+     * 
+     * @param startDate First lesson date (inclusive)
+     * @param endDate Last lesson date (inclusive)
+     * @return List of analyses ordered by lesson date
+     * @throws ValidationException if a date is null or startDate is after endDate
+     */
+    List<QuizItemAnalysis> analyzeQuizzesInRange(LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Drop the cached analysis for a quiz.
+     * 
+     * @param quizId ID of the quiz
+     */
+    void invalidate(Integer quizId);
+    
+    /**
+     * Drop all cached analyses.
+     */
+    void invalidateAll();
+}
@@ -1,5 +1,6 @@
 package com.studenttracker.service;
 
+import com.studenttracker.model.ActivityBufferStats;
 import com.studenttracker.model.RecentActivity;
 
 import java.util.List;
@@ -71,6 +72,9 @@ public interface RecentActivityService {
      * 
      * <p><b>Ordering:</b> Most recent first (created_at DESC)</p>
      * 
+     * <p><b>Performance:</b> The latest few hundred activities are kept in
+     * memory; limits within that range don't touch the database.</p>
+     * 
      * @param limit Maximum number of activities to retrieve (e.g., 20)
      * @return List of recent activities (may be empty, never null)
      */
@@ -161,6 +165,33 @@ public interface RecentActivityService {
      */
     void cleanupOldActivities(int olderThanDays);
     
+    // ==================== WRITE BUFFER ====================
+    
+    /**
+     * Writes all buffered activities to the database now.
+     * Activities are normally written in batches, when a batch fills up or
+     * about once a second; reads already include buffered activities.
+     * 
+     * @throws com.studenttracker.exception.DAOException if a batch cannot be written
+     *         (its activities stay buffered and are retried)
+     */
+    void flushActivities();
+    
+    /**
+     * Gets counters of the write buffer: pending and written activities,
+     * committed batches, and activities dropped because the buffer was full.
+     * 
+     * @return Current counters
+     */
+    ActivityBufferStats getBufferStats();
+    
+    /**
+     * Writes buffered activities and stops the background writer.
+     * Activities logged afterwards are written immediately.
+     * Call on application exit, after the event bus has drained.
+     */
+    void shutdown();
+    
     // ==================== EVENT LISTENERS ====================
     
     /*
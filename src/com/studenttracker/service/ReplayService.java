@@ -0,0 +1,35 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.ReplayResult;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Service interface for rebuilding derived tables (performance indicators,
+ * quiz category totals, target streaks, consecutivity tracking and Fasee7
+ * points) from source data.
+ * Students are split into ranges replayed in parallel; each range is read
+ * through one chronological cursor and folded per student. Results are built
+ * in shadow tables and swapped in atomically, so readers see either the old
+ * or the new derived state, never a mix.
+ */
+public interface ReplayService {
+
+    /**
+     * Rebuild every derived table and swap the result in.
+     * Derived rows written by other services while the replay runs are
+     * replaced by the swap; run it while the application is idle (e.g. nightly).
+     *
+     * @param progress Called with the number of students replayed so far (may be null);
+     *                 may throw to abort the replay, leaving the live tables untouched
+     * @return Row counts and timings
+     * @throws com.studenttracker.exception.ServiceException if a replay is already
+     *         running or the replay fails; the live tables are then unchanged
+     */
+    ReplayResult rebuildDerivedTables(LongConsumer progress);
+
+    /**
+     * Number of students a replay will process, for progress reporting.
+     */
+    int countStudents();
+}
@@ -0,0 +1,62 @@
+package com.studenttracker.service;
+
+import java.util.Map;
+
+/**
+ * Service interface for the event-maintained running aggregates of a month.
+ * Attendance, homework, quiz, incident and target events update the stored
+ * totals as they arrive, so the current month's report does not rescan the
+ * underlying tables.
+ */
+public interface ReportAggregateService {
+    
+    String ATTENDANCE_PRESENT = "ATTENDANCE_PRESENT";
+    String ATTENDANCE_ABSENT = "ATTENDANCE_ABSENT";
+    String QUIZZES = "QUIZZES";
+    String HOMEWORK_DONE = "HOMEWORK_DONE";
+    String HOMEWORK_PARTIAL = "HOMEWORK_PARTIAL";
+    String HOMEWORK_NOT_DONE = "HOMEWORK_NOT_DONE";
+    String TARGETS_ACHIEVED = "TARGETS_ACHIEVED";
+    /** Prefix for incident counts; the incident type name is appended. */
+    String INCIDENT_PREFIX = "INCIDENT_";
+    
+    /**
+     * Get the running totals of a month, rebuilding them first if none are stored.
+     * 
+     * @param monthGroup Month group (e.g., "Month 2")
+     * @return Map of metric name to total
+     * @throws ValidationException if monthGroup is null or blank
+     */
+    Map<String, Integer> getRunningAggregates(String monthGroup);
+    
+    /**
+     * Check whether a month group is the one events are currently feeding,
+     * i.e. the month group of the latest lesson.
+     * 
+     * @param monthGroup Month group
+     * @return true if this is the current month
+     */
+    boolean isCurrentMonth(String monthGroup);
+    
+    /**
+     * Recompute a month's aggregates from the underlying tables and replace
+     * the stored values.
+     * 
+     * @param monthGroup Month group
+     * @return Map of metric name to recomputed total
+     * @throws ValidationException if monthGroup is null or blank
+     */
+    Map<String, Integer> rebuildMonth(String monthGroup);
+    
+    /**
+     * Compare the stored aggregates with a full recompute, rebuilding them
+     * if they disagree. Recounts every lesson of the month, so it runs as a
+     * background job (JobService#submitAggregateVerification), never on the
+     * report generation path.
+     * 
+     * @param monthGroup Month group
+     * @return true if the stored aggregates were already correct
+     * @throws ValidationException if monthGroup is null or blank
+     */
+    boolean verifyMonth(String monthGroup);
+}
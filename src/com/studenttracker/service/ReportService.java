@@ -1,7 +1,13 @@
 package com.studenttracker.service;
 
 import com.studenttracker.model.MonthlyReport;
+import com.studenttracker.model.RollupReportData;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for generating and managing monthly reports.
@@ -54,6 +60,8 @@ public interface ReportService {
     
     /**
      * Export a report as JSON string.
+     * Builds the whole document in memory; prefer exportReport or
+     * exportReportToFile for large reports.
      * 
      * @param reportId Report ID
      * @return JSON string of report data
@@ -61,6 +69,24 @@ public interface ReportService {
      */
     String exportReportAsJson(Integer reportId);
     
+    /**
+     * Stream a report's JSON to an output stream without building the document in memory.
+     * 
+     * @param reportId Report ID
+     * @param out Destination stream (left open)
+     * @throws com.studenttracker.exception.ServiceException if report not found
+     */
+    void exportReport(Integer reportId, OutputStream out);
+    
+    /**
+     * Stream a report's JSON to a file, replacing any existing content.
+     * 
+     * @param reportId Report ID
+     * @param file Destination file
+     * @throws com.studenttracker.exception.ServiceException if report not found or the file cannot be written
+     */
+    void exportReportToFile(Integer reportId, Path file);
+    
     /**
      * Check if a report exists for a specific month.
      * 
@@ -79,4 +105,36 @@ public interface ReportService {
      * @throws com.studenttracker.exception.UnauthorizedException if user is not admin
      */
     boolean deleteReport(Integer reportId, Integer deletedBy);
-}
\ No newline at end of file
+    
+    /**
+     * Get the per-section timings of the most recent report generation.
+     * 
+     * @return Map of section name to elapsed milliseconds, plus "TOTAL"; empty if no report was generated yet
+     */
+    Map<String, Long> getLastSectionTimings();
+    
+    /**
+     * Build a rollup (term, year or custom range) from the stored monthly reports.
+     * Months are decoded in parallel; a month without a stored report is
+     * generated on demand (but not saved). Results are cached until one of
+     * the months changes.
+     * 
+     * @param label Rollup label (e.g., "Term 1")
+     * @param monthGroups Months to include, oldest first
+     * @return Rollup of the given months
+     * @throws com.studenttracker.exception.ValidationException if label or months are missing
+     * @throws com.studenttracker.exception.ServiceException if a month cannot be loaded
+     */
+    RollupReportData getRollupReport(String label, List<String> monthGroups);
+    
+    /**
+     * Build a rollup of every month that has lessons in the date range.
+     * 
+     * @param label Rollup label (e.g., "2026")
+     * @param startDate First lesson date (inclusive)
+     * @param endDate Last lesson date (inclusive)
+     * @return Rollup of the months in the range
+     * @throws com.studenttracker.exception.ValidationException if the range is invalid or has no lessons
+     */
+    RollupReportData getRollupReportForDateRange(String label, LocalDate startDate, LocalDate endDate);
+}
@@ -1,6 +1,7 @@
 package com.studenttracker.service;
 
 import com.studenttracker.model.Student;
+import com.studenttracker.model.StudentProfileSummary;
 import java.util.List;
 
 /**
@@ -53,6 +54,15 @@ public interface StudentService {
      */
     Student getStudentById(Integer studentId);
     
+    /**
+     * Retrieves the profile counts of a student in one query: attendance,
+     * consecutive absences, active warnings, Fasee7 points and rank.
+     * 
+     * @param studentId The student ID
+     * @return Summary or null if the student is not found
+     */
+    StudentProfileSummary getProfileSummary(Integer studentId);
+    
     /**
      * Retrieves all students (active and archived).
      * 
@@ -75,13 +85,33 @@ public interface StudentService {
     List<Student> getArchivedStudents();
     
     /**
-     * Searches for students by name (partial match).
+     * Searches for students by name; each word of the term matches the start
+     * of a name part (full-text index, Arabic spelling variants folded).
      * 
      * @param searchTerm Name search term
      * @return List of matching students
      */
     List<Student> searchStudentsByName(String searchTerm);
     
+    /**
+     * Typeahead search by name or phone number; each word of the term matches
+     * the start of a name part or phone number.
+     * 
+     * @param searchTerm Search term
+     * @param limit Maximum number of suggestions
+     * @return Best matches first
+     */
+    List<Student> searchStudents(String searchTerm, int limit);
+    
+    /**
+     * Retrieves one page of all students (active and archived), ordered by name.
+     * 
+     * @param after Last student of the previous page, or null for the first page
+     * @param pageSize Maximum number of students
+     * @return Next page; shorter than pageSize when it is the last one
+     */
+    List<Student> getStudentsPage(Student after, int pageSize);
+    
     
     // ========== Archive/Restore Operations ==========
     
@@ -0,0 +1,58 @@
+package com.studenttracker.service;
+
+import com.studenttracker.model.StudentLessonTimelineEntry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for a student's lesson timeline: every lesson with the
+ * student's attendance, homework and quiz result, newest first.
+ * Timelines are cached per student and invalidated by attendance, homework
+ * and grading events for that student.
+ */
+public interface StudentTimelineService {
+    
+    /**
+     * Get the whole timeline of a student.
+     * 
+     * @param studentId ID of the student
+     * @return Unmodifiable list, newest lesson first
+     * @throws ValidationException if studentId is null
+     */
+    List<StudentLessonTimelineEntry> getTimeline(Integer studentId);
+    
+    /**
+     * Get the lessons older than a given entry.
+     * 
+     * @param studentId ID of the student
+     * @param after Last entry of the previous page, or null for the newest lessons
+     * @param pageSize Maximum number of entries
+     * @return Next page; shorter than pageSize when it is the last one
+     * @throws ValidationException if studentId is null or pageSize is not positive
+     */
+    List<StudentLessonTimelineEntry> getTimelinePage(Integer studentId, StudentLessonTimelineEntry after, int pageSize);
+    
+    /**
+     * Get the lessons in a date range.
+     * 
+     * @param studentId ID of the student
+     * @param from First lesson date (inclusive), or null for no lower bound
+     * @param to Last lesson date (inclusive), or null for no upper bound
+     * @return Entries in range, newest first
+     * @throws ValidationException if studentId is null or from is after to
+     */
+    List<StudentLessonTimelineEntry> getTimelineBetween(Integer studentId, LocalDate from, LocalDate to);
+    
+    /**
+     * Drop the cached timeline of a student.
+     * 
+     * @param studentId ID of the student
+     */
+    void invalidate(Integer studentId);
+    
+    /**
+     * Drop every cached timeline.
+     */
+    void invalidateAll();
+}
@@ -114,6 +114,13 @@ public interface WarningService {
      */
     int getActiveWarningCount();
     
+    /**
+     * Get active warning counts for every student in one query.
+     * 
+     * @return Map of student ID to active warning count (students with none are absent)
+     */
+    Map<Integer, Integer> getActiveWarningCountsByStudent();
+    
     /**
      * Get count of warnings by type.
      * 
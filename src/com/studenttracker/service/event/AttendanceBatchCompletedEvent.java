@@ -1,11 +1,17 @@
 package com.studenttracker.service.event;
 
+/**
+ * Event published when attendance for a lesson has been bulk marked.
+ * Delivered through the event outbox, so it may arrive more than once;
+ * {@link #getOutboxId()} identifies the delivery for consumers that must dedupe.
+ */
 public class AttendanceBatchCompletedEvent implements Event {
     private final Integer lessonId;
     private final Integer totalStudents;
     private final Integer presentCount;
     private final Integer absentCount;
     private final Integer completedBy;
+    private final Integer outboxId; // set when delivered from the outbox
     
     public AttendanceBatchCompletedEvent(Integer lessonId, Integer totalStudents,
                                         Integer presentCount, Integer absentCount,
@@ -15,6 +21,7 @@ public class AttendanceBatchCompletedEvent implements Event {
         this.presentCount = presentCount;
         this.absentCount = absentCount;
         this.completedBy = completedBy;
+        this.outboxId = null;
     }
     
     public Integer getLessonId() { return lessonId; }
@@ -22,6 +29,7 @@ public class AttendanceBatchCompletedEvent implements Event {
     public Integer getPresentCount() { return presentCount; }
     public Integer getAbsentCount() { return absentCount; }
     public Integer getCompletedBy() { return completedBy; }
+    public Integer getOutboxId() { return outboxId; }
     
     @Override
     public String toString() {
@@ -0,0 +1,52 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coalesced form of the AttendanceMarkedEvents published for one lesson
+ * within a short window. Holds the latest status per student.
+ */
+public class AttendanceMarkedSummaryEvent implements Event {
+    private final Integer lessonId;
+    private final Map<Integer, AttendanceStatus> statusByStudent;
+    private final Integer markedBy;
+    
+    public AttendanceMarkedSummaryEvent(Integer lessonId, Map<Integer, AttendanceStatus> statusByStudent,
+                                        Integer markedBy) {
+        this.lessonId = lessonId;
+        this.statusByStudent = Collections.unmodifiableMap(new LinkedHashMap<>(statusByStudent));
+        this.markedBy = markedBy;
+    }
+    
+    /**
+     * Build a summary from events of the same lesson, in publish order.
+     */
+    public static AttendanceMarkedSummaryEvent of(List<AttendanceMarkedEvent> events) {
+        Map<Integer, AttendanceStatus> statuses = new LinkedHashMap<>();
+        for (AttendanceMarkedEvent event : events) {
+            statuses.put(event.getStudentId(), event.getStatus());
+        }
+        AttendanceMarkedEvent last = events.get(events.size() - 1);
+        return new AttendanceMarkedSummaryEvent(last.getLessonId(), statuses, last.getMarkedBy());
+    }
+    
+    public boolean containsStudent(Integer studentId) {
+        return statusByStudent.containsKey(studentId);
+    }
+    
+    public Integer getLessonId() { return lessonId; }
+    public Set<Integer> getStudentIds() { return statusByStudent.keySet(); }
+    public Map<Integer, AttendanceStatus> getStatusByStudent() { return statusByStudent; }
+    public Integer getMarkedBy() { return markedBy; }
+    
+    @Override
+    public String toString() {
+        return "AttendanceMarkedSummaryEvent{lesson=" + lessonId + ", students=" + statusByStudent.size() + 
+               ", markedBy=" + markedBy + "}";
+    }
+}
@@ -0,0 +1,64 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import java.time.LocalDateTime;
+
+/**
+ * Event published when an admin deletes a behavioral incident.
+ */
+public class BehavioralIncidentDeletedEvent implements Event {
+    
+    private final Integer incidentId;
+    private final Integer studentId;
+    private final Integer lessonId;
+    private final IncidentType incidentType;
+    private final Integer deletedBy;
+    private final LocalDateTime deletedAt;
+    
+    public BehavioralIncidentDeletedEvent(Integer incidentId, Integer studentId, Integer lessonId,
+                                         IncidentType incidentType, Integer deletedBy, 
+                                         LocalDateTime deletedAt) {
+        this.incidentId = incidentId;
+        this.studentId = studentId;
+        this.lessonId = lessonId;
+        this.incidentType = incidentType;
+        this.deletedBy = deletedBy;
+        this.deletedAt = deletedAt;
+    }
+    
+    public Integer getIncidentId() {
+        return incidentId;
+    }
+    
+    public Integer getStudentId() {
+        return studentId;
+    }
+    
+    public Integer getLessonId() {
+        return lessonId;
+    }
+    
+    public IncidentType getIncidentType() {
+        return incidentType;
+    }
+    
+    public Integer getDeletedBy() {
+        return deletedBy;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "BehavioralIncidentDeletedEvent{" +
+                "incidentId=" + incidentId +
+                ", studentId=" + studentId +
+                ", lessonId=" + lessonId +
+                ", incidentType=" + incidentType +
+                ", deletedBy=" + deletedBy +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
\ No newline at end of file
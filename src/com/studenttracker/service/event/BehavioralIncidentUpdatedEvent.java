@@ -0,0 +1,64 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import java.time.LocalDateTime;
+
+/**
+ * Event published when an admin changes a behavioral incident's type or notes.
+ */
+public class BehavioralIncidentUpdatedEvent implements Event {
+    
+    private final Integer incidentId;
+    private final Integer studentId;
+    private final Integer lessonId;
+    private final IncidentType incidentType;
+    private final Integer updatedBy;
+    private final LocalDateTime updatedAt;
+    
+    public BehavioralIncidentUpdatedEvent(Integer incidentId, Integer studentId, Integer lessonId,
+                                         IncidentType incidentType, Integer updatedBy, 
+                                         LocalDateTime updatedAt) {
+        this.incidentId = incidentId;
+        this.studentId = studentId;
+        this.lessonId = lessonId;
+        this.incidentType = incidentType;
+        this.updatedBy = updatedBy;
+        this.updatedAt = updatedAt;
+    }
+    
+    public Integer getIncidentId() {
+        return incidentId;
+    }
+    
+    public Integer getStudentId() {
+        return studentId;
+    }
+    
+    public Integer getLessonId() {
+        return lessonId;
+    }
+    
+    public IncidentType getIncidentType() {
+        return incidentType;
+    }
+    
+    public Integer getUpdatedBy() {
+        return updatedBy;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "BehavioralIncidentUpdatedEvent{" +
+                "incidentId=" + incidentId +
+                ", studentId=" + studentId +
+                ", lessonId=" + lessonId +
+                ", incidentType=" + incidentType +
+                ", updatedBy=" + updatedBy +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.studenttracker.service.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event published when derived tables have been rebuilt from source data.
+ * Anything cached from those tables is stale.
+ */
+public class DerivedDataRebuiltEvent implements Event {
+
+    private final List<String> tables;
+    private final int studentCount;
+    private final LocalDateTime rebuiltAt;
+
+    public DerivedDataRebuiltEvent(List<String> tables, int studentCount, LocalDateTime rebuiltAt) {
+        this.tables = tables;
+        this.studentCount = studentCount;
+        this.rebuiltAt = rebuiltAt;
+    }
+
+    public List<String> getTables() {
+        return tables;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public LocalDateTime getRebuiltAt() {
+        return rebuiltAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DerivedDataRebuiltEvent{" +
+                "tables=" + tables +
+                ", studentCount=" + studentCount +
+                ", rebuiltAt=" + rebuiltAt +
+                '}';
+    }
+}
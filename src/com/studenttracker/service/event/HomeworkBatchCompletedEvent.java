@@ -2,6 +2,8 @@ package com.studenttracker.service.event;
 
 /**
  * Event published when a batch of homework records is completed.
+ * Delivered through the event outbox, so it may arrive more than once;
+ * {@link #getOutboxId()} identifies the delivery for consumers that must dedupe.
  */
 public class HomeworkBatchCompletedEvent implements Event {
     private final Integer lessonId;
@@ -10,6 +12,7 @@ public class HomeworkBatchCompletedEvent implements Event {
     private final Integer partialCount;
     private final Integer notDoneCount;
     private final Integer completedBy;
+    private final Integer outboxId; // set when delivered from the outbox
 
     public HomeworkBatchCompletedEvent(Integer lessonId, Integer totalStudents, Integer doneCount, Integer partialCount, Integer notDoneCount, Integer completedBy) {
         this.lessonId = lessonId;
@@ -18,6 +21,7 @@ public class HomeworkBatchCompletedEvent implements Event {
         this.partialCount = partialCount;
         this.notDoneCount = notDoneCount;
         this.completedBy = completedBy;
+        this.outboxId = null;
     }
     
     // Getters
@@ -27,6 +31,7 @@ public class HomeworkBatchCompletedEvent implements Event {
     public Integer getPartialCount() { return partialCount; }
     public Integer getNotDoneCount() { return notDoneCount; }
     public Integer getCompletedBy() { return completedBy; }
+    public Integer getOutboxId() { return outboxId; }
     
     @Override
     public String toString() {
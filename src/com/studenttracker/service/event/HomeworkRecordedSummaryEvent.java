@@ -0,0 +1,52 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.Homework.HomeworkStatus;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coalesced form of the HomeworkRecordedEvents published for one lesson
+ * within a short window. Holds the latest status per student.
+ */
+public class HomeworkRecordedSummaryEvent implements Event {
+    private final Integer lessonId;
+    private final Map<Integer, HomeworkStatus> statusByStudent;
+    private final Integer markedBy;
+    
+    public HomeworkRecordedSummaryEvent(Integer lessonId, Map<Integer, HomeworkStatus> statusByStudent,
+                                        Integer markedBy) {
+        this.lessonId = lessonId;
+        this.statusByStudent = Collections.unmodifiableMap(new LinkedHashMap<>(statusByStudent));
+        this.markedBy = markedBy;
+    }
+    
+    /**
+     * Build a summary from events of the same lesson, in publish order.
+     */
+    public static HomeworkRecordedSummaryEvent of(List<HomeworkRecordedEvent> events) {
+        Map<Integer, HomeworkStatus> statuses = new LinkedHashMap<>();
+        for (HomeworkRecordedEvent event : events) {
+            statuses.put(event.getStudentId(), event.getStatus());
+        }
+        HomeworkRecordedEvent last = events.get(events.size() - 1);
+        return new HomeworkRecordedSummaryEvent(last.getLessonId(), statuses, last.getMarkedBy());
+    }
+    
+    public boolean containsStudent(Integer studentId) {
+        return statusByStudent.containsKey(studentId);
+    }
+    
+    public Integer getLessonId() { return lessonId; }
+    public Set<Integer> getStudentIds() { return statusByStudent.keySet(); }
+    public Map<Integer, HomeworkStatus> getStatusByStudent() { return statusByStudent; }
+    public Integer getMarkedBy() { return markedBy; }
+    
+    @Override
+    public String toString() {
+        return "HomeworkRecordedSummaryEvent{lesson=" + lessonId + ", students=" + statusByStudent.size() + 
+               ", markedBy=" + markedBy + "}";
+    }
+}
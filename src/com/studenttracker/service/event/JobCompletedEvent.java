@@ -0,0 +1,50 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.Job.JobStatus;
+import com.studenttracker.model.Job.JobType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a background job finishes, whether it completed, failed or was cancelled.
+ */
+public class JobCompletedEvent implements Event {
+    private final Integer jobId;
+    private final JobType jobType;
+    private final JobStatus status;
+    private final String result;
+    private final String errorMessage;
+    private final Integer submittedBy;
+    private final LocalDateTime timestamp;
+
+    public JobCompletedEvent(Integer jobId, JobType jobType, JobStatus status,
+                             String result, String errorMessage, Integer submittedBy) {
+        this.jobId = jobId;
+        this.jobType = jobType;
+        this.status = status;
+        this.result = result;
+        this.errorMessage = errorMessage;
+        this.submittedBy = submittedBy;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public Integer getJobId() { return jobId; }
+    public JobType getJobType() { return jobType; }
+    public JobStatus getStatus() { return status; }
+    public String getResult() { return result; }
+    public String getErrorMessage() { return errorMessage; }
+    public Integer getSubmittedBy() { return submittedBy; }
+    public LocalDateTime getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return "JobCompletedEvent{" +
+                "jobId=" + jobId +
+                ", jobType=" + jobType +
+                ", status=" + status +
+                ", result='" + result + '\'' +
+                ", errorMessage='" + errorMessage + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.studenttracker.service.event;
+
+import com.studenttracker.model.Job.JobType;
+
+/**
+ * Published when a running job's progress percentage changes.
+ */
+public class JobProgressEvent implements Event {
+    private final Integer jobId;
+    private final JobType jobType;
+    private final int progress;
+
+    public JobProgressEvent(Integer jobId, JobType jobType, int progress) {
+        this.jobId = jobId;
+        this.jobType = jobType;
+        this.progress = progress;
+    }
+
+    public Integer getJobId() { return jobId; }
+    public JobType getJobType() { return jobType; }
+    public int getProgress() { return progress; }
+
+    @Override
+    public String toString() {
+        return "JobProgressEvent{jobId=" + jobId + ", jobType=" + jobType + ", progress=" + progress + "}";
+    }
+}
@@ -0,0 +1,27 @@
+package com.studenttracker.service.event;
+
+/**
+ * Event published when a user's unread notification count changes.
+ * Carries the new count, so badges can update without querying.
+ * Published by: NotificationService
+ */
+public class UnreadNotificationCountChangedEvent implements Event {
+    private final Integer userId;
+    private final int unreadCount;
+    
+    public UnreadNotificationCountChangedEvent(Integer userId, int unreadCount) {
+        this.userId = userId;
+        this.unreadCount = unreadCount;
+    }
+    
+    public Integer getUserId() { return userId; }
+    public int getUnreadCount() { return unreadCount; }
+    
+    @Override
+    public String toString() {
+        return "UnreadNotificationCountChangedEvent{" +
+                "userId=" + userId +
+                ", unreadCount=" + unreadCount +
+                '}';
+    }
+}
@@ -11,6 +11,7 @@ import com.studenttracker.model.AttendanceSummary;
 import com.studenttracker.model.Student;
 import com.studenttracker.service.AttendanceService;
 import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.OutboxService;
 import com.studenttracker.service.event.AttendanceBatchCompletedEvent;
 import com.studenttracker.service.event.AttendanceMarkedEvent;
 
@@ -22,11 +23,22 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final AttendanceDAO attendanceDAO;
     private final StudentDAO studentDAO;
     private final EventBusService eventBus;
+    private final OutboxService outboxService;
     
     public AttendanceServiceImpl(AttendanceDAO attendanceDAO, StudentDAO studentDAO, EventBusService eventBus) {
+        this(attendanceDAO, studentDAO, eventBus, null);
+    }
+    
+    /**
+     * Constructor with an outbox: batch events are written with the attendance
+     * rows and delivered by the outbox dispatcher.
+     */
+    public AttendanceServiceImpl(AttendanceDAO attendanceDAO, StudentDAO studentDAO, EventBusService eventBus,
+                                 OutboxService outboxService) {
         this.attendanceDAO = attendanceDAO;
         this.studentDAO = studentDAO;
         this.eventBus = eventBus;
+        this.outboxService = outboxService;
     }
     
     @Override
@@ -89,9 +101,29 @@ public class AttendanceServiceImpl implements AttendanceService {
             }
         }
         
+        // Calculate summary stats
+        Integer lessonId = attendanceList.get(0).getLessonId();
+        int totalStudents = attendanceList.size();
+        int presentCount = 0;
+        int absentCount = 0;
+        
+        for (Attendance attendance : attendanceList) {
+            if (attendance.isPresent()) {
+                presentCount++;
+            } else if (attendance.isAbsent()) {
+                absentCount++;
+            }
+        }
+        
+        AttendanceBatchCompletedEvent batchEvent = new AttendanceBatchCompletedEvent(
+            lessonId, totalStudents, presentCount, absentCount, markedBy
+        );
+        
         try {
-            // Bulk insert
-            boolean success = attendanceDAO.bulkInsert(attendanceList);
+            // Bulk insert (with the batch event's outbox entry)
+            boolean success = outboxService != null
+                ? attendanceDAO.bulkInsert(attendanceList, outboxService.toEntry(batchEvent))
+                : attendanceDAO.bulkInsert(attendanceList);
             
             if (!success) {
                 return false;
@@ -109,26 +141,13 @@ public class AttendanceServiceImpl implements AttendanceService {
                 eventBus.publish(event);
             }
             
-            // Calculate summary stats
-            Integer lessonId = attendanceList.get(0).getLessonId();
-            int totalStudents = attendanceList.size();
-            int presentCount = 0;
-            int absentCount = 0;
-            
-            for (Attendance attendance : attendanceList) {
-                if (attendance.isPresent()) {
-                    presentCount++;
-                } else if (attendance.isAbsent()) {
-                    absentCount++;
-                }
+            // Deliver batch completed event
+            if (outboxService != null) {
+                outboxService.entriesCommitted();
+            } else {
+                eventBus.publish(batchEvent);
             }
             
-            // Publish batch completed event
-            AttendanceBatchCompletedEvent batchEvent = new AttendanceBatchCompletedEvent(
-                lessonId, totalStudents, presentCount, absentCount, markedBy
-            );
-            eventBus.publish(batchEvent);
-            
             return true;
             
         } catch (DAOException e) {
@@ -8,6 +8,8 @@ import com.studenttracker.model.UpdateRequest.RequestStatus;
 import com.studenttracker.service.BehavioralIncidentService;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.event.BehavioralIncidentAddedEvent;
+import com.studenttracker.service.event.BehavioralIncidentDeletedEvent;
+import com.studenttracker.service.event.BehavioralIncidentUpdatedEvent;
 import com.studenttracker.service.impl.helpers.BehavioralIncidentServiceImplHelpers;
 
 import java.time.LocalDateTime;
@@ -161,7 +163,14 @@ public class BehavioralIncidentServiceImpl implements BehavioralIncidentService
         incident.setNotes(notes);
         
         // Step 4: Persist changes
-        return incidentDAO.update(incident);
+        boolean updated = incidentDAO.update(incident);
+        
+        // Step 5: Publish event
+        if (updated) {
+            eventBusService.publish(new BehavioralIncidentUpdatedEvent(incidentId, incident.getStudentId(),
+                incident.getLessonId(), type, updatedBy, LocalDateTime.now()));
+        }
+        return updated;
     }
     
     @Override
@@ -176,7 +185,14 @@ public class BehavioralIncidentServiceImpl implements BehavioralIncidentService
         }
         
         // Step 3: Delete incident
-        return incidentDAO.delete(incidentId);
+        boolean deleted = incidentDAO.delete(incidentId);
+        
+        // Step 4: Publish event
+        if (deleted) {
+            eventBusService.publish(new BehavioralIncidentDeletedEvent(incidentId, incident.getStudentId(),
+                incident.getLessonId(), incident.getIncidentType(), deletedBy, LocalDateTime.now()));
+        }
+        return deleted;
     }
     
     
@@ -0,0 +1,118 @@
+package com.studenttracker.service.impl;
+
+import com.studenttracker.dao.StudentRecordExportDAO;
+import com.studenttracker.exception.ServiceException;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.ExportResult;
+import com.studenttracker.service.ExportService;
+import com.studenttracker.util.export.CsvTabularWriter;
+import com.studenttracker.util.export.TabularWriter;
+import com.studenttracker.util.export.XlsxTabularWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of ExportService.
+ * The DAO reads one set-based query through a forward-only cursor and hands
+ * each row to a TabularWriter, which writes it to the file immediately.
+ */
+public class ExportServiceImpl implements ExportService {
+    
+    private static final Logger LOGGER = Logger.getLogger(ExportServiceImpl.class.getName());
+    
+    /** Rows between progress callbacks. */
+    private static final int PROGRESS_INTERVAL = 5_000;
+    private static final int FILE_BUFFER_SIZE = 256 * 1024;
+    
+    private final StudentRecordExportDAO exportDAO;
+    
+    public ExportServiceImpl(StudentRecordExportDAO exportDAO) {
+        this.exportDAO = exportDAO;
+    }
+    
+    @Override
+    public ExportResult exportStudentSummaries(Path file, ExportFormat format, boolean includeArchived,
+                                               LongConsumer progress) {
+        return export(file, format, "Students", exportDAO.getStudentSummaryColumns(), progress,
+            handler -> exportDAO.streamStudentSummaries(includeArchived, handler));
+    }
+    
+    @Override
+    public ExportResult exportStudentLessonRecords(Path file, ExportFormat format, boolean includeArchived,
+                                                   LongConsumer progress) {
+        return export(file, format, "Lessons", exportDAO.getStudentLessonColumns(), progress,
+            handler -> exportDAO.streamStudentLessonRecords(includeArchived, handler));
+    }
+    
+    @Override
+    public long estimateRows(boolean perLesson, boolean includeArchived) {
+        return exportDAO.countExportRows(perLesson, includeArchived);
+    }
+    
+    
+    // ========== Helpers ==========
+    
+    @FunctionalInterface
+    private interface RowSource {
+        long streamTo(StudentRecordExportDAO.ExportRowHandler handler);
+    }
+    
+    private ExportResult export(Path file, ExportFormat format, String sheetName, List<String> columns,
+                                LongConsumer progress, RowSource source) {
+        if (file == null || format == null) {
+            throw new ValidationException("Export file and format are required");
+        }
+        
+        long startNanos = System.nanoTime();
+        long rows;
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file), FILE_BUFFER_SIZE);
+             TabularWriter writer = openWriter(format, stream, sheetName)) {
+            
+            writer.writeHeader(columns);
+            long[] written = {0};
+            rows = source.streamTo(values -> {
+                writer.writeRow(values);
+                if (progress != null && ++written[0] % PROGRESS_INTERVAL == 0) {
+                    progress.accept(written[0]);
+                }
+            });
+            
+        } catch (IOException | UncheckedIOException e) {
+            throw new ServiceException("Failed to write export to " + file + ": " + e.getMessage(), e);
+        }
+        
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        ExportResult result = new ExportResult(file, rows, sizeOf(file), elapsedMs);
+        if (progress != null) {
+            progress.accept(rows);
+        }
+        LOGGER.info("Exported " + sheetName.toLowerCase() + ": " + result);
+        return result;
+    }
+    
+    private static TabularWriter openWriter(ExportFormat format, OutputStream stream, String sheetName) throws IOException {
+        switch (format) {
+            case XLSX:
+                return new XlsxTabularWriter(stream, sheetName);
+            case CSV:
+            default:
+                return new CsvTabularWriter(stream);
+        }
+    }
+    
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
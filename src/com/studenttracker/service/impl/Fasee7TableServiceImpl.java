@@ -8,6 +8,7 @@ import com.studenttracker.model.Fasee7Snapshot;
 import com.studenttracker.model.Homework;
 import com.studenttracker.model.QuizScore;
 import com.studenttracker.model.Student;
+import com.studenttracker.service.AsyncSubscriber;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.Fasee7TableService;
 import com.studenttracker.service.event.*;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
  * Implementation of Fasee7TableService.
  * Manages Fasee7 points calculation, rankings, and snapshots.
  */
+@AsyncSubscriber
 public class Fasee7TableServiceImpl implements Fasee7TableService {
     
     private final Fasee7PointsDAO pointsDAO;
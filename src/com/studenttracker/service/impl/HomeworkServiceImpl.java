@@ -13,6 +13,7 @@ import com.studenttracker.model.Student;
 import com.studenttracker.model.Student.StudentStatus;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.HomeworkService;
+import com.studenttracker.service.OutboxService;
 import com.studenttracker.service.event.HomeworkBatchCompletedEvent;
 import com.studenttracker.service.event.HomeworkRecordedEvent;
 
@@ -29,6 +30,7 @@ public class HomeworkServiceImpl implements HomeworkService {
     private final StudentDAO studentDAO;
     private final AttendanceDAO attendanceDAO;
     private final EventBusService eventBusService;
+    private final OutboxService outboxService;
     
     /**
      * Constructor with dependency injection.
@@ -39,10 +41,21 @@ public class HomeworkServiceImpl implements HomeworkService {
      */
     public HomeworkServiceImpl(HomeworkDAO homeworkDAO, StudentDAO studentDAO, 
                               AttendanceDAO attendanceDAO , EventBusService eventBusService) {
+        this(homeworkDAO, studentDAO, attendanceDAO, eventBusService, null);
+    }
+    
+    /**
+     * Constructor with an outbox: batch events are written with the homework
+     * rows and delivered by the outbox dispatcher.
+     */
+    public HomeworkServiceImpl(HomeworkDAO homeworkDAO, StudentDAO studentDAO, 
+                              AttendanceDAO attendanceDAO, EventBusService eventBusService,
+                              OutboxService outboxService) {
         this.homeworkDAO = homeworkDAO;
         this.studentDAO = studentDAO;
         this.attendanceDAO = attendanceDAO;
         this.eventBusService = eventBusService;
+        this.outboxService = outboxService;
     }
     
     
@@ -121,8 +134,19 @@ if (!attendance.isPresent()) {
             }
         }
         
-        // Step 2: Bulk insert all homework records
-        boolean success = homeworkDAO.bulkInsert(homeworkList);
+        HomeworkBatchCompletedEvent batchEvent = new HomeworkBatchCompletedEvent(
+            homeworkList.get(0).getLessonId(),
+            homeworkList.size(),
+            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.DONE).count(),
+            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.PARTIALLY_DONE).count(),
+            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.NOT_DONE).count(),
+            markedBy
+        );
+        
+        // Step 2: Bulk insert all homework records (with the batch event's outbox entry)
+        boolean success = outboxService != null
+            ? homeworkDAO.bulkInsert(homeworkList, outboxService.toEntry(batchEvent))
+            : homeworkDAO.bulkInsert(homeworkList);
         
         if (!success) {
             return false;
@@ -134,16 +158,12 @@ if (!attendance.isPresent()) {
             eventBusService.publish(event);
         }
         
-        // Step 4: Publish HomeworkBatchCompletedEvent
-        HomeworkBatchCompletedEvent batchEvent = new HomeworkBatchCompletedEvent(
-            homeworkList.get(0).getLessonId(),
-            homeworkList.size(),
-            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.DONE).count(),
-            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.PARTIALLY_DONE).count(),
-            (int)homeworkList.stream().filter(hw -> hw.getStatus() == HomeworkStatus.NOT_DONE).count(),
-            markedBy
-        );
-        eventBusService.publish(batchEvent);
+        // Step 4: Deliver HomeworkBatchCompletedEvent
+        if (outboxService != null) {
+            outboxService.entriesCommitted();
+        } else {
+            eventBusService.publish(batchEvent);
+        }
         
         return true;
     }
@@ -0,0 +1,336 @@
+package com.studenttracker.service.impl;
+
+import com.studenttracker.dao.JobDAO;
+import com.studenttracker.dao.StudentDAO;
+import com.studenttracker.exception.ServiceException;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.Job;
+import com.studenttracker.model.Job.JobStatus;
+import com.studenttracker.model.Job.JobType;
+import com.studenttracker.model.Student;
+import com.studenttracker.model.Student.StudentStatus;
+import com.studenttracker.model.ExportResult;
+import com.studenttracker.model.ReplayResult;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.ExportService;
+import com.studenttracker.service.ExportService.ExportFormat;
+import com.studenttracker.service.JobService;
+import com.studenttracker.service.NotificationService;
+import com.studenttracker.service.PerformanceAnalysisService;
+import com.studenttracker.service.ReplayService;
+import com.studenttracker.service.ReportAggregateService;
+import com.studenttracker.service.ReportService;
+import com.studenttracker.service.event.JobCompletedEvent;
+import com.studenttracker.service.event.JobProgressEvent;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of JobService.
+ * Two low-priority platform workers with a bounded queue keep heavy jobs
+ * from competing with interactive queries for more than two connections.
+ */
+public class JobServiceImpl implements JobService {
+    
+    private static final Logger LOGGER = Logger.getLogger(JobServiceImpl.class.getName());
+    
+    private static final int WORKER_COUNT = 2;
+    private static final int QUEUE_CAPACITY = 32;
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+    
+    private final JobDAO jobDAO;
+    private final StudentDAO studentDAO;
+    private final ReportService reportService;
+    private final PerformanceAnalysisService performanceAnalysisService;
+    private final ExportService exportService;
+    private final ReplayService replayService;
+    private final ReportAggregateService reportAggregateService;
+    private final NotificationService notificationService;
+    private final EventBusService eventBusService;
+    private final ThreadPoolExecutor workers;
+    private final Map<Integer, RunningJob> activeJobs = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor with dependency injection.
+     * Jobs left queued or running by a previous run are marked failed.
+     */
+    public JobServiceImpl(JobDAO jobDAO, StudentDAO studentDAO, ReportService reportService,
+                          PerformanceAnalysisService performanceAnalysisService,
+                          ExportService exportService, ReplayService replayService,
+                          ReportAggregateService reportAggregateService,
+                          NotificationService notificationService, EventBusService eventBusService) {
+        this.jobDAO = jobDAO;
+        this.studentDAO = studentDAO;
+        this.reportService = reportService;
+        this.performanceAnalysisService = performanceAnalysisService;
+        this.exportService = exportService;
+        this.replayService = replayService;
+        this.reportAggregateService = reportAggregateService;
+        this.notificationService = notificationService;
+        this.eventBusService = eventBusService;
+        this.workers = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("job-worker-", 0).daemon(true).priority(Thread.NORM_PRIORITY - 1).factory());
+        
+        int interrupted = jobDAO.failUnfinished("Interrupted by application shutdown");
+        if (interrupted > 0) {
+            LOGGER.info("Marked " + interrupted + " interrupted job(s) as failed");
+        }
+    }
+    
+    
+    // ========== Submission ==========
+    
+    @Override
+    public Integer submit(JobType type, String description, Integer submittedBy, JobTask task) {
+        if (type == null || task == null) {
+            throw new ValidationException("Job type and task are required");
+        }
+        
+        Job job = new Job(type, description, submittedBy);
+        Integer jobId = jobDAO.insert(job);
+        job.setJobId(jobId);
+        
+        RunningJob running = new RunningJob(job);
+        activeJobs.put(jobId, running);
+        try {
+            running.future = workers.submit(() -> execute(running, task));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+            jobDAO.markFinished(jobId, JobStatus.FAILED, null, "Job queue is full");
+            throw new ServiceException("Job queue is full, try again later", e);
+        }
+        return jobId;
+    }
+    
+    @Override
+    public Integer submitMonthlyReport(String monthGroup, Integer generatedBy) {
+        return submit(JobType.MONTHLY_REPORT, "Monthly report for " + monthGroup, generatedBy, context -> {
+            Integer reportId = reportService.generateMonthlyReport(monthGroup, generatedBy);
+            return String.valueOf(reportId);
+        });
+    }
+    
+    @Override
+    public Integer submitPIRecalculation(Integer submittedBy) {
+        return submit(JobType.PI_RECALCULATION, "Recalculate performance indicators", submittedBy, context -> {
+            List<Student> students = studentDAO.findByStatus(StudentStatus.ACTIVE);
+            for (int i = 0; i < students.size(); i++) {
+                context.checkCancelled();
+                performanceAnalysisService.recalculateAllPIs(students.get(i).getStudentId());
+                context.setProgress((i + 1) * 100 / students.size());
+            }
+            return students.size() + " students";
+        });
+    }
+    
+    @Override
+    public Integer submitReportExport(Integer reportId, Path file, Integer submittedBy) {
+        if (file == null) {
+            throw new ValidationException("Export file is required");
+        }
+        return submit(JobType.REPORT_EXPORT, "Export report " + reportId + " to " + file.getFileName(), submittedBy, context -> {
+            reportService.exportReportToFile(reportId, file);
+            return file.toString();
+        });
+    }
+    
+    
+    @Override
+    public Integer submitStudentExport(Path file, ExportFormat format, boolean perLesson,
+                                       boolean includeArchived, Integer submittedBy) {
+        if (file == null || format == null) {
+            throw new ValidationException("Export file and format are required");
+        }
+        String description = (perLesson ? "Student lesson records" : "Student summaries")
+            + " to " + file.getFileName();
+        return submit(JobType.DATA_EXPORT, description, submittedBy, context -> {
+            long total = Math.max(1, exportService.estimateRows(perLesson, includeArchived));
+            LongConsumer progress = rows -> {
+                context.checkCancelled();
+                context.setProgress((int) Math.min(99, rows * 100 / total));
+            };
+            ExportResult result = perLesson
+                ? exportService.exportStudentLessonRecords(file, format, includeArchived, progress)
+                : exportService.exportStudentSummaries(file, format, includeArchived, progress);
+            return result.getRows() + " rows, " + Math.round(result.getRowsPerSecond()) + " rows/s -> " + file;
+        });
+    }
+    
+    @Override
+    public Integer submitDerivedDataReplay(Integer submittedBy) {
+        return submit(JobType.DERIVED_DATA_REPLAY, "Rebuild derived tables", submittedBy, context -> {
+            long total = Math.max(1, replayService.countStudents());
+            ReplayResult result = replayService.rebuildDerivedTables(students -> {
+                context.checkCancelled();
+                context.setProgress((int) Math.min(99, students * 100 / total));
+            });
+            return result.getStudents() + " students, " + result.getRowsWritten() + " rows in "
+                + result.getElapsedMs() + " ms (swap " + result.getSwapMs() + " ms)";
+        });
+    }
+    
+    @Override
+    public Integer submitAggregateVerification(String monthGroup, Integer submittedBy) {
+        if (monthGroup == null || monthGroup.trim().isEmpty()) {
+            throw new ValidationException("Month group cannot be null or empty");
+        }
+        return submit(JobType.AGGREGATE_VERIFICATION, "Verify report aggregates for " + monthGroup, submittedBy,
+            context -> reportAggregateService.verifyMonth(monthGroup) ? "Aggregates correct" : "Aggregates rebuilt");
+    }
+    
+    @Override
+    public Integer submitNotificationRetention(int daysOld, Path archiveFile, Integer submittedBy) {
+        if (daysOld < 0) {
+            throw new ValidationException("Retention days cannot be negative");
+        }
+        String description = "Delete notifications older than " + daysOld + " days"
+            + (archiveFile == null ? "" : ", archive to " + archiveFile.getFileName());
+        return submit(JobType.NOTIFICATION_RETENTION, description, submittedBy, context -> {
+            // The total isn't known up front; progress creeps toward 99 as batches land
+            int deleted = notificationService.purgeOldNotifications(daysOld, archiveFile, total -> {
+                context.checkCancelled();
+                context.setProgress(Math.min(99, total / 100));
+            });
+            return deleted + " notifications deleted" + (archiveFile == null ? "" : " -> " + archiveFile);
+        });
+    }
+    
+    
+    // ========== Control & Queries ==========
+    
+    @Override
+    public boolean cancel(Integer jobId) {
+        if (jobId == null) return false;
+        
+        RunningJob running = activeJobs.get(jobId);
+        if (running == null) {
+            return false;
+        }
+        running.cancelled = true;
+        if (running.future != null) {
+            running.future.cancel(true);
+        }
+        
+        // A queued job never reaches execute(); a running one stops at its next
+        // cancellation check and its own final update is then ignored
+        if (jobDAO.markFinished(jobId, JobStatus.CANCELLED, null, null)) {
+            finish(running, JobStatus.CANCELLED, null, null, false);
+        }
+        return true;
+    }
+    
+    @Override
+    public Job getJob(Integer jobId) {
+        return jobId != null ? jobDAO.findById(jobId) : null;
+    }
+    
+    @Override
+    public List<Job> getRecentJobs(int limit) {
+        return jobDAO.findRecent(limit);
+    }
+    
+    @Override
+    public void shutdown() {
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warning("Job workers did not stop within " + SHUTDOWN_WAIT_MS + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    
+    // ========== Execution ==========
+    
+    private void execute(RunningJob running, JobTask task) {
+        int jobId = running.job.getJobId();
+        if (running.cancelled || !jobDAO.markRunning(jobId)) {
+            activeJobs.remove(jobId);
+            return;
+        }
+        
+        try {
+            String result = task.run(running);
+            if (running.cancelled) {
+                finish(running, JobStatus.CANCELLED, result, null, true);
+            } else {
+                finish(running, JobStatus.COMPLETED, result, null, true);
+            }
+        } catch (CancellationException | InterruptedException e) {
+            finish(running, JobStatus.CANCELLED, null, null, true);
+        } catch (Exception e) {
+            if (running.cancelled) {
+                finish(running, JobStatus.CANCELLED, null, null, true);
+            } else {
+                LOGGER.log(Level.WARNING, "Job " + jobId + " failed", e);
+                finish(running, JobStatus.FAILED, null, e.getMessage(), true);
+            }
+        }
+    }
+    
+    private void finish(RunningJob running, JobStatus status, String result, String error, boolean persist) {
+        Job job = running.job;
+        activeJobs.remove(job.getJobId());
+        if (persist && !jobDAO.markFinished(job.getJobId(), status, result, error)) {
+            return;
+        }
+        eventBusService.publish(new JobCompletedEvent(job.getJobId(), job.getJobType(), status,
+            result, error, job.getSubmittedBy()));
+    }
+    
+    /**
+     * Per-job state shared between the submitter, the worker and cancel().
+     */
+    private final class RunningJob implements JobContext {
+        private final Job job;
+        private volatile Future<?> future;
+        private volatile boolean cancelled;
+        private int lastProgress;
+        
+        private RunningJob(Job job) {
+            this.job = job;
+        }
+        
+        @Override
+        public int getJobId() {
+            return job.getJobId();
+        }
+        
+        @Override
+        public void setProgress(int percent) {
+            int clamped = Math.max(0, Math.min(100, percent));
+            if (clamped == lastProgress) return;
+            
+            lastProgress = clamped;
+            jobDAO.updateProgress(job.getJobId(), clamped);
+            eventBusService.publish(new JobProgressEvent(job.getJobId(), job.getJobType(), clamped));
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled || Thread.currentThread().isInterrupted();
+        }
+        
+        @Override
+        public void checkCancelled() {
+            if (isCancelled()) {
+                throw new CancellationException("Job " + job.getJobId() + " was cancelled");
+            }
+        }
+    }
+}
@@ -182,12 +182,7 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     public List<Lesson> searchLessonsByTopic(String searchTerm) {
-        List<LessonTopic> topics = lessonTopicDAO.searchBySpecificTopic(searchTerm);
-        
-        return topics.stream()
-                .map(topic -> lessonDAO.findById(topic.getLessonId()))
-                .distinct()
-                .collect(Collectors.toList());
+        return lessonDAO.searchByTopic(searchTerm, Integer.MAX_VALUE);
     }
 
     // ===== Private Helper Methods =====
@@ -5,32 +5,67 @@ import com.studenttracker.dao.NotificationDAO;
 import com.studenttracker.dao.StudentDAO;
 import com.studenttracker.dao.UpdateRequestDAO;
 import com.studenttracker.dao.UserDAO;
+import com.studenttracker.exception.ServiceException;
+import com.studenttracker.exception.ValidationException;
 import com.studenttracker.model.Notification;
 import com.studenttracker.model.Student;
 import com.studenttracker.model.UpdateRequest;
 import com.studenttracker.model.User;
 import com.studenttracker.model.User.UserRole;
+import com.studenttracker.service.AsyncSubscriber;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.NotificationService;
 import com.studenttracker.service.event.*;
 import com.studenttracker.service.impl.helpers.NotificationServiceImplHelpers;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
 
 /**
  * Implementation of NotificationService.
  * Handles notification creation, delivery, and management.
  * Subscribes to system events to send relevant notifications.
+ * Unread counts are kept in memory (seeded from the database on first use)
+ * and every change is published as an UnreadNotificationCountChangedEvent.
  */
+@AsyncSubscriber
 public class NotificationServiceImpl implements NotificationService {
     
+    /** Rows deleted per transaction by the retention purge. */
+    private static final int PURGE_BATCH_SIZE = 500;
+    
     private final NotificationDAO notificationDAO;
     private final UserDAO userDAO;
     private final StudentDAO studentDAO;
     private final UpdateRequestDAO updateRequestDAO;
     private final EventBusService eventBusService;
     
+    /** Unread notifications per user; a user without an entry has none. */
+    private final Map<Integer, AtomicInteger> unreadCounts = new ConcurrentHashMap<>();
+    private volatile boolean unreadCountsSeeded;
+    /**
+     * Read lock: a write to unread rows plus its counter adjustment.
+     * Write lock: loading the counters from the database.
+     */
+    private final ReadWriteLock unreadLock = new ReentrantReadWriteLock();
+    
     /**
      * Constructor with dependency injection.
      * Registers this service as an event subscriber.
@@ -65,22 +100,61 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setRead(false);
         notification.setCreatedAt(LocalDateTime.now());
         
-        // Step 2: Persist to database
-        Integer notificationId = notificationDAO.insert(notification);
-        
-        // Step 3: Publish NotificationSentEvent
-        NotificationSentEvent event = new NotificationSentEvent(
-            notificationId,
-            userId,
-            notificationType,
-            message
-        );
-        eventBusService.publish(event);
+        // Step 2: Persist to database (counters seeded first, so the seed can't count it twice)
+        seedUnreadCounts();
+        Integer notificationId;
+        unreadLock.readLock().lock();
+        try {
+            notificationId = notificationDAO.insert(notification);
+            
+            // Step 3: Publish NotificationSentEvent and the new unread count
+            sent(notificationId, userId, notificationType, message);
+        } finally {
+            unreadLock.readLock().unlock();
+        }
         
         // Step 4: Return notification ID
         return notificationId;
     }
     
+    /**
+     * Sends the same notification to several users, inserted in one transaction.
+     * 
+     * @return Generated notification IDs, in recipient order
+     */
+    private List<Integer> sendNotifications(List<Integer> userIds, String notificationType, String message) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> notifications = new ArrayList<>();
+        for (Integer userId : userIds) {
+            Notification notification = new Notification();
+            notification.setUserId(userId);
+            notification.setNotificationType(notificationType);
+            notification.setMessage(message);
+            notification.setRead(false);
+            notification.setCreatedAt(LocalDateTime.now());
+            notifications.add(notification);
+        }
+        
+        seedUnreadCounts();
+        unreadLock.readLock().lock();
+        try {
+            List<Integer> notificationIds = notificationDAO.insertBatch(notifications);
+            for (int i = 0; i < userIds.size(); i++) {
+                sent(notificationIds.get(i), userIds.get(i), notificationType, message);
+            }
+            return notificationIds;
+        } finally {
+            unreadLock.readLock().unlock();
+        }
+    }
+    
+    private void sent(Integer notificationId, Integer userId, String notificationType, String message) {
+        eventBusService.publish(new NotificationSentEvent(notificationId, userId, notificationType, message));
+        adjustUnreadCount(userId, 1);
+    }
+    
     @Override
     public void notifyUpdateRequest(Integer adminId, Integer requestId, 
                                     String requestType, Integer requestedBy) {
@@ -149,15 +223,18 @@ public class NotificationServiceImpl implements NotificationService {
     
     @Override
     public void notifyAllAdmins(String notificationType, String message) {
-        // Get all active admins
-        List<User> admins = userDAO.findByRole(UserRole.ADMIN);
-        
-        // Send notification to each admin
-        for (User admin : admins) {
+        // Send one notification per active admin, in one transaction
+        sendNotifications(activeAdminIds(), notificationType, message);
+    }
+    
+    private List<Integer> activeAdminIds() {
+        List<Integer> adminIds = new ArrayList<>();
+        for (User admin : userDAO.findByRole(UserRole.ADMIN)) {
             if (admin.isActive()) {
-                sendNotification(admin.getUserId(), notificationType, message);
+                adminIds.add(admin.getUserId());
             }
         }
+        return adminIds;
     }
     
     
@@ -165,12 +242,35 @@ public class NotificationServiceImpl implements NotificationService {
     
     @Override
     public boolean markAsRead(Integer notificationId) {
-        return notificationDAO.markAsRead(notificationId);
+        seedUnreadCounts();
+        Integer userId;
+        unreadLock.readLock().lock();
+        try {
+            userId = notificationDAO.markUnreadAsRead(notificationId);
+            if (userId != null) {
+                adjustUnreadCount(userId, -1);
+            }
+        } finally {
+            unreadLock.readLock().unlock();
+        }
+        // Otherwise already read, or missing
+        return userId != null || notificationDAO.findById(notificationId) != null;
     }
     
     @Override
     public boolean markAllAsRead(Integer userId) {
-        return notificationDAO.markAllAsReadForUser(userId);
+        seedUnreadCounts();
+        int cleared;
+        unreadLock.readLock().lock();
+        try {
+            cleared = notificationDAO.markAllUnreadAsRead(userId);
+            if (cleared > 0) {
+                adjustUnreadCount(userId, -cleared);
+            }
+        } finally {
+            unreadLock.readLock().unlock();
+        }
+        return cleared > 0;
     }
     
     
@@ -193,7 +293,10 @@ public class NotificationServiceImpl implements NotificationService {
     
     @Override
     public int getUnreadCount(Integer userId) {
-        return notificationDAO.countUnreadByUser(userId);
+        seedUnreadCounts();
+        AtomicInteger count = unreadCounts.get(userId);
+        // A mark-as-read can be counted before the send it cancels
+        return count == null ? 0 : Math.max(0, count.get());
     }
     
     @Override
@@ -206,11 +309,132 @@ public class NotificationServiceImpl implements NotificationService {
     
     @Override
     public void deleteOldNotifications(int daysOld) {
-        // Calculate cutoff date
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
+        purgeOldNotifications(daysOld, null, null);
+    }
+    
+    @Override
+    public int purgeOldNotifications(int daysOld, Path archiveFile, IntConsumer afterBatch) {
+        if (daysOld < 0) {
+            throw new ValidationException("Retention days cannot be negative");
+        }
+        // created_at is CURRENT_TIMESTAMP, i.e. UTC
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).withNano(0).minusDays(daysOld);
         
-        // Delete old notifications
-        notificationDAO.deleteOldNotifications(cutoffDate);
+        int deleted = 0;
+        try {
+            while (true) {
+                List<Notification> batch = notificationDAO.findCreatedBefore(cutoff, PURGE_BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                if (archiveFile != null) {
+                    archive(batch, archiveFile);
+                }
+                List<Integer> ids = new ArrayList<>(batch.size());
+                for (Notification notification : batch) {
+                    ids.add(notification.getNotificationId());
+                }
+                deleted += notificationDAO.deleteByIds(ids);
+                if (afterBatch != null) {
+                    afterBatch.accept(deleted);
+                }
+                if (batch.size() < PURGE_BATCH_SIZE) {
+                    break;
+                }
+            }
+        } finally {
+            if (deleted > 0) {
+                // Unread ones may be gone too; recount
+                reseedUnreadCounts();
+            }
+        }
+        return deleted;
+    }
+    
+    /**
+     * Append a batch as JSON lines and sync it to disk, so nothing is deleted
+     * before its archive copy is durable.
+     */
+    private void archive(List<Notification> batch, Path archiveFile) {
+        StringBuilder lines = new StringBuilder();
+        for (Notification notification : batch) {
+            lines.append(NotificationServiceImplHelpers.toArchiveJson(notification)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(archiveFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to archive notifications to " + archiveFile, e);
+        }
+    }
+    
+    
+    // ========== Unread Counters ==========
+    
+    /**
+     * Load unread counts from the database, once.
+     */
+    private void seedUnreadCounts() {
+        if (unreadCountsSeeded) {
+            return;
+        }
+        unreadLock.writeLock().lock();
+        try {
+            if (!unreadCountsSeeded) {
+                loadUnreadCounts();
+            }
+        } finally {
+            unreadLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Recount after rows were deleted behind the counters' back, and publish
+     * the count of every user whose count changed. The write lock waits for
+     * in-flight sends and mark-as-reads, so none is counted twice or lost.
+     */
+    private void reseedUnreadCounts() {
+        unreadLock.writeLock().lock();
+        try {
+            Map<Integer, Integer> before = new HashMap<>();
+            unreadCounts.forEach((userId, count) -> before.put(userId, Math.max(0, count.get())));
+            loadUnreadCounts();
+            
+            Set<Integer> userIds = new HashSet<>(before.keySet());
+            userIds.addAll(unreadCounts.keySet());
+            for (Integer userId : userIds) {
+                AtomicInteger count = unreadCounts.get(userId);
+                int after = count == null ? 0 : count.get();
+                if (after != before.getOrDefault(userId, 0)) {
+                    eventBusService.publish(new UnreadNotificationCountChangedEvent(userId, after));
+                }
+            }
+        } finally {
+            unreadLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Replace the counters with the database's counts; caller holds the write lock.
+     */
+    private void loadUnreadCounts() {
+        Map<Integer, Integer> counts = notificationDAO.countUnreadGroupedByUser();
+        // Replaced key by key, so lock-free readers never see an empty map
+        counts.forEach((userId, count) -> unreadCounts.put(userId, new AtomicInteger(count)));
+        unreadCounts.keySet().retainAll(counts.keySet());
+        unreadCountsSeeded = true;
+    }
+    
+    /**
+     * Apply a committed change; callers seed before writing and hold the read lock.
+     */
+    private void adjustUnreadCount(Integer userId, int delta) {
+        int count = unreadCounts.computeIfAbsent(userId, id -> new AtomicInteger()).addAndGet(delta);
+        eventBusService.publish(new UnreadNotificationCountChangedEvent(userId, Math.max(0, count)));
     }
     
     
@@ -222,20 +446,17 @@ public class NotificationServiceImpl implements NotificationService {
      */
     @Subscribe
     public void onUpdateRequestSubmitted(UpdateRequestSubmittedEvent event) {
-        // Get all admins
-        List<User> admins = userDAO.findByRole(UserRole.ADMIN);
+        // Get assistant name
+        User assistant = userDAO.findById(event.getRequestedBy());
+        String assistantName = assistant != null ? assistant.getFullName() : "Unknown";
         
-        // Notify each admin
-        for (User admin : admins) {
-            if (admin.isActive()) {
-                notifyUpdateRequest(
-                    admin.getUserId(),
-                    event.getRequestId(),
-                    event.getRequestType(),
-                    event.getRequestedBy()
-                );
-            }
-        }
+        // Build message once
+        String message = NotificationServiceImplHelpers.buildUpdateRequestMessage(
+            assistantName, event.getRequestId(), event.getRequestType()
+        );
+        
+        // Notify all active admins in one transaction
+        sendNotifications(activeAdminIds(), "UPDATE_REQUEST", message);
     }
     
     /**
@@ -0,0 +1,185 @@
+package com.studenttracker.service.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.studenttracker.dao.OutboxDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.model.OutboxEntry;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.OutboxService;
+import com.studenttracker.service.event.Event;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of OutboxService.
+ * One daemon thread drains the outbox: right after a commit, and on a slow
+ * timer to retry failures and pick up entries left by a crash.
+ */
+public class OutboxServiceImpl implements OutboxService {
+    
+    private static final Logger LOGGER = Logger.getLogger(OutboxServiceImpl.class.getName());
+    
+    private static final String EVENT_PACKAGE = Event.class.getPackageName() + ".";
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long POLL_INTERVAL_MS = 30_000;
+    /** Time async subscribers get to handle an entry before it is retried. */
+    private static final long DELIVERY_TIMEOUT_MS = 60_000;
+    private static final int RETENTION_DAYS = 7;
+    
+    private final OutboxDAO outboxDAO;
+    private final EventBusService eventBusService;
+    private final Gson gson = new Gson();
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("outbox-dispatcher").daemon(true).factory());
+    private volatile boolean started;
+    
+    /**
+     * Constructor with dependency injection.
+     */
+    public OutboxServiceImpl(OutboxDAO outboxDAO, EventBusService eventBusService) {
+        this.outboxDAO = outboxDAO;
+        this.eventBusService = eventBusService;
+    }
+    
+    @Override
+    public OutboxEntry toEntry(Event event) {
+        return new OutboxEntry(event.getClass().getName(), gson.toJson(event));
+    }
+    
+    @Override
+    public void entriesCommitted() {
+        if (started) {
+            try {
+                dispatcher.execute(this::dispatchQuietly);
+            } catch (RuntimeException e) {
+                // Shut down: entries stay pending for the next run
+            }
+        }
+    }
+    
+    @Override
+    public synchronized int dispatchPending() {
+        int delivered = 0;
+        List<OutboxEntry> batch;
+        do {
+            batch = outboxDAO.findPending(MAX_ATTEMPTS, BATCH_SIZE);
+            for (OutboxEntry entry : batch) {
+                if (dispatch(entry)) {
+                    delivered++;
+                }
+            }
+        } while (batch.size() == BATCH_SIZE && delivered > 0);
+        return delivered;
+    }
+    
+    @Override
+    public int getPendingCount() {
+        return outboxDAO.countPending();
+    }
+    
+    @Override
+    public boolean isConsumed(Integer outboxId, String consumer) {
+        return outboxId != null && outboxDAO.isConsumed(outboxId, consumer);
+    }
+    
+    @Override
+    public boolean markConsumed(Integer outboxId, String consumer) {
+        if (outboxId == null) {
+            return true;
+        }
+        return outboxDAO.markConsumed(outboxId, consumer);
+    }
+    
+    @Override
+    public void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        dispatcher.execute(this::cleanupQuietly);
+        dispatcher.scheduleWithFixedDelay(this::dispatchQuietly, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public void shutdown() {
+        started = false;
+        dispatcher.shutdownNow();
+    }
+    
+    // ========== Dispatch ==========
+    
+    private boolean dispatch(OutboxEntry entry) {
+        try {
+            Event event = deserialize(entry);
+            // Redelivery reaches every subscriber again; they recompute or dedupe by outbox ID
+            switch (eventBusService.publishAndWait(event, DELIVERY_TIMEOUT_MS)) {
+                case FAILED:
+                    outboxDAO.recordFailure(entry.getOutboxId(), "A subscriber failed; see the log");
+                    return false;
+                case TIMED_OUT:
+                    outboxDAO.recordFailure(entry.getOutboxId(), "Subscribers did not finish within " + DELIVERY_TIMEOUT_MS + " ms");
+                    return false;
+                default:
+                    break;
+            }
+            outboxDAO.markDispatched(entry.getOutboxId());
+            return true;
+            
+        } catch (DAOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to deliver outbox entry " + entry.getOutboxId(), e);
+            outboxDAO.recordFailure(entry.getOutboxId(), e.toString());
+            return false;
+        }
+    }
+    
+    /**
+     * Rebuild the event from its JSON payload, adding the outbox ID so
+     * consumers can dedupe redeliveries.
+     */
+    private Event deserialize(OutboxEntry entry) {
+        String type = entry.getEventType();
+        if (type == null || !type.startsWith(EVENT_PACKAGE)) {
+            throw new IllegalStateException("Unsupported outbox event type: " + type);
+        }
+        try {
+            Class<? extends Event> eventClass = Class.forName(type).asSubclass(Event.class);
+            JsonObject json = JsonParser.parseString(entry.getPayload()).getAsJsonObject();
+            json.addProperty("outboxId", entry.getOutboxId());
+            return gson.fromJson(json, eventClass);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown outbox event type: " + type, e);
+        }
+    }
+    
+    private void dispatchQuietly() {
+        try {
+            int delivered = dispatchPending();
+            if (delivered > 0) {
+                LOGGER.fine("Delivered " + delivered + " outbox entr" + (delivered == 1 ? "y" : "ies"));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Outbox dispatch failed; will retry", e);
+        }
+    }
+    
+    private void cleanupQuietly() {
+        try {
+            int deleted = outboxDAO.deleteDispatchedOlderThan(RETENTION_DAYS);
+            if (deleted > 0) {
+                LOGGER.info("Deleted " + deleted + " delivered outbox entries");
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Outbox cleanup failed", e);
+        }
+    }
+}
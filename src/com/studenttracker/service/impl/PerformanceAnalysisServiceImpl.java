@@ -1,8 +1,11 @@
 package com.studenttracker.service.impl;
 
+import com.google.common.eventbus.Subscribe;
 import com.studenttracker.dao.PerformanceIndicatorDAO;
 import com.studenttracker.dao.QuizScoreDAO;
 import com.studenttracker.dao.QuizQuestionDAO;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.ChartSeries;
 import com.studenttracker.model.PerformanceIndicator;
 import com.studenttracker.model.PerformanceTrend;
 import com.studenttracker.model.QuizQuestion;
@@ -10,6 +13,7 @@ import com.studenttracker.model.QuizScore;
 import com.studenttracker.model.LessonTopic;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.PerformanceAnalysisService;
+import com.studenttracker.service.event.DerivedDataRebuiltEvent;
 import com.studenttracker.service.event.PerformanceIndicatorCalculatedEvent;
 import com.studenttracker.service.event.PerformanceDegradationDetectedEvent;
 import com.studenttracker.service.event.PerformanceImprovementDetectedEvent;
@@ -18,6 +22,8 @@ import static com.studenttracker.model.LessonTopic.TopicCategory;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,8 +41,13 @@ public class PerformanceAnalysisServiceImpl implements PerformanceAnalysisServic
     private final QuizQuestionDAO quizQuestionDAO;
     private final EventBusService eventBusService;
     
+    /** Raw chart series per student, keyed by category name or "OVERALL". Downsampling is not cached. */
+    private final Map<Integer, Map<String, ChartSeries>> seriesCache = new ConcurrentHashMap<>();
+    private static final String OVERALL_SERIES_KEY = "OVERALL";
+    
     /**
      * Constructor with dependency injection.
+     * Registers this service as an event subscriber.
      */
     public PerformanceAnalysisServiceImpl(PerformanceIndicatorDAO performanceIndicatorDAO,
                                          QuizScoreDAO quizScoreDAO,
@@ -46,6 +57,21 @@ public class PerformanceAnalysisServiceImpl implements PerformanceAnalysisServic
         this.quizScoreDAO = quizScoreDAO;
         this.quizQuestionDAO = quizQuestionDAO;
         this.eventBusService = eventBusService;
+        
+        // Register as event subscriber
+        this.eventBusService.register(this);
+    }
+    
+    
+    // ========== Event Subscribers ==========
+    
+    /**
+     * Handles DerivedDataRebuiltEvent.
+     * Cached chart series were built from the replaced PI rows.
+     */
+    @Subscribe
+    public void onDerivedDataRebuilt(DerivedDataRebuiltEvent event) {
+        seriesCache.clear();
     }
     
     
@@ -108,6 +134,7 @@ public class PerformanceAnalysisServiceImpl implements PerformanceAnalysisServic
             
             Integer piId = performanceIndicatorDAO.insert(pi);
             pi.setPiId(piId);
+            seriesCache.remove(studentId);
             
             // Step 7: Publish PerformanceIndicatorCalculatedEvent (uses PerformanceIndicator.TopicCategory)
             PerformanceIndicatorCalculatedEvent calculatedEvent = 
@@ -174,6 +201,7 @@ public class PerformanceAnalysisServiceImpl implements PerformanceAnalysisServic
         for (PerformanceIndicator pi : existingPIs) {
             performanceIndicatorDAO.delete(pi.getPiId());
         }
+        seriesCache.remove(studentId);
         
         // Step 3: Recalculate PIs for all quizzes in chronological order
         for (Integer quizId : sortedQuizIds) {
@@ -281,28 +309,59 @@ public class PerformanceAnalysisServiceImpl implements PerformanceAnalysisServic
     @Override
     public Map<Integer, Integer> getPIProgressionByCategory(Integer studentId, 
                                                             TopicCategory category) {
-        List<PerformanceIndicator> piHistory = getStudentPIByCategory(studentId, category);
-        
-        Map<Integer, Integer> progression = new LinkedHashMap<>();
-        for (PerformanceIndicator pi : piHistory) {
-            progression.put(pi.getQuizId(), pi.getCumulativePi());
-        }
-        
-        return progression;
+        return toProgressionMap(getRawSeries(studentId, category.name(),
+            () -> performanceIndicatorDAO.findCumulativeSeries(studentId, category)));
     }
     
     @Override
     public Map<Integer, Integer> getOverallPIProgression(Integer studentId) {
-        List<PerformanceIndicator> allPIs = getStudentPIHistory(studentId);
-        
-        // Group by quiz ID and sum cumulative PIs
-        Map<Integer, Integer> quizTotals = new LinkedHashMap<>();
-        
-        for (PerformanceIndicator pi : allPIs) {
-            Integer quizId = pi.getQuizId();
-            quizTotals.put(quizId, quizTotals.getOrDefault(quizId, 0) + pi.getCumulativePi());
+        // Summed per quiz in SQL instead of scanning every PI row
+        return toProgressionMap(getRawSeries(studentId, OVERALL_SERIES_KEY,
+            () -> performanceIndicatorDAO.findOverallSeries(studentId)));
+    }
+    
+    @Override
+    public ChartSeries getPIProgressionSeries(Integer studentId, TopicCategory category, int maxPoints) {
+        return getDownsampledSeries(studentId, category.name(), maxPoints,
+            () -> performanceIndicatorDAO.findCumulativeSeries(studentId, category));
+    }
+    
+    @Override
+    public ChartSeries getOverallPIProgressionSeries(Integer studentId, int maxPoints) {
+        return getDownsampledSeries(studentId, OVERALL_SERIES_KEY, maxPoints,
+            () -> performanceIndicatorDAO.findOverallSeries(studentId));
+    }
+    
+    
+    // ========== Chart Series Cache ==========
+    
+    private ChartSeries getRawSeries(Integer studentId, String key, Supplier<ChartSeries> loader) {
+        return seriesCache
+            .computeIfAbsent(studentId, id -> new ConcurrentHashMap<>())
+            .computeIfAbsent(key, k -> loader.get());
+    }
+    
+    private ChartSeries getDownsampledSeries(Integer studentId, String key, int maxPoints,
+                                             Supplier<ChartSeries> loader) {
+        // LTTB keeps the first and last points, so a smaller budget cannot be met
+        if (maxPoints < 2) {
+            throw new ValidationException("Point budget must be at least 2");
         }
-        
-        return quizTotals;
+        ChartSeries raw = getRawSeries(studentId, key, loader);
+        if (maxPoints >= raw.size()) {
+            return raw;
+        }
+        // One linear pass; caching per budget would grow with every chart width
+        return PerformanceAnalysisServiceImplHelpers.downsampleLTTB(raw, maxPoints);
+    }
+    
+    private Map<Integer, Integer> toProgressionMap(ChartSeries series) {
+        Map<Integer, Integer> progression = new LinkedHashMap<>();
+        int[] quizIds = series.getQuizIds();
+        int[] values = series.getValues();
+        for (int i = 0; i < quizIds.length; i++) {
+            progression.put(quizIds[i], values[i]);
+        }
+        return progression;
     }
-}
\ No newline at end of file
+}
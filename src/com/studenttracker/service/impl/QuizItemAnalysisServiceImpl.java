@@ -0,0 +1,283 @@
+package com.studenttracker.service.impl;
+
+import com.google.common.eventbus.Subscribe;
+import com.studenttracker.dao.QuizDAO;
+import com.studenttracker.dao.QuizQuestionDAO;
+import com.studenttracker.dao.QuizScoreDAO;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.LessonTopic.TopicCategory;
+import com.studenttracker.model.QuestionItemStatistics;
+import com.studenttracker.model.QuizItemAnalysis;
+import com.studenttracker.model.QuizQuestion;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.QuizItemAnalysisService;
+import com.studenttracker.service.event.QuizGradedEvent;
+import com.studenttracker.service.event.QuizGradingCompletedEvent;
+import com.studenttracker.service.impl.helpers.QuizItemAnalysisServiceImplHelpers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of QuizItemAnalysisService.
+ * Streams quiz_scores ordered by question and accumulates per-question sums,
+ * so no QuizScore objects are built. Results are cached per quiz and dropped
+ * whenever grading events report that the quiz's scores changed.
+ */
+public class QuizItemAnalysisServiceImpl implements QuizItemAnalysisService {
+    
+    private final QuizDAO quizDAO;
+    private final QuizQuestionDAO quizQuestionDAO;
+    private final QuizScoreDAO quizScoreDAO;
+    private final EventBusService eventBusService;
+    private final Map<Integer, QuizItemAnalysis> cache = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor with dependency injection.
+     * Registers this service as an event subscriber for cache invalidation.
+     */
+    public QuizItemAnalysisServiceImpl(QuizDAO quizDAO, QuizQuestionDAO quizQuestionDAO,
+                                       QuizScoreDAO quizScoreDAO, EventBusService eventBusService) {
+        this.quizDAO = quizDAO;
+        this.quizQuestionDAO = quizQuestionDAO;
+        this.quizScoreDAO = quizScoreDAO;
+        this.eventBusService = eventBusService;
+        
+        this.eventBusService.register(this);
+    }
+    
+    
+    // ========== Event Subscribers ==========
+    
+    /**
+     * Handles QuizGradedEvent (new grades and score corrections).
+     */
+    @Subscribe
+    public void onQuizGraded(QuizGradedEvent event) {
+        invalidate(event.getQuizId());
+    }
+    
+    /**
+     * Handles QuizGradingCompletedEvent.
+     */
+    @Subscribe
+    public void onQuizGradingCompleted(QuizGradingCompletedEvent event) {
+        invalidate(event.getQuizId());
+    }
+    
+    
+    // ========== Analysis ==========
+    
+    @Override
+    public QuizItemAnalysis analyzeQuiz(Integer quizId) {
+        if (quizId == null) {
+            throw new ValidationException("Quiz ID cannot be null");
+        }
+        // computeIfAbsent blocks a concurrent invalidate() until the computation
+        // finishes, so an entry computed from pre-change rows is never kept
+        return cache.computeIfAbsent(quizId, this::computeAnalysis);
+    }
+    
+    @Override
+    public List<QuizItemAnalysis> analyzeQuizzesInRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new ValidationException("Start date and end date cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+        
+        List<QuizItemAnalysis> analyses = new ArrayList<>();
+        for (Integer quizId : quizDAO.findQuizIdsByDateRange(startDate, endDate)) {
+            analyses.add(analyzeQuiz(quizId));
+        }
+        return analyses;
+    }
+    
+    @Override
+    public void invalidate(Integer quizId) {
+        if (quizId != null) {
+            cache.remove(quizId);
+        }
+    }
+    
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+    
+    
+    // ========== Helper Methods ==========
+    
+    private QuizItemAnalysis computeAnalysis(Integer quizId) {
+        List<QuizQuestion> questions = quizQuestionDAO.findByQuizId(quizId);
+        Map<Integer, Double> studentTotals = quizScoreDAO.getStudentTotalsByQuiz(quizId);
+        
+        ItemAccumulator accumulator = new ItemAccumulator(questions, studentTotals);
+        if (!studentTotals.isEmpty()) {
+            quizScoreDAO.streamScoresByQuestion(quizId, accumulator::onRow);
+        }
+        accumulator.finish();
+        
+        return new QuizItemAnalysis(
+            quizId,
+            studentTotals.size(),
+            accumulator.getResults(),
+            accumulator.getCategoryReliability(),
+            LocalDateTime.now()
+        );
+    }
+    
+    /**
+     * Single-pass accumulator over score rows ordered by question.
+     * Keeps only running sums for the current question plus one
+     * per-student total per category for the reliability estimate.
+     */
+    private static final class ItemAccumulator {
+        private final Map<Integer, QuizQuestion> questionMap = new HashMap<>();
+        private final Map<Integer, Integer> studentIndex = new HashMap<>();
+        private final Set<Integer> lowerGroup;
+        private final Set<Integer> upperGroup;
+        private final double[][] categoryTotals;
+        private final double[] categoryItemVariance;
+        private final int[] categoryItemCount;
+        private final Map<Integer, QuestionItemStatistics> results = new HashMap<>();
+        
+        private QuizQuestion current;
+        private int currentQuestionId = -1;
+        private int count;
+        private double fractionSum;
+        private double pointsSum;
+        private double pointsSquareSum;
+        private double upperFractionSum;
+        private int upperCount;
+        private double lowerFractionSum;
+        private int lowerCount;
+        
+        ItemAccumulator(List<QuizQuestion> questions, Map<Integer, Double> studentTotals) {
+            for (QuizQuestion question : questions) {
+                questionMap.put(question.getQuestionId(), question);
+            }
+            for (Integer studentId : studentTotals.keySet()) {
+                studentIndex.put(studentId, studentIndex.size());
+            }
+            
+            List<Set<Integer>> groups = QuizItemAnalysisServiceImplHelpers.splitGroups(studentTotals);
+            this.lowerGroup = groups.get(0);
+            this.upperGroup = groups.get(1);
+            
+            int categories = TopicCategory.values().length;
+            this.categoryTotals = new double[categories][studentTotals.size()];
+            this.categoryItemVariance = new double[categories];
+            this.categoryItemCount = new int[categories];
+        }
+        
+        void onRow(int questionId, int studentId, double pointsEarned) {
+            if (questionId != currentQuestionId) {
+                flush();
+                currentQuestionId = questionId;
+                current = questionMap.get(questionId);
+            }
+            Integer index = studentIndex.get(studentId);
+            if (current == null || index == null) {
+                return;
+            }
+            
+            double maxPoints = current.getPoints() != null ? current.getPoints() : 0.0;
+            double fraction = maxPoints > 0 ? pointsEarned / maxPoints : 0.0;
+            
+            count++;
+            fractionSum += fraction;
+            pointsSum += pointsEarned;
+            pointsSquareSum += pointsEarned * pointsEarned;
+            if (upperGroup.contains(studentId)) {
+                upperFractionSum += fraction;
+                upperCount++;
+            }
+            if (lowerGroup.contains(studentId)) {
+                lowerFractionSum += fraction;
+                lowerCount++;
+            }
+            if (current.getCategory() != null) {
+                categoryTotals[current.getCategory().ordinal()][index] += pointsEarned;
+            }
+        }
+        
+        void finish() {
+            flush();
+            // Questions nobody was scored on still appear, without statistics
+            for (QuizQuestion question : questionMap.values()) {
+                results.computeIfAbsent(question.getQuestionId(), id -> new QuestionItemStatistics(
+                    id, question.getQuestionNumber(), question.getCategory(),
+                    question.getPoints(), 0, null, null));
+            }
+        }
+        
+        List<QuestionItemStatistics> getResults() {
+            List<QuestionItemStatistics> list = new ArrayList<>(results.values());
+            list.sort(Comparator.comparingInt(QuestionItemStatistics::getQuestionNumber));
+            return list;
+        }
+        
+        Map<TopicCategory, Double> getCategoryReliability() {
+            Map<TopicCategory, Double> reliability = new EnumMap<>(TopicCategory.class);
+            for (TopicCategory category : TopicCategory.values()) {
+                int c = category.ordinal();
+                if (categoryItemCount[c] < 2) {
+                    continue;
+                }
+                double sum = 0.0;
+                double squareSum = 0.0;
+                for (double total : categoryTotals[c]) {
+                    sum += total;
+                    squareSum += total * total;
+                }
+                double totalVariance = QuizItemAnalysisServiceImplHelpers.variance(sum, squareSum, categoryTotals[c].length);
+                reliability.put(category, QuizItemAnalysisServiceImplHelpers.cronbachAlpha(
+                    categoryItemCount[c], categoryItemVariance[c], totalVariance));
+            }
+            return reliability;
+        }
+        
+        private void flush() {
+            if (current != null && count > 0) {
+                double upperMean = upperCount > 0 ? upperFractionSum / upperCount : 0.0;
+                double lowerMean = lowerCount > 0 ? lowerFractionSum / lowerCount : 0.0;
+                
+                results.put(currentQuestionId, new QuestionItemStatistics(
+                    currentQuestionId,
+                    current.getQuestionNumber(),
+                    current.getCategory(),
+                    current.getPoints(),
+                    count,
+                    fractionSum / count,
+                    upperMean - lowerMean
+                ));
+                
+                if (current.getCategory() != null) {
+                    int c = current.getCategory().ordinal();
+                    categoryItemVariance[c] += QuizItemAnalysisServiceImplHelpers.variance(pointsSum, pointsSquareSum, count);
+                    categoryItemCount[c]++;
+                }
+            }
+            
+            current = null;
+            count = 0;
+            fractionSum = 0.0;
+            pointsSum = 0.0;
+            pointsSquareSum = 0.0;
+            upperFractionSum = 0.0;
+            upperCount = 0;
+            lowerFractionSum = 0.0;
+            lowerCount = 0;
+        }
+    }
+}
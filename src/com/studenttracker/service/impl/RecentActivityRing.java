@@ -0,0 +1,102 @@
+package com.studenttracker.service.impl;
+
+import com.studenttracker.model.RecentActivity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * The latest activities, kept in memory for the dashboard feed.
+ * Writers claim a sequence number and store into its slot; readers walk
+ * back from the newest sequence. Neither side locks. A slot still holding an
+ * older lap, or not yet written, is skipped.
+ */
+final class RecentActivityRing {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    private record Slot(long seq, RecentActivity activity) {
+    }
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    /** False until warmed; reads then return null so callers use the database. */
+    private volatile boolean warm;
+    /** True if warming found fewer rows than the capacity, i.e. the whole table. */
+    private volatile boolean warmedWholeTable;
+    /** Activities older than this were deleted from the database. */
+    private volatile LocalDateTime notBefore;
+
+    /**
+     * @param capacity Number of activities kept; rounded up to a power of two
+     */
+    RecentActivityRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    /**
+     * Load the newest rows from the database. Call once, before any {@link #add}.
+     * @param newestFirst Up to capacity rows, newest first
+     */
+    void warm(List<RecentActivity> newestFirst) {
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            add(newestFirst.get(i));
+        }
+        warmedWholeTable = newestFirst.size() < capacity;
+        warm = true;
+    }
+
+    void add(RecentActivity activity) {
+        long seq = next.getAndIncrement();
+        slots.set((int) (seq & mask), new Slot(seq, activity));
+    }
+
+    /**
+     * Forget activities created before a cutoff (after the database deleted them).
+     */
+    void dropOlderThan(LocalDateTime cutoff) {
+        notBefore = cutoff;
+    }
+
+    /**
+     * The newest matching activities.
+     * @return Newest first, or null if the ring cannot answer: not warmed,
+     *         limit above capacity, or fewer matches than the limit while older
+     *         history exists only in the database
+     */
+    List<RecentActivity> latest(Predicate<RecentActivity> filter, int limit) {
+        if (!warm || limit > capacity) {
+            return null;
+        }
+        LocalDateTime cutoff = notBefore;
+        long end = next.get();
+        List<RecentActivity> result = new ArrayList<>(Math.min(limit, 32));
+        for (long seq = end - 1; seq >= 0 && seq >= end - capacity && result.size() < limit; seq--) {
+            Slot slot = slots.get((int) (seq & mask));
+            if (slot == null || slot.seq != seq) {
+                continue;
+            }
+            RecentActivity activity = slot.activity;
+            if (cutoff != null && activity.getCreatedAt() != null && activity.getCreatedAt().isBefore(cutoff)) {
+                continue;
+            }
+            if (filter.test(activity)) {
+                result.add(activity);
+            }
+        }
+        if (result.size() == limit) {
+            return result;
+        }
+        // Short of the limit: complete only if nothing was ever evicted
+        return warmedWholeTable && next.get() <= capacity ? result : null;
+    }
+}
@@ -4,14 +4,20 @@ import com.google.common.eventbus.Subscribe;
 import com.studenttracker.dao.MissionDAO;
 import com.studenttracker.dao.QuizDAO;
 import com.studenttracker.dao.RecentActivityDAO;
+import com.studenttracker.model.ActivityBufferStats;
 import com.studenttracker.model.Mission;
 import com.studenttracker.model.Quiz;
 import com.studenttracker.model.RecentActivity;
+import com.studenttracker.service.AsyncSubscriber;
 import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.OutboxService;
 import com.studenttracker.service.RecentActivityService;
 import com.studenttracker.service.event.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,6 +32,10 @@ import java.util.logging.Logger;
  *   <li>Graceful error handling (logs errors but doesn't crash)</li>
  *   <li>Registers with EventBus in constructor</li>
  *   <li>Thread-safe (EventBus handles concurrency)</li>
+ *   <li>Write-behind: activities are buffered and inserted in batches, one
+ *       transaction per batch; reads include activities not yet written</li>
+ *   <li>The latest activities are kept in memory (warmed from the database
+ *       on startup); small reads are served from there</li>
  * </ul>
  * 
  * <p><b>Architecture:</b></p>
@@ -34,7 +44,7 @@ import java.util.logging.Logger;
  *                                             ↓
  *                            RecentActivityService (@Subscribe)
  *                                             ↓
- *                                    Log to Database
+ *                                    Write buffer → Log to Database (batched)
  * </pre>
  * 
  * <p><b>Error Handling Strategy:</b></p>
@@ -48,6 +58,7 @@ import java.util.logging.Logger;
  * @version 1.0.0
  * @since 2026-01-28
  */
+@AsyncSubscriber
 public class RecentActivityServiceImpl implements RecentActivityService {
     
     private static final Logger LOGGER = Logger.getLogger(RecentActivityServiceImpl.class.getName());
@@ -74,6 +85,26 @@ public class RecentActivityServiceImpl implements RecentActivityService {
      */
     private final QuizDAO quizDAO;
 
+    /**
+     * Outbox used to skip redelivered batch events (may be null).
+     */
+    private final OutboxService outboxService;
+
+    /**
+     * Consumer name recorded in the outbox.
+     */
+    private static final String OUTBOX_CONSUMER = "RecentActivityService";
+
+    /**
+     * Write-behind buffer in front of activityDAO inserts.
+     */
+    private final RecentActivityWriteBuffer writeBuffer;
+
+    /**
+     * Latest activities, for reads that fit in memory.
+     */
+    private final RecentActivityRing recentRing = new RecentActivityRing(RecentActivityRing.DEFAULT_CAPACITY);
+
     
     // ==================== CONSTRUCTOR ====================
     
@@ -85,10 +116,30 @@ public class RecentActivityServiceImpl implements RecentActivityService {
      * @param eventBus EventBus for event subscription
      */
     public RecentActivityServiceImpl(RecentActivityDAO activityDAO, MissionDAO missionDAO ,EventBusService eventBus , QuizDAO quizDAO) {
+        this(activityDAO, missionDAO, eventBus, quizDAO, null);
+    }
+    
+    /**
+     * Constructor with an outbox, so batch events redelivered by the outbox
+     * dispatcher are logged only once.
+     */
+    public RecentActivityServiceImpl(RecentActivityDAO activityDAO, MissionDAO missionDAO, EventBusService eventBus,
+                                     QuizDAO quizDAO, OutboxService outboxService) {
         this.activityDAO = activityDAO;
         this.eventBus = eventBus;
         this.missionDAO = missionDAO;
         this.quizDAO = quizDAO;
+        this.outboxService = outboxService;
+        this.writeBuffer = new RecentActivityWriteBuffer(activityDAO, RecentActivityWriteBuffer.DEFAULT_CAPACITY,
+            RecentActivityWriteBuffer.DEFAULT_BATCH_SIZE, RecentActivityWriteBuffer.DEFAULT_FLUSH_INTERVAL_MS);
+        
+        // Warm before registering, so no logged activity is missed; if this
+        // fails every read goes to the database
+        try {
+            recentRing.warm(activityDAO.getRecent(RecentActivityRing.DEFAULT_CAPACITY));
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to load recent activities into memory", e);
+        }
         
         
         // Register to listen to all relevant events
@@ -105,7 +156,11 @@ public class RecentActivityServiceImpl implements RecentActivityService {
     @Override
     public List<RecentActivity> getRecentActivities(int limit) {
         try {
-            return activityDAO.getRecent(limit);
+            List<RecentActivity> cached = recentRing.latest(activity -> true, limit);
+            if (cached != null) {
+                return cached;
+            }
+            return writeBuffer.read(activity -> true, activityDAO::getRecent, limit);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch recent activities", e);
             // Return empty list instead of crashing
@@ -119,7 +174,12 @@ public class RecentActivityServiceImpl implements RecentActivityService {
     @Override
     public List<RecentActivity> getActivitiesByType(String activityType, int limit) {
         try {
-            return activityDAO.getByType(activityType, limit);
+            Predicate<RecentActivity> ofType = activity -> activityType.equals(activity.getActivityType());
+            List<RecentActivity> cached = recentRing.latest(ofType, limit);
+            if (cached != null) {
+                return cached;
+            }
+            return writeBuffer.read(ofType, rows -> activityDAO.getByType(activityType, rows), limit);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to fetch activities by type: " + activityType, e);
             return List.of();
@@ -136,9 +196,12 @@ public class RecentActivityServiceImpl implements RecentActivityService {
             RecentActivity activity = new RecentActivity(
                 activityType, description, entityType, entityId, performedBy
             );
-            activityDAO.insert(activity);
-            
-            LOGGER.fine("Logged activity: " + activityType + " - " + description);
+            if (writeBuffer.add(activity)) {
+                recentRing.add(activity);
+                LOGGER.fine("Logged activity: " + activityType + " - " + description);
+            } else {
+                LOGGER.warning("Activity buffer full, dropped: " + description);
+            }
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to log activity: " + description, e);
@@ -152,13 +215,40 @@ public class RecentActivityServiceImpl implements RecentActivityService {
     @Override
     public void cleanupOldActivities(int olderThanDays) {
         try {
+            writeBuffer.flush();
+            LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(olderThanDays);
             int deleted = activityDAO.deleteOlderThan(olderThanDays);
+            recentRing.dropOlderThan(cutoff);
             LOGGER.info("Cleaned up " + deleted + " old activities (older than " + olderThanDays + " days)");
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to cleanup old activities", e);
         }
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flushActivities() {
+        writeBuffer.flush();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ActivityBufferStats getBufferStats() {
+        return writeBuffer.getStats();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        writeBuffer.shutdown();
+    }
+    
     // ==================== EVENT LISTENERS ====================
     
     /*
@@ -372,7 +462,8 @@ public class RecentActivityServiceImpl implements RecentActivityService {
      */
     @Subscribe
     public void onAttendanceBatchCompleted(AttendanceBatchCompletedEvent event) {
-        logActivity(
+        logDeliveredActivity(
+            event.getOutboxId(),
             "ATTENDANCE_RECORDED",
             "Attendance recorded for Lesson " + event.getLessonId() + 
             " (" + event.getPresentCount() + " students)",
@@ -383,13 +474,13 @@ public class RecentActivityServiceImpl implements RecentActivityService {
     }
     
     /**
-     * Listener for AttendanceMarkedEvent.
+     * Listener for AttendanceMarkedSummaryEvent.
      * Logs individual attendance marking (if needed for detailed tracking).
      * 
-     * @param event The attendance marked event
+     * @param event The coalesced attendance marked event
      */
     @Subscribe
-    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+    public void onAttendanceMarked(AttendanceMarkedSummaryEvent event) {
         // Optional: Log individual attendance records
         // Usually batch completion is sufficient, so this might be too verbose
         // Uncomment if you want detailed logs:
@@ -412,7 +503,8 @@ public class RecentActivityServiceImpl implements RecentActivityService {
      */
     @Subscribe
     public void onHomeworkBatchCompleted(HomeworkBatchCompletedEvent event) {
-        logActivity(
+        logDeliveredActivity(
+            event.getOutboxId(),
             "HOMEWORK_RECORDED",
             "Homework recorded for Lesson " + event.getLessonId() + 
             " (" + (event.getDoneCount() + event.getPartialCount()) + " students)",
@@ -423,13 +515,13 @@ public class RecentActivityServiceImpl implements RecentActivityService {
     }
     
     /**
-     * Listener for HomeworkRecordedEvent.
+     * Listener for HomeworkRecordedSummaryEvent.
      * Logs individual homework recording (if needed for detailed tracking).
      * 
-     * @param event The homework recorded event
+     * @param event The coalesced homework recorded event
      */
     @Subscribe
-    public void onHomeworkRecorded(HomeworkRecordedEvent event) {
+    public void onHomeworkRecorded(HomeworkRecordedSummaryEvent event) {
         // Optional: Log individual homework records
         // Usually batch completion is sufficient
         // Uncomment if needed:
@@ -597,6 +689,30 @@ public class RecentActivityServiceImpl implements RecentActivityService {
         );
     }
     
+    // ==================== HELPERS ====================
+    
+    /**
+     * Log an activity carried by an outbox delivery, once.
+     * The activity is written through rather than buffered, and the delivery
+     * is marked consumed only after the write. Failures propagate so the
+     * outbox retries the entry; a failure after the write logs it twice.
+     */
+    private void logDeliveredActivity(Integer outboxId, String activityType, String description,
+                                      String entityType, Integer entityId, Integer performedBy) {
+        if (outboxService == null || outboxId == null) {
+            logActivity(activityType, description, entityType, entityId, performedBy);
+            return;
+        }
+        if (outboxService.isConsumed(outboxId, OUTBOX_CONSUMER)) {
+            return;
+        }
+        RecentActivity activity = new RecentActivity(activityType, description, entityType, entityId, performedBy);
+        activity.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC).withNano(0));
+        activityDAO.insertBatch(List.of(activity));
+        recentRing.add(activity);
+        outboxService.markConsumed(outboxId, OUTBOX_CONSUMER);
+    }
+    
     // ==================== HELPER NOTES ====================
     
     /*
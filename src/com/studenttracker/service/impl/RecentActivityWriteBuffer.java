@@ -0,0 +1,225 @@
+package com.studenttracker.service.impl;
+
+import com.studenttracker.dao.RecentActivityDAO;
+import com.studenttracker.model.ActivityBufferStats;
+import com.studenttracker.model.RecentActivity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind buffer for recent activities.
+ * Activities are queued without locking and written in one transaction per
+ * batch, when a batch fills up or on a timer. When the buffer is full new
+ * activities are dropped and counted. Readers see buffered activities
+ * through {@link #read}, so the dashboard never lags behind the buffer.
+ */
+final class RecentActivityWriteBuffer {
+
+    private static final Logger LOGGER = Logger.getLogger(RecentActivityWriteBuffer.class.getName());
+
+    static final int DEFAULT_CAPACITY = 10_000;
+    static final int DEFAULT_BATCH_SIZE = 200;
+    static final long DEFAULT_FLUSH_INTERVAL_MS = 1_000;
+    /** Attempts to write a batch before its activities are dropped. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RecentActivityDAO activityDAO;
+    private final int capacity;
+    private final int batchSize;
+    private final Queue<RecentActivity> queue = new ConcurrentLinkedQueue<>();
+    /** Queued plus in-flight activities. */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger highWater = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    /**
+     * Held exclusively while a batch moves from the queue to the database, so a
+     * reader never sees an activity in both places or in neither.
+     */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("activity-writer").daemon(true).factory());
+    /** Batch being written, or whose write failed and is retried before anything newer. Guarded by flushLock. */
+    private List<RecentActivity> inFlight = new ArrayList<>();
+    private int inFlightAttempts;
+    private volatile boolean closed;
+
+    RecentActivityWriteBuffer(RecentActivityDAO activityDAO, int capacity, int batchSize, long flushIntervalMs) {
+        this.activityDAO = activityDAO;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue an activity; stamps createdAt (UTC, like CURRENT_TIMESTAMP) if unset.
+     * @return false if the buffer was full and the activity was dropped
+     */
+    boolean add(RecentActivity activity) {
+        if (activity.getCreatedAt() == null) {
+            activity.setCreatedAt(LocalDateTime.now(ZoneOffset.UTC).withNano(0));
+        }
+        if (closed) {
+            // Shut down: write through
+            activityDAO.insertBatch(List.of(activity));
+            written.increment();
+            return true;
+        }
+        int size = pending.incrementAndGet();
+        if (size > capacity) {
+            pending.decrementAndGet();
+            dropped.increment();
+            requestFlush();
+            return false;
+        }
+        highWater.accumulateAndGet(size, Math::max);
+        queue.add(activity);
+        if (size >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Run a database read and merge buffered activities in front of its result.
+     * @param filter Buffered activities to include
+     * @param query Database read, given the number of rows wanted
+     * @param limit Maximum number of activities returned
+     * @return Newest first
+     */
+    List<RecentActivity> read(Predicate<RecentActivity> filter, Function<Integer, List<RecentActivity>> query,
+                              int limit) {
+        flushLock.readLock().lock();
+        try {
+            List<RecentActivity> result = new ArrayList<>();
+            for (RecentActivity activity : inFlight) {
+                if (filter.test(activity)) {
+                    result.add(activity);
+                }
+            }
+            for (RecentActivity activity : queue) {
+                if (filter.test(activity)) {
+                    result.add(activity);
+                }
+            }
+            Collections.reverse(result);
+            if (result.size() >= limit) {
+                return new ArrayList<>(result.subList(0, limit));
+            }
+            result.addAll(query.apply(limit - result.size()));
+            return result;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write everything buffered so far.
+     * @throws com.studenttracker.exception.DAOException if a batch cannot be written;
+     *         its activities stay buffered for the next flush
+     */
+    void flush() {
+        flushLock.writeLock().lock();
+        try {
+            while (true) {
+                if (inFlight.isEmpty()) {
+                    RecentActivity next;
+                    while (inFlight.size() < batchSize && (next = queue.poll()) != null) {
+                        inFlight.add(next);
+                    }
+                    inFlightAttempts = 0;
+                }
+                if (inFlight.isEmpty()) {
+                    return;
+                }
+                writeInFlight();
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void writeInFlight() {
+        try {
+            activityDAO.insertBatch(inFlight);
+            written.add(inFlight.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            if (++inFlightAttempts < MAX_ATTEMPTS) {
+                throw e;
+            }
+            LOGGER.log(Level.SEVERE, "Dropping " + inFlight.size() + " activities after "
+                + MAX_ATTEMPTS + " failed writes", e);
+            dropped.add(inFlight.size());
+        }
+        pending.addAndGet(-inFlight.size());
+        inFlight = new ArrayList<>();
+    }
+
+    ActivityBufferStats getStats() {
+        return new ActivityBufferStats(pending.get(), capacity, highWater.get(), written.sum(),
+            batches.sum(), dropped.sum(), failedBatches.sum());
+    }
+
+    /**
+     * Stop the timer and write what is left. Activities added afterwards are
+     * written immediately.
+     */
+    void shutdown() {
+        closed = true;
+        flusher.shutdownNow();
+        flushQuietly();
+        // One more attempt for a batch that failed during the first
+        if (pending.get() > 0) {
+            flushQuietly();
+        }
+        long lost = pending.get();
+        if (lost > 0) {
+            LOGGER.warning(lost + " activities could not be written on shutdown");
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    flushQuietly();
+                });
+            } catch (RuntimeException e) {
+                // Shutting down: shutdown() flushes what is left
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to write buffered activities; will retry", e);
+        }
+    }
+}
@@ -0,0 +1,597 @@
+package com.studenttracker.service.impl;
+
+import com.google.common.eventbus.Subscribe;
+import com.studenttracker.dao.ReplayDAO;
+import com.studenttracker.exception.DAOException;
+import com.studenttracker.exception.ServiceException;
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.ConsecutivityTracking;
+import com.studenttracker.model.ConsecutivityTracking.TrackingType;
+import com.studenttracker.model.Fasee7Points;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.LessonTopic.TopicCategory;
+import com.studenttracker.model.PerformanceIndicator;
+import com.studenttracker.model.QuizQuestion;
+import com.studenttracker.model.QuizQuestion.QuestionType;
+import com.studenttracker.model.QuizScore;
+import com.studenttracker.model.ReplayBatch;
+import com.studenttracker.model.ReplayResult;
+import com.studenttracker.model.TargetAchievementStreak;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.ReplayService;
+import com.studenttracker.service.event.AttendanceMarkedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
+import com.studenttracker.service.event.BehavioralIncidentAddedEvent;
+import com.studenttracker.service.event.BehavioralIncidentDeletedEvent;
+import com.studenttracker.service.event.BehavioralIncidentUpdatedEvent;
+import com.studenttracker.service.event.DerivedDataRebuiltEvent;
+import com.studenttracker.service.event.HomeworkRecordedEvent;
+import com.studenttracker.service.event.HomeworkRecordedSummaryEvent;
+import com.studenttracker.service.event.QuizGradedEvent;
+import com.studenttracker.service.event.StudentRegisteredEvent;
+import com.studenttracker.service.event.TargetAchievedEvent;
+import com.studenttracker.service.impl.helpers.PerformanceAnalysisServiceImplHelpers;
+import com.studenttracker.service.impl.helpers.QuizServiceImplHelpers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of ReplayService.
+ * Each worker streams one student range and folds it with the same rules
+ * the event-driven services apply incrementally:
+ *   - PIs per quiz and category, cumulative per category (PerformanceAnalysisService)
+ *   - category totals per quiz (QuizService)
+ *   - streak +1 per achieved target, reset by a PI drop (TargetService)
+ *   - trailing absences and same-type incidents (ConsecutivityTrackingService)
+ *   - Fasee7 points from the above (Fasee7TableService)
+ * Workers only read the main database; batches are written to the shadow
+ * tables one at a time.
+ * Students whose source data changes while a replay runs may have been read
+ * before the change, and the swap overwrites what the live services derived
+ * from it. Marking, grading, incident, target and registration events name
+ * those students; they are folded again after the swap, straight into the
+ * main tables.
+ */
+public class ReplayServiceImpl implements ReplayService {
+
+    private static final Logger LOGGER = Logger.getLogger(ReplayServiceImpl.class.getName());
+
+    private static final int MAX_WORKERS = 4;
+    /** Derived rows a worker buffers before writing them. */
+    private static final int BATCH_ROWS = 5_000;
+    private static final long PROGRESS_INTERVAL_MS = 500;
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+    /** Re-fold passes after the swap; each pass handles the students changed during the previous one. */
+    private static final int MAX_REAPPLY_PASSES = 5;
+
+    private final ReplayDAO replayDAO;
+    private final EventBusService eventBusService;
+    private final int parallelism;
+    private final Object writeLock = new Object();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Set<Integer> changedStudents = ConcurrentHashMap.newKeySet();
+
+    public ReplayServiceImpl(ReplayDAO replayDAO, EventBusService eventBusService) {
+        this(replayDAO, eventBusService, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @param parallelism Number of student ranges replayed concurrently
+     */
+    public ReplayServiceImpl(ReplayDAO replayDAO, EventBusService eventBusService, int parallelism) {
+        this.replayDAO = replayDAO;
+        this.eventBusService = eventBusService;
+        this.parallelism = Math.max(1, parallelism);
+
+        this.eventBusService.register(this);
+    }
+
+
+    // ========== Event Subscribers ==========
+
+    /**
+     * Handles AttendanceMarkedEvent (delivered as-is once coalescing has stopped).
+     */
+    @Subscribe
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles AttendanceMarkedSummaryEvent (coalesced AttendanceMarkedEvents).
+     */
+    @Subscribe
+    public void onAttendanceMarkedSummary(AttendanceMarkedSummaryEvent event) {
+        event.getStudentIds().forEach(this::studentChanged);
+    }
+
+    /**
+     * Handles HomeworkRecordedEvent (delivered as-is once coalescing has stopped).
+     */
+    @Subscribe
+    public void onHomeworkRecorded(HomeworkRecordedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles HomeworkRecordedSummaryEvent (coalesced HomeworkRecordedEvents).
+     */
+    @Subscribe
+    public void onHomeworkRecordedSummary(HomeworkRecordedSummaryEvent event) {
+        event.getStudentIds().forEach(this::studentChanged);
+    }
+
+    /**
+     * Handles QuizGradedEvent.
+     */
+    @Subscribe
+    public void onQuizGraded(QuizGradedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles BehavioralIncidentAddedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentAdded(BehavioralIncidentAddedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles BehavioralIncidentUpdatedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentUpdated(BehavioralIncidentUpdatedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles BehavioralIncidentDeletedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentDeleted(BehavioralIncidentDeletedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles TargetAchievedEvent.
+     */
+    @Subscribe
+    public void onTargetAchieved(TargetAchievedEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    /**
+     * Handles StudentRegisteredEvent: the student may be missing from the shadow tables.
+     */
+    @Subscribe
+    public void onStudentRegistered(StudentRegisteredEvent event) {
+        studentChanged(event.getStudentId());
+    }
+
+    private void studentChanged(Integer studentId) {
+        if (running.get() && studentId != null) {
+            changedStudents.add(studentId);
+        }
+    }
+
+
+    // ========== Replay ==========
+
+    @Override
+    public ReplayResult rebuildDerivedTables(LongConsumer progress) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ServiceException("A replay is already running");
+        }
+        changedStudents.clear();
+        try {
+            return replay(progress);
+        } catch (DAOException e) {
+            throw new ServiceException("Failed to rebuild derived tables", e);
+        } finally {
+            running.set(false);
+            changedStudents.clear();
+        }
+    }
+
+    @Override
+    public int countStudents() {
+        return replayDAO.countStudents();
+    }
+
+    private ReplayResult replay(LongConsumer progress) {
+        long startNanos = System.nanoTime();
+        LocalDateTime replayedAt = LocalDateTime.now();
+        long[] bounds = replayDAO.findShardBounds(parallelism);
+        int shards = bounds.length - 1;
+
+        replayDAO.createShadowTables();
+        LongAdder studentsDone = new LongAdder();
+        ExecutorService workers = Executors.newFixedThreadPool(shards,
+            Thread.ofPlatform().name("replay-worker-", 0).daemon(true).factory());
+        boolean swapped = false;
+        try {
+            List<Future<ShardReplay>> futures = new ArrayList<>();
+            for (int i = 0; i < shards; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                futures.add(workers.submit(() -> replayShard(from, to, replayedAt, studentsDone)));
+            }
+
+            List<ShardReplay> results = new ArrayList<>();
+            for (Future<ShardReplay> future : futures) {
+                results.add(await(future, progress, studentsDone));
+            }
+
+            long swapNanos = System.nanoTime();
+            replayDAO.swapShadowTables();
+            swapped = true;
+            long swapMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - swapNanos);
+            reapplyChangedStudents(replayedAt);
+
+            ReplayResult result = summarize(results, shards,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), swapMs);
+            LOGGER.info("Derived tables rebuilt: " + result);
+            eventBusService.publish(new DerivedDataRebuiltEvent(replayDAO.getDerivedTables(),
+                result.getStudents(), replayedAt));
+            return result;
+
+        } finally {
+            workers.shutdownNow();
+            if (!swapped) {
+                discardShadow(workers);
+            }
+        }
+    }
+
+    private ShardReplay replayShard(long fromStudentId, long toStudentId, LocalDateTime replayedAt,
+                                    LongAdder studentsDone) {
+        ShardReplay shard = new ShardReplay(replayedAt, studentsDone, this::write);
+        shard.sourceRows = replayDAO.streamSourceRows(fromStudentId, toStudentId, shard);
+        shard.finishStudent();
+        shard.flush();
+        return shard;
+    }
+
+    /**
+     * Fold the students changed during the replay again, one transaction each,
+     * until a pass sees no further changes.
+     */
+    private void reapplyChangedStudents(LocalDateTime replayedAt) {
+        for (int pass = 0; pass < MAX_REAPPLY_PASSES; pass++) {
+            // Summaries still inside their coalescing window name changed students too
+            eventBusService.flushCoalesced();
+            List<Integer> students = new ArrayList<>(changedStudents);
+            if (students.isEmpty()) {
+                return;
+            }
+            changedStudents.removeAll(students);
+
+            for (Integer studentId : students) {
+                ShardReplay student = new ShardReplay(replayedAt, new LongAdder(),
+                    batch -> replayDAO.replaceStudentRows(studentId, batch));
+                replayDAO.streamSourceRows(studentId, studentId + 1L, student);
+                student.finishStudent();
+                student.flush();
+            }
+            LOGGER.info("Re-applied " + students.size() + " student(s) changed during the replay");
+        }
+        LOGGER.warning(changedStudents.size() + " student(s) changed during the last re-apply pass; "
+            + "their derived rows are maintained by the live services");
+    }
+
+    /**
+     * Wait for one worker, reporting overall progress while waiting.
+     */
+    private ShardReplay await(Future<ShardReplay> future, LongConsumer progress, LongAdder studentsDone) {
+        while (true) {
+            try {
+                return future.get(PROGRESS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (progress != null) {
+                    progress.accept(studentsDone.sum());
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new ServiceException("Replay worker failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Replay interrupted");
+            }
+        }
+    }
+
+    private void discardShadow(ExecutorService workers) {
+        try {
+            // Let a worker finish its current batch so the scratch file is not recreated
+            workers.awaitTermination(SHUTDOWN_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            replayDAO.discardShadowTables();
+        } catch (DAOException e) {
+            LOGGER.log(Level.WARNING, "Failed to discard replay shadow tables", e);
+        }
+    }
+
+    private ReplayResult summarize(List<ShardReplay> shards, int workers, long elapsedMs, long swapMs) {
+        int students = 0;
+        long sourceRows = 0;
+        long[] rows = new long[5];
+        for (ShardReplay shard : shards) {
+            students += shard.students;
+            sourceRows += shard.sourceRows;
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] += shard.rowsWritten[i];
+            }
+        }
+
+        Map<String, Long> rowsByTable = new LinkedHashMap<>();
+        rowsByTable.put("fasee7_points", rows[0]);
+        rowsByTable.put("performance_indicators", rows[1]);
+        rowsByTable.put("quiz_category_totals", rows[2]);
+        rowsByTable.put("target_achievement_streak", rows[3]);
+        rowsByTable.put("consecutivity_tracking", rows[4]);
+        return new ReplayResult(students, sourceRows, rowsByTable, workers, elapsedMs, swapMs);
+    }
+
+    private void write(ReplayBatch batch) {
+        synchronized (writeLock) {
+            replayDAO.writeShadowBatch(batch);
+        }
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value == null) return null;
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+
+    // ========== Per-Student Fold ==========
+
+    /**
+     * Folds the rows of one student range, one student at a time.
+     * Only the current student's state and the pending batch are kept in memory.
+     */
+    private final class ShardReplay implements ReplayDAO.SourceRowHandler {
+        private final LocalDateTime replayedAt;
+        private final LongAdder studentsDone;
+        private final Consumer<ReplayBatch> sink;
+        private final ReplayBatch batch = new ReplayBatch();
+
+        private int students;
+        private long sourceRows;
+        private final long[] rowsWritten = new long[5];
+
+        // Current student
+        private int studentId = -1;
+        private double quizPoints;
+        private int attendancePoints;
+        private int homeworkPoints;
+        private boolean hasAttendance;
+        private int absenceRun;
+        private Integer lastAttendanceLessonId;
+        private IncidentType lastIncidentType;
+        private int incidentRun;
+        private Integer lastIncidentLessonId;
+        private int currentStreak;
+        private int streakPoints;
+        private int achievements;
+        private LocalDateTime lastAchievementAt;
+        private final Map<TopicCategory, Integer> lastPiValue = new EnumMap<>(TopicCategory.class);
+        private final Map<TopicCategory, Integer> cumulativePi = new EnumMap<>(TopicCategory.class);
+
+        // Current quiz
+        private int quizId = -1;
+        private String quizEnteredAt;
+        private final List<QuizScore> quizScores = new ArrayList<>();
+        private final List<QuizQuestion> quizQuestions = new ArrayList<>();
+
+        private ShardReplay(LocalDateTime replayedAt, LongAdder studentsDone, Consumer<ReplayBatch> sink) {
+            this.replayedAt = replayedAt;
+            this.studentsDone = studentsDone;
+            this.sink = sink;
+        }
+
+        @Override
+        public void onStudent(int studentId) {
+            advance(studentId);
+        }
+
+        @Override
+        public void onAttendance(int studentId, int lessonId, AttendanceStatus status) {
+            advance(studentId);
+            hasAttendance = true;
+            lastAttendanceLessonId = lessonId;
+            if (status == AttendanceStatus.PRESENT) {
+                attendancePoints++;
+                absenceRun = 0;
+            } else {
+                absenceRun++;
+            }
+        }
+
+        @Override
+        public void onHomework(int studentId, int lessonId, HomeworkStatus status) {
+            advance(studentId);
+            homeworkPoints += status.getPoints();
+        }
+
+        @Override
+        public void onQuizScore(int studentId, int quizId, int questionId, QuestionType questionType,
+                                TopicCategory category, double pointsEarned, double maxPoints, String enteredAt) {
+            if (studentId != this.studentId || quizId != this.quizId) {
+                advance(studentId);
+                this.quizId = quizId;
+            }
+            quizPoints += pointsEarned;
+            if (enteredAt != null && (quizEnteredAt == null || enteredAt.compareTo(quizEnteredAt) > 0)) {
+                quizEnteredAt = enteredAt;
+            }
+
+            QuizQuestion question = new QuizQuestion();
+            question.setQuestionId(questionId);
+            question.setQuestionType(questionType);
+            question.setCategory(category);
+            question.setPoints(maxPoints);
+            quizQuestions.add(question);
+            quizScores.add(new QuizScore(quizId, studentId, questionId, pointsEarned, null, null));
+        }
+
+        @Override
+        public void onIncident(int studentId, int lessonId, IncidentType type) {
+            advance(studentId);
+            incidentRun = (type == lastIncidentType) ? incidentRun + 1 : 1;
+            lastIncidentType = type;
+            lastIncidentLessonId = lessonId;
+        }
+
+        @Override
+        public void onTargetAchieved(int studentId, TopicCategory category, String achievedAt) {
+            advance(studentId);
+            achievements++;
+            currentStreak++;
+            streakPoints += currentStreak;
+            lastAchievementAt = parseTimestamp(achievedAt);
+        }
+
+        /**
+         * Close the pending quiz, and the current student if the row belongs to another one.
+         */
+        private void advance(int nextStudentId) {
+            finishQuiz();
+            if (nextStudentId != studentId) {
+                finishStudent();
+                studentId = nextStudentId;
+            }
+        }
+
+        private void finishQuiz() {
+            if (quizScores.isEmpty()) return;
+
+            LocalDateTime calculatedAt = parseTimestamp(quizEnteredAt);
+            if (calculatedAt == null) {
+                calculatedAt = replayedAt;
+            }
+
+            Map<TopicCategory, double[]> counts = new EnumMap<>(TopicCategory.class);
+            counts.putAll(PerformanceAnalysisServiceImplHelpers.calculateCategoryCorrectWrong(quizScores, quizQuestions));
+            for (Map.Entry<TopicCategory, double[]> entry : counts.entrySet()) {
+                TopicCategory category = entry.getKey();
+                int correct = (int) Math.round(entry.getValue()[0]);
+                int wrong = (int) Math.round(entry.getValue()[1]);
+                int piValue = correct - wrong;
+                int cumulative = cumulativePi.merge(category, piValue, Integer::sum);
+
+                Integer previous = lastPiValue.put(category, piValue);
+                if (previous != null && piValue < previous) {
+                    currentStreak = 0;
+                }
+                batch.getPerformanceIndicators().add(new PerformanceIndicator(studentId, category, quizId,
+                    correct, wrong, piValue, cumulative, calculatedAt));
+            }
+            batch.getCategoryTotals().addAll(
+                QuizServiceImplHelpers.calculateCategoryTotals(quizId, studentId, quizScores, quizQuestions));
+
+            quizScores.clear();
+            quizQuestions.clear();
+            quizId = -1;
+            quizEnteredAt = null;
+        }
+
+        private void finishStudent() {
+            finishQuiz();
+            if (studentId == -1) return;
+
+            Fasee7Points points = new Fasee7Points(studentId, quizPoints, attendancePoints, homeworkPoints,
+                streakPoints, 0.0, replayedAt);
+            points.recalculateTotal();
+            points.setLastUpdated(replayedAt);
+            batch.getPoints().add(points);
+
+            if (achievements > 0) {
+                batch.getStreaks().add(new TargetAchievementStreak(studentId, currentStreak,
+                    lastAchievementAt, streakPoints));
+            }
+            if (hasAttendance) {
+                batch.getTrackings().add(new ConsecutivityTracking(studentId, TrackingType.ABSENCE,
+                    absenceRun, lastAttendanceLessonId, replayedAt));
+            }
+            if (lastIncidentType != null) {
+                batch.getTrackings().add(new ConsecutivityTracking(studentId, TrackingType.BEHAVIORAL_INCIDENT,
+                    incidentRun, lastIncidentLessonId, replayedAt));
+            }
+
+            students++;
+            studentsDone.increment();
+            resetStudent();
+
+            if (batch.size() >= BATCH_ROWS) {
+                flush();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Replay cancelled");
+            }
+        }
+
+        private void resetStudent() {
+            studentId = -1;
+            quizPoints = 0;
+            attendancePoints = 0;
+            homeworkPoints = 0;
+            hasAttendance = false;
+            absenceRun = 0;
+            lastAttendanceLessonId = null;
+            lastIncidentType = null;
+            incidentRun = 0;
+            lastIncidentLessonId = null;
+            currentStreak = 0;
+            streakPoints = 0;
+            achievements = 0;
+            lastAchievementAt = null;
+            lastPiValue.clear();
+            cumulativePi.clear();
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) return;
+
+            sink.accept(batch);
+            rowsWritten[0] += batch.getPoints().size();
+            rowsWritten[1] += batch.getPerformanceIndicators().size();
+            rowsWritten[2] += batch.getCategoryTotals().size();
+            rowsWritten[3] += batch.getStreaks().size();
+            rowsWritten[4] += batch.getTrackings().size();
+            batch.clear();
+        }
+    }
+}
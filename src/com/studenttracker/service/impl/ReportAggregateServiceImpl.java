@@ -0,0 +1,274 @@
+package com.studenttracker.service.impl;
+
+import com.google.common.eventbus.Subscribe;
+import com.studenttracker.dao.LessonDAO;
+import com.studenttracker.dao.ReportAggregationDAO;
+import com.studenttracker.dao.ReportRunningAggregateDAO;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.Attendance.AttendanceStatus;
+import com.studenttracker.model.BehavioralIncident.IncidentType;
+import com.studenttracker.model.Homework.HomeworkStatus;
+import com.studenttracker.model.Lesson;
+import com.studenttracker.service.AsyncSubscriber;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.ReportAggregateService;
+import com.studenttracker.service.event.AttendanceBatchCompletedEvent;
+import com.studenttracker.service.event.AttendanceMarkedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
+import com.studenttracker.service.event.BehavioralIncidentAddedEvent;
+import com.studenttracker.service.event.BehavioralIncidentDeletedEvent;
+import com.studenttracker.service.event.BehavioralIncidentUpdatedEvent;
+import com.studenttracker.service.event.HomeworkBatchCompletedEvent;
+import com.studenttracker.service.event.HomeworkRecordedEvent;
+import com.studenttracker.service.event.HomeworkRecordedSummaryEvent;
+import com.studenttracker.service.event.QuizGradingCompletedEvent;
+import com.studenttracker.service.event.TargetAchievedEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of ReportAggregateService.
+ * Every marking, grading or incident event recomputes the affected lesson's
+ * metrics from its rows and replaces them, so corrections and partial batches
+ * never drift. Targets are not tied to a lesson and are stored under lesson
+ * ID 0, counted with the same month window the full report uses.
+ */
+@AsyncSubscriber
+public class ReportAggregateServiceImpl implements ReportAggregateService {
+    
+    private static final Logger LOGGER = Logger.getLogger(ReportAggregateServiceImpl.class.getName());
+    
+    /** Lesson ID used for metrics that do not belong to a lesson. */
+    private static final int NO_LESSON = 0;
+    
+    private final ReportRunningAggregateDAO runningAggregateDAO;
+    private final ReportAggregationDAO reportAggregationDAO;
+    private final LessonDAO lessonDAO;
+    private final EventBusService eventBusService;
+    
+    /**
+     * Constructor with dependency injection.
+     * Registers this service as an event subscriber.
+     */
+    public ReportAggregateServiceImpl(ReportRunningAggregateDAO runningAggregateDAO,
+                                      ReportAggregationDAO reportAggregationDAO,
+                                      LessonDAO lessonDAO, EventBusService eventBusService) {
+        this.runningAggregateDAO = runningAggregateDAO;
+        this.reportAggregationDAO = reportAggregationDAO;
+        this.lessonDAO = lessonDAO;
+        this.eventBusService = eventBusService;
+        
+        this.eventBusService.register(this);
+    }
+    
+    
+    // ========== Event Subscribers ==========
+    
+    /**
+     * Handles AttendanceMarkedEvent (single marks and corrections).
+     */
+    @Subscribe
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles AttendanceMarkedSummaryEvent (coalesced AttendanceMarkedEvents).
+     */
+    @Subscribe
+    public void onAttendanceMarkedSummary(AttendanceMarkedSummaryEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles AttendanceBatchCompletedEvent.
+     */
+    @Subscribe
+    public void onAttendanceBatchCompleted(AttendanceBatchCompletedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles HomeworkRecordedEvent (single marks and corrections).
+     */
+    @Subscribe
+    public void onHomeworkRecorded(HomeworkRecordedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles HomeworkRecordedSummaryEvent (coalesced HomeworkRecordedEvents).
+     */
+    @Subscribe
+    public void onHomeworkRecordedSummary(HomeworkRecordedSummaryEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles HomeworkBatchCompletedEvent.
+     */
+    @Subscribe
+    public void onHomeworkBatchCompleted(HomeworkBatchCompletedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles QuizGradingCompletedEvent.
+     */
+    @Subscribe
+    public void onQuizGradingCompleted(QuizGradingCompletedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles BehavioralIncidentAddedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentAdded(BehavioralIncidentAddedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles BehavioralIncidentUpdatedEvent (the type may have changed).
+     */
+    @Subscribe
+    public void onBehavioralIncidentUpdated(BehavioralIncidentUpdatedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles BehavioralIncidentDeletedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentDeleted(BehavioralIncidentDeletedEvent event) {
+        refreshLesson(event.getLessonId());
+    }
+    
+    /**
+     * Handles TargetAchievedEvent.
+     */
+    @Subscribe
+    public void onTargetAchieved(TargetAchievedEvent event) {
+        Lesson latest = lessonDAO.findLatest();
+        if (latest == null || latest.getMonthGroup() == null) return;
+        
+        String monthGroup = latest.getMonthGroup();
+        runningAggregateDAO.setMetrics(monthGroup, NO_LESSON,
+            Map.of(TARGETS_ACHIEVED, reportAggregationDAO.countTargetsAchievedInMonth(monthGroup)));
+    }
+    
+    
+    // ========== Queries ==========
+    
+    @Override
+    public Map<String, Integer> getRunningAggregates(String monthGroup) {
+        validateMonthGroup(monthGroup);
+        
+        Map<String, Integer> totals = runningAggregateDAO.sumByMonth(monthGroup);
+        if (totals.isEmpty()) {
+            return rebuildMonth(monthGroup);
+        }
+        return totals;
+    }
+    
+    @Override
+    public boolean isCurrentMonth(String monthGroup) {
+        Lesson latest = lessonDAO.findLatest();
+        return latest != null && latest.getMonthGroup() != null
+            && latest.getMonthGroup().equals(monthGroup);
+    }
+    
+    
+    // ========== Recompute ==========
+    
+    @Override
+    public synchronized Map<String, Integer> rebuildMonth(String monthGroup) {
+        validateMonthGroup(monthGroup);
+        
+        List<Lesson> lessons = lessonDAO.findByMonthGroup(monthGroup);
+        runningAggregateDAO.deleteByMonth(monthGroup);
+        
+        for (Lesson lesson : lessons) {
+            runningAggregateDAO.setMetrics(monthGroup, lesson.getLessonId(),
+                recomputeLesson(lesson.getLessonId()));
+        }
+        runningAggregateDAO.setMetrics(monthGroup, NO_LESSON,
+            Map.of(TARGETS_ACHIEVED, reportAggregationDAO.countTargetsAchievedInMonth(monthGroup)));
+        
+        LOGGER.info("Rebuilt running report aggregates for " + monthGroup);
+        return runningAggregateDAO.sumByMonth(monthGroup);
+    }
+    
+    @Override
+    public boolean verifyMonth(String monthGroup) {
+        validateMonthGroup(monthGroup);
+        
+        List<Lesson> lessons = lessonDAO.findByMonthGroup(monthGroup);
+        Map<String, Integer> expected = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            recomputeLesson(lesson.getLessonId()).forEach((metric, value) -> expected.merge(metric, value, Integer::sum));
+        }
+        expected.put(TARGETS_ACHIEVED, reportAggregationDAO.countTargetsAchievedInMonth(monthGroup));
+        
+        Map<String, Integer> stored = runningAggregateDAO.sumByMonth(monthGroup);
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            if (!entry.getValue().equals(stored.getOrDefault(entry.getKey(), 0))) {
+                LOGGER.warning("Running aggregate " + entry.getKey() + " for " + monthGroup
+                    + " was " + stored.getOrDefault(entry.getKey(), 0) + ", expected " + entry.getValue());
+                rebuildMonth(monthGroup);
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    
+    // ========== Helpers ==========
+    
+    /**
+     * Replace a lesson's stored metrics with a recount of its rows.
+     * Synchronized so an older recount never overwrites a newer one.
+     */
+    private synchronized void refreshLesson(Integer lessonId) {
+        String monthGroup = monthGroupOf(lessonId);
+        if (monthGroup == null) return;
+        
+        runningAggregateDAO.setMetrics(monthGroup, lessonId, recomputeLesson(lessonId));
+    }
+    
+    private Map<String, Integer> recomputeLesson(int lessonId) {
+        List<Integer> lessonIds = List.of(lessonId);
+        Map<String, Integer> metrics = new HashMap<>();
+        
+        Map<AttendanceStatus, Integer> attendance = reportAggregationDAO.countAttendanceByStatus(lessonIds);
+        metrics.put(ATTENDANCE_PRESENT, attendance.get(AttendanceStatus.PRESENT));
+        metrics.put(ATTENDANCE_ABSENT, attendance.get(AttendanceStatus.ABSENT));
+        
+        metrics.put(QUIZZES, reportAggregationDAO.countQuizzes(lessonIds));
+        
+        Map<HomeworkStatus, Integer> homework = reportAggregationDAO.countHomeworkByStatus(lessonIds);
+        metrics.put(HOMEWORK_DONE, homework.get(HomeworkStatus.DONE));
+        metrics.put(HOMEWORK_PARTIAL, homework.get(HomeworkStatus.PARTIALLY_DONE));
+        metrics.put(HOMEWORK_NOT_DONE, homework.get(HomeworkStatus.NOT_DONE));
+        
+        for (Map.Entry<IncidentType, Integer> entry : reportAggregationDAO.countIncidentsByType(lessonIds).entrySet()) {
+            metrics.put(INCIDENT_PREFIX + entry.getKey().name(), entry.getValue());
+        }
+        return metrics;
+    }
+    
+    private String monthGroupOf(Integer lessonId) {
+        if (lessonId == null) return null;
+        Lesson lesson = lessonDAO.findById(lessonId);
+        return lesson != null ? lesson.getMonthGroup() : null;
+    }
+    
+    private static void validateMonthGroup(String monthGroup) {
+        if (monthGroup == null || monthGroup.trim().isEmpty()) {
+            throw new ValidationException("Month group cannot be null or empty");
+        }
+    }
+}
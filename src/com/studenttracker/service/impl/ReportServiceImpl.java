@@ -1,9 +1,11 @@
 package com.studenttracker.service.impl;
 
+import com.google.common.eventbus.Subscribe;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.studenttracker.dao.*;
 import com.studenttracker.exception.ServiceException;
+import com.studenttracker.exception.ValidationException;
 import com.studenttracker.model.*;
 import com.studenttracker.model.Attendance.AttendanceStatus;
 import com.studenttracker.model.BehavioralIncident.IncidentType;
@@ -11,52 +13,124 @@ import com.studenttracker.model.Homework.HomeworkStatus;
 import static com.studenttracker.model.LessonTopic.TopicCategory;
 import com.studenttracker.model.Student.StudentStatus;
 import com.studenttracker.service.*;
+import com.studenttracker.service.event.AttendanceBatchCompletedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
+import com.studenttracker.service.event.BehavioralIncidentAddedEvent;
+import com.studenttracker.service.event.BehavioralIncidentDeletedEvent;
+import com.studenttracker.service.event.BehavioralIncidentUpdatedEvent;
+import com.studenttracker.service.event.HomeworkBatchCompletedEvent;
+import com.studenttracker.service.event.HomeworkRecordedSummaryEvent;
 import com.studenttracker.service.event.MonthlyReportDeletedEvent;
 import com.studenttracker.service.event.MonthlyReportGeneratedEvent;
+import com.studenttracker.service.event.QuizGradingCompletedEvent;
+import com.studenttracker.service.event.TargetAchievedEvent;
+import com.studenttracker.service.impl.helpers.ReportServiceImplHelpers.RollupAccumulator;
 import com.studenttracker.service.validator.AdminPermissionValidator;
 
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class ReportServiceImpl implements ReportService {
     
+    private static final Logger LOGGER = Logger.getLogger(ReportServiceImpl.class.getName());
+    
+    /** Maximum number of report sections computed at the same time. */
+    private static final int SECTION_POOL_SIZE = 4;
+    private static final long DEFAULT_SECTION_TIMEOUT_MS = 30_000;
+    
+    /**
+     * Independent sections of a monthly report.
+     */
+    public enum ReportSection {
+        OVERVIEW, FASEE7, PERFORMANCE, TARGETS, ATTENDANCE_BEHAVIORAL, HOMEWORK
+    }
+    
     private final MonthlyReportDAO monthlyReportDAO;
     private final StudentDAO studentDAO;
     private final LessonDAO lessonDAO;
-    private final QuizDAO quizDAO;
-    private final AttendanceDAO attendanceDAO;
-    private final HomeworkDAO homeworkDAO;
     private final WarningDAO warningDAO;
     private final TargetDAO targetDAO;
-    private final BehavioralIncidentDAO behavioralIncidentDAO;
+    private final ReportAggregationDAO reportAggregationDAO;
     private final UserDAO userDAO;
     private final Fasee7TableService fasee7TableService;
     private final PerformanceAnalysisService performanceAnalysisService;
+    private final ReportAggregateService reportAggregateService;
     private final EventBusService eventBus;
     private final Gson gson;
+    private final ExecutorService sectionExecutor;
+    private final ExecutorService rollupExecutor;
+    private final Map<String, RollupReportData> rollupCache = new ConcurrentHashMap<>();
+    // Bumped by every invalidation; a rollup computed across a bump is not cached
+    private final AtomicLong rollupGeneration = new AtomicLong();
+    private final Map<ReportSection, Long> sectionTimeoutsMs = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> lastSectionTimingsMs = Collections.emptyMap();
 
     public ReportServiceImpl(MonthlyReportDAO monthlyReportDAO, StudentDAO studentDAO,
-                            LessonDAO lessonDAO, QuizDAO quizDAO, AttendanceDAO attendanceDAO,
-                            HomeworkDAO homeworkDAO, WarningDAO warningDAO, TargetDAO targetDAO,
-                            BehavioralIncidentDAO behavioralIncidentDAO, UserDAO userDAO,
+                            LessonDAO lessonDAO, WarningDAO warningDAO, TargetDAO targetDAO,
+                            ReportAggregationDAO reportAggregationDAO, UserDAO userDAO,
                             Fasee7TableService fasee7TableService,
                             PerformanceAnalysisService performanceAnalysisService) {
+        this(monthlyReportDAO, studentDAO, lessonDAO, warningDAO, targetDAO, reportAggregationDAO,
+            userDAO, fasee7TableService, performanceAnalysisService, null);
+    }
+
+    /**
+     * Constructor with running aggregates: reports for the current month read
+     * the event-maintained totals instead of rescanning the month.
+     */
+    public ReportServiceImpl(MonthlyReportDAO monthlyReportDAO, StudentDAO studentDAO,
+                            LessonDAO lessonDAO, WarningDAO warningDAO, TargetDAO targetDAO,
+                            ReportAggregationDAO reportAggregationDAO, UserDAO userDAO,
+                            Fasee7TableService fasee7TableService,
+                            PerformanceAnalysisService performanceAnalysisService,
+                            ReportAggregateService reportAggregateService) {
         this.monthlyReportDAO = monthlyReportDAO;
         this.studentDAO = studentDAO;
         this.lessonDAO = lessonDAO;
-        this.quizDAO = quizDAO;
-        this.attendanceDAO = attendanceDAO;
-        this.homeworkDAO = homeworkDAO;
         this.warningDAO = warningDAO;
         this.targetDAO = targetDAO;
-        this.behavioralIncidentDAO = behavioralIncidentDAO;
+        this.reportAggregationDAO = reportAggregationDAO;
         this.userDAO = userDAO;
         this.fasee7TableService = fasee7TableService;
         this.performanceAnalysisService = performanceAnalysisService;
+        this.reportAggregateService = reportAggregateService;
         this.eventBus = EventBusService.getInstance();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        // Virtual threads: sections spend their time blocked on SQLite reads
+        this.sectionExecutor = Executors.newFixedThreadPool(SECTION_POOL_SIZE,
+            Thread.ofVirtual().name("report-section-", 0).factory());
+        
+        // Separate pool: a month generated on demand waits on sectionExecutor
+        this.rollupExecutor = Executors.newFixedThreadPool(SECTION_POOL_SIZE,
+            Thread.ofVirtual().name("report-rollup-", 0).factory());
+        
+        // Compress reports stored as plain JSON before compressed storage existed
+        sectionExecutor.submit(this::compressLegacyReports);
+        
+        // Rollup cache invalidation
+        this.eventBus.register(this);
     }
 
     @Override
@@ -73,18 +147,12 @@ public class ReportServiceImpl implements ReportService {
             // Collect all report data
             ReportData reportData = collectReportData(monthGroup);
             
-            // Serialize to JSON
-            String jsonData = gson.toJson(reportData);
-            
-            // Create and save report
-            MonthlyReport report = new MonthlyReport(
-                monthGroup,
-                jsonData,
-                LocalDateTime.now(),
-                generatedBy
-            );
-            
-            Integer reportId = monthlyReportDAO.insert(report);
+            // Serialize straight into the compressed column
+            Integer reportId = monthlyReportDAO.insertCompressed(monthGroup, generatedBy, writer -> {
+                JsonWriter jsonWriter = gson.newJsonWriter(writer);
+                gson.toJson(reportData, ReportData.class, jsonWriter);
+                jsonWriter.flush();
+            });
             
             if (reportId == null) {
                 throw new ServiceException("Failed to save monthly report");
@@ -122,11 +190,29 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public String exportReportAsJson(Integer reportId) {
-        MonthlyReport report = monthlyReportDAO.findById(reportId);
-        if (report == null) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportReport(reportId, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void exportReport(Integer reportId, OutputStream out) {
+        if (reportId == null || !monthlyReportDAO.streamReportData(reportId, out)) {
             throw new ServiceException("Report not found with ID: " + reportId);
         }
-        return report.getReportData();
+    }
+
+    @Override
+    public void exportReportToFile(Integer reportId, Path file) {
+        // Check first so a missing report does not leave an empty file behind
+        if (reportId == null || monthlyReportDAO.findById(reportId) == null) {
+            throw new ServiceException("Report not found with ID: " + reportId);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            exportReport(reportId, out);
+        } catch (IOException e) {
+            throw new ServiceException("Failed to write report to " + file + ": " + e.getMessage(), e);
+        }
     }
 
     @Override
@@ -158,6 +244,229 @@ public class ReportServiceImpl implements ReportService {
         return deleted;
     }
 
+    @Override
+    public Map<String, Long> getLastSectionTimings() {
+        return lastSectionTimingsMs;
+    }
+
+    /**
+     * Override the timeout for one report section.
+     * 
+     * @param section Report section
+     * @param timeoutMs Timeout in milliseconds
+     */
+    public void setSectionTimeout(ReportSection section, long timeoutMs) {
+        sectionTimeoutsMs.put(section, timeoutMs);
+    }
+
+    // ========== Rollup Reports ==========
+
+    @Override
+    public RollupReportData getRollupReport(String label, List<String> monthGroups) {
+        if (label == null || label.trim().isEmpty()) {
+            throw new ValidationException("Rollup label cannot be null or empty");
+        }
+        if (monthGroups == null || monthGroups.isEmpty()) {
+            throw new ValidationException("Rollup needs at least one month");
+        }
+        
+        List<String> months = new ArrayList<>(new LinkedHashSet<>(monthGroups));
+        String key = label + "|" + String.join(",", months);
+        RollupReportData cached = rollupCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        
+        // Computed outside the map so invalidation never waits on a rollup
+        long generation = rollupGeneration.get();
+        RollupReportData rollup = computeRollup(label, months);
+        rollupCache.put(key, rollup);
+        // Invalidated while computing: the result may predate the change, so serve it once without caching
+        if (rollupGeneration.get() != generation) {
+            rollupCache.remove(key, rollup);
+        }
+        return rollup;
+    }
+
+    @Override
+    public RollupReportData getRollupReportForDateRange(String label, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new ValidationException("Invalid rollup date range: " + startDate + " to " + endDate);
+        }
+        
+        List<String> months = lessonDAO.findByDateRange(startDate, endDate).stream()
+            .map(Lesson::getMonthGroup)
+            .distinct()
+            .collect(Collectors.toList());
+        if (months.isEmpty()) {
+            throw new ValidationException("No lessons between " + startDate + " and " + endDate);
+        }
+        return getRollupReport(label, months);
+    }
+
+    private RollupReportData computeRollup(String label, List<String> months) {
+        List<Future<RollupAccumulator>> futures = new ArrayList<>();
+        for (int i = 0; i < months.size(); i++) {
+            int position = i;
+            String monthGroup = months.get(i);
+            futures.add(rollupExecutor.submit(() -> loadMonthForRollup(position, monthGroup)));
+        }
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_SECTION_TIMEOUT_MS * months.size());
+        RollupAccumulator total = new RollupAccumulator();
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                total = total.merge(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+            throw new ServiceException("Rollup interrupted: " + label, e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new ServiceException("Failed to build rollup " + label + ": " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new ServiceException("Rollup timed out: " + label, e);
+        }
+        
+        return total.toRollup(label, months);
+    }
+
+    private RollupAccumulator loadMonthForRollup(int position, String monthGroup) {
+        MonthlyReport report = monthlyReportDAO.findByMonth(monthGroup);
+        if (report != null) {
+            ReportData data = monthlyReportDAO.readReportData(report.getReportId(),
+                reader -> gson.fromJson(reader, ReportData.class));
+            if (data != null) {
+                // Reports stored before targets were month-scoped hold an all-time count
+                return RollupAccumulator.ofMonth(position, data, true,
+                    reportAggregationDAO.countTargetsAchievedInMonth(monthGroup));
+            }
+        }
+        return RollupAccumulator.ofMonth(position, collectReportData(monthGroup), false,
+            reportAggregationDAO.countTargetsAchievedInMonth(monthGroup));
+    }
+
+    // ========== Event Subscribers ==========
+
+    /**
+     * Handles MonthlyReportGeneratedEvent: the month now has a stored report.
+     */
+    @Subscribe
+    public void onMonthlyReportGenerated(MonthlyReportGeneratedEvent event) {
+        invalidateRollups(event.getMonthGroup(), false);
+    }
+
+    /**
+     * Handles MonthlyReportDeletedEvent.
+     */
+    @Subscribe
+    public void onMonthlyReportDeleted(MonthlyReportDeletedEvent event) {
+        invalidateRollups(event.getMonthGroup(), false);
+    }
+
+    /**
+     * Handles AttendanceBatchCompletedEvent.
+     */
+    @Subscribe
+    public void onAttendanceBatchCompleted(AttendanceBatchCompletedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles HomeworkBatchCompletedEvent.
+     */
+    @Subscribe
+    public void onHomeworkBatchCompleted(HomeworkBatchCompletedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles QuizGradingCompletedEvent.
+     */
+    @Subscribe
+    public void onQuizGradingCompleted(QuizGradingCompletedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles AttendanceMarkedSummaryEvent (single marks and corrections).
+     */
+    @Subscribe
+    public void onAttendanceMarkedSummary(AttendanceMarkedSummaryEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles HomeworkRecordedSummaryEvent (single marks and corrections).
+     */
+    @Subscribe
+    public void onHomeworkRecordedSummary(HomeworkRecordedSummaryEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles BehavioralIncidentAddedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentAdded(BehavioralIncidentAddedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles BehavioralIncidentUpdatedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentUpdated(BehavioralIncidentUpdatedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles BehavioralIncidentDeletedEvent.
+     */
+    @Subscribe
+    public void onBehavioralIncidentDeleted(BehavioralIncidentDeletedEvent event) {
+        invalidateGeneratedMonthOf(event.getLessonId());
+    }
+
+    /**
+     * Handles TargetAchievedEvent.
+     */
+    @Subscribe
+    public void onTargetAchieved(TargetAchievedEvent event) {
+        // Not tied to a lesson: every rollup counts targets achieved in its months
+        invalidateRollupsWhere(rollup -> true);
+    }
+
+    /**
+     * Months with a stored report only change through report events; months
+     * generated on demand change with every new attendance, grade or incident.
+     */
+    private void invalidateGeneratedMonthOf(Integer lessonId) {
+        if (lessonId == null) return;
+        
+        rollupGeneration.incrementAndGet();
+        if (rollupCache.isEmpty()) return;
+        
+        Lesson lesson = lessonDAO.findById(lessonId);
+        if (lesson != null) {
+            invalidateRollups(lesson.getMonthGroup(), true);
+        }
+    }
+
+    private void invalidateRollups(String monthGroup, boolean generatedOnly) {
+        invalidateRollupsWhere(rollup -> generatedOnly
+            ? rollup.getGeneratedMonths().contains(monthGroup)
+            : rollup.getMonthGroups().contains(monthGroup));
+    }
+
+    private void invalidateRollupsWhere(Predicate<RollupReportData> stale) {
+        rollupGeneration.incrementAndGet();
+        rollupCache.values().removeIf(stale);
+    }
+
     // ========== Private Helper Methods ==========
 
     private ReportData collectReportData(String monthGroup) {
@@ -173,27 +482,130 @@ public class ReportServiceImpl implements ReportService {
             .map(Student::getStudentId)
             .collect(Collectors.toList());
         
-        // Collect each section
-        OverviewData overview = getOverviewData(lessons, lessonIds);
-        Fasee7SnapshotData fasee7 = getFasee7Data(monthGroup);
-        PerformanceSummary performance = getPerformanceSummary(studentIds);
-        TargetSummary targets = getTargetSummary(studentIds, monthGroup);
-        AttendanceBehavioralSummary attendanceBehavioral = getAttendanceBehavioralData(lessonIds, monthGroup);
-        HomeworkSummary homework = getHomeworkData(lessonIds);
-        
-        return new ReportData(monthGroup, overview, fasee7, performance, targets, attendanceBehavioral, homework);
+        // Current month: counts come from the running aggregates (null otherwise)
+        Map<String, Integer> running = loadRunningAggregates(monthGroup);
+        
+        // Sections are independent, so compute them concurrently
+        Map<ReportSection, Long> timings = new ConcurrentHashMap<>();
+        Map<ReportSection, Future<?>> futures = new EnumMap<>(ReportSection.class);
+        long startNanos = System.nanoTime();
+        
+        futures.put(ReportSection.OVERVIEW, submitSection(ReportSection.OVERVIEW, timings,
+            () -> getOverviewData(lessons, lessonIds, running)));
+        futures.put(ReportSection.FASEE7, submitSection(ReportSection.FASEE7, timings,
+            () -> getFasee7Data(monthGroup)));
+        futures.put(ReportSection.PERFORMANCE, submitSection(ReportSection.PERFORMANCE, timings,
+            () -> getPerformanceSummary(studentIds)));
+        futures.put(ReportSection.TARGETS, submitSection(ReportSection.TARGETS, timings,
+            () -> getTargetSummary(monthGroup, running)));
+        futures.put(ReportSection.ATTENDANCE_BEHAVIORAL, submitSection(ReportSection.ATTENDANCE_BEHAVIORAL, timings,
+            () -> getAttendanceBehavioralData(lessonIds, monthGroup, running)));
+        futures.put(ReportSection.HOMEWORK, submitSection(ReportSection.HOMEWORK, timings,
+            () -> getHomeworkData(lessonIds, running)));
+        
+        Map<ReportSection, Object> results = awaitSections(futures, startNanos);
+        recordTimings(monthGroup, timings, startNanos);
+        
+        return new ReportData(monthGroup,
+            (OverviewData) results.get(ReportSection.OVERVIEW),
+            (Fasee7SnapshotData) results.get(ReportSection.FASEE7),
+            (PerformanceSummary) results.get(ReportSection.PERFORMANCE),
+            (TargetSummary) results.get(ReportSection.TARGETS),
+            (AttendanceBehavioralSummary) results.get(ReportSection.ATTENDANCE_BEHAVIORAL),
+            (HomeworkSummary) results.get(ReportSection.HOMEWORK));
+    }
+
+    private void compressLegacyReports() {
+        try {
+            int migrated = monthlyReportDAO.compressLegacyReports();
+            if (migrated > 0) {
+                LOGGER.info("Compressed " + migrated + " legacy monthly report(s)");
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to compress legacy monthly reports", e);
+        }
+    }
+
+    private Future<?> submitSection(ReportSection section, Map<ReportSection, Long> timings, Callable<?> task) {
+        return sectionExecutor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                timings.put(section, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    /**
+     * Waits for every section, each against its own deadline measured from submission.
+     * Any failure or timeout cancels the remaining sections.
+     */
+    private Map<ReportSection, Object> awaitSections(Map<ReportSection, Future<?>> futures, long startNanos) {
+        Map<ReportSection, Object> results = new EnumMap<>(ReportSection.class);
+        try {
+            for (Map.Entry<ReportSection, Future<?>> entry : futures.entrySet()) {
+                ReportSection section = entry.getKey();
+                long timeoutMs = sectionTimeoutsMs.getOrDefault(section, DEFAULT_SECTION_TIMEOUT_MS);
+                long remainingNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+                try {
+                    results.put(section, entry.getValue().get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    throw new ServiceException("Report section " + section + " timed out after " + timeoutMs + " ms", e);
+                } catch (ExecutionException e) {
+                    throw new ServiceException("Report section " + section + " failed: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Report generation interrupted", e);
+        } finally {
+            if (results.size() < futures.size()) {
+                futures.values().forEach(f -> f.cancel(true));
+            }
+        }
+    }
+
+    private void recordTimings(String monthGroup, Map<ReportSection, Long> timings, long startNanos) {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (ReportSection section : ReportSection.values()) {
+            snapshot.put(section.name(), timings.getOrDefault(section, -1L));
+        }
+        snapshot.put("TOTAL", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        lastSectionTimingsMs = Collections.unmodifiableMap(snapshot);
+        LOGGER.info("Report sections for " + monthGroup + " (ms): " + snapshot);
+    }
+
+    private Map<String, Integer> loadRunningAggregates(String monthGroup) {
+        if (reportAggregateService == null || !reportAggregateService.isCurrentMonth(monthGroup)) {
+            return null;
+        }
+        return reportAggregateService.getRunningAggregates(monthGroup);
     }
 
-    private OverviewData getOverviewData(List<Lesson> lessons, List<Integer> lessonIds) {
+    private static int runningValue(Map<String, Integer> running, String metric) {
+        return running.getOrDefault(metric, 0);
+    }
+
+    private OverviewData getOverviewData(List<Lesson> lessons, List<Integer> lessonIds,
+                                         Map<String, Integer> running) {
         int totalLessons = lessons.size();
         int activeStudents = studentDAO.countByStatus(StudentStatus.ACTIVE);
         int archivedStudents = studentDAO.countByStatus(StudentStatus.ARCHIVED);
         
         // Calculate overall attendance rate
-        double attendanceRate = calculateOverallAttendanceRate(lessonIds);
-        
-        // Count quizzes
-        int quizzesCount = countQuizzesInLessons(lessonIds);
+        double attendanceRate;
+        int quizzesCount;
+        if (running != null) {
+            int presentCount = runningValue(running, ReportAggregateService.ATTENDANCE_PRESENT);
+            int totalAttendances = presentCount + runningValue(running, ReportAggregateService.ATTENDANCE_ABSENT);
+            attendanceRate = totalAttendances > 0 ? (presentCount * 100.0 / totalAttendances) : 0.0;
+            quizzesCount = runningValue(running, ReportAggregateService.QUIZZES);
+        } else {
+            attendanceRate = calculateOverallAttendanceRate(lessonIds);
+            quizzesCount = countQuizzesInLessons(lessonIds);
+        }
         
         // Average quiz score (across all students and quizzes)
         double avgQuizScore = calculateAverageQuizScore(lessonIds);
@@ -211,28 +623,15 @@ public class ReportServiceImpl implements ReportService {
     private double calculateOverallAttendanceRate(List<Integer> lessonIds) {
         if (lessonIds.isEmpty()) return 0.0;
         
-        int totalAttendances = 0;
-        int presentCount = 0;
-        
-        for (Integer lessonId : lessonIds) {
-            List<Attendance> attendances = attendanceDAO.findByLessonId(lessonId);
-            totalAttendances += attendances.size();
-            presentCount += (int) attendances.stream()
-                .filter(a -> a.getStatus() == AttendanceStatus.PRESENT)
-                .count();
-        }
+        Map<AttendanceStatus, Integer> counts = reportAggregationDAO.countAttendanceByStatus(lessonIds);
+        int presentCount = counts.get(AttendanceStatus.PRESENT);
+        int totalAttendances = presentCount + counts.get(AttendanceStatus.ABSENT);
         
         return totalAttendances > 0 ? (presentCount * 100.0 / totalAttendances) : 0.0;
     }
 
     private int countQuizzesInLessons(List<Integer> lessonIds) {
-        int count = 0;
-        for (Integer lessonId : lessonIds) {
-            if (quizDAO.findByLessonId(lessonId) != null) {
-                count++;
-            }
-        }
-        return count;
+        return reportAggregationDAO.countQuizzes(lessonIds);
     }
 
     private double calculateAverageQuizScore(List<Integer> lessonIds) {
@@ -333,91 +732,59 @@ public class ReportServiceImpl implements ReportService {
         return new PerformanceSummary(avgByCategory, strongest, weakest);
     }
 
-    private TargetSummary getTargetSummary(List<Integer> studentIds, String monthGroup) {
-        int activeCount = 0;
-        int achievedCount = 0;
-        Map<Integer, Integer> studentTargetPoints = new HashMap<>();
+    private TargetSummary getTargetSummary(String monthGroup, Map<String, Integer> running) {
+        int activeCount = reportAggregationDAO.countActiveTargets();
         
-        for (Integer studentId : studentIds) {
-            List<Target> activeTargets = targetDAO.findActiveByStudent(studentId);
-            activeCount += activeTargets.size();
-            
-            List<Target> achievedTargets = targetDAO.findAchievedByStudent(studentId);
-            
-            // Count achieved in this month (simplified)
-            int monthAchieved = (int) achievedTargets.stream()
-                .filter(t -> t.getAchievedAt() != null)
-                .count();
-            achievedCount += monthAchieved;
-            
-            // Calculate target points
-            Fasee7Points points = fasee7TableService.getStudentPoints(studentId);
-            if (points != null) {
-                studentTargetPoints.put(studentId, points.getTargetPoints());
-            }
-        }
+        // Same month window as the running TARGETS_ACHIEVED metric
+        int achievedCount = running != null
+            ? runningValue(running, ReportAggregateService.TARGETS_ACHIEVED)
+            : reportAggregationDAO.countTargetsAchievedInMonth(monthGroup);
         
-        // Get top 5 achievers
-        List<TopAchiever> topAchievers = studentTargetPoints.entrySet().stream()
-            .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
-            .limit(5)
-            .map(entry -> {
-                Student student = studentDAO.findById(entry.getKey());
-                String name = student != null ? student.getFullName() : "Unknown";
-                return new TopAchiever(entry.getKey(), name, entry.getValue());
-            })
-            .collect(Collectors.toList());
+        List<TopAchiever> topAchievers = reportAggregationDAO.findTopTargetAchievers(5);
         
         return new TargetSummary(activeCount, achievedCount, topAchievers);
     }
 
-    private AttendanceBehavioralSummary getAttendanceBehavioralData(List<Integer> lessonIds, String monthGroup) {
-        List<Student> activeStudents = studentDAO.findByStatus(StudentStatus.ACTIVE);
-        
-        int perfectAttendance = 0;
-        int oneToTwo = 0;
-        int threePlus = 0;
-        
-        for (Student student : activeStudents) {
-            int absences = attendanceDAO.countByStudentAndStatus(student.getStudentId(), AttendanceStatus.ABSENT);
-            
-            if (absences == 0) {
-                perfectAttendance++;
-            } else if (absences <= 2) {
-                oneToTwo++;
-            } else {
-                threePlus++;
-            }
-        }
+    private AttendanceBehavioralSummary getAttendanceBehavioralData(List<Integer> lessonIds, String monthGroup,
+                                                                    Map<String, Integer> running) {
+        // Absences in this month's lessons, bucketed per active student in SQL
+        int[] buckets = reportAggregationDAO.bucketActiveStudentAbsences(lessonIds);
         
         int archivedCount = studentDAO.countByStatus(StudentStatus.ARCHIVED);
         
-        // Behavioral incidents by type
+        // Behavioral incidents by type in this month's lessons
         Map<String, Integer> incidentsByType = new HashMap<>();
-        for (IncidentType type : IncidentType.values()) {
-            incidentsByType.put(type.name(), behavioralIncidentDAO.findByType(type).size());
+        if (running != null) {
+            for (IncidentType type : IncidentType.values()) {
+                incidentsByType.put(type.name(),
+                    runningValue(running, ReportAggregateService.INCIDENT_PREFIX + type.name()));
+            }
+        } else {
+            for (Map.Entry<IncidentType, Integer> entry : reportAggregationDAO.countIncidentsByType(lessonIds).entrySet()) {
+                incidentsByType.put(entry.getKey().name(), entry.getValue());
+            }
         }
         
-        return new AttendanceBehavioralSummary(perfectAttendance, oneToTwo, threePlus, 
+        return new AttendanceBehavioralSummary(buckets[0], buckets[1], buckets[2], 
             archivedCount, incidentsByType);
     }
 
-    private HomeworkSummary getHomeworkData(List<Integer> lessonIds) {
-        int totalStudents = 0;
-        int doneCount = 0;
-        int partialCount = 0;
-        int notDoneCount = 0;
-        
-        for (Integer lessonId : lessonIds) {
-            Map<HomeworkStatus, Integer> stats = homeworkDAO.getHomeworkStatsByLesson(lessonId);
-            
-            doneCount += stats.getOrDefault(HomeworkStatus.DONE, 0);
-            partialCount += stats.getOrDefault(HomeworkStatus.PARTIALLY_DONE, 0);
-            notDoneCount += stats.getOrDefault(HomeworkStatus.NOT_DONE, 0);
-            
-            totalStudents += stats.values().stream().mapToInt(Integer::intValue).sum();
+    private HomeworkSummary getHomeworkData(List<Integer> lessonIds, Map<String, Integer> running) {
+        int doneCount;
+        int partialCount;
+        int notDoneCount;
+        if (running != null) {
+            doneCount = runningValue(running, ReportAggregateService.HOMEWORK_DONE);
+            partialCount = runningValue(running, ReportAggregateService.HOMEWORK_PARTIAL);
+            notDoneCount = runningValue(running, ReportAggregateService.HOMEWORK_NOT_DONE);
+        } else {
+            Map<HomeworkStatus, Integer> stats = reportAggregationDAO.countHomeworkByStatus(lessonIds);
+            doneCount = stats.get(HomeworkStatus.DONE);
+            partialCount = stats.get(HomeworkStatus.PARTIALLY_DONE);
+            notDoneCount = stats.get(HomeworkStatus.NOT_DONE);
         }
+        int totalStudents = doneCount + partialCount + notDoneCount;
         
         return new HomeworkSummary(totalStudents, doneCount, partialCount, notDoneCount);
     }
-}
\ No newline at end of file
+}
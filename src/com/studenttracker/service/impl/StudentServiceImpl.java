@@ -6,9 +6,11 @@ import com.studenttracker.exception.DuplicatePhoneNumberException;
 import com.studenttracker.exception.StudentAlreadyActiveException;
 import com.studenttracker.exception.StudentAlreadyArchivedException;
 import com.studenttracker.exception.StudentNotFoundException;
+import com.studenttracker.exception.ValidationException;
 
 import com.studenttracker.model.Student;
 import com.studenttracker.model.Student.StudentStatus;
+import com.studenttracker.model.StudentProfileSummary;
 import com.studenttracker.service.ConsecutivityTrackingService;
 import com.studenttracker.service.EventBusService;
 import com.studenttracker.service.StudentService;
@@ -145,6 +147,14 @@ public class StudentServiceImpl implements StudentService {
         return studentDAO.findById(studentId);
     }
     
+    @Override
+    public StudentProfileSummary getProfileSummary(Integer studentId) {
+        if (studentId == null) {
+            throw new ValidationException("Student ID cannot be null");
+        }
+        return studentDAO.findProfileSummary(studentId);
+    }
+    
     @Override
     public List<Student> getAllStudents() {
         return studentDAO.findAll();
@@ -168,6 +178,24 @@ public class StudentServiceImpl implements StudentService {
         return studentDAO.searchByName(searchTerm.trim());
     }
     
+    @Override
+    public List<Student> searchStudents(String searchTerm, int limit) {
+        if (searchTerm == null || searchTerm.trim().isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return studentDAO.searchFullText(searchTerm, limit);
+    }
+    
+    @Override
+    public List<Student> getStudentsPage(Student after, int pageSize) {
+        if (pageSize <= 0) {
+            throw new ValidationException("Page size must be positive");
+        }
+        return after == null
+            ? studentDAO.findPageOrderedByName(null, 0, pageSize)
+            : studentDAO.findPageOrderedByName(after.getFullName(), after.getStudentId(), pageSize);
+    }
+    
     
     // ========== Archive/Restore Operations ==========
     
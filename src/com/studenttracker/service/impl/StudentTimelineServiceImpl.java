@@ -0,0 +1,222 @@
+package com.studenttracker.service.impl;
+
+import com.google.common.eventbus.Subscribe;
+import com.studenttracker.dao.StudentTimelineDAO;
+import com.studenttracker.exception.ValidationException;
+import com.studenttracker.model.StudentLessonTimelineEntry;
+import com.studenttracker.service.EventBusService;
+import com.studenttracker.service.StudentTimelineService;
+import com.studenttracker.service.event.AttendanceMarkedEvent;
+import com.studenttracker.service.event.AttendanceMarkedSummaryEvent;
+import com.studenttracker.service.event.HomeworkRecordedEvent;
+import com.studenttracker.service.event.HomeworkRecordedSummaryEvent;
+import com.studenttracker.service.event.LessonCreatedEvent;
+import com.studenttracker.service.event.QuizCreatedEvent;
+import com.studenttracker.service.event.QuizGradedEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of StudentTimelineService.
+ * A timeline is loaded with one joined query and cached per student. Grading
+ * events drop the affected students; new lessons and quizzes drop every entry.
+ * Lesson edits and deletions publish no event, so entries also expire after
+ * {@link #CACHE_TTL_NANOS}.
+ */
+public class StudentTimelineServiceImpl implements StudentTimelineService {
+
+    private static final int MAX_CACHED_STUDENTS = 64;
+    private static final long CACHE_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    /** Newest first: lesson date, then lesson ID, descending. Same order as the DAO. */
+    private static final Comparator<StudentLessonTimelineEntry> TIMELINE_ORDER =
+        Comparator.comparing(StudentLessonTimelineEntry::getLessonDate)
+                  .thenComparing(StudentLessonTimelineEntry::getLessonId)
+                  .reversed();
+
+    private record CachedTimeline(List<StudentLessonTimelineEntry> entries, long loadedAt) {
+    }
+
+    private final StudentTimelineDAO timelineDAO;
+    private final EventBusService eventBusService;
+    private final Map<Integer, CachedTimeline> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with dependency injection.
+     * Registers this service as an event subscriber for cache invalidation.
+     */
+    public StudentTimelineServiceImpl(StudentTimelineDAO timelineDAO, EventBusService eventBusService) {
+        this.timelineDAO = timelineDAO;
+        this.eventBusService = eventBusService;
+
+        this.eventBusService.register(this);
+    }
+
+
+    // ========== Event Subscribers ==========
+
+    /**
+     * Handles AttendanceMarkedEvent. Raw events arrive only once coalescing
+     * has stopped at shutdown; until then they come as summaries.
+     */
+    @Subscribe
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        invalidate(event.getStudentId());
+    }
+
+    /**
+     * Handles AttendanceMarkedSummaryEvent (coalesced AttendanceMarkedEvents).
+     */
+    @Subscribe
+    public void onAttendanceMarkedSummary(AttendanceMarkedSummaryEvent event) {
+        event.getStudentIds().forEach(this::invalidate);
+    }
+
+    /**
+     * Handles HomeworkRecordedEvent. Raw events arrive only once coalescing
+     * has stopped at shutdown; until then they come as summaries.
+     */
+    @Subscribe
+    public void onHomeworkRecorded(HomeworkRecordedEvent event) {
+        invalidate(event.getStudentId());
+    }
+
+    /**
+     * Handles HomeworkRecordedSummaryEvent (coalesced HomeworkRecordedEvents).
+     */
+    @Subscribe
+    public void onHomeworkRecordedSummary(HomeworkRecordedSummaryEvent event) {
+        event.getStudentIds().forEach(this::invalidate);
+    }
+
+    /**
+     * Handles QuizGradedEvent (new grades and score corrections).
+     */
+    @Subscribe
+    public void onQuizGraded(QuizGradedEvent event) {
+        invalidate(event.getStudentId());
+    }
+
+    /**
+     * Handles LessonCreatedEvent. Every timeline gains the lesson.
+     */
+    @Subscribe
+    public void onLessonCreated(LessonCreatedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Handles QuizCreatedEvent. Every timeline shows the new quiz's total points.
+     */
+    @Subscribe
+    public void onQuizCreated(QuizCreatedEvent event) {
+        invalidateAll();
+    }
+
+
+    // ========== Timeline ==========
+
+    @Override
+    public List<StudentLessonTimelineEntry> getTimeline(Integer studentId) {
+        if (studentId == null) {
+            throw new ValidationException("Student ID cannot be null");
+        }
+        CachedTimeline cached = cache.get(studentId);
+        if (cached != null && !isExpired(cached)) {
+            return cached.entries();
+        }
+        // compute() blocks a concurrent invalidate() until the load finishes,
+        // so a timeline read before a change is never kept
+        cached = cache.compute(studentId, (id, current) ->
+            current != null && !isExpired(current) ? current : load(id));
+        evictIfFull(studentId);
+        return cached.entries();
+    }
+
+    @Override
+    public List<StudentLessonTimelineEntry> getTimelinePage(Integer studentId, StudentLessonTimelineEntry after,
+                                                            int pageSize) {
+        if (pageSize <= 0) {
+            throw new ValidationException("Page size must be positive");
+        }
+        List<StudentLessonTimelineEntry> timeline = getTimeline(studentId);
+        int start = 0;
+        if (after != null) {
+            int index = Collections.binarySearch(timeline, after, TIMELINE_ORDER);
+            start = index >= 0 ? index + 1 : -index - 1;
+        }
+        return new ArrayList<>(timeline.subList(start, Math.min(start + pageSize, timeline.size())));
+    }
+
+    @Override
+    public List<StudentLessonTimelineEntry> getTimelineBetween(Integer studentId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+        List<StudentLessonTimelineEntry> result = new ArrayList<>();
+        for (StudentLessonTimelineEntry entry : getTimeline(studentId)) {
+            if (to != null && entry.getLessonDate().isAfter(to)) {
+                continue;
+            }
+            if (from != null && entry.getLessonDate().isBefore(from)) {
+                break; // Newest first: everything after this is older still
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(Integer studentId) {
+        if (studentId != null) {
+            cache.remove(studentId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+
+    // ========== Helper Methods ==========
+
+    private CachedTimeline load(Integer studentId) {
+        List<StudentLessonTimelineEntry> entries = timelineDAO.findTimeline(studentId);
+        return new CachedTimeline(Collections.unmodifiableList(entries), System.nanoTime());
+    }
+
+    private static boolean isExpired(CachedTimeline cached) {
+        return System.nanoTime() - cached.loadedAt() > CACHE_TTL_NANOS;
+    }
+
+    /**
+     * Drop the least recently loaded timeline once the cache is over its bound.
+     */
+    private void evictIfFull(Integer keep) {
+        if (cache.size() <= MAX_CACHED_STUDENTS) {
+            return;
+        }
+        Integer oldest = null;
+        long oldestLoadedAt = 0;
+        for (Map.Entry<Integer, CachedTimeline> entry : cache.entrySet()) {
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            if (oldest == null || entry.getValue().loadedAt() - oldestLoadedAt < 0) {
+                oldest = entry.getKey();
+                oldestLoadedAt = entry.getValue().loadedAt();
+            }
+        }
+        if (oldest != null) {
+            cache.remove(oldest);
+        }
+    }
+}
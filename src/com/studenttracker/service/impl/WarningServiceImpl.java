@@ -248,6 +248,11 @@ public class WarningServiceImpl implements WarningService {
         return warningDAO.countActive();
     }
     
+    @Override
+    public Map<Integer, Integer> getActiveWarningCountsByStudent() {
+        return warningDAO.countActiveGroupedByStudent();
+    }
+    
     @Override
     public int getWarningCountByType(WarningType type) {
         return warningDAO.countByType(type);
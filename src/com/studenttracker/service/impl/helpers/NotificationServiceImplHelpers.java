@@ -1,8 +1,11 @@
 package com.studenttracker.service.impl.helpers;
 
+import com.google.gson.JsonObject;
+import com.studenttracker.model.Notification;
+
 /**
  * Helper class for NotificationServiceImpl.
- * Contains utility methods for building notification messages.
+ * Contains utility methods for building notification messages and archive records.
  */
 public class NotificationServiceImplHelpers {
     
@@ -69,4 +72,22 @@ public class NotificationServiceImplHelpers {
     public static String buildWarningGeneratedMessage(String studentName, String warningType) {
         return String.format("Warning generated for %s: %s", studentName, warningType);
     }
+    
+    /**
+     * One archive line for a purged notification (createdAt is ISO-8601, UTC).
+     * 
+     * @param notification Notification about to be deleted
+     * @return Single-line JSON object
+     */
+    public static String toArchiveJson(Notification notification) {
+        JsonObject json = new JsonObject();
+        json.addProperty("notificationId", notification.getNotificationId());
+        json.addProperty("userId", notification.getUserId());
+        json.addProperty("notificationType", notification.getNotificationType());
+        json.addProperty("message", notification.getMessage());
+        json.addProperty("read", notification.isRead());
+        json.addProperty("createdAt", notification.getCreatedAt() == null
+            ? null : notification.getCreatedAt().toString());
+        return json.toString();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.studenttracker.service.impl.helpers;
 
+import com.studenttracker.model.ChartSeries;
 import com.studenttracker.model.PerformanceIndicator;
 import com.studenttracker.model.PerformanceTrend;
 import com.studenttracker.model.QuizQuestion;
@@ -201,4 +202,82 @@ public class PerformanceAnalysisServiceImplHelpers {
         }
         return TopicCategory.valueOf(lessonCategory.name());
     }
+    
+    
+    // ========== Chart Downsampling Helper ==========
+    
+    /**
+     * Downsample a series with Largest-Triangle-Three-Buckets (LTTB).
+     * Keeps the first and last points and, from each bucket in between, the point
+     * forming the largest triangle with its neighbours, so peaks and dips survive.
+     * The x axis is the point's position in the series (quiz order).
+     * 
+     * @param series Source series
+     * @param threshold Maximum number of points to keep (values below 3 keep the endpoints only)
+     * @return Downsampled series, or the source series if it already fits
+     */
+    public static ChartSeries downsampleLTTB(ChartSeries series, int threshold) {
+        int size = series.size();
+        if (threshold >= size || size <= 2) {
+            return series;
+        }
+        
+        int[] sourceIds = series.getQuizIds();
+        int[] sourceValues = series.getValues();
+        
+        if (threshold < 3) {
+            return new ChartSeries(
+                new int[]{sourceIds[0], sourceIds[size - 1]},
+                new int[]{sourceValues[0], sourceValues[size - 1]},
+                series.getSourceSize());
+        }
+        
+        int[] quizIds = new int[threshold];
+        int[] values = new int[threshold];
+        
+        // Bucket size for the points between the two fixed endpoints
+        double every = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+        int out = 0;
+        quizIds[out] = sourceIds[0];
+        values[out++] = sourceValues[0];
+        
+        for (int i = 0; i < threshold - 2; i++) {
+            // Average of the next bucket is the third triangle vertex
+            int nextStart = (int) Math.floor((i + 1) * every) + 1;
+            int nextEnd = Math.min((int) Math.floor((i + 2) * every) + 1, size);
+            double avgX = 0.0;
+            double avgY = 0.0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += j;
+                avgY += sourceValues[j];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+            
+            int start = (int) Math.floor(i * every) + 1;
+            int end = (int) Math.floor((i + 1) * every) + 1;
+            double ax = selected;
+            double ay = sourceValues[selected];
+            double maxArea = -1.0;
+            int maxIndex = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs((ax - avgX) * (sourceValues[j] - ay) - (ax - j) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            
+            quizIds[out] = sourceIds[maxIndex];
+            values[out++] = sourceValues[maxIndex];
+            selected = maxIndex;
+        }
+        
+        quizIds[out] = sourceIds[size - 1];
+        values[out] = sourceValues[size - 1];
+        
+        return new ChartSeries(quizIds, values, series.getSourceSize());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.studenttracker.service.impl.helpers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class QuizItemAnalysisServiceImplHelpers 
+{
+    private QuizItemAnalysisServiceImplHelpers() {}
+
+    /** Fraction of students in each of the upper and lower discrimination groups. */
+    public static final double GROUP_FRACTION = 0.27;
+
+    /**
+     * Size of the upper/lower group for a class of the given size.
+     * 
+     * @param studentCount Number of graded students
+     * @return Group size (at least 1 when there are students)
+     */
+    public static int groupSize(int studentCount) {
+        if (studentCount <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) Math.round(studentCount * GROUP_FRACTION));
+    }
+
+    /**
+     * Splits students into the lower and upper groups by quiz total.
+     * 
+     * @param studentTotals Map of student ID to quiz total
+     * @return Two sets: index 0 is the lower group, index 1 the upper group
+     */
+    public static List<Set<Integer>> splitGroups(Map<Integer, Double> studentTotals) {
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(studentTotals.entrySet());
+        ranked.sort(Map.Entry.comparingByValue());
+        
+        int size = groupSize(ranked.size());
+        Set<Integer> lower = new HashSet<>();
+        Set<Integer> upper = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            lower.add(ranked.get(i).getKey());
+            upper.add(ranked.get(ranked.size() - 1 - i).getKey());
+        }
+        
+        List<Set<Integer>> groups = new ArrayList<>();
+        groups.add(lower);
+        groups.add(upper);
+        return groups;
+    }
+
+    /**
+     * Population variance from running sums.
+     */
+    public static double variance(double sum, double sumOfSquares, int count) {
+        if (count <= 0) {
+            return 0.0;
+        }
+        double mean = sum / count;
+        return Math.max(0.0, sumOfSquares / count - mean * mean);
+    }
+
+    /**
+     * Cronbach's alpha for a group of items.
+     * 
+     * @param itemCount Number of items (must be at least 2)
+     * @param sumOfItemVariances Sum of the individual item variances
+     * @param totalVariance Variance of the students' summed scores over those items
+     * @return Alpha, or 0.0 when the totals do not vary
+     */
+    public static double cronbachAlpha(int itemCount, double sumOfItemVariances, double totalVariance) {
+        if (itemCount < 2 || totalVariance <= 0.0) {
+            return 0.0;
+        }
+        return (itemCount / (itemCount - 1.0)) * (1.0 - sumOfItemVariances / totalVariance);
+    }
+}
@@ -0,0 +1,148 @@
+package com.studenttracker.service.impl.helpers;
+
+import com.studenttracker.model.AttendanceBehavioralSummary;
+import com.studenttracker.model.HomeworkSummary;
+import com.studenttracker.model.OverviewData;
+import com.studenttracker.model.ReportData;
+import com.studenttracker.model.RollupReportData;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ReportServiceImplHelpers 
+{
+    private ReportServiceImplHelpers() {}
+
+    /**
+     * Partial rollup of one or more months.
+     * merge() is associative, so months can be decoded in any order and
+     * combined pairwise; "latest" figures are taken from the month with the
+     * highest position in the requested range.
+     */
+    public static final class RollupAccumulator {
+        private final List<String> storedMonths = new ArrayList<>();
+        private final List<String> generatedMonths = new ArrayList<>();
+        private int totalLessons;
+        private double weightedAttendance;
+        private int quizzesCount;
+        private int studentsArchived;
+        private int achievedTargets;
+        private int homeworkDone;
+        private int homeworkPartial;
+        private int homeworkNotDone;
+        private final Map<String, Integer> incidentsByType = new HashMap<>();
+        private int latestPosition = -1;
+        private ReportData latest;
+
+        /** Empty accumulator (identity for merge). */
+        public RollupAccumulator() {}
+
+        /**
+         * Accumulator for a single month.
+         * 
+         * @param position Index of the month in the requested range
+         * @param data Decoded or freshly generated report data
+         * @param stored true if the data came from a stored report
+         * @param achievedTargets Targets achieved within the month
+         */
+        public static RollupAccumulator ofMonth(int position, ReportData data, boolean stored, int achievedTargets) {
+            RollupAccumulator acc = new RollupAccumulator();
+            (stored ? acc.storedMonths : acc.generatedMonths).add(data.getMonthGroup());
+            
+            OverviewData overview = data.getOverview();
+            if (overview != null) {
+                acc.totalLessons = overview.getTotalLessons();
+                acc.weightedAttendance = overview.getOverallAttendanceRate() * overview.getTotalLessons();
+                acc.quizzesCount = overview.getQuizzesCount();
+                acc.studentsArchived = overview.getStudentsArchivedThisMonth();
+            }
+            acc.achievedTargets = achievedTargets;
+            HomeworkSummary homework = data.getHomeworkSummary();
+            if (homework != null) {
+                acc.homeworkDone = homework.getDoneCount();
+                acc.homeworkPartial = homework.getPartiallyDoneCount();
+                acc.homeworkNotDone = homework.getNotDoneCount();
+            }
+            AttendanceBehavioralSummary behavioral = data.getAttendanceBehavioral();
+            if (behavioral != null && behavioral.getBehavioralIncidentsByType() != null) {
+                acc.incidentsByType.putAll(behavioral.getBehavioralIncidentsByType());
+            }
+            acc.latestPosition = position;
+            acc.latest = data;
+            return acc;
+        }
+
+        /**
+         * Combine two partial rollups into a new one.
+         */
+        public RollupAccumulator merge(RollupAccumulator other) {
+            RollupAccumulator merged = new RollupAccumulator();
+            merged.storedMonths.addAll(storedMonths);
+            merged.storedMonths.addAll(other.storedMonths);
+            merged.generatedMonths.addAll(generatedMonths);
+            merged.generatedMonths.addAll(other.generatedMonths);
+            merged.totalLessons = totalLessons + other.totalLessons;
+            merged.weightedAttendance = weightedAttendance + other.weightedAttendance;
+            merged.quizzesCount = quizzesCount + other.quizzesCount;
+            merged.studentsArchived = studentsArchived + other.studentsArchived;
+            merged.achievedTargets = achievedTargets + other.achievedTargets;
+            merged.homeworkDone = homeworkDone + other.homeworkDone;
+            merged.homeworkPartial = homeworkPartial + other.homeworkPartial;
+            merged.homeworkNotDone = homeworkNotDone + other.homeworkNotDone;
+            merged.incidentsByType.putAll(incidentsByType);
+            other.incidentsByType.forEach((type, count) -> merged.incidentsByType.merge(type, count, Integer::sum));
+            
+            RollupAccumulator newer = other.latestPosition > latestPosition ? other : this;
+            merged.latestPosition = newer.latestPosition;
+            merged.latest = newer.latest;
+            return merged;
+        }
+
+        /**
+         * Build the rollup result.
+         * 
+         * @param label Rollup label (e.g., "Term 1")
+         * @param monthGroups Months in the requested order
+         */
+        public RollupReportData toRollup(String label, List<String> monthGroups) {
+            RollupReportData rollup = new RollupReportData();
+            rollup.setLabel(label);
+            rollup.setMonthGroups(new ArrayList<>(monthGroups));
+            rollup.setStoredMonths(inRangeOrder(storedMonths, monthGroups));
+            rollup.setGeneratedMonths(inRangeOrder(generatedMonths, monthGroups));
+            rollup.setTotalLessons(totalLessons);
+            rollup.setOverallAttendanceRate(totalLessons > 0 ? weightedAttendance / totalLessons : 0.0);
+            rollup.setQuizzesCount(quizzesCount);
+            rollup.setStudentsArchived(studentsArchived);
+            rollup.setAchievedTargetsCount(achievedTargets);
+            rollup.setHomeworkSummary(new HomeworkSummary(homeworkDone + homeworkPartial + homeworkNotDone,
+                homeworkDone, homeworkPartial, homeworkNotDone));
+            rollup.setBehavioralIncidentsByType(new HashMap<>(incidentsByType));
+            
+            if (latest != null) {
+                if (latest.getOverview() != null) {
+                    rollup.setTotalActiveStudents(latest.getOverview().getTotalActiveStudents());
+                    rollup.setWarningsGenerated(latest.getOverview().getWarningsGenerated());
+                }
+                if (latest.getTargetSummary() != null) {
+                    rollup.setActiveTargetsCount(latest.getTargetSummary().getActiveTargetsCount());
+                }
+                rollup.setLatestPerformance(latest.getPerformanceSummary());
+                if (latest.getFasee7Snapshot() != null) {
+                    rollup.setLatestTop10(latest.getFasee7Snapshot().getCurrentTop10());
+                }
+            }
+            rollup.setComputedAt(LocalDateTime.now());
+            return rollup;
+        }
+
+        private static List<String> inRangeOrder(List<String> months, List<String> monthGroups) {
+            List<String> ordered = new ArrayList<>(months);
+            ordered.sort((a, b) -> Integer.compare(monthGroups.indexOf(a), monthGroups.indexOf(b)));
+            return ordered;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.studenttracker.util;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -59,6 +60,23 @@ public class DatabaseConnection {
         }
     }
     
+    /**
+     * Bring an existing database up to date with schema.sql.
+     * Called on every startup; each step checks what is already there.
+     */
+    public void migrateSchema() {
+        Connection conn = null;
+        try {
+            conn = getConnection();
+            Statement stmt = conn.createStatement();
+            migrate(stmt);
+        } catch (SQLException e) {
+            throw new DAOException("Failed to migrate database schema", e);
+        } finally {
+            closeConnection(conn);
+        }
+    }
+    
     /**
      * Initialize database by creating all tables if they don't exist.
      * This should be called once when the application starts.
@@ -72,15 +90,18 @@ public class DatabaseConnection {
             // Enable foreign keys
             stmt.execute("PRAGMA foreign_keys = ON");
             
-            // Create students table
+            // Create students table (same columns as schema.sql)
             stmt.execute(
                 "CREATE TABLE IF NOT EXISTS students (" +
                 "student_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
-                "student_name TEXT NOT NULL, " +
-                "phone_number TEXT UNIQUE NOT NULL, " +
-                "status TEXT NOT NULL CHECK(status IN ('ACTIVE', 'ARCHIVED')), " +
-                "created_at TEXT NOT NULL, " +
-                "archived_at TEXT, " +
+                "full_name VARCHAR(200) NOT NULL, " +
+                "phone_number VARCHAR(20) NOT NULL, " +
+                "whatsapp_number VARCHAR(20), " +
+                "parent_phone_number VARCHAR(20) NOT NULL, " +
+                "parent_whatsapp_number VARCHAR(20), " +
+                "registration_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                "status VARCHAR(20) DEFAULT 'ACTIVE' CHECK(status IN ('ACTIVE', 'ARCHIVED')), " +
+                "archived_at TIMESTAMP, " +
                 "archived_by INTEGER, " +
                 "FOREIGN KEY (archived_by) REFERENCES users(user_id)" +
                 ")"
@@ -309,25 +330,35 @@ stmt.execute(
 
 // Create indexes for notifications
 stmt.execute("CREATE INDEX IF NOT EXISTS idx_notifications_user ON notifications(user_id)");
-stmt.execute("CREATE INDEX IF NOT EXISTS idx_notifications_read ON notifications(is_read)");
 
 // Create monthly_reports table
 stmt.execute(
     "CREATE TABLE IF NOT EXISTS monthly_reports (" +
     "report_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
     "report_month VARCHAR(20) NOT NULL, " +
-    "report_data TEXT NOT NULL, " +
+    "report_data TEXT NOT NULL DEFAULT '', " +
+    "report_data_gz BLOB, " +
     "generated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
     "generated_by INTEGER NOT NULL, " +
     "FOREIGN KEY (generated_by) REFERENCES users(user_id)" +
     ")"
 );
 
-
-
 // Create index for monthly_reports
 stmt.execute("CREATE INDEX IF NOT EXISTS idx_monthly_reports_month ON monthly_reports(report_month)");
 
+// Create report_running_aggregates table
+stmt.execute(
+    "CREATE TABLE IF NOT EXISTS report_running_aggregates (" +
+    "month_group VARCHAR(50) NOT NULL, " +
+    "lesson_id INTEGER NOT NULL DEFAULT 0, " +
+    "metric VARCHAR(50) NOT NULL, " +
+    "value INTEGER NOT NULL DEFAULT 0, " +
+    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+    "PRIMARY KEY (month_group, lesson_id, metric)" +
+    ")"
+);
+
 
 stmt.execute("CREATE TABLE IF NOT EXISTS recent_activities (" + 
     "activity_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
@@ -343,6 +374,8 @@ stmt.execute("CREATE TABLE IF NOT EXISTS recent_activities (" +
 stmt.execute("CREATE INDEX IF NOT EXISTS idx_recent_activities_created ON recent_activities(created_at DESC);");
 stmt.execute("CREATE INDEX idx_recent_activities_type ON recent_activities(activity_type);");
             
+            migrate(stmt);
+            
             System.out.println("Database initialized successfully!");
             
         } catch (SQLException e) {
@@ -351,4 +384,183 @@ stmt.execute("CREATE INDEX idx_recent_activities_type ON recent_activities(activ
             closeConnection(conn);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Schema changes made after the first release. Safe to run repeatedly.
+     */
+    private void migrate(Statement stmt) throws SQLException {
+        // Reports stored before compression have no report_data_gz column
+        if (hasTable(stmt, "monthly_reports")) {
+            addColumnIfMissing(stmt, "monthly_reports", "report_data_gz", "BLOB");
+        }
+        
+        // Background job queue
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS jobs (" +
+            "job_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "job_type VARCHAR(30) NOT NULL, " +
+            "status VARCHAR(20) NOT NULL DEFAULT 'QUEUED', " +
+            "description TEXT, " +
+            "progress INTEGER NOT NULL DEFAULT 0 CHECK(progress BETWEEN 0 AND 100), " +
+            "result TEXT, " +
+            "error_message TEXT, " +
+            "submitted_by INTEGER, " +
+            "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "started_at TIMESTAMP, " +
+            "finished_at TIMESTAMP, " +
+            "FOREIGN KEY (submitted_by) REFERENCES users(user_id)" +
+            ")"
+        );
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_jobs_status ON jobs(status)");
+
+        // Running report aggregates; the primary key serves the month lookups
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS report_running_aggregates (" +
+            "month_group VARCHAR(50) NOT NULL, " +
+            "lesson_id INTEGER NOT NULL DEFAULT 0, " +
+            "metric VARCHAR(50) NOT NULL, " +
+            "value INTEGER NOT NULL DEFAULT 0, " +
+            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (month_group, lesson_id, metric)" +
+            ")"
+        );
+
+        // Event outbox written by batch marking
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS event_outbox (" +
+            "outbox_id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "event_type VARCHAR(200) NOT NULL, " +
+            "payload TEXT NOT NULL, " +
+            "attempts INTEGER NOT NULL DEFAULT 0, " +
+            "last_error TEXT, " +
+            "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "dispatched_at TIMESTAMP" +
+            ")"
+        );
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON event_outbox(outbox_id) WHERE dispatched_at IS NULL");
+        stmt.execute(
+            "CREATE TABLE IF NOT EXISTS event_outbox_consumers (" +
+            "outbox_id INTEGER NOT NULL, " +
+            "consumer VARCHAR(100) NOT NULL, " +
+            "consumed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+            "PRIMARY KEY (outbox_id, consumer), " +
+            "FOREIGN KEY (outbox_id) REFERENCES event_outbox(outbox_id) ON DELETE CASCADE" +
+            ")"
+        );
+        
+        // Unread lookups touch only unread rows; retention deletes by age
+        if (hasTable(stmt, "notifications")) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_notifications_unread ON notifications(user_id, created_at DESC) WHERE is_read = 0");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_notifications_created ON notifications(created_at)");
+            // Superseded by the partial unread index
+            stmt.execute("DROP INDEX IF EXISTS idx_notifications_read");
+        }
+        
+        // Per-student, per-category PI series read in calculation order
+        if (hasTable(stmt, "performance_indicators")) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_pi_student_category_time ON performance_indicators(student_id, category, calculated_at)");
+        }
+        
+        // Name-ordered paging over students
+        if (hasTable(stmt, "students")) {
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_students_name ON students(full_name, student_id)");
+        }
+        
+        // Active warnings grouped by student; the old index of the same name lacks student_id
+        if (hasTable(stmt, "warnings") && !indexHasColumn(stmt, "idx_warnings_active", "student_id")) {
+            stmt.execute("DROP INDEX IF EXISTS idx_warnings_active");
+            stmt.execute("CREATE INDEX idx_warnings_active ON warnings(is_active, student_id)");
+        }
+        
+        createFullTextIndexes(stmt);
+    }
+    
+    private void addColumnIfMissing(Statement stmt, String table, String column, String definition) throws SQLException {
+        if (!hasColumn(stmt, table, column)) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+    
+    private boolean hasColumn(Statement stmt, String table, String column) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private boolean indexHasColumn(Statement stmt, String index, String column) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA index_info(" + index + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private boolean hasTable(Statement stmt, String name) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + name + "'")) {
+            return rs.next();
+        }
+    }
+    
+    /**
+     * FTS5 indexes for student and lesson topic search (see schema.sql, section 19).
+     * Each index is fed from a view holding the folded text (SearchText.sqlFold)
+     * and kept in sync by triggers; an index created here is filled from existing rows.
+     * Skipped for a table that lacks the indexed columns.
+     */
+    private void createFullTextIndexes(Statement stmt) throws SQLException {
+        if (hasColumn(stmt, "students", "full_name") && hasColumn(stmt, "students", "parent_phone_number")) {
+            stmt.execute("CREATE VIEW IF NOT EXISTS students_search_text AS " +
+                "SELECT student_id, " + SearchText.sqlFold("full_name") + " AS name, " +
+                "phone_number || ' ' || parent_phone_number AS phones FROM students");
+            boolean exists = hasTable(stmt, "students_fts");
+            stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS students_fts USING fts5(" +
+                "name, phones, tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS students_fts_insert AFTER INSERT ON students BEGIN " +
+                "INSERT INTO students_fts(rowid, name, phones) " +
+                "SELECT student_id, name, phones FROM students_search_text WHERE student_id = new.student_id; END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS students_fts_delete AFTER DELETE ON students BEGIN " +
+                "DELETE FROM students_fts WHERE rowid = old.student_id; END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS students_fts_update " +
+                "AFTER UPDATE OF full_name, phone_number, parent_phone_number ON students BEGIN " +
+                "DELETE FROM students_fts WHERE rowid = old.student_id; " +
+                "INSERT INTO students_fts(rowid, name, phones) " +
+                "SELECT student_id, name, phones FROM students_search_text WHERE student_id = new.student_id; END");
+            if (!exists) {
+                stmt.execute("INSERT INTO students_fts(rowid, name, phones) " +
+                    "SELECT student_id, name, phones FROM students_search_text");
+            }
+        }
+        
+        if (hasColumn(stmt, "lesson_topics", "specific_topic")) {
+            stmt.execute("CREATE VIEW IF NOT EXISTS lesson_topics_search_text AS " +
+                "SELECT topic_id, lesson_id, " + SearchText.sqlFold("coalesce(specific_topic, '')") + " AS topic " +
+                "FROM lesson_topics");
+            boolean exists = hasTable(stmt, "lesson_topics_fts");
+            stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS lesson_topics_fts USING fts5(" +
+                "topic, lesson_id UNINDEXED, tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_insert AFTER INSERT ON lesson_topics BEGIN " +
+                "INSERT INTO lesson_topics_fts(rowid, topic, lesson_id) " +
+                "SELECT topic_id, topic, lesson_id FROM lesson_topics_search_text WHERE topic_id = new.topic_id; END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_delete AFTER DELETE ON lesson_topics BEGIN " +
+                "DELETE FROM lesson_topics_fts WHERE rowid = old.topic_id; END");
+            stmt.execute("CREATE TRIGGER IF NOT EXISTS lesson_topics_fts_update " +
+                "AFTER UPDATE OF specific_topic, lesson_id ON lesson_topics BEGIN " +
+                "DELETE FROM lesson_topics_fts WHERE rowid = old.topic_id; " +
+                "INSERT INTO lesson_topics_fts(rowid, topic, lesson_id) " +
+                "SELECT topic_id, topic, lesson_id FROM lesson_topics_search_text WHERE topic_id = new.topic_id; END");
+            if (!exists) {
+                stmt.execute("INSERT INTO lesson_topics_fts(rowid, topic, lesson_id) " +
+                    "SELECT topic_id, topic, lesson_id FROM lesson_topics_search_text");
+            }
+        }
+    }
+}
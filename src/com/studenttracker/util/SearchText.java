@@ -0,0 +1,119 @@
+package com.studenttracker.util;
+
+import java.util.Locale;
+
+/**
+ * SearchText - Text folding shared by every student/lesson search.
+ *
+ * <p>Arabic names and topics are written inconsistently (hamza forms, teh
+ * marbuta vs heh, diacritics, tatweel). Both the stored text and the query
+ * are folded the same way so these variants match:</p>
+ * <ul>
+ *   <li>alef with madda/hamza and alef wasla → bare alef</li>
+ *   <li>teh marbuta → heh, alef maksura → yeh</li>
+ *   <li>harakat, superscript alef and tatweel removed</li>
+ * </ul>
+ *
+ * <p>{@link #fold} is used in Java; {@link #sqlFold} produces the equivalent
+ * SQL expression for the full-text index views, so both sides stay in step.</p>
+ */
+public final class SearchText {
+
+    /** Letters replaced by another: {from, to}. */
+    private static final char[][] LETTER_FOLDS = {
+        {'\u0622', '\u0627'}, // alef with madda
+        {'\u0623', '\u0627'}, // alef with hamza above
+        {'\u0625', '\u0627'}, // alef with hamza below
+        {'\u0671', '\u0627'}, // alef wasla
+        {'\u0629', '\u0647'}, // teh marbuta -> heh
+        {'\u0649', '\u064A'}  // alef maksura -> yeh
+    };
+
+    private SearchText() {}
+
+    /**
+     * Folds text for matching: the Arabic folds above, lower case, runs of
+     * whitespace collapsed to one space, trimmed.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder folded = new StringBuilder(text.length());
+        boolean space = true; // Drops leading whitespace
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!space) {
+                    folded.append(' ');
+                    space = true;
+                }
+                continue;
+            }
+            space = false;
+            if (!isIgnorable(c)) {
+                folded.append(foldLetter(c));
+            }
+        }
+        int end = folded.length();
+        if (end > 0 && folded.charAt(end - 1) == ' ') {
+            folded.setLength(end - 1);
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * ASCII digits of a phone number; Arabic-Indic and Persian digits are
+     * converted, everything else dropped.
+     */
+    public static String digits(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c >= '\u0660' && c <= '\u0669') {
+                digits.append((char) ('0' + (c - '\u0660')));
+            } else if (c >= '\u06F0' && c <= '\u06F9') {
+                digits.append((char) ('0' + (c - '\u06F0')));
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * SQL expression applying the Arabic folds to a column. Case and
+     * whitespace are left to the FTS tokenizer.
+     *
+     * @param column Column or SQL expression to fold
+     */
+    public static String sqlFold(String column) {
+        String expression = column;
+        for (char[] fold : LETTER_FOLDS) {
+            expression = "replace(" + expression + ", char(" + (int) fold[0] + "), char(" + (int) fold[1] + "))";
+        }
+        for (char c = '\u0640'; c <= '\u0670'; c++) {
+            if (isIgnorable(c)) {
+                expression = "replace(" + expression + ", char(" + (int) c + "), '')";
+            }
+        }
+        return expression;
+    }
+
+    /** Harakat and combining hamza/madda (U+064B..U+0655), superscript alef and tatweel. */
+    private static boolean isIgnorable(char c) {
+        return (c >= '\u064B' && c <= '\u0655') || c == '\u0670' || c == '\u0640';
+    }
+
+    private static char foldLetter(char c) {
+        for (char[] fold : LETTER_FOLDS) {
+            if (fold[0] == c) {
+                return fold[1];
+            }
+        }
+        return c;
+    }
+}
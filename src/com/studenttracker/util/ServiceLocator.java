@@ -5,6 +5,7 @@ import com.studenttracker.dao.impl.*;
 import com.studenttracker.service.*;
 import com.studenttracker.service.impl.*;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -56,6 +57,10 @@ public class ServiceLocator {
     
     private static ServiceLocator instance;
     
+    /** System property selecting the activity log backend ("segmented" for log files). */
+    private static final String ACTIVITY_LOG_PROPERTY = "fasee7.activityLog";
+    private static final Path ACTIVITY_LOG_DIR = Path.of(System.getProperty("user.home"), ".fasee7", "activity-log");
+    
     /**
      * Private constructor to enforce singleton pattern.
      */
@@ -263,6 +268,36 @@ public class ServiceLocator {
         return getOrCreate(QuizCategoryTotalDAO.class, () -> new QuizCategoryTotalDAOImpl());
     }
 
+    /**
+     * Gets or creates ReportAggregationDAO instance.
+     * 
+     * @return ReportAggregationDAO implementation
+     */
+    public ReportAggregationDAO getReportAggregationDAO() {
+        return getOrCreate(ReportAggregationDAO.class, () -> new ReportAggregationDAOImpl());
+    }
+
+    /**
+     * Gets or creates ReportRunningAggregateDAO instance.
+     * 
+     * @return ReportRunningAggregateDAO implementation
+     */
+    public ReportRunningAggregateDAO getReportRunningAggregateDAO() {
+        return getOrCreate(ReportRunningAggregateDAO.class, () -> new ReportRunningAggregateDAOImpl());
+    }
+
+    /**
+     * Gets or creates RecentActivityDAO instance: the recent_activities table,
+     * or append-only log files when started with -Dfasee7.activityLog=segmented.
+     * 
+     * @return RecentActivityDAO implementation
+     */
+    public RecentActivityDAO getRecentActivityDAO() {
+        return getOrCreate(RecentActivityDAO.class, () -> "segmented".equals(System.getProperty(ACTIVITY_LOG_PROPERTY))
+            ? new SegmentedActivityLogDAOImpl(ACTIVITY_LOG_DIR)
+            : getClassDAO(RecentActivityDAOImpl.class));
+    }
+
     public <T> T getClassDAO(Class<T> clazz) {
         return getOrCreate(clazz, () ->{
             try {
@@ -401,7 +436,8 @@ public class ServiceLocator {
             getClassDAO(HomeworkDAOImpl.class),
             getClassDAO(StudentDAOImpl.class),
             getClassDAO(AttendanceDAOImpl.class),
-            EventBusService.getInstance()
+            EventBusService.getInstance(),
+            getOutboxService()
         ));
     }
 
@@ -444,7 +480,8 @@ public class ServiceLocator {
         return getOrCreate(AttendanceService.class, () -> new AttendanceServiceImpl(
             getAttendanceDAO(),
             getStudentDAO(),
-            EventBusService.getInstance()
+            EventBusService.getInstance(),
+            getOutboxService()
         ));
     }
     /**
@@ -472,6 +509,46 @@ public class ServiceLocator {
         );
     }
 
+    /**
+     * Gets or creates QuizItemAnalysisService instance.
+     * 
+     * @return QuizItemAnalysisService implementation
+     */
+    public QuizItemAnalysisService getQuizItemAnalysisService() {
+        return getOrCreate(QuizItemAnalysisService.class, () -> new QuizItemAnalysisServiceImpl(
+            getQuizDAO(),
+            getQuizQuestionDAO(),
+            getQuizScoreDAO(),
+            EventBusService.getInstance()
+        ));
+    }
+
+    /**
+     * Gets or creates StudentTimelineService instance.
+     *
+     * @return StudentTimelineService implementation
+     */
+    public StudentTimelineService getStudentTimelineService() {
+        return getOrCreate(StudentTimelineService.class, () -> new StudentTimelineServiceImpl(
+            getClassDAO(StudentTimelineDAOImpl.class),
+            EventBusService.getInstance()
+        ));
+    }
+
+    /**
+     * Gets or creates ReportAggregateService instance.
+     * 
+     * @return ReportAggregateService implementation
+     */
+    public ReportAggregateService getReportAggregateService() {
+        return getOrCreate(ReportAggregateService.class, () -> new ReportAggregateServiceImpl(
+            getReportRunningAggregateDAO(),
+            getReportAggregationDAO(),
+            getLessonDAO(),
+            EventBusService.getInstance()
+        ));
+    }
+
     /**
      * Gets or creates RecentactivityService instance.
      * 
@@ -479,13 +556,130 @@ public class ServiceLocator {
      */
     public RecentActivityService getRecentActivityService() {
         return getOrCreate(RecentActivityService.class, () -> new RecentActivityServiceImpl(
-            getClassDAO(RecentActivityDAOImpl.class),
+            getRecentActivityDAO(),
             getClassDAO(MissionDAOImpl.class),
             EventBusService.getInstance(),
-            getClassDAO(QuizDAOImpl.class)
+            getClassDAO(QuizDAOImpl.class),
+            getOutboxService()
         ));
     }
     
+    /**
+     * Gets or creates NotificationService instance.
+     * 
+     * @return NotificationService implementation
+     */
+    public NotificationService getNotificationService() {
+        return getOrCreate(NotificationService.class, () -> new NotificationServiceImpl(
+            getClassDAO(NotificationDAOImpl.class),
+            getUserDAO(),
+            getStudentDAO(),
+            getUpdateRequestDAO(),
+            EventBusService.getInstance()
+        ));
+    }
+    
+    /**
+     * Gets or creates PerformanceAnalysisService instance.
+     * 
+     * @return PerformanceAnalysisService implementation
+     */
+    public PerformanceAnalysisService getPerformanceAnalysisService() {
+        return getOrCreate(PerformanceAnalysisService.class, () -> new PerformanceAnalysisServiceImpl(
+            getClassDAO(PerformanceIndicatorDAOImpl.class),
+            getQuizScoreDAO(),
+            getQuizQuestionDAO(),
+            EventBusService.getInstance()
+        ));
+    }
+
+    /**
+     * Gets or creates ReportService instance.
+     * 
+     * @return ReportService implementation
+     */
+    public ReportService getReportService() {
+        return getOrCreate(ReportService.class, () -> new ReportServiceImpl(
+            getClassDAO(MonthlyReportDAOImpl.class),
+            getStudentDAO(),
+            getLessonDAO(),
+            getWarningDAO(),
+            getClassDAO(TargetDAOImpl.class),
+            getReportAggregationDAO(),
+            getUserDAO(),
+            getFasee7TableService(),
+            getPerformanceAnalysisService(),
+            getReportAggregateService()
+        ));
+    }
+
+    /**
+     * Gets or creates JobService instance.
+     * 
+     * @return JobService implementation
+     */
+    public JobService getJobService() {
+        return getOrCreate(JobService.class, () -> new JobServiceImpl(
+            getClassDAO(JobDAOImpl.class),
+            getStudentDAO(),
+            getReportService(),
+            getPerformanceAnalysisService(),
+            getExportService(),
+            getReplayService(),
+            getReportAggregateService(),
+            getNotificationService(),
+            EventBusService.getInstance()
+        ));
+    }
+
+    /**
+     * Gets or creates ExportService instance.
+     * 
+     * @return ExportService implementation
+     */
+    public ExportService getExportService() {
+        return getOrCreate(ExportService.class, () -> new ExportServiceImpl(
+            getClassDAO(StudentRecordExportDAOImpl.class)
+        ));
+    }
+    
+    /**
+     * Gets or creates ReplayService instance.
+     * 
+     * @return ReplayService implementation
+     */
+    public ReplayService getReplayService() {
+        return getOrCreate(ReplayService.class, () -> new ReplayServiceImpl(
+            getClassDAO(ReplayDAOImpl.class),
+            EventBusService.getInstance()
+        ));
+    }
+    
+    /**
+     * Gets or creates OutboxService instance.
+     * 
+     * @return OutboxService implementation
+     */
+    public OutboxService getOutboxService() {
+        return getOrCreate(OutboxService.class, () -> new OutboxServiceImpl(
+            getClassDAO(OutboxDAOImpl.class),
+            EventBusService.getInstance()
+        ));
+    }
+    
+    /**
+     * Creates the services that maintain derived tables from outbox events,
+     * then starts the outbox dispatcher. Entries left by a previous run are
+     * only replayed once their subscribers are registered.
+     */
+    public void startOutboxDispatcher() {
+        getFasee7TableService();
+        getReportAggregateService();
+        getReportService();
+        getRecentActivityService();
+        getOutboxService().start();
+    }
+    
     // Note: RecentActivityService will be added in Stage 3
     
     // ==================== HELPER METHOD ====================
@@ -515,6 +709,18 @@ public class ServiceLocator {
         return service;
     }
     
+    /**
+     * Returns a cached service without creating it.
+     * Used during shutdown so unused services are not started just to be stopped.
+     * 
+     * @param serviceClass The service interface class
+     * @param <T> The service type
+     * @return The cached instance, or null if it was never created
+     */
+    public synchronized <T> T peekService(Class<T> serviceClass) {
+        return serviceClass.cast(serviceCache.get(serviceClass));
+    }
+    
     /**
      * Functional interface for service creation.
      * Allows lambda expressions for factory methods.
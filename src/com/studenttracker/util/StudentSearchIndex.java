@@ -0,0 +1,238 @@
+package com.studenttracker.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * StudentSearchIndex - In-memory search over student names and phone numbers.
+ *
+ * <p><b>Matching:</b> substring ("contains") on both fields, like the plain
+ * list filter it replaces.</p>
+ * <ul>
+ *   <li>Names are folded with {@link SearchText#fold} and indexed by trigram; a query's candidates are
+ *       the intersection of its trigrams' posting sets, then verified.</li>
+ *   <li>Phones are reduced to ASCII digits and every suffix is kept in a sorted
+ *       map, so a digit query is one range lookup.</li>
+ * </ul>
+ *
+ * <p><b>Incremental refinement:</b> passing the previous {@link Result} lets a
+ * query that extends it (e.g. one more keystroke) filter the previous matches
+ * instead of consulting the index again.</p>
+ *
+ * <p>Not thread-safe; intended for use on the FX thread.</p>
+ */
+public final class StudentSearchIndex {
+
+    public enum Field { NAME, PHONE }
+
+    private static final int GRAM = 3;
+    /** Shortest phone suffix indexed; shorter digit queries scan the phones. */
+    private static final int MIN_PHONE_SUFFIX = 2;
+
+    /** Normalized name per student. */
+    private final Map<Integer, String> names = new HashMap<>();
+    /** Phone digits per student. */
+    private final Map<Integer, String> phones = new HashMap<>();
+    private final Map<String, Set<Integer>> nameGrams = new HashMap<>();
+    private final NavigableMap<String, Set<Integer>> phoneSuffixes = new TreeMap<>();
+    /** Bumped on every change so stale results are never refined. */
+    private long version;
+
+    /**
+     * Matches for one query. Immutable.
+     */
+    public static final class Result {
+        private final Field field;
+        private final String query;
+        private final long version;
+        private final Set<Integer> studentIds;
+
+        private Result(Field field, String query, long version, Set<Integer> studentIds) {
+            this.field = field;
+            this.query = query;
+            this.version = version;
+            this.studentIds = Collections.unmodifiableSet(studentIds);
+        }
+
+        public Set<Integer> getStudentIds() { return studentIds; }
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    /**
+     * Adds a student, or replaces its entry if already indexed.
+     */
+    public void put(int studentId, String fullName, String phone) {
+        remove(studentId);
+        String name = SearchText.fold(fullName);
+        String digits = SearchText.digits(phone);
+        names.put(studentId, name);
+        phones.put(studentId, digits);
+        for (String gram : grams(name)) {
+            nameGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(studentId);
+        }
+        for (int i = 0; i + MIN_PHONE_SUFFIX <= digits.length(); i++) {
+            phoneSuffixes.computeIfAbsent(digits.substring(i), s -> new HashSet<>()).add(studentId);
+        }
+        version++;
+    }
+
+    public void remove(int studentId) {
+        String name = names.remove(studentId);
+        String digits = phones.remove(studentId);
+        if (name == null) {
+            return;
+        }
+        for (String gram : grams(name)) {
+            removePosting(nameGrams, gram, studentId);
+        }
+        for (int i = 0; i + MIN_PHONE_SUFFIX <= digits.length(); i++) {
+            removePosting(phoneSuffixes, digits.substring(i), studentId);
+        }
+        version++;
+    }
+
+    public void clear() {
+        names.clear();
+        phones.clear();
+        nameGrams.clear();
+        phoneSuffixes.clear();
+        version++;
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Students whose field contains the query.
+     *
+     * @param previous Result of the previous query, or null; reused when this
+     *                 query extends it and the index hasn't changed since
+     * @return Matches; a blank query matches every student
+     */
+    public Result search(Field field, String query, Result previous) {
+        String normalized = normalizeQuery(field, query);
+        if (normalized.isEmpty() && !isBlank(query)) {
+            // Something typed, but nothing searchable (e.g. letters in a phone search)
+            return new Result(field, normalized, version, new HashSet<>());
+        }
+        if (previous != null && previous.field == field && previous.version == version
+                && normalized.contains(previous.query)) {
+            if (normalized.equals(previous.query)) {
+                return previous;
+            }
+            Set<Integer> refined = new HashSet<>();
+            for (Integer studentId : previous.studentIds) {
+                if (valueOf(field, studentId).contains(normalized)) {
+                    refined.add(studentId);
+                }
+            }
+            return new Result(field, normalized, version, refined);
+        }
+        Set<Integer> matches = field == Field.NAME ? searchNames(normalized) : searchPhones(normalized);
+        return new Result(field, normalized, version, matches);
+    }
+
+    /**
+     * Whether one indexed student matches a query, without consulting the index.
+     */
+    public boolean matches(int studentId, Field field, String query) {
+        String value = valueOf(field, studentId);
+        String normalized = normalizeQuery(field, query);
+        if (normalized.isEmpty() && !isBlank(query)) {
+            return false;
+        }
+        return value != null && value.contains(normalized);
+    }
+
+    private Set<Integer> searchNames(String query) {
+        if (query.length() < GRAM) {
+            return scan(names, query);
+        }
+        List<Set<Integer>> postings = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<Integer> posting = nameGrams.get(gram);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            postings.add(posting);
+        }
+        // Intersect smallest first, then verify: sharing every trigram doesn't
+        // guarantee they are contiguous in the name
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Integer> result = new HashSet<>();
+        for (Integer studentId : postings.get(0)) {
+            if (inAll(postings, studentId) && names.get(studentId).contains(query)) {
+                result.add(studentId);
+            }
+        }
+        return result;
+    }
+    
+    private static boolean inAll(List<Set<Integer>> postings, Integer studentId) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(studentId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<Integer> searchPhones(String digits) {
+        if (digits.length() < MIN_PHONE_SUFFIX) {
+            return scan(phones, digits);
+        }
+        // Every suffix starting with the query is a phone containing it
+        Set<Integer> result = new HashSet<>();
+        for (Set<Integer> posting : phoneSuffixes.subMap(digits, true, digits + Character.MAX_VALUE, false).values()) {
+            result.addAll(posting);
+        }
+        return result;
+    }
+
+    private static Set<Integer> scan(Map<Integer, String> values, String query) {
+        Set<Integer> result = new HashSet<>();
+        for (Map.Entry<Integer, String> entry : values.entrySet()) {
+            if (entry.getValue().contains(query)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private String valueOf(Field field, int studentId) {
+        return field == Field.NAME ? names.get(studentId) : phones.get(studentId);
+    }
+
+    // ==================== NORMALIZATION ====================
+
+    private static String normalizeQuery(Field field, String query) {
+        return field == Field.NAME ? SearchText.fold(query) : SearchText.digits(query);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void removePosting(Map<String, Set<Integer>> index, String key, int studentId) {
+        Set<Integer> posting = index.get(key);
+        if (posting != null && posting.remove(studentId) && posting.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.studenttracker.util.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Row-at-a-time writer for tabular exports.
+ * Implementations write straight to the underlying stream and keep no rows in memory.
+ */
+public interface TabularWriter extends Closeable {
+    
+    void writeHeader(List<String> columns) throws IOException;
+    
+    /**
+     * Write one row. Null values are written as empty cells.
+     */
+    void writeRow(Object[] values) throws IOException;
+}
@@ -0,0 +1,177 @@
+package com.studenttracker.util.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal streaming XLSX writer (inline strings).
+ * Sheet rows are appended to the open zip entry, so memory use does not grow
+ * with the number of rows. A sheet that reaches Excel's row limit is continued
+ * on a new sheet with the header repeated; the workbook parts that list the
+ * sheets are written on close.
+ */
+public class XlsxTabularWriter implements TabularWriter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Rows per worksheet supported by Excel. */
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+    
+    private static final String ROOT_RELS =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+        "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+        "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+        "</Relationships>";
+    
+    private final ZipOutputStream zip;
+    private final Writer sheet;
+    private final String sheetName;
+    private List<String> header;
+    private int sheetCount;
+    private int rowNumber;
+    
+    public XlsxTabularWriter(OutputStream stream, String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(stream, StandardCharsets.UTF_8);
+        this.sheet = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.sheetName = sheetName;
+        startSheet();
+    }
+    
+    @Override
+    public void writeHeader(List<String> columns) throws IOException {
+        header = List.copyOf(columns);
+        writeRow(columns.toArray());
+    }
+    
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        if (rowNumber == MAX_ROWS_PER_SHEET) {
+            endSheet();
+            startSheet();
+            if (header != null) {
+                writeCells(header.toArray());
+            }
+        }
+        writeCells(values);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        endSheet();
+        
+        StringBuilder contentTypes = new StringBuilder(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+            "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+            "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+            "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+        StringBuilder workbookRels = new StringBuilder(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        StringBuilder sheets = new StringBuilder();
+        for (int n = 1; n <= sheetCount; n++) {
+            contentTypes.append("<Override PartName=\"/xl/worksheets/sheet").append(n)
+                .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+            workbookRels.append("<Relationship Id=\"rId").append(n)
+                .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet")
+                .append(n).append(".xml\"/>");
+            sheets.append("<sheet name=\"").append(escape(sheetName(n))).append("\" sheetId=\"").append(n)
+                .append("\" r:id=\"rId").append(n).append("\"/>");
+        }
+        contentTypes.append("</Types>");
+        workbookRels.append("</Relationships>");
+        
+        writeEntry("[Content_Types].xml", contentTypes.toString());
+        writeEntry("_rels/.rels", ROOT_RELS);
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRels.toString());
+        writeEntry("xl/workbook.xml",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" " +
+            "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">" +
+            "<sheets>" + sheets + "</sheets>" +
+            "</workbook>");
+        zip.close();
+    }
+    
+    private void startSheet() throws IOException {
+        sheetCount++;
+        rowNumber = 0;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        sheet.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+    }
+    
+    private void endSheet() throws IOException {
+        sheet.write("</sheetData></worksheet>");
+        sheet.flush();
+        zip.closeEntry();
+    }
+    
+    private void writeCells(Object[] values) throws IOException {
+        rowNumber++;
+        sheet.write("<row r=\"");
+        sheet.write(Integer.toString(rowNumber));
+        sheet.write("\">");
+        for (Object value : values) {
+            if (value == null || isNonFinite(value)) {
+                sheet.write("<c/>");
+            } else if (value instanceof Number) {
+                sheet.write("<c><v>");
+                sheet.write(value.toString());
+                sheet.write("</v></c>");
+            } else {
+                sheet.write("<c t=\"inlineStr\"><is><t>");
+                sheet.write(escape(value.toString()));
+                sheet.write("</t></is></c>");
+            }
+        }
+        sheet.write("</row>");
+    }
+    
+    /** NaN and infinities have no XLSX number form; they are left empty. */
+    private static boolean isNonFinite(Object value) {
+        return (value instanceof Double d && !Double.isFinite(d))
+            || (value instanceof Float f && !Float.isFinite(f));
+    }
+    
+    /** The first sheet keeps the given name; later ones get " (2)", " (3)"... within Excel's length limit. */
+    private String sheetName(int n) {
+        String suffix = n == 1 ? "" : " (" + n + ")";
+        String base = sheetName.length() + suffix.length() > MAX_SHEET_NAME_LENGTH
+            ? sheetName.substring(0, Math.max(0, MAX_SHEET_NAME_LENGTH - suffix.length()))
+            : sheetName;
+        return base + suffix;
+    }
+    
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+    
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&': escaped.append("&amp;"); break;
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '"': escaped.append("&quot;"); break;
+                default:
+                    // Control characters other than tab/newline are not allowed in XML
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}